@@ -20,6 +20,8 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.EngineJsonRpcService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcHttpService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.ipc.JsonRpcIpcService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.WebSocketService;
+import org.hyperledger.besu.ethereum.api.query.cache.AutoAddressTransactionIndexingService;
+import org.hyperledger.besu.ethereum.api.query.cache.AutoTraceIndexingService;
 import org.hyperledger.besu.ethereum.api.query.cache.AutoTransactionLogBloomCachingService;
 import org.hyperledger.besu.ethereum.api.query.cache.TransactionLogBloomCacher;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
@@ -77,6 +79,9 @@ public class Runner implements AutoCloseable {
   private final Optional<StratumServer> stratumServer;
   private final Optional<AutoTransactionLogBloomCachingService>
       autoTransactionLogBloomCachingService;
+  private final Optional<AutoTraceIndexingService> autoTraceIndexingService;
+  private final Optional<AutoAddressTransactionIndexingService>
+      autoAddressTransactionIndexingService;
 
   /**
    * Instantiates a new Runner.
@@ -96,6 +101,8 @@ public class Runner implements AutoCloseable {
    * @param dataDir the data dir
    * @param pidPath the pid path
    * @param transactionLogBloomCacher the transaction log bloom cacher
+   * @param autoTraceIndexingService the auto trace indexing service
+   * @param autoAddressTransactionIndexingService the auto address transaction indexing service
    * @param blockchain the blockchain
    */
   Runner(
@@ -114,6 +121,8 @@ public class Runner implements AutoCloseable {
       final Path dataDir,
       final Optional<Path> pidPath,
       final Optional<TransactionLogBloomCacher> transactionLogBloomCacher,
+      final Optional<AutoTraceIndexingService> autoTraceIndexingService,
+      final Optional<AutoAddressTransactionIndexingService> autoAddressTransactionIndexingService,
       final Blockchain blockchain) {
     this.vertx = vertx;
     this.networkRunner = networkRunner;
@@ -132,6 +141,8 @@ public class Runner implements AutoCloseable {
     this.autoTransactionLogBloomCachingService =
         transactionLogBloomCacher.map(
             cacher -> new AutoTransactionLogBloomCachingService(blockchain, cacher));
+    this.autoTraceIndexingService = autoTraceIndexingService;
+    this.autoAddressTransactionIndexingService = autoAddressTransactionIndexingService;
     this.transactionPoolEvictionService =
         new TransactionPoolEvictionService(vertx, besuController.getTransactionPool());
   }
@@ -154,6 +165,8 @@ public class Runner implements AutoCloseable {
             waitForServiceToStart(
                 "stratum", server.start().toCompletionStage().toCompletableFuture()));
     autoTransactionLogBloomCachingService.ifPresent(AutoTransactionLogBloomCachingService::start);
+    autoTraceIndexingService.ifPresent(AutoTraceIndexingService::start);
+    autoAddressTransactionIndexingService.ifPresent(AutoAddressTransactionIndexingService::start);
   }
 
   private void startExternalServicePostMainLoop() {
@@ -211,6 +224,8 @@ public class Runner implements AutoCloseable {
     networkRunner.stop();
     waitForServiceToStop("Network", networkRunner::awaitStop);
     autoTransactionLogBloomCachingService.ifPresent(AutoTransactionLogBloomCachingService::stop);
+    autoTraceIndexingService.ifPresent(AutoTraceIndexingService::stop);
+    autoAddressTransactionIndexingService.ifPresent(AutoAddressTransactionIndexingService::stop);
     natService.stop();
     besuController.close();
     vertx.close((res) -> vertxShutdownLatch.countDown());
@@ -43,12 +43,15 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.execution.AuthenticatedJsonRpcP
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.BaseJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcExecutor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcProcessor;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcResponseCache;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.HealthService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.LivenessCheck;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.ReadinessCheck;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter.FilterManager;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter.FilterManagerBuilder;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockReplay;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.ipc.JsonRpcIpcConfiguration;
 import org.hyperledger.besu.ethereum.api.jsonrpc.ipc.JsonRpcIpcService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.methods.JsonRpcMethodsFactory;
@@ -65,6 +68,11 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.pending.
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.syncing.SyncingSubscriptionService;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.query.PrivacyQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.AddressTransactionIndex;
+import org.hyperledger.besu.ethereum.api.query.cache.AutoAddressTransactionIndexingService;
+import org.hyperledger.besu.ethereum.api.query.cache.AutoTraceIndexingService;
+import org.hyperledger.besu.ethereum.api.query.cache.TraceIndexer;
+import org.hyperledger.besu.ethereum.api.query.cache.TraceStorage;
 import org.hyperledger.besu.ethereum.blockcreation.MiningCoordinator;
 import org.hyperledger.besu.ethereum.blockcreation.PoWMiningCoordinator;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
@@ -104,6 +112,7 @@ import org.hyperledger.besu.ethereum.permissioning.node.NodePermissioningControl
 import org.hyperledger.besu.ethereum.permissioning.node.PeerPermissionsAdapter;
 import org.hyperledger.besu.ethereum.privacy.PrivateTransactionObserver;
 import org.hyperledger.besu.ethereum.storage.StorageProvider;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier;
 import org.hyperledger.besu.ethereum.stratum.StratumServer;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
@@ -722,13 +731,32 @@ public class RunnerBuilder {
     final TransactionPool transactionPool = besuController.getTransactionPool();
     final MiningCoordinator miningCoordinator = besuController.getMiningCoordinator();
 
+    final Optional<TraceStorage> traceStorage =
+        apiConfiguration.isTraceIndexingEnabled()
+            ? Optional.of(
+                new TraceStorage(
+                    besuController
+                        .getStorageProvider()
+                        .getStorageBySegmentIdentifier(KeyValueSegmentIdentifier.TRACE_STORAGE)))
+            : Optional.empty();
+    final Optional<AddressTransactionIndex> addressTransactionIndex =
+        apiConfiguration.isAddressTransactionIndexEnabled()
+            ? Optional.of(
+                new AddressTransactionIndex(
+                    besuController
+                        .getStorageProvider()
+                        .getStorageBySegmentIdentifier(
+                            KeyValueSegmentIdentifier.ADDRESS_TRANSACTIONS)))
+            : Optional.empty();
     final BlockchainQueries blockchainQueries =
         new BlockchainQueries(
             context.getBlockchain(),
             context.getWorldStateArchive(),
             Optional.of(dataDir.resolve(CACHE_PATH)),
             Optional.of(besuController.getProtocolManager().ethContext().getScheduler()),
-            apiConfiguration);
+            apiConfiguration,
+            traceStorage,
+            addressTransactionIndex);
 
     final PrivacyParameters privacyParameters = besuController.getPrivacyParameters();
 
@@ -824,7 +852,8 @@ public class RunnerBuilder {
                   natService,
                   nonEngineMethods,
                   new HealthService(new LivenessCheck()),
-                  new HealthService(new ReadinessCheck(peerNetwork, synchronizer))));
+                  new HealthService(new ReadinessCheck(peerNetwork, synchronizer)),
+                  jsonRpcResponseCache(blockchainQueries)));
     }
 
     final SubscriptionManager subscriptionManager =
@@ -1061,6 +1090,15 @@ public class RunnerBuilder {
         dataDir,
         pidPath,
         autoLogBloomCaching ? blockchainQueries.getTransactionLogBloomCacher() : Optional.empty(),
+        traceStorage.map(
+            storage ->
+                autoTraceIndexingService(protocolSchedule, context, blockchainQueries, storage)),
+        addressTransactionIndex.map(
+            index ->
+                new AutoAddressTransactionIndexingService(
+                    context.getBlockchain(),
+                    index,
+                    besuController.getProtocolManager().ethContext().getScheduler())),
         context.getBlockchain());
   }
 
@@ -1250,6 +1288,30 @@ public class RunnerBuilder {
     return methods;
   }
 
+  private AutoTraceIndexingService autoTraceIndexingService(
+      final ProtocolSchedule protocolSchedule,
+      final ProtocolContext context,
+      final BlockchainQueries blockchainQueries,
+      final TraceStorage traceStorage) {
+    final BlockReplay blockReplay =
+        new BlockReplay(protocolSchedule, context, context.getBlockchain());
+    return new AutoTraceIndexingService(
+        context.getBlockchain(),
+        new TraceIndexer(
+            protocolSchedule, blockchainQueries, () -> new BlockTracer(blockReplay), traceStorage),
+        besuController.getProtocolManager().ethContext().getScheduler());
+  }
+
+  private Optional<JsonRpcResponseCache> jsonRpcResponseCache(
+      final BlockchainQueries blockchainQueries) {
+    if (jsonRpcConfiguration.getResponseCacheSizeBytes() <= 0) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new JsonRpcResponseCache(
+            blockchainQueries, jsonRpcConfiguration.getResponseCacheSizeBytes(), metricsSystem));
+  }
+
   private SubscriptionManager createSubscriptionManager(
       final Vertx vertx,
       final TransactionPool transactionPool,
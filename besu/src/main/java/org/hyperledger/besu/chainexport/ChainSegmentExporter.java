@@ -0,0 +1,116 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.chainexport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.chainsegment.ChainSegmentWriter;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Exports blocks, with their receipts and total difficulties, to a chain segment archive. */
+public class ChainSegmentExporter {
+  private static final Logger LOG = LoggerFactory.getLogger(ChainSegmentExporter.class);
+  private static final long PROGRESS_INTERVAL = 10_000;
+
+  private final Blockchain blockchain;
+  private final int blocksPerChunk;
+
+  /**
+   * Instantiates a new Chain segment exporter.
+   *
+   * @param blockchain the blockchain
+   */
+  public ChainSegmentExporter(final Blockchain blockchain) {
+    this(blockchain, ChainSegmentWriter.DEFAULT_BLOCKS_PER_CHUNK);
+  }
+
+  /**
+   * Instantiates a new Chain segment exporter.
+   *
+   * @param blockchain the blockchain
+   * @param blocksPerChunk the number of blocks per chunk of the archive
+   */
+  public ChainSegmentExporter(final Blockchain blockchain, final int blocksPerChunk) {
+    this.blockchain = blockchain;
+    this.blocksPerChunk = blocksPerChunk;
+  }
+
+  /**
+   * Export the canonical blocks of a range to a new archive.
+   *
+   * @param outputFile the path at which to save the archive, replacing any existing file
+   * @param maybeStartBlock the first block to export (inclusive), genesis if not specified
+   * @param maybeEndBlock the last block to export (exclusive), chain head if not specified
+   * @return the number of exported blocks
+   * @throws IOException if an I/O error occurs while writing the archive
+   */
+  public long exportBlocks(
+      final Path outputFile,
+      final Optional<Long> maybeStartBlock,
+      final Optional<Long> maybeEndBlock)
+      throws IOException {
+    final long startBlock = maybeStartBlock.orElse(BlockHeader.GENESIS_BLOCK_NUMBER);
+    final long endBlock = maybeEndBlock.orElse(blockchain.getChainHeadBlockNumber() + 1L);
+    checkArgument(startBlock >= 0 && endBlock >= 0, "Start and end blocks must be greater than 0.");
+    checkArgument(startBlock < endBlock, "Start block must be less than end block");
+
+    LOG.info(
+        "Exporting blocks [{},{}) to chain segment archive {}", startBlock, endBlock, outputFile);
+    long exported = 0;
+    try (final ChainSegmentWriter writer = ChainSegmentWriter.create(outputFile, blocksPerChunk)) {
+      for (long blockNumber = startBlock; blockNumber < endBlock; blockNumber++) {
+        final Optional<Block> maybeBlock = blockchain.getBlockByNumber(blockNumber);
+        if (maybeBlock.isEmpty()) {
+          LOG.warn("Unable to export blocks [{} - {}).  Blocks not found.", blockNumber, endBlock);
+          break;
+        }
+        final Block block = maybeBlock.get();
+        final List<TransactionReceipt> receipts =
+            blockchain
+                .getTxReceipts(block.getHash())
+                .orElseThrow(() -> missing("receipts", block));
+        final Difficulty totalDifficulty =
+            blockchain
+                .getTotalDifficultyByHash(block.getHash())
+                .orElseThrow(() -> missing("total difficulty", block));
+        writer.append(block, receipts, totalDifficulty);
+        exported++;
+        if (blockNumber % PROGRESS_INTERVAL == 0) {
+          LOG.info("Export at block {}", blockNumber);
+        }
+      }
+    }
+    LOG.info("Export complete, {} blocks written to {}", exported, outputFile);
+    return exported;
+  }
+
+  private static IllegalStateException missing(final String data, final Block block) {
+    return new IllegalStateException(
+        String.format(
+            "Missing %s for block %d (%s)", data, block.getHeader().getNumber(), block.getHash()));
+  }
+}
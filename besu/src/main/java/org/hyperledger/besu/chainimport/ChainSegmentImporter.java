@@ -0,0 +1,223 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.chainimport;
+
+import org.hyperledger.besu.chainsegment.ChainSegmentReader;
+import org.hyperledger.besu.controller.BesuController;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.ProtocolContext;
+import org.hyperledger.besu.ethereum.chain.BlockchainStorage;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.chain.TransactionLocation;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.mainnet.BlockImportResult;
+import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.storage.StorageProvider;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.common.base.Stopwatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tool for importing chain segment archives.
+ *
+ * <p>By default every block is imported through the block importer of its protocol spec, so it is
+ * validated and executed. In trusted mode the headers, bodies, receipts and total difficulties of
+ * the archive are written chunk by chunk straight into the blockchain storage, only checking that
+ * the blocks link to each other and to the local chain. Trusted mode seeds the chain data of a
+ * node: the chain head and the world state are left to the synchronizer.
+ */
+public class ChainSegmentImporter {
+  private static final Logger LOG = LoggerFactory.getLogger(ChainSegmentImporter.class);
+
+  /** Default constructor. */
+  public ChainSegmentImporter() {}
+
+  /**
+   * Imports the blocks of a chain segment archive.
+   *
+   * @param archive the path of the archive
+   * @param besuController the BesuController that defines blockchain behavior
+   * @param trusted write the archive directly into the blockchain storage, without executing it
+   * @param skipPowValidation skip proof of work validation when blocks are executed
+   * @return the import result
+   * @throws IOException if the archive can not be read
+   */
+  public RlpBlockImporter.ImportResult importChainSegment(
+      final Path archive,
+      final BesuController besuController,
+      final boolean trusted,
+      final boolean skipPowValidation)
+      throws IOException {
+    final ProtocolSchedule protocolSchedule = besuController.getProtocolSchedule();
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    try (final ChainSegmentReader reader =
+        ChainSegmentReader.open(
+            archive, ScheduleBasedBlockHeaderFunctions.create(protocolSchedule))) {
+      LOG.info(
+          "Importing {} blocks in {} chunks from {} ({})",
+          reader.getBlockCount(),
+          reader.getChunkCount(),
+          archive,
+          trusted ? "trusted" : "validated");
+      final RlpBlockImporter.ImportResult result =
+          trusted
+              ? ingest(reader, besuController)
+              : execute(reader, besuController, skipPowValidation);
+      LOG.info("Imported {} in {}", result, stopwatch);
+      return result;
+    }
+  }
+
+  private RlpBlockImporter.ImportResult execute(
+      final ChainSegmentReader reader,
+      final BesuController besuController,
+      final boolean skipPowValidation)
+      throws IOException {
+    final ProtocolSchedule protocolSchedule = besuController.getProtocolSchedule();
+    final ProtocolContext context = besuController.getProtocolContext();
+    final MutableBlockchain blockchain = context.getBlockchain();
+    int count = 0;
+    for (int chunk = 0; chunk < reader.getChunkCount(); chunk++) {
+      for (final Block block : reader.readBlocks(chunk)) {
+        if (blockchain.contains(block.getHash())) {
+          continue;
+        }
+        final BlockImportResult importResult =
+            protocolSchedule
+                .getByBlockHeader(block.getHeader())
+                .getBlockImporter()
+                .importBlock(
+                    context,
+                    block,
+                    skipPowValidation ? HeaderValidationMode.LIGHT : HeaderValidationMode.FULL,
+                    skipPowValidation ? HeaderValidationMode.LIGHT : HeaderValidationMode.FULL);
+        if (!importResult.isImported()) {
+          throw new IllegalStateException(
+              "Invalid block at block number " + block.getHeader().getNumber() + ".");
+        }
+        count++;
+      }
+      logProgress(reader, chunk);
+    }
+    return new RlpBlockImporter.ImportResult(blockchain.getChainHead().getTotalDifficulty(), count);
+  }
+
+  private RlpBlockImporter.ImportResult ingest(
+      final ChainSegmentReader reader, final BesuController besuController) throws IOException {
+    final StorageProvider storageProvider = besuController.getStorageProvider();
+    final BlockchainStorage blockchainStorage =
+        storageProvider.createBlockchainStorage(
+            besuController.getProtocolSchedule(), storageProvider.createVariablesStorage());
+
+    BlockHeader previousHeader = null;
+    Difficulty previousTotalDifficulty = null;
+    int count = 0;
+    for (int chunk = 0; chunk < reader.getChunkCount(); chunk++) {
+      final List<BlockHeader> headers = reader.readHeaders(chunk);
+      final List<BlockBody> bodies = reader.readBodies(chunk);
+      final List<List<TransactionReceipt>> receipts = reader.readReceipts(chunk);
+      final List<Difficulty> totalDifficulties = reader.readTotalDifficulties(chunk);
+
+      final BlockchainStorage.Updater updater = blockchainStorage.updater();
+      for (int i = 0; i < headers.size(); i++) {
+        final BlockHeader header = headers.get(i);
+        final Hash hash = header.getHash();
+        final Optional<Hash> canonicalHash = blockchainStorage.getBlockHash(header.getNumber());
+        if (canonicalHash.isPresent()) {
+          if (!canonicalHash.get().equals(hash)) {
+            throw new IllegalStateException(
+                String.format(
+                    "Block %d (%s) conflicts with the local chain block %s",
+                    header.getNumber(), hash, canonicalHash.get()));
+          }
+          previousHeader = header;
+          previousTotalDifficulty = totalDifficulties.get(i);
+          continue;
+        }
+
+        if (previousHeader == null || !previousHeader.getHash().equals(header.getParentHash())) {
+          previousHeader = lookupParentHeader(blockchainStorage, header);
+          previousTotalDifficulty =
+              blockchainStorage.getTotalDifficulty(previousHeader.getHash()).orElseThrow();
+        }
+        final Difficulty totalDifficulty = totalDifficulties.get(i);
+        if (!totalDifficulty.equals(previousTotalDifficulty.add(header.getDifficulty()))) {
+          throw new IllegalStateException(
+              "Invalid total difficulty at block number " + header.getNumber() + ".");
+        }
+        final BlockBody body = bodies.get(i);
+        final List<TransactionReceipt> blockReceipts = receipts.get(i);
+        if (blockReceipts.size() != body.getTransactions().size()) {
+          throw new IllegalStateException(
+              "Invalid receipts at block number " + header.getNumber() + ".");
+        }
+
+        updater.putBlockHeader(hash, header);
+        updater.putBlockHash(header.getNumber(), hash);
+        updater.putBlockBody(hash, body);
+        for (int tx = 0; tx < body.getTransactions().size(); tx++) {
+          final Hash transactionHash = body.getTransactions().get(tx).getHash();
+          updater.putTransactionLocation(transactionHash, new TransactionLocation(hash, tx));
+        }
+        updater.putTransactionReceipts(hash, blockReceipts);
+        updater.putTotalDifficulty(hash, totalDifficulty);
+
+        previousHeader = header;
+        previousTotalDifficulty = totalDifficulty;
+        count++;
+      }
+      updater.commit();
+      logProgress(reader, chunk);
+    }
+    if (previousHeader != null) {
+      LOG.info(
+          "Chain data stored up to block {}, the chain head is left to the synchronizer",
+          previousHeader.getNumber());
+    }
+    return new RlpBlockImporter.ImportResult(
+        Optional.ofNullable(previousTotalDifficulty).orElse(Difficulty.ZERO), count);
+  }
+
+  private static BlockHeader lookupParentHeader(
+      final BlockchainStorage blockchainStorage, final BlockHeader header) {
+    return blockchainStorage
+        .getBlockHeader(header.getParentHash())
+        .orElseThrow(
+            () ->
+                new IllegalStateException(
+                    String.format(
+                        "Block %s does not connect to the existing chain.", header.getNumber())));
+  }
+
+  private static void logProgress(final ChainSegmentReader reader, final int chunk) {
+    LOG.info(
+        "Import at block {} (chunk {} / {})",
+        reader.getChunkFirstBlockNumber(chunk) + reader.getChunkBlockCount(chunk) - 1,
+        chunk + 1,
+        reader.getChunkCount());
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.chainsegment;
+
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+import org.hyperledger.besu.ethereum.rlp.RLPOutput;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Layout of a chain segment archive, a contiguous range of blocks stored column by column.
+ *
+ * <pre>
+ *   MAGIC | VERSION (4 bytes)
+ *   chunk 0: headers | bodies | receipts | total difficulties   (each column Snappy compressed)
+ *   chunk 1: ...
+ *   index (RLP list of chunk entries)
+ *   index offset (8 bytes) | index length (4 bytes) | MAGIC
+ * </pre>
+ *
+ * <p>Each column of a chunk is the RLP list of the items of its blocks, so that a reader can load
+ * the headers of a chunk without touching its bodies or receipts.
+ */
+final class ChainSegmentFormat {
+  static final Bytes MAGIC = Bytes.wrap("BESUCSEG".getBytes(StandardCharsets.US_ASCII));
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = MAGIC.size() + Integer.BYTES;
+  static final int FOOTER_SIZE = Long.BYTES + Integer.BYTES + MAGIC.size();
+
+  private ChainSegmentFormat() {}
+
+  /** The columns of a chunk, in the order they are written. */
+  enum Column {
+    HEADERS,
+    BODIES,
+    RECEIPTS,
+    TOTAL_DIFFICULTIES
+  }
+
+  /** Where the columns of a chunk are located in the archive. */
+  static final class ChunkEntry {
+    final long firstBlockNumber;
+    final int blockCount;
+    final long[] columnOffsets;
+    final int[] columnLengths;
+
+    ChunkEntry(
+        final long firstBlockNumber,
+        final int blockCount,
+        final long[] columnOffsets,
+        final int[] columnLengths) {
+      this.firstBlockNumber = firstBlockNumber;
+      this.blockCount = blockCount;
+      this.columnOffsets = columnOffsets;
+      this.columnLengths = columnLengths;
+    }
+
+    void writeTo(final RLPOutput out) {
+      out.startList();
+      out.writeLongScalar(firstBlockNumber);
+      out.writeIntScalar(blockCount);
+      for (final Column column : Column.values()) {
+        out.writeLongScalar(columnOffsets[column.ordinal()]);
+        out.writeIntScalar(columnLengths[column.ordinal()]);
+      }
+      out.endList();
+    }
+
+    static ChunkEntry readFrom(final RLPInput in) {
+      in.enterList();
+      final long firstBlockNumber = in.readLongScalar();
+      final int blockCount = in.readIntScalar();
+      final long[] columnOffsets = new long[Column.values().length];
+      final int[] columnLengths = new int[Column.values().length];
+      for (final Column column : Column.values()) {
+        columnOffsets[column.ordinal()] = in.readLongScalar();
+        columnLengths[column.ordinal()] = in.readIntScalar();
+      }
+      in.leaveList();
+      return new ChunkEntry(firstBlockNumber, blockCount, columnOffsets, columnLengths);
+    }
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.chainsegment;
+
+import org.hyperledger.besu.chainsegment.ChainSegmentFormat.ChunkEntry;
+import org.hyperledger.besu.chainsegment.ChainSegmentFormat.Column;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.xerial.snappy.Snappy;
+
+/**
+ * Reads a chain segment archive written by {@link ChainSegmentWriter}. The columns of a chunk are
+ * memory-mapped and decompressed on demand, so that reading the headers of a chunk does not load
+ * its bodies or receipts.
+ */
+public class ChainSegmentReader implements Closeable {
+  private final FileChannel channel;
+  private final BlockHeaderFunctions blockHeaderFunctions;
+  private final List<ChunkEntry> chunks;
+
+  private ChainSegmentReader(
+      final FileChannel channel,
+      final BlockHeaderFunctions blockHeaderFunctions,
+      final List<ChunkEntry> chunks) {
+    this.channel = channel;
+    this.blockHeaderFunctions = blockHeaderFunctions;
+    this.chunks = chunks;
+  }
+
+  /**
+   * Opens a chain segment archive.
+   *
+   * @param path the path of the archive
+   * @param blockHeaderFunctions the block header functions used to decode headers
+   * @return the reader
+   * @throws IOException if the file can not be read or is not a chain segment archive
+   */
+  public static ChainSegmentReader open(
+      final Path path, final BlockHeaderFunctions blockHeaderFunctions) throws IOException {
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      final long size = channel.size();
+      if (size < ChainSegmentFormat.HEADER_SIZE + ChainSegmentFormat.FOOTER_SIZE) {
+        throw new IOException("Not a chain segment archive: " + path);
+      }
+      final MappedByteBuffer header =
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, ChainSegmentFormat.HEADER_SIZE);
+      if (!readMagic(header).equals(ChainSegmentFormat.MAGIC)) {
+        throw new IOException("Not a chain segment archive: " + path);
+      }
+      final int version = header.getInt();
+      if (version != ChainSegmentFormat.VERSION) {
+        throw new IOException(
+            "Unsupported chain segment archive version " + version + " in " + path);
+      }
+
+      final MappedByteBuffer footer =
+          channel.map(
+              FileChannel.MapMode.READ_ONLY,
+              size - ChainSegmentFormat.FOOTER_SIZE,
+              ChainSegmentFormat.FOOTER_SIZE);
+      final long indexOffset = footer.getLong();
+      final int indexLength = footer.getInt();
+      if (!readMagic(footer).equals(ChainSegmentFormat.MAGIC)) {
+        throw new IOException("Incomplete chain segment archive: " + path);
+      }
+      final Bytes index =
+          Bytes.wrapByteBuffer(
+              channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, indexLength));
+      final List<ChunkEntry> chunks = RLP.input(index).readList(ChunkEntry::readFrom);
+      return new ChainSegmentReader(channel, blockHeaderFunctions, chunks);
+    } catch (final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private static Bytes readMagic(final ByteBuffer buffer) {
+    final byte[] magic = new byte[ChainSegmentFormat.MAGIC.size()];
+    buffer.get(magic);
+    return Bytes.wrap(magic);
+  }
+
+  /**
+   * Gets the number of chunks in the archive.
+   *
+   * @return the number of chunks
+   */
+  public int getChunkCount() {
+    return chunks.size();
+  }
+
+  /**
+   * Gets the number of the first block of a chunk.
+   *
+   * @param chunk the index of the chunk
+   * @return the number of the first block of the chunk
+   */
+  public long getChunkFirstBlockNumber(final int chunk) {
+    return chunks.get(chunk).firstBlockNumber;
+  }
+
+  /**
+   * Gets the number of blocks in a chunk.
+   *
+   * @param chunk the index of the chunk
+   * @return the number of blocks in the chunk
+   */
+  public int getChunkBlockCount(final int chunk) {
+    return chunks.get(chunk).blockCount;
+  }
+
+  /**
+   * Gets the number of blocks in the archive.
+   *
+   * @return the number of blocks
+   */
+  public long getBlockCount() {
+    return chunks.stream().mapToLong(chunk -> chunk.blockCount).sum();
+  }
+
+  /**
+   * Reads the headers of a chunk.
+   *
+   * @param chunk the index of the chunk
+   * @return the headers, in block order
+   * @throws IOException if the column can not be read
+   */
+  public List<BlockHeader> readHeaders(final int chunk) throws IOException {
+    return readColumn(chunk, Column.HEADERS, in -> BlockHeader.readFrom(in, blockHeaderFunctions));
+  }
+
+  /**
+   * Reads the bodies of a chunk.
+   *
+   * @param chunk the index of the chunk
+   * @return the bodies, in block order
+   * @throws IOException if the column can not be read
+   */
+  public List<BlockBody> readBodies(final int chunk) throws IOException {
+    return readColumn(
+        chunk, Column.BODIES, in -> BlockBody.readWrappedBodyFrom(in, blockHeaderFunctions));
+  }
+
+  /**
+   * Reads the transaction receipts of a chunk.
+   *
+   * @param chunk the index of the chunk
+   * @return the receipts of each block, in block order
+   * @throws IOException if the column can not be read
+   */
+  public List<List<TransactionReceipt>> readReceipts(final int chunk) throws IOException {
+    return readColumn(chunk, Column.RECEIPTS, in -> in.readList(TransactionReceipt::readFrom));
+  }
+
+  /**
+   * Reads the total difficulties of a chunk.
+   *
+   * @param chunk the index of the chunk
+   * @return the total difficulty at each block, in block order
+   * @throws IOException if the column can not be read
+   */
+  public List<Difficulty> readTotalDifficulties(final int chunk) throws IOException {
+    return readColumn(
+        chunk, Column.TOTAL_DIFFICULTIES, in -> Difficulty.of(in.readUInt256Scalar()));
+  }
+
+  /**
+   * Reads the blocks of a chunk.
+   *
+   * @param chunk the index of the chunk
+   * @return the blocks, in block order
+   * @throws IOException if the columns can not be read
+   */
+  public List<Block> readBlocks(final int chunk) throws IOException {
+    final List<BlockHeader> headers = readHeaders(chunk);
+    final List<BlockBody> bodies = readBodies(chunk);
+    final List<Block> blocks = new ArrayList<>(headers.size());
+    for (int i = 0; i < headers.size(); i++) {
+      blocks.add(new Block(headers.get(i), bodies.get(i)));
+    }
+    return blocks;
+  }
+
+  private <T> List<T> readColumn(
+      final int chunk, final Column column, final Function<RLPInput, T> itemReader)
+      throws IOException {
+    final ChunkEntry entry = chunks.get(chunk);
+    final MappedByteBuffer compressed =
+        channel.map(
+            FileChannel.MapMode.READ_ONLY,
+            entry.columnOffsets[column.ordinal()],
+            entry.columnLengths[column.ordinal()]);
+    final ByteBuffer uncompressed =
+        ByteBuffer.allocateDirect(Snappy.uncompressedLength(compressed));
+    Snappy.uncompress(compressed, uncompressed);
+    final List<T> items = RLP.input(Bytes.wrapByteBuffer(uncompressed)).readList(itemReader);
+    if (items.size() != entry.blockCount) {
+      throw new IOException(
+          String.format(
+              "Corrupted %s column in chunk starting at block %d: expected %d items but found %d",
+              column, entry.firstBlockNumber, entry.blockCount, items.size()));
+    }
+    return items;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
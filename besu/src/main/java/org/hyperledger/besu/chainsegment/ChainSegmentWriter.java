@@ -0,0 +1,182 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.chainsegment;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.hyperledger.besu.chainsegment.ChainSegmentFormat.ChunkEntry;
+import org.hyperledger.besu.chainsegment.ChainSegmentFormat.Column;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.xerial.snappy.Snappy;
+
+/**
+ * Writes a contiguous range of blocks, with their receipts and total difficulties, to a chain
+ * segment archive. Blocks are buffered until a chunk is full, then each column of the chunk is
+ * compressed and appended to the file. The index of the chunks is written when the writer is
+ * closed.
+ */
+public class ChainSegmentWriter implements Closeable {
+  /** The default number of blocks per chunk. */
+  public static final int DEFAULT_BLOCKS_PER_CHUNK = 512;
+
+  private final FileChannel channel;
+  private final int blocksPerChunk;
+  private final List<ChunkEntry> chunks = new ArrayList<>();
+  private final BytesValueRLPOutput[] columns = new BytesValueRLPOutput[Column.values().length];
+  private long chunkFirstBlockNumber;
+  private int chunkBlockCount;
+  private long nextBlockNumber = -1;
+  private boolean closed;
+
+  private ChainSegmentWriter(final FileChannel channel, final int blocksPerChunk) {
+    this.channel = channel;
+    this.blocksPerChunk = blocksPerChunk;
+  }
+
+  /**
+   * Creates a chain segment archive, replacing any existing file at the given path.
+   *
+   * @param path the path of the archive
+   * @param blocksPerChunk the number of blocks per chunk
+   * @return the writer
+   * @throws IOException if the file can not be created
+   */
+  public static ChainSegmentWriter create(final Path path, final int blocksPerChunk)
+      throws IOException {
+    checkArgument(blocksPerChunk > 0, "Blocks per chunk must be greater than 0");
+    final FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE);
+    final ByteBuffer header = ByteBuffer.allocate(ChainSegmentFormat.HEADER_SIZE);
+    header.put(ChainSegmentFormat.MAGIC.toArrayUnsafe()).putInt(ChainSegmentFormat.VERSION);
+    writeFully(channel, header.flip());
+    return new ChainSegmentWriter(channel, blocksPerChunk);
+  }
+
+  /**
+   * Appends a block to the archive. Blocks must be appended in order, without gaps.
+   *
+   * @param block the block
+   * @param receipts the receipts of the transactions of the block
+   * @param totalDifficulty the total difficulty of the chain at this block
+   * @throws IOException if the chunk can not be written
+   */
+  public void append(
+      final Block block, final List<TransactionReceipt> receipts, final Difficulty totalDifficulty)
+      throws IOException {
+    checkState(!closed, "Chain segment writer is closed");
+    final long blockNumber = block.getHeader().getNumber();
+    checkArgument(
+        nextBlockNumber < 0 || blockNumber == nextBlockNumber,
+        "Expected block %s but got block %s",
+        nextBlockNumber,
+        blockNumber);
+    checkArgument(
+        receipts.size() == block.getBody().getTransactions().size(),
+        "Block %s has %s transactions but %s receipts",
+        blockNumber,
+        block.getBody().getTransactions().size(),
+        receipts.size());
+
+    if (chunkBlockCount == 0) {
+      chunkFirstBlockNumber = blockNumber;
+      for (int i = 0; i < columns.length; i++) {
+        columns[i] = new BytesValueRLPOutput();
+        columns[i].startList();
+      }
+    }
+    block.getHeader().writeTo(columns[Column.HEADERS.ordinal()]);
+    block.getBody().writeWrappedBodyTo(columns[Column.BODIES.ordinal()]);
+    columns[Column.RECEIPTS.ordinal()].writeList(
+        receipts, TransactionReceipt::writeToWithRevertReason);
+    columns[Column.TOTAL_DIFFICULTIES.ordinal()].writeUInt256Scalar(totalDifficulty);
+    nextBlockNumber = blockNumber + 1;
+
+    if (++chunkBlockCount == blocksPerChunk) {
+      flushChunk();
+    }
+  }
+
+  private void flushChunk() throws IOException {
+    final long[] columnOffsets = new long[columns.length];
+    final int[] columnLengths = new int[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      columns[i].endList();
+      final byte[] compressed = Snappy.compress(columns[i].encoded().toArrayUnsafe());
+      columnOffsets[i] = channel.position();
+      columnLengths[i] = compressed.length;
+      writeFully(channel, ByteBuffer.wrap(compressed));
+      columns[i] = null;
+    }
+    chunks.add(
+        new ChunkEntry(chunkFirstBlockNumber, chunkBlockCount, columnOffsets, columnLengths));
+    chunkBlockCount = 0;
+  }
+
+  /**
+   * Writes the last chunk and the index, then closes the archive.
+   *
+   * @throws IOException if the archive can not be completed
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (chunkBlockCount > 0) {
+        flushChunk();
+      }
+      final Bytes index = RLP.encode(out -> out.writeList(chunks, ChunkEntry::writeTo));
+      final long indexOffset = channel.position();
+      writeFully(channel, ByteBuffer.wrap(index.toArrayUnsafe()));
+
+      final ByteBuffer footer = ByteBuffer.allocate(ChainSegmentFormat.FOOTER_SIZE);
+      footer.putLong(indexOffset).putInt(index.size());
+      footer.put(ChainSegmentFormat.MAGIC.toArrayUnsafe());
+      writeFully(channel, footer.flip());
+      channel.force(true);
+    } finally {
+      channel.close();
+    }
+  }
+
+  private static void writeFully(final FileChannel channel, final ByteBuffer buffer)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+}
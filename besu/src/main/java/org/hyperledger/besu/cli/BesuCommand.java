@@ -142,9 +142,11 @@ import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueStorageProviderBui
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
 import org.hyperledger.besu.ethereum.trie.forest.pruner.PrunerConfiguration;
 import org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration;
+import org.hyperledger.besu.evm.internal.EvmConfiguration;
 import org.hyperledger.besu.evm.precompile.AbstractAltBnPrecompiledContract;
 import org.hyperledger.besu.evm.precompile.BigIntegerModularExponentiationPrecompiledContract;
 import org.hyperledger.besu.evm.precompile.KZGPointEvalPrecompiledContract;
+import org.hyperledger.besu.evm.precompile.PrecompileResultCache;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.metrics.MetricCategoryRegistryImpl;
 import org.hyperledger.besu.metrics.MetricsProtocol;
@@ -170,6 +172,7 @@ import org.hyperledger.besu.plugin.services.TransactionPoolValidatorService;
 import org.hyperledger.besu.plugin.services.TransactionSelectionService;
 import org.hyperledger.besu.plugin.services.TransactionSimulationService;
 import org.hyperledger.besu.plugin.services.exception.StorageException;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategoryRegistry;
 import org.hyperledger.besu.plugin.services.securitymodule.SecurityModule;
@@ -905,6 +908,7 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
   private MetricsConfiguration metricsConfiguration;
   private Optional<PermissioningConfiguration> permissioningConfiguration;
   private Optional<TLSConfiguration> p2pTLSConfiguration;
+  private Optional<PrecompileResultCache> precompileResultCache = Optional.empty();
   private DataStorageConfiguration dataStorageConfiguration;
   private Collection<EnodeURL> staticNodes;
   private BesuController besuController;
@@ -1103,6 +1107,7 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
       VersionMetadata.versionCompatibilityChecks(versionCompatibilityProtection, dataDir());
 
       configureNativeLibs();
+      configurePrecompileResultCache();
       besuController = buildController();
 
       besuPluginContext.beforeExternalServices();
@@ -1456,6 +1461,53 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
     }
   }
 
+  private EvmConfiguration getEvmConfiguration() {
+    final EvmConfiguration evmConfiguration = unstableEvmOptions.toDomainObject();
+    return new EvmConfiguration(
+        evmConfiguration.jumpDestCacheWeightKB(),
+        evmConfiguration.worldUpdaterMode(),
+        precompileResultCache);
+  }
+
+  private void configurePrecompileResultCache() {
+    final long weightKilobytes = unstableEvmOptions.getPrecompileCacheWeightKilobytes();
+    if (weightKilobytes <= 0) {
+      precompileResultCache = Optional.empty();
+      return;
+    }
+    final PrecompileResultCache cache =
+        new PrecompileResultCache(
+            weightKilobytes * 1024L, PrecompileResultCache.DEFAULT_CACHED_PRECOMPILES);
+    precompileResultCache = Optional.of(cache);
+    logger.info("Caching precompile results up to {} KB", weightKilobytes);
+
+    final ObservableMetricsSystem metrics = metricsSystem.get();
+    final LabelledGauge hits =
+        metrics.createLabelledGauge(
+            BesuMetricCategory.BLOCKCHAIN,
+            "precompile_cache_hits_total",
+            "Number of precompile results served from the result cache",
+            "precompile");
+    final LabelledGauge misses =
+        metrics.createLabelledGauge(
+            BesuMetricCategory.BLOCKCHAIN,
+            "precompile_cache_misses_total",
+            "Number of precompile results computed and added to the result cache",
+            "precompile");
+    final LabelledGauge hitRate =
+        metrics.createLabelledGauge(
+            BesuMetricCategory.BLOCKCHAIN,
+            "precompile_cache_hit_ratio",
+            "Fraction of precompile calls served from the result cache",
+            "precompile");
+    for (final Address address : cache.getCachedPrecompiles()) {
+      final String label = address.toHexString();
+      hits.labels(() -> cache.getHitCount(address), label);
+      misses.labels(() -> cache.getMissCount(address), label);
+      hitRate.labels(() -> cache.getHitRate(address), label);
+    }
+  }
+
   private void validateOptions() {
     validateRequiredOptions();
     issueOptionWarnings();
@@ -1710,6 +1762,11 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
             hostsAllowlist,
             p2PDiscoveryOptionGroup.autoDiscoverDefaultIP().getHostAddress(),
             unstableRPCOptions.getHttpTimeoutSec());
+    jsonRpcConfiguration.setMaxBatchParallelism(unstableRPCOptions.getHttpBatchParallelism());
+    jsonRpcConfiguration.setBatchCpuTimeBudgetMillis(
+        unstableRPCOptions.getHttpBatchCpuTimeBudgetMillis());
+    jsonRpcConfiguration.setResponseCacheSizeBytes(
+        unstableRPCOptions.getHttpResponseCacheSizeBytes());
     if (isEngineApiEnabled()) {
       engineJsonRpcConfiguration =
           createEngineJsonRpcConfiguration(
@@ -1850,7 +1907,7 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
                 : GasLimitCalculator.constant())
         .requiredBlocks(requiredBlocks)
         .reorgLoggingThreshold(reorgLoggingThreshold)
-        .evmConfiguration(unstableEvmOptions.toDomainObject())
+        .evmConfiguration(getEvmConfiguration())
         .maxPeers(p2PDiscoveryOptionGroup.maxPeers)
         .maxRemotelyInitiatedPeers(maxRemoteInitiatedPeers)
         .randomPeerPriority(p2PDiscoveryOptionGroup.randomPeerPriority)
@@ -2418,6 +2475,26 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
     return dataPath.toAbsolutePath();
   }
 
+  /**
+   * Whether the traces of imported blocks are stored. Visible as it is accessed by the
+   * generate-trace-index subcommand.
+   *
+   * @return true if --trace-indexing-enabled is set
+   */
+  public boolean isTraceIndexingEnabled() {
+    return apiConfigurationOptions.isTraceIndexingEnabled();
+  }
+
+  /**
+   * Whether the transactions of imported blocks are indexed by address. Visible as it is accessed
+   * by the generate-address-transaction-index subcommand.
+   *
+   * @return true if --address-transaction-index-enabled is set
+   */
+  public boolean isAddressTransactionIndexEnabled() {
+    return apiConfigurationOptions.isAddressTransactionIndexEnabled();
+  }
+
   private Path pluginsDir() {
     final String pluginsDir = System.getProperty("besu.plugins.dir");
     if (pluginsDir == null) {
@@ -2661,6 +2738,12 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
     if (!unstableChainPruningOptions.getChainDataPruningEnabled()) {
       rocksDBPlugin.addIgnorableSegmentIdentifier(KeyValueSegmentIdentifier.CHAIN_PRUNER_STATE);
     }
+    if (!apiConfigurationOptions.isTraceIndexingEnabled()) {
+      rocksDBPlugin.addIgnorableSegmentIdentifier(KeyValueSegmentIdentifier.TRACE_STORAGE);
+    }
+    if (!apiConfigurationOptions.isAddressTransactionIndexEnabled()) {
+      rocksDBPlugin.addIgnorableSegmentIdentifier(KeyValueSegmentIdentifier.ADDRESS_TRANSACTIONS);
+    }
   }
 
   private void validatePostMergeCheckpointBlockRequirements() {
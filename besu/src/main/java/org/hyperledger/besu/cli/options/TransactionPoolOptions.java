@@ -222,6 +222,8 @@ public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfigu
     private static final String ETH65_TX_ANNOUNCED_BUFFERING_PERIOD_FLAG =
         "--Xeth65-tx-announced-buffering-period-milliseconds";
 
+    private static final String SENDER_CACHE_SIZE_FLAG = "--Xtx-pool-sender-cache-size";
+
     @CommandLine.Option(
         names = {TX_MESSAGE_KEEP_ALIVE_SEC_FLAG},
         paramLabel = "<INTEGER>",
@@ -242,6 +244,15 @@ public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfigu
         arity = "1")
     private Duration eth65TrxAnnouncedBufferingPeriod =
         TransactionPoolConfiguration.Unstable.ETH65_TRX_ANNOUNCED_BUFFERING_PERIOD;
+
+    @CommandLine.Option(
+        names = {SENDER_CACHE_SIZE_FLAG},
+        paramLabel = "<LONG>",
+        hidden = true,
+        description =
+            "Minimum number of transaction senders to cache, grown if needed to hold the senders of all the pooled transactions (default: ${DEFAULT-VALUE})",
+        arity = "1")
+    private Long senderCacheSize = TransactionPoolConfiguration.Unstable.DEFAULT_SENDER_CACHE_SIZE;
   }
 
   private TransactionPoolOptions() {}
@@ -295,6 +306,7 @@ public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfigu
         config.getUnstable().getTxMessageKeepAliveSeconds();
     options.unstableOptions.eth65TrxAnnouncedBufferingPeriod =
         config.getUnstable().getEth65TrxAnnouncedBufferingPeriod();
+    options.unstableOptions.senderCacheSize = config.getUnstable().getSenderCacheSize();
 
     return options;
   }
@@ -350,6 +362,7 @@ public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfigu
             ImmutableTransactionPoolConfiguration.Unstable.builder()
                 .txMessageKeepAliveSeconds(unstableOptions.txMessageKeepAliveSeconds)
                 .eth65TrxAnnouncedBufferingPeriod(unstableOptions.eth65TrxAnnouncedBufferingPeriod)
+                .senderCacheSize(unstableOptions.senderCacheSize)
                 .build())
         .build();
   }
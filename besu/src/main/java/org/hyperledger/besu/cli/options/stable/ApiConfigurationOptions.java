@@ -86,6 +86,27 @@ public class ApiConfigurationOptions {
           "Specifies the maximum number of blocks for the trace_filter method. Must be >=0. 0 specifies no limit  (default: $DEFAULT-VALUE)")
   private final Long maxTraceFilterRange = 1000L;
 
+  @CommandLine.Option(
+      names = {"--rpc-tracing-parallelism"},
+      hidden = true,
+      description =
+          "Maximum number of transactions of a block traced at once by debug_traceBlock* and trace_replayBlockTransactions. 1 traces them sequentially (default: ${DEFAULT-VALUE})")
+  private final Integer rpcTracingParallelism = 1;
+
+  @CommandLine.Option(
+      names = {"--trace-indexing-enabled"},
+      hidden = true,
+      description =
+          "Store the traces of every imported block and its addresses so trace_block, trace_filter and trace_transaction can be answered without re-executing blocks (default: ${DEFAULT-VALUE})")
+  private final Boolean traceIndexingEnabled = false;
+
+  @CommandLine.Option(
+      names = {"--address-transaction-index-enabled"},
+      hidden = true,
+      description =
+          "Index the transactions sent, received and created by every address of imported blocks so they can be listed with eth_getTransactionsByAddress (default: ${DEFAULT-VALUE})")
+  private final Boolean addressTransactionIndexEnabled = false;
+
   /**
    * Validates the API options.
    *
@@ -114,6 +135,24 @@ public class ApiConfigurationOptions {
             "--api-gas-and-priority-fee-lower-bound-coefficient"));
   }
 
+  /**
+   * Whether the traces of imported blocks are stored.
+   *
+   * @return true if trace indexing is enabled
+   */
+  public boolean isTraceIndexingEnabled() {
+    return traceIndexingEnabled;
+  }
+
+  /**
+   * Whether the transactions of imported blocks are indexed by address.
+   *
+   * @return true if the address transaction index is enabled
+   */
+  public boolean isAddressTransactionIndexEnabled() {
+    return addressTransactionIndexEnabled;
+  }
+
   /**
    * Creates an ApiConfiguration based on the provided options.
    *
@@ -131,7 +170,10 @@ public class ApiConfigurationOptions {
             .maxLogsRange(rpcMaxLogsRange)
             .gasCap(rpcGasCap)
             .isGasAndPriorityFeeLimitingEnabled(apiGasAndPriorityFeeLimitingEnabled)
-            .maxTraceFilterRange(maxTraceFilterRange);
+            .maxTraceFilterRange(maxTraceFilterRange)
+            .tracingParallelism(rpcTracingParallelism)
+            .isTraceIndexingEnabled(traceIndexingEnabled)
+            .isAddressTransactionIndexEnabled(addressTransactionIndexEnabled);
     if (apiGasAndPriorityFeeLimitingEnabled) {
       builder
           .lowerBoundGasAndPriorityFeeCoefficient(apiGasAndPriorityFeeLowerBoundCoefficient)
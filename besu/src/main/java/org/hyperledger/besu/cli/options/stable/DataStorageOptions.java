@@ -18,6 +18,8 @@ package org.hyperledger.besu.cli.options.stable;
 
 import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.DEFAULT_BONSAI_MAX_LAYERS_TO_LOAD;
 import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.Unstable.DEFAULT_BONSAI_CODE_USING_CODE_HASH_ENABLED;
+import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.Unstable.DEFAULT_BONSAI_FLAT_DB_HEALING_ENABLED;
+import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.Unstable.DEFAULT_BONSAI_FLAT_DB_HEALING_ENTRIES_PER_SECOND;
 import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.Unstable.DEFAULT_BONSAI_LIMIT_TRIE_LOGS_ENABLED;
 import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.Unstable.DEFAULT_BONSAI_TRIE_LOG_PRUNING_WINDOW_SIZE;
 import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.Unstable.MINIMUM_BONSAI_TRIE_LOG_RETENTION_LIMIT;
@@ -73,6 +75,10 @@ public class DataStorageOptions implements CLIOptions<DataStorageConfiguration>
     public static final String BONSAI_TRIE_LOG_PRUNING_WINDOW_SIZE =
         "--Xbonsai-trie-logs-pruning-window-size";
 
+    /** The rate at which the flat database healing service checks entries. */
+    public static final String BONSAI_FLAT_DB_HEALING_ENTRIES_PER_SECOND =
+        "--Xbonsai-flat-db-healing-entries-per-second";
+
     @CommandLine.Option(
         hidden = true,
         names = {BONSAI_LIMIT_TRIE_LOGS_ENABLED, "--Xbonsai-trie-log-pruning-enabled"},
@@ -94,6 +100,23 @@ public class DataStorageOptions implements CLIOptions<DataStorageConfiguration>
         description =
             "Enables code storage using code hash instead of by account hash. (default: ${DEFAULT-VALUE})")
     private boolean bonsaiCodeUsingCodeHashEnabled = DEFAULT_BONSAI_CODE_USING_CODE_HASH_ENABLED;
+
+    @CommandLine.Option(
+        hidden = true,
+        names = {"--Xbonsai-flat-db-healing-enabled"},
+        arity = "1",
+        description =
+            "Backfill the missing entries of a partial flat database in the background and switch to full flat database mode when done. (default: ${DEFAULT-VALUE})")
+    private boolean bonsaiFlatDbHealingEnabled = DEFAULT_BONSAI_FLAT_DB_HEALING_ENABLED;
+
+    @CommandLine.Option(
+        hidden = true,
+        names = {BONSAI_FLAT_DB_HEALING_ENTRIES_PER_SECOND},
+        paramLabel = "<INTEGER>",
+        description =
+            "Maximum number of accounts and storage slots checked per second by the flat database healing. (default: ${DEFAULT-VALUE})")
+    private int bonsaiFlatDbHealingEntriesPerSecond =
+        DEFAULT_BONSAI_FLAT_DB_HEALING_ENTRIES_PER_SECOND;
   }
   /**
    * Create data storage options.
@@ -110,6 +133,14 @@ public class DataStorageOptions implements CLIOptions<DataStorageConfiguration>
    * @param commandLine the full commandLine to check all the options specified by the user
    */
   public void validate(final CommandLine commandLine) {
+    if (unstableOptions.bonsaiFlatDbHealingEnabled
+        && unstableOptions.bonsaiFlatDbHealingEntriesPerSecond <= 0) {
+      throw new CommandLine.ParameterException(
+          commandLine,
+          String.format(
+              Unstable.BONSAI_FLAT_DB_HEALING_ENTRIES_PER_SECOND + "=%d must be greater than 0",
+              unstableOptions.bonsaiFlatDbHealingEntriesPerSecond));
+    }
     if (unstableOptions.bonsaiLimitTrieLogsEnabled) {
       if (bonsaiMaxLayersToLoad < MINIMUM_BONSAI_TRIE_LOG_RETENTION_LIMIT) {
         throw new CommandLine.ParameterException(
@@ -155,6 +186,10 @@ public class DataStorageOptions implements CLIOptions<DataStorageConfiguration>
         domainObject.getUnstable().getBonsaiTrieLogPruningWindowSize();
     dataStorageOptions.unstableOptions.bonsaiCodeUsingCodeHashEnabled =
         domainObject.getUnstable().getBonsaiCodeStoredByCodeHashEnabled();
+    dataStorageOptions.unstableOptions.bonsaiFlatDbHealingEnabled =
+        domainObject.getUnstable().getBonsaiFlatDbHealingEnabled();
+    dataStorageOptions.unstableOptions.bonsaiFlatDbHealingEntriesPerSecond =
+        domainObject.getUnstable().getBonsaiFlatDbHealingEntriesPerSecond();
 
     return dataStorageOptions;
   }
@@ -169,6 +204,9 @@ public class DataStorageOptions implements CLIOptions<DataStorageConfiguration>
                 .bonsaiLimitTrieLogsEnabled(unstableOptions.bonsaiLimitTrieLogsEnabled)
                 .bonsaiTrieLogPruningWindowSize(unstableOptions.bonsaiTrieLogPruningWindowSize)
                 .bonsaiCodeStoredByCodeHashEnabled(unstableOptions.bonsaiCodeUsingCodeHashEnabled)
+                .bonsaiFlatDbHealingEnabled(unstableOptions.bonsaiFlatDbHealingEnabled)
+                .bonsaiFlatDbHealingEntriesPerSecond(
+                    unstableOptions.bonsaiFlatDbHealingEntriesPerSecond)
                 .build())
         .build();
   }
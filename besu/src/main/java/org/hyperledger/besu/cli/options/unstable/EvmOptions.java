@@ -31,6 +31,9 @@ public class EvmOptions implements CLIOptions<EvmConfiguration> {
   /** The constant WORLDSTATE_UPDATE_MODE. */
   public static final String WORLDSTATE_UPDATE_MODE = "--Xevm-worldstate-update-mode";
 
+  /** The constant PRECOMPILE_CACHE_WEIGHT. */
+  public static final String PRECOMPILE_CACHE_WEIGHT = "--Xevm-precompile-cache-weight-kb";
+
   /**
    * Create evm options.
    *
@@ -62,6 +65,27 @@ public class EvmOptions implements CLIOptions<EvmConfiguration> {
       EvmConfiguration.WorldUpdaterMode
           .STACKED; // Stacked Updater.  Years of battle tested correctness.
 
+  @SuppressWarnings({"FieldCanBeFinal", "FieldMayBeFinal"})
+  @CommandLine.Option(
+      names = {PRECOMPILE_CACHE_WEIGHT},
+      description =
+          "size in kilobytes to allow the cache of ecrecover and pairing precompile results "
+              + "to grow to, shared by transaction pool, block building and import "
+              + "(default: 0, disabled)",
+      fallbackValue = "0",
+      hidden = true,
+      arity = "1")
+  private Long precompileCacheWeightKilobytes = 0L;
+
+  /**
+   * Gets the weight in kilobytes of the precompile result cache, zero when disabled.
+   *
+   * @return the precompile result cache weight
+   */
+  public long getPrecompileCacheWeightKilobytes() {
+    return precompileCacheWeightKilobytes;
+  }
+
   @Override
   public EvmConfiguration toDomainObject() {
     return new EvmConfiguration(jumpDestCacheWeightKilobytes, worldstateUpdateMode);
@@ -69,6 +93,6 @@ public class EvmOptions implements CLIOptions<EvmConfiguration> {
 
   @Override
   public List<String> getCLIOptions() {
-    return List.of(JUMPDEST_CACHE_WEIGHT, WORLDSTATE_UPDATE_MODE);
+    return List.of(JUMPDEST_CACHE_WEIGHT, WORLDSTATE_UPDATE_MODE, PRECOMPILE_CACHE_WEIGHT);
   }
 }
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.cli.options.unstable;
 
 import org.hyperledger.besu.ethereum.api.handlers.TimeoutOptions;
+import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration;
 
 import picocli.CommandLine;
 
@@ -35,6 +36,32 @@ public class RPCOptions {
       arity = "1")
   private final Long wsTimeoutSec = TimeoutOptions.defaultOptions().getTimeoutSeconds();
 
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xhttp-batch-parallelism"},
+      description =
+          "Maximum number of requests of a JSON-RPC batch executed in parallel (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer httpBatchParallelism = JsonRpcConfiguration.DEFAULT_MAX_BATCH_PARALLELISM;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xhttp-batch-cpu-time-budget-millis"},
+      description =
+          "CPU time in milliseconds a JSON-RPC batch can use, the requests left once it is used get an error. 0 means no limit (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Long httpBatchCpuTimeBudgetMillis =
+      JsonRpcConfiguration.DEFAULT_BATCH_CPU_TIME_BUDGET_MILLIS;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xhttp-response-cache-size-bytes"},
+      description =
+          "Size in bytes of the cache of JSON-RPC responses about finalized blocks. 0 disables the cache (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Long httpResponseCacheSizeBytes =
+      JsonRpcConfiguration.DEFAULT_RESPONSE_CACHE_SIZE_BYTES;
+
   /**
    * Create rpc options.
    *
@@ -61,4 +88,31 @@ public class RPCOptions {
   public Long getWsTimeoutSec() {
     return wsTimeoutSec;
   }
+
+  /**
+   * Gets the maximum number of requests of a http batch executed in parallel.
+   *
+   * @return the http batch parallelism
+   */
+  public Integer getHttpBatchParallelism() {
+    return httpBatchParallelism;
+  }
+
+  /**
+   * Gets the CPU time budget of a http batch in milliseconds.
+   *
+   * @return the http batch CPU time budget
+   */
+  public Long getHttpBatchCpuTimeBudgetMillis() {
+    return httpBatchCpuTimeBudgetMillis;
+  }
+
+  /**
+   * Gets the size in bytes of the http response cache.
+   *
+   * @return the http response cache size in bytes
+   */
+  public Long getHttpResponseCacheSizeBytes() {
+    return httpResponseCacheSizeBytes;
+  }
 }
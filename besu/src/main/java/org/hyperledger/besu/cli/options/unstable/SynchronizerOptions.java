@@ -82,8 +82,17 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
   private static final String SNAP_FLAT_DB_HEALING_ENABLED_FLAG =
       "--Xsnapsync-synchronizer-flat-db-healing-enabled";
 
+  private static final String SNAP_TRIENODE_QUEUE_HOT_WINDOW_SIZE_FLAG =
+      "--Xsnapsync-synchronizer-trienode-queue-hot-window-size";
+
+  private static final String SNAP_BULK_LOAD_ENABLED_FLAG =
+      "--Xsnapsync-synchronizer-bulk-load-enabled";
+
   private static final String CHECKPOINT_POST_MERGE_FLAG = "--Xcheckpoint-post-merge-enabled";
 
+  private static final String VIRTUAL_THREADS_ENABLED_FLAG =
+      "--Xsynchronizer-virtual-threads-enabled";
+
   /**
    * Parse block propagation range.
    *
@@ -270,6 +279,15 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
   private int snapsyncTrieNodeCountPerRequest =
       SnapSyncConfiguration.DEFAULT_TRIENODE_COUNT_PER_REQUEST;
 
+  @CommandLine.Option(
+      names = SNAP_TRIENODE_QUEUE_HOT_WINDOW_SIZE_FLAG,
+      hidden = true,
+      paramLabel = "<INTEGER>",
+      description =
+          "Snap sync pending trie node requests kept in memory, the others are moved to disk. 0 keeps all of them in memory (default: ${DEFAULT-VALUE})")
+  private int snapsyncTrieNodeQueueHotWindowSize =
+      SnapSyncConfiguration.DEFAULT_TRIENODE_QUEUE_HOT_WINDOW_SIZE;
+
   @CommandLine.Option(
       names = SNAP_FLAT_ACCOUNT_HEALED_COUNT_PER_REQUEST_FLAG,
       hidden = true,
@@ -296,6 +314,14 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
   private Boolean snapsyncFlatDbHealingEnabled =
       SnapSyncConfiguration.DEFAULT_IS_FLAT_DB_HEALING_ENABLED;
 
+  @CommandLine.Option(
+      names = SNAP_BULK_LOAD_ENABLED_FLAG,
+      hidden = true,
+      paramLabel = "<Boolean>",
+      description =
+          "Write large snap sync account and storage ranges to the database as sorted SST files instead of regular transactions (default: ${DEFAULT-VALUE})")
+  private Boolean snapsyncBulkLoadEnabled = SnapSyncConfiguration.DEFAULT_IS_BULK_LOAD_ENABLED;
+
   @CommandLine.Option(
       names = {CHECKPOINT_POST_MERGE_FLAG},
       hidden = true,
@@ -303,6 +329,14 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
   private Boolean checkpointPostMergeSyncEnabled =
       SynchronizerConfiguration.DEFAULT_CHECKPOINT_POST_MERGE_ENABLED;
 
+  @CommandLine.Option(
+      names = VIRTUAL_THREADS_ENABLED_FLAG,
+      hidden = true,
+      paramLabel = "<Boolean>",
+      description =
+          "Run the I/O bound sync worker and services tasks on virtual threads, keeping computation on platform threads. Requires Java 21 or later (default: ${DEFAULT-VALUE})")
+  private Boolean virtualThreadsEnabled = SynchronizerConfiguration.DEFAULT_VIRTUAL_THREADS_ENABLED;
+
   private SynchronizerOptions() {}
 
   /**
@@ -359,13 +393,17 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
         config.getSnapSyncConfiguration().getBytecodeCountPerRequest();
     options.snapsyncTrieNodeCountPerRequest =
         config.getSnapSyncConfiguration().getTrienodeCountPerRequest();
+    options.snapsyncTrieNodeQueueHotWindowSize =
+        config.getSnapSyncConfiguration().getTrienodeQueueHotWindowSize();
     options.snapsyncFlatAccountHealedCountPerRequest =
         config.getSnapSyncConfiguration().getLocalFlatAccountCountToHealPerRequest();
     options.snapsyncFlatStorageHealedCountPerRequest =
         config.getSnapSyncConfiguration().getLocalFlatStorageCountToHealPerRequest();
     options.snapsyncFlatDbHealingEnabled =
         config.getSnapSyncConfiguration().isFlatDbHealingEnabled();
+    options.snapsyncBulkLoadEnabled = config.getSnapSyncConfiguration().isBulkLoadEnabled();
     options.checkpointPostMergeSyncEnabled = config.isCheckpointPostMergeEnabled();
+    options.virtualThreadsEnabled = config.isVirtualThreadsEnabled();
     return options;
   }
 
@@ -395,11 +433,14 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
             .storageCountPerRequest(snapsyncStorageCountPerRequest)
             .bytecodeCountPerRequest(snapsyncBytecodeCountPerRequest)
             .trienodeCountPerRequest(snapsyncTrieNodeCountPerRequest)
+            .trienodeQueueHotWindowSize(snapsyncTrieNodeQueueHotWindowSize)
             .localFlatAccountCountToHealPerRequest(snapsyncFlatAccountHealedCountPerRequest)
             .localFlatStorageCountToHealPerRequest(snapsyncFlatStorageHealedCountPerRequest)
             .isFlatDbHealingEnabled(snapsyncFlatDbHealingEnabled)
+            .isBulkLoadEnabled(snapsyncBulkLoadEnabled)
             .build());
     builder.checkpointPostMergeEnabled(checkpointPostMergeSyncEnabled);
+    builder.virtualThreadsEnabled(virtualThreadsEnabled);
 
     return builder;
   }
@@ -449,7 +490,13 @@ public class SynchronizerOptions implements CLIOptions<SynchronizerConfiguration
             SNAP_BYTECODE_COUNT_PER_REQUEST_FLAG,
             OptionParser.format(snapsyncBytecodeCountPerRequest),
             SNAP_TRIENODE_COUNT_PER_REQUEST_FLAG,
-            OptionParser.format(snapsyncTrieNodeCountPerRequest));
+            OptionParser.format(snapsyncTrieNodeCountPerRequest),
+            SNAP_TRIENODE_QUEUE_HOT_WINDOW_SIZE_FLAG,
+            OptionParser.format(snapsyncTrieNodeQueueHotWindowSize),
+            SNAP_BULK_LOAD_ENABLED_FLAG,
+            OptionParser.format(snapsyncBulkLoadEnabled),
+            VIRTUAL_THREADS_ENABLED_FLAG,
+            OptionParser.format(virtualThreadsEnabled));
     if (isSnapsyncFlatDbHealingEnabled()) {
       value.addAll(
           Arrays.asList(
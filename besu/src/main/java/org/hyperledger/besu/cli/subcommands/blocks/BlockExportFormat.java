@@ -17,5 +17,7 @@ package org.hyperledger.besu.cli.subcommands.blocks;
 /** The enum Block export format. */
 public enum BlockExportFormat {
   /** Rlp block export format. */
-  RLP
+  RLP,
+  /** Columnar, compressed chain segment archive, including receipts and total difficulties. */
+  SEGMENT
 }
@@ -19,5 +19,7 @@ public enum BlockImportFormat {
   /** RLP block import format. */
   RLP,
   /** Json block import format. */
-  JSON
+  JSON,
+  /** Chain segment archive import format. */
+  SEGMENT
 }
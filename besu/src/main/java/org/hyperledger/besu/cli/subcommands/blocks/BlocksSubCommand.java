@@ -17,7 +17,9 @@ package org.hyperledger.besu.cli.subcommands.blocks;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.hyperledger.besu.cli.subcommands.blocks.BlocksSubCommand.COMMAND_NAME;
 
+import org.hyperledger.besu.chainexport.ChainSegmentExporter;
 import org.hyperledger.besu.chainexport.RlpBlockExporter;
+import org.hyperledger.besu.chainimport.ChainSegmentImporter;
 import org.hyperledger.besu.chainimport.JsonBlockImporter;
 import org.hyperledger.besu.chainimport.RlpBlockImporter;
 import org.hyperledger.besu.cli.BesuCommand;
@@ -166,6 +168,13 @@ public class BlocksSubCommand implements Runnable {
         description = "Skip proof of work validation when importing.")
     private final Boolean skipPow = false;
 
+    @Option(
+        names = "--trusted-ingest",
+        hidden = true,
+        description =
+            "Write SEGMENT archives directly into the blockchain database without executing the blocks. Only use archives from a trusted source. The chain head and world state are left to the synchronizer.")
+    private final Boolean trustedIngest = false;
+
     @Option(names = "--run", description = "Start besu after importing.")
     private final Boolean runBesu = false;
 
@@ -204,6 +213,10 @@ public class BlocksSubCommand implements Runnable {
         throw new ParameterException(
             spec.commandLine(), "Can't skip proof of work validation for JSON blocks");
       }
+      if (trustedIngest && !format.equals(BlockImportFormat.SEGMENT)) {
+        throw new ParameterException(
+            spec.commandLine(), "Trusted ingestion is only supported for SEGMENT archives");
+      }
       LOG.info("Import {} block data from {} files", format, blockImportFiles.size());
       final Optional<MetricsService> metricsService = initMetrics(parentCommand);
 
@@ -218,6 +231,9 @@ public class BlocksSubCommand implements Runnable {
               case JSON:
                 importJsonBlocks(controller, path);
                 break;
+              case SEGMENT:
+                importChainSegment(controller, path);
+                break;
             }
           } catch (final FileNotFoundException e) {
             if (blockImportFiles.size() == 1) {
@@ -295,6 +311,11 @@ public class BlocksSubCommand implements Runnable {
           .get()
           .importBlockchain(path, controller, skipPow, startBlock, endBlock);
     }
+
+    private void importChainSegment(final BesuController controller, final Path path)
+        throws IOException {
+      new ChainSegmentImporter().importChainSegment(path, controller, trustedIngest, skipPow);
+    }
   }
 
   /**
@@ -359,6 +380,8 @@ public class BlocksSubCommand implements Runnable {
       try {
         if (format == BlockExportFormat.RLP) {
           exportRlpFormat(controller);
+        } else if (format == BlockExportFormat.SEGMENT) {
+          exportChainSegment(controller);
         } else {
           throw new ParameterException(
               spec.commandLine(), "Unsupported format: " + format.toString());
@@ -386,6 +409,12 @@ public class BlocksSubCommand implements Runnable {
       exporter.exportBlocks(blocksExportFile, getStartBlock(), getEndBlock());
     }
 
+    private void exportChainSegment(final BesuController controller) throws IOException {
+      final ChainSegmentExporter exporter =
+          new ChainSegmentExporter(controller.getProtocolContext().getBlockchain());
+      exporter.exportBlocks(blocksExportFile.toPath(), getStartBlock(), getEndBlock());
+    }
+
     private void checkCommand(
         final ExportSubCommand exportSubCommand, final Long startBlock, final Long endBlock) {
       checkNotNull(exportSubCommand.parentCommand);
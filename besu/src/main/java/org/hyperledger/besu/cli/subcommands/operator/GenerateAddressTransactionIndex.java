@@ -0,0 +1,126 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.cli.subcommands.operator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.hyperledger.besu.cli.DefaultCommandValues.MANDATORY_LONG_FORMAT_HELP;
+
+import org.hyperledger.besu.cli.util.VersionProvider;
+import org.hyperledger.besu.controller.BesuController;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.query.cache.AddressTransactionIndex;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParentCommand;
+
+/** The generate-address-transaction-index CLI command. */
+@Command(
+    name = "generate-address-transaction-index",
+    description =
+        "Index the transactions of existing blocks for eth_getTransactionsByAddress."
+            + " Requires --address-transaction-index-enabled.",
+    mixinStandardHelpOptions = true,
+    versionProvider = VersionProvider.class)
+public class GenerateAddressTransactionIndex implements Runnable {
+  private static final Logger LOG = LoggerFactory.getLogger(GenerateAddressTransactionIndex.class);
+  private static final int BLOCKS_PER_TRANSACTION = 1000;
+
+  @Option(
+      names = "--start-block",
+      paramLabel = MANDATORY_LONG_FORMAT_HELP,
+      description = "The block to start indexing transactions from (default: ${DEFAULT-VALUE})",
+      arity = "1..1")
+  private final Long startBlock = 0L;
+
+  @Option(
+      names = "--end-block",
+      paramLabel = MANDATORY_LONG_FORMAT_HELP,
+      description =
+          "The block to stop indexing transactions at (default is last block of the chain).",
+      arity = "1..1")
+  private final Long endBlock = Long.MAX_VALUE;
+
+  @ParentCommand private OperatorSubCommand parentCommand;
+
+  @Override
+  public void run() {
+    checkPreconditions();
+    final BesuController besuController = createBesuController();
+    final MutableBlockchain blockchain = besuController.getProtocolContext().getBlockchain();
+    final AddressTransactionIndex addressTransactionIndex =
+        new AddressTransactionIndex(
+            besuController
+                .getStorageProvider()
+                .getStorageBySegmentIdentifier(KeyValueSegmentIdentifier.ADDRESS_TRANSACTIONS));
+    try {
+      final long finalBlock = Math.min(blockchain.getChainHeadBlockNumber(), endBlock);
+      final Optional<Long> indexedHeadNumber =
+          addressTransactionIndex
+              .getIndexedHead()
+              .flatMap(blockchain::getBlockHeader)
+              .map(BlockHeader::getNumber);
+      // the indexed head can only move forward if the backfilled range joins up with it
+      final boolean moveIndexedHead =
+          indexedHeadNumber.isEmpty()
+              || (indexedHeadNumber.get() < finalBlock
+                  && startBlock <= indexedHeadNumber.get() + 1);
+
+      List<Block> blocks = new ArrayList<>(BLOCKS_PER_TRANSACTION);
+      for (long number = startBlock; number <= finalBlock; number++) {
+        final long blockNumber = number;
+        blocks.add(
+            blockchain
+                .getBlockByNumber(blockNumber)
+                .orElseThrow(() -> new IllegalStateException("Missing block " + blockNumber)));
+        if (blocks.size() == BLOCKS_PER_TRANSACTION || number == finalBlock) {
+          final Optional<Hash> indexedHead =
+              moveIndexedHead && number == finalBlock
+                  ? Optional.of(blocks.get(blocks.size() - 1).getHash())
+                  : Optional.empty();
+          addressTransactionIndex.backfillBlocks(blocks, indexedHead);
+          LOG.info("Indexed address transactions up to block {}", number);
+          blocks = new ArrayList<>(BLOCKS_PER_TRANSACTION);
+        }
+      }
+    } finally {
+      besuController.close();
+    }
+  }
+
+  private void checkPreconditions() {
+    checkNotNull(parentCommand.parentCommand.dataDir());
+    checkState(
+        parentCommand.parentCommand.isAddressTransactionIndexEnabled(),
+        "generate-address-transaction-index requires --address-transaction-index-enabled, "
+            + "otherwise the address transaction index is not opened");
+    checkState(startBlock >= 0, "Start block must not be negative");
+  }
+
+  private BesuController createBesuController() {
+    return parentCommand.parentCommand.buildController();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.cli.subcommands.operator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.hyperledger.besu.cli.DefaultCommandValues.MANDATORY_LONG_FORMAT_HELP;
+
+import org.hyperledger.besu.cli.util.VersionProvider;
+import org.hyperledger.besu.controller.BesuController;
+import org.hyperledger.besu.ethereum.ProtocolContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockReplay;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.TraceIndexer;
+import org.hyperledger.besu.ethereum.api.query.cache.TraceStorage;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParentCommand;
+
+/** The generate-trace-index CLI command. */
+@Command(
+    name = "generate-trace-index",
+    description =
+        "Store the traces of existing blocks for trace_block, trace_filter and trace_transaction."
+            + " Requires --trace-indexing-enabled.",
+    mixinStandardHelpOptions = true,
+    versionProvider = VersionProvider.class)
+public class GenerateTraceIndex implements Runnable {
+
+  @Option(
+      names = "--start-block",
+      paramLabel = MANDATORY_LONG_FORMAT_HELP,
+      description = "The block to start indexing traces from (default: ${DEFAULT-VALUE})",
+      arity = "1..1")
+  private final Long startBlock = 0L;
+
+  @Option(
+      names = "--end-block",
+      paramLabel = MANDATORY_LONG_FORMAT_HELP,
+      description = "The block to stop indexing traces at (default is last block of the chain).",
+      arity = "1..1")
+  private final Long endBlock = Long.MAX_VALUE;
+
+  @ParentCommand private OperatorSubCommand parentCommand;
+
+  @Override
+  public void run() {
+    checkPreconditions();
+    final BesuController besuController = createBesuController();
+    final ProtocolContext protocolContext = besuController.getProtocolContext();
+    final MutableBlockchain blockchain = protocolContext.getBlockchain();
+    final BlockchainQueries blockchainQueries =
+        new BlockchainQueries(blockchain, protocolContext.getWorldStateArchive());
+    final BlockReplay blockReplay =
+        new BlockReplay(besuController.getProtocolSchedule(), protocolContext, blockchain);
+    final TraceIndexer traceIndexer =
+        new TraceIndexer(
+            besuController.getProtocolSchedule(),
+            blockchainQueries,
+            () -> new BlockTracer(blockReplay),
+            new TraceStorage(
+                besuController
+                    .getStorageProvider()
+                    .getStorageBySegmentIdentifier(KeyValueSegmentIdentifier.TRACE_STORAGE)));
+    try {
+      final long finalBlock = Math.min(blockchain.getChainHeadBlockNumber(), endBlock);
+      traceIndexer.indexBlocks(startBlock, finalBlock);
+    } finally {
+      besuController.close();
+    }
+  }
+
+  private void checkPreconditions() {
+    checkNotNull(parentCommand.parentCommand.dataDir());
+    checkState(
+        parentCommand.parentCommand.isTraceIndexingEnabled(),
+        "generate-trace-index requires --trace-indexing-enabled, "
+            + "otherwise the trace storage is not opened");
+    checkState(startBlock >= 0, "Start block must not be negative");
+  }
+
+  private BesuController createBesuController() {
+    return parentCommand.parentCommand.buildController();
+  }
+}
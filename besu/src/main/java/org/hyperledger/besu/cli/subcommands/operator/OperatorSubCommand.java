@@ -35,6 +35,8 @@ import picocli.CommandLine.Spec;
     subcommands = {
       GenerateBlockchainConfig.class,
       GenerateLogBloomCache.class,
+      GenerateTraceIndex.class,
+      GenerateAddressTransactionIndex.class,
       BackupState.class,
       RestoreState.class
     })
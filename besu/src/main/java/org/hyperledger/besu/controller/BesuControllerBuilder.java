@@ -40,6 +40,7 @@ import org.hyperledger.besu.ethereum.chain.ChainPrunerConfiguration;
 import org.hyperledger.besu.ethereum.chain.DefaultBlockchain;
 import org.hyperledger.besu.ethereum.chain.GenesisState;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.chain.PruningService;
 import org.hyperledger.besu.ethereum.chain.VariablesStorage;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.MiningParameters;
@@ -84,6 +85,7 @@ import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier;
 import org.hyperledger.besu.ethereum.trie.bonsai.BonsaiWorldStateProvider;
 import org.hyperledger.besu.ethereum.trie.bonsai.cache.CachedMerkleTrieLoader;
 import org.hyperledger.besu.ethereum.trie.bonsai.storage.BonsaiWorldStateKeyValueStorage;
+import org.hyperledger.besu.ethereum.trie.bonsai.storage.flat.FlatDbHealingService;
 import org.hyperledger.besu.ethereum.trie.bonsai.trielog.TrieLogManager;
 import org.hyperledger.besu.ethereum.trie.bonsai.trielog.TrieLogPruner;
 import org.hyperledger.besu.ethereum.trie.forest.ForestWorldStateArchive;
@@ -113,6 +115,7 @@ import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.function.Supplier;
 
+import com.google.common.base.Suppliers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -574,6 +577,15 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
             reorgLoggingThreshold,
             dataDirectory.toString(),
             numberOfBlocksToCache);
+    final List<Closeable> closeables = new ArrayList<>();
+    final Supplier<PruningService> pruningService =
+        Suppliers.memoize(
+            () -> {
+              final PruningService service = createPruningService(blockchain);
+              // stopped before the storages it prunes
+              closeables.add(service);
+              return service;
+            });
 
     final CachedMerkleTrieLoader cachedMerkleTrieLoader =
         besuComponent
@@ -593,7 +605,8 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
     validateContext(protocolContext);
 
     if (chainPrunerConfiguration.getChainPruningEnabled()) {
-      final ChainDataPruner chainDataPruner = createChainPruner(blockchainStorage);
+      final ChainDataPruner chainDataPruner =
+          createChainPruner(blockchainStorage, pruningService.get());
       blockchain.observeBlockAdded(chainDataPruner);
       LOG.info(
           "Chain data pruning enabled with recent blocks retained to be: "
@@ -648,6 +661,7 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
             syncConfig.getDownloaderParallelism(),
             syncConfig.getTransactionsParallelism(),
             syncConfig.getComputationParallelism(),
+            syncConfig.isVirtualThreadsEnabled(),
             metricsSystem);
 
     final GenesisConfigOptions configOptions =
@@ -743,11 +757,21 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
       final BonsaiWorldStateKeyValueStorage worldStateKeyValueStorage =
           worldStateStorageCoordinator.getStrategy(BonsaiWorldStateKeyValueStorage.class);
       final TrieLogPruner trieLogPruner =
-          createTrieLogPruner(worldStateKeyValueStorage, blockchain, scheduler);
+          createTrieLogPruner(worldStateKeyValueStorage, blockchain, pruningService.get());
       trieLogManager.subscribe(trieLogPruner);
     }
 
-    final List<Closeable> closeables = new ArrayList<>();
+    if (dataStorageConfiguration.getUnstable().getBonsaiFlatDbHealingEnabled()
+        && DataStorageFormat.BONSAI.equals(dataStorageConfiguration.getDataStorageFormat())) {
+      final FlatDbHealingService flatDbHealingService =
+          createFlatDbHealingService(
+              worldStateStorageCoordinator.getStrategy(BonsaiWorldStateKeyValueStorage.class),
+              variablesStorage,
+              syncState);
+      flatDbHealingService.start();
+      // stopped before the world state storage it is subscribed to
+      closeables.add(flatDbHealingService);
+    }
     closeables.add(protocolContext.getWorldStateArchive());
     closeables.add(storageProvider);
     if (privacyParameters.getPrivateStorageProvider() != null) {
@@ -778,7 +802,7 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
   private TrieLogPruner createTrieLogPruner(
       final WorldStateKeyValueStorage worldStateStorage,
       final Blockchain blockchain,
-      final EthScheduler scheduler) {
+      final PruningService pruningService) {
     final GenesisConfigOptions genesisConfigOptions = configOptionsSupplier.get();
     final boolean isProofOfStake = genesisConfigOptions.getTerminalTotalDifficulty().isPresent();
 
@@ -786,11 +810,11 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
         new TrieLogPruner(
             (BonsaiWorldStateKeyValueStorage) worldStateStorage,
             blockchain,
-            scheduler::executeServiceTask,
             dataStorageConfiguration.getBonsaiMaxLayersToLoad(),
             dataStorageConfiguration.getUnstable().getBonsaiTrieLogPruningWindowSize(),
             isProofOfStake);
     trieLogPruner.initialize();
+    pruningService.addPruner(trieLogPruner);
 
     return trieLogPruner;
   }
@@ -1069,20 +1093,42 @@ public abstract class BesuControllerBuilder implements MiningParameterOverrides
     };
   }
 
-  private ChainDataPruner createChainPruner(final BlockchainStorage blockchainStorage) {
-    return new ChainDataPruner(
-        blockchainStorage,
-        new ChainDataPrunerStorage(
-            storageProvider.getStorageBySegmentIdentifier(
-                KeyValueSegmentIdentifier.CHAIN_PRUNER_STATE)),
-        chainPrunerConfiguration.getChainPruningBlocksRetained(),
-        chainPrunerConfiguration.getChainPruningBlocksFrequency(),
-        MonitoredExecutors.newBoundedThreadPool(
-            ChainDataPruner.class.getSimpleName(),
-            1,
-            1,
-            ChainDataPruner.MAX_PRUNING_THREAD_QUEUE_SIZE,
-            metricsSystem));
+  private FlatDbHealingService createFlatDbHealingService(
+      final BonsaiWorldStateKeyValueStorage worldStateKeyValueStorage,
+      final VariablesStorage variablesStorage,
+      final SyncState syncState) {
+    return new FlatDbHealingService(
+        worldStateKeyValueStorage,
+        variablesStorage,
+        MonitoredExecutors.newScheduledThreadPool(
+            FlatDbHealingService.class.getSimpleName(), 1, metricsSystem),
+        metricsSystem,
+        () -> syncState.isInitialSyncPhaseDone() && syncState.isInSync(),
+        dataStorageConfiguration.getUnstable().getBonsaiFlatDbHealingEntriesPerSecond());
+  }
+
+  private ChainDataPruner createChainPruner(
+      final BlockchainStorage blockchainStorage, final PruningService pruningService) {
+    final ChainDataPruner chainDataPruner =
+        new ChainDataPruner(
+            blockchainStorage,
+            new ChainDataPrunerStorage(
+                storageProvider.getStorageBySegmentIdentifier(
+                    KeyValueSegmentIdentifier.CHAIN_PRUNER_STATE)),
+            chainPrunerConfiguration.getChainPruningBlocksRetained(),
+            chainPrunerConfiguration.getChainPruningBlocksFrequency());
+    pruningService.addPruner(chainDataPruner);
+    return chainDataPruner;
+  }
+
+  private PruningService createPruningService(final Blockchain blockchain) {
+    final PruningService pruningService =
+        new PruningService(
+            MonitoredExecutors.newSingleThreadExecutor(
+                PruningService.class.getSimpleName(), metricsSystem),
+            metricsSystem);
+    blockchain.observeBlockAdded(pruningService);
+    return pruningService;
   }
 
   /**
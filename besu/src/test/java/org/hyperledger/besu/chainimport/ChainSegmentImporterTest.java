@@ -0,0 +1,193 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.chainimport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hyperledger.besu.chainexport.ChainSegmentExporter;
+import org.hyperledger.besu.chainsegment.ChainSegmentReader;
+import org.hyperledger.besu.config.GenesisConfigFile;
+import org.hyperledger.besu.controller.BesuController;
+import org.hyperledger.besu.cryptoservices.NodeKeyUtils;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.GasLimitCalculator;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.InMemoryKeyValueStorageProvider;
+import org.hyperledger.besu.ethereum.core.MiningParameters;
+import org.hyperledger.besu.ethereum.core.PrivacyParameters;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.eth.EthProtocolConfiguration;
+import org.hyperledger.besu.ethereum.eth.sync.SyncMode;
+import org.hyperledger.besu.ethereum.eth.sync.SynchronizerConfiguration;
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolConfiguration;
+import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.p2p.config.NetworkingConfiguration;
+import org.hyperledger.besu.evm.internal.EvmConfiguration;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.testutil.BlockTestUtil;
+import org.hyperledger.besu.testutil.TestClock;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for {@link ChainSegmentImporter} and the chain segment archive it reads. */
+public final class ChainSegmentImporterTest {
+  private static final int BLOCKS_PER_CHUNK = 100;
+
+  @TempDir public static Path folder;
+  private static Blockchain sourceBlockchain;
+  private static Path archive;
+
+  @TempDir Path dataDir;
+
+  private final ChainSegmentImporter chainSegmentImporter = new ChainSegmentImporter();
+
+  @BeforeAll
+  public static void exportChainSegment() throws IOException {
+    final Path blocks = folder.resolve("1000.blocks");
+    BlockTestUtil.write1000Blocks(blocks);
+    final BesuController sourceController =
+        createController(Files.createTempDirectory(folder, "source"));
+    new RlpBlockImporter().importBlockchain(blocks, sourceController, false);
+    sourceBlockchain = sourceController.getProtocolContext().getBlockchain();
+
+    archive = folder.resolve("1000.segment");
+    new ChainSegmentExporter(sourceBlockchain, BLOCKS_PER_CHUNK)
+        .exportBlocks(archive, Optional.empty(), Optional.empty());
+  }
+
+  @Test
+  public void archiveContainsChainDataByColumn() throws IOException {
+    final BesuController controller = createController(dataDir);
+    try (final ChainSegmentReader reader =
+        ChainSegmentReader.open(
+            archive, ScheduleBasedBlockHeaderFunctions.create(controller.getProtocolSchedule()))) {
+      assertThat(reader.getBlockCount()).isEqualTo(1000);
+      assertThat(reader.getChunkCount()).isEqualTo(1000 / BLOCKS_PER_CHUNK);
+
+      for (int chunk = 0; chunk < reader.getChunkCount(); chunk++) {
+        assertThat(reader.getChunkFirstBlockNumber(chunk)).isEqualTo(chunk * BLOCKS_PER_CHUNK);
+        final List<Block> blocks = reader.readBlocks(chunk);
+        final List<List<TransactionReceipt>> receipts = reader.readReceipts(chunk);
+        final List<Difficulty> totalDifficulties = reader.readTotalDifficulties(chunk);
+        for (int i = 0; i < blocks.size(); i++) {
+          final Block expected =
+              sourceBlockchain.getBlockByNumber(chunk * BLOCKS_PER_CHUNK + i).orElseThrow();
+          assertThat(blocks.get(i)).isEqualTo(expected);
+          assertThat(sourceBlockchain.getTxReceipts(expected.getHash())).contains(receipts.get(i));
+          assertThat(sourceBlockchain.getTotalDifficultyByHash(expected.getHash()))
+              .contains(totalDifficulties.get(i));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void readerRejectsOtherFiles() throws IOException {
+    final Path rlpBlocks = dataDir.resolve("1000.blocks");
+    BlockTestUtil.write1000Blocks(rlpBlocks);
+    final BesuController controller = createController(dataDir);
+
+    assertThatThrownBy(
+            () ->
+                ChainSegmentReader.open(
+                    rlpBlocks,
+                    ScheduleBasedBlockHeaderFunctions.create(controller.getProtocolSchedule())))
+        .isInstanceOf(IOException.class)
+        .hasMessageStartingWith("Not a chain segment archive");
+  }
+
+  @Test
+  public void validatedImportExecutesBlocks() throws IOException {
+    final BesuController targetController = createController(dataDir);
+    final RlpBlockImporter.ImportResult result =
+        chainSegmentImporter.importChainSegment(archive, targetController, false, false);
+
+    // Don't count the Genesis block
+    assertThat(result.count).isEqualTo(999);
+    assertThat(result.td).isEqualTo(UInt256.valueOf(21991996248790L));
+    assertThat(targetController.getProtocolContext().getBlockchain().getChainHeadBlockNumber())
+        .isEqualTo(999);
+  }
+
+  @Test
+  public void trustedImportStoresChainDataWithoutMovingChainHead() throws IOException {
+    final BesuController targetController = createController(dataDir);
+    final RlpBlockImporter.ImportResult result =
+        chainSegmentImporter.importChainSegment(archive, targetController, true, false);
+
+    assertThat(result.count).isEqualTo(999);
+    assertThat(result.td).isEqualTo(UInt256.valueOf(21991996248790L));
+    final Blockchain targetBlockchain = targetController.getProtocolContext().getBlockchain();
+    assertThat(targetBlockchain.getChainHeadBlockNumber()).isZero();
+    for (long number = 1; number < 1000; number++) {
+      final Block expected = sourceBlockchain.getBlockByNumber(number).orElseThrow();
+      final Hash hash = expected.getHash();
+      assertThat(targetBlockchain.getBlockHashByNumber(number)).contains(hash);
+      assertThat(targetBlockchain.getBlockByHash(hash)).contains(expected);
+      assertThat(targetBlockchain.getTxReceipts(hash))
+          .isEqualTo(sourceBlockchain.getTxReceipts(hash));
+      assertThat(targetBlockchain.getTotalDifficultyByHash(hash))
+          .isEqualTo(sourceBlockchain.getTotalDifficultyByHash(hash));
+      for (final Transaction transaction : expected.getBody().getTransactions()) {
+        assertThat(targetBlockchain.getTransactionLocation(transaction.getHash()))
+            .isEqualTo(sourceBlockchain.getTransactionLocation(transaction.getHash()));
+      }
+    }
+  }
+
+  @Test
+  public void trustedImportIsIdempotent() throws IOException {
+    final BesuController targetController = createController(dataDir);
+    chainSegmentImporter.importChainSegment(archive, targetController, true, false);
+    final RlpBlockImporter.ImportResult result =
+        chainSegmentImporter.importChainSegment(archive, targetController, true, false);
+
+    assertThat(result.count).isZero();
+  }
+
+  private static BesuController createController(final Path dataDir) {
+    return new BesuController.Builder()
+        .fromGenesisConfig(GenesisConfigFile.mainnet(), SyncMode.FAST)
+        .synchronizerConfiguration(SynchronizerConfiguration.builder().build())
+        .ethProtocolConfiguration(EthProtocolConfiguration.defaultConfig())
+        .storageProvider(new InMemoryKeyValueStorageProvider())
+        .networkId(BigInteger.ONE)
+        .miningParameters(MiningParameters.newDefault())
+        .nodeKey(NodeKeyUtils.generate())
+        .metricsSystem(new NoOpMetricsSystem())
+        .privacyParameters(PrivacyParameters.DEFAULT)
+        .dataDirectory(dataDir)
+        .clock(TestClock.fixed())
+        .transactionPoolConfiguration(TransactionPoolConfiguration.DEFAULT)
+        .gasLimitCalculator(GasLimitCalculator.constant())
+        .evmConfiguration(EvmConfiguration.DEFAULT)
+        .networkConfiguration(NetworkingConfiguration.create())
+        .build();
+  }
+}
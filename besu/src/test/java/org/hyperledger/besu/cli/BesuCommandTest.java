@@ -1967,6 +1967,27 @@ public class BesuCommandTest extends CommandTestAbstract {
         .contains("Invalid value for option", "--Xhttp-timeout-seconds", "abc", "is not a long");
   }
 
+  @Test
+  public void assertThatHttpBatchLimitsWork() {
+    parseCommand("--Xhttp-batch-parallelism=8", "--Xhttp-batch-cpu-time-budget-millis=2000");
+    assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
+    verify(mockRunnerBuilder).jsonRpcConfiguration(jsonRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMaxBatchParallelism()).isEqualTo(8);
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getBatchCpuTimeBudgetMillis())
+        .isEqualTo(2000);
+  }
+
+  @Test
+  public void assertThatHttpResponseCacheSizeWorks() {
+    parseCommand("--Xhttp-response-cache-size-bytes=1048576");
+    assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
+    verify(mockRunnerBuilder).jsonRpcConfiguration(jsonRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getResponseCacheSizeBytes())
+        .isEqualTo(1048576);
+  }
+
   @Test
   public void assertThatDefaultWsTimeoutSecondsWorks() {
     parseCommand();
@@ -67,6 +67,7 @@ public class SynchronizerOptionsTest
         .downloaderParallelism(SynchronizerConfiguration.DEFAULT_DOWNLOADER_PARALLELISM + 2)
         .transactionsParallelism(SynchronizerConfiguration.DEFAULT_TRANSACTIONS_PARALLELISM + 2)
         .computationParallelism(SynchronizerConfiguration.DEFAULT_COMPUTATION_PARALLELISM + 2)
+        .virtualThreadsEnabled(!SynchronizerConfiguration.DEFAULT_VIRTUAL_THREADS_ENABLED)
         .snapSyncConfiguration(
             ImmutableSnapSyncConfiguration.builder()
                 .pivotBlockWindowValidity(
@@ -78,6 +79,9 @@ public class SynchronizerOptionsTest
                 .storageCountPerRequest(SnapSyncConfiguration.DEFAULT_STORAGE_COUNT_PER_REQUEST + 2)
                 .bytecodeCountPerRequest(
                     SnapSyncConfiguration.DEFAULT_BYTECODE_COUNT_PER_REQUEST + 2)
+                .trienodeQueueHotWindowSize(
+                    SnapSyncConfiguration.DEFAULT_TRIENODE_QUEUE_HOT_WINDOW_SIZE + 100_000)
+                .isBulkLoadEnabled(!SnapSyncConfiguration.DEFAULT_IS_BULK_LOAD_ENABLED)
                 .build());
   }
 
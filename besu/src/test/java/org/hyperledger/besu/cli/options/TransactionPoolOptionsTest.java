@@ -317,6 +317,16 @@ public class TransactionPoolOptionsTest
         "acbd");
   }
 
+  @Test
+  public void senderCacheSize() {
+    final long senderCacheSize = 500_000L;
+    internalTestSuccess(
+        config ->
+            assertThat(config.getUnstable().getSenderCacheSize()).isEqualTo(senderCacheSize),
+        "--Xtx-pool-sender-cache-size",
+        String.valueOf(senderCacheSize));
+  }
+
   @Test
   public void eth65TrxAnnouncedBufferingPeriod() {
     final Duration eth65TrxAnnouncedBufferingPeriod = Duration.ofMillis(999);
@@ -110,6 +110,32 @@ public class DataStorageOptionsTest
         "false");
   }
 
+  @Test
+  public void bonsaiFlatDbHealingCanBeEnabled() {
+    internalTestSuccess(
+        dataStorageConfiguration -> {
+          assertThat(dataStorageConfiguration.getUnstable().getBonsaiFlatDbHealingEnabled())
+              .isTrue();
+          assertThat(
+                  dataStorageConfiguration.getUnstable().getBonsaiFlatDbHealingEntriesPerSecond())
+              .isEqualTo(500);
+        },
+        "--Xbonsai-flat-db-healing-enabled",
+        "true",
+        "--Xbonsai-flat-db-healing-entries-per-second",
+        "500");
+  }
+
+  @Test
+  public void bonsaiFlatDbHealingEntriesPerSecondShouldBePositive() {
+    internalTestFailure(
+        "--Xbonsai-flat-db-healing-entries-per-second=0 must be greater than 0",
+        "--Xbonsai-flat-db-healing-enabled",
+        "true",
+        "--Xbonsai-flat-db-healing-entries-per-second",
+        "0");
+  }
+
   @Override
   protected DataStorageConfiguration createDefaultDomainObject() {
     return DataStorageConfiguration.DEFAULT_CONFIG;
@@ -124,6 +150,8 @@ public class DataStorageOptionsTest
             ImmutableDataStorageConfiguration.Unstable.builder()
                 .bonsaiLimitTrieLogsEnabled(true)
                 .bonsaiTrieLogPruningWindowSize(514)
+                .bonsaiFlatDbHealingEnabled(true)
+                .bonsaiFlatDbHealingEntriesPerSecond(1_000)
                 .build())
         .build();
   }
@@ -72,7 +72,7 @@ public class BlocksSubCommandTest extends CommandTestAbstract {
           + "                               (exclusive).  If not specified all blocks after\n"
           + "                               the start block will be imported.\n"
           + "      --format=<format>      The type of data to be imported, possible values\n"
-          + "                               are: RLP, JSON (default: RLP).\n"
+          + "                               are: RLP, JSON, SEGMENT (default: RLP).\n"
           + "      --from[=<FILE>...]     File containing blocks to import.\n"
           + "  -h, --help                 Show this help message and exit.\n"
           + "      --run                  Start besu after importing.\n"
@@ -170,6 +170,20 @@ public class BlocksSubCommandTest extends CommandTestAbstract {
     assertThat(commandErrorOutput.toString(UTF_8)).startsWith(expectedErrorOutputStart);
   }
 
+  @Test
+  public void callingBlockImportSubCommandWithRLPAndTrustedIngestFails() {
+    parseCommand(
+        BLOCK_SUBCOMMAND_NAME,
+        BLOCK_IMPORT_SUBCOMMAND_NAME,
+        "--format",
+        "RLP",
+        "--trusted-ingest",
+        "blocks.file");
+    final String expectedErrorOutputStart = "Trusted ingestion is only supported";
+    assertThat(commandOutput.toString(UTF_8)).isEmpty();
+    assertThat(commandErrorOutput.toString(UTF_8)).startsWith(expectedErrorOutputStart);
+  }
+
   @Test
   public void callingBlockImportSubCommandHelpMustDisplayUsage() {
     parseCommand(BLOCK_SUBCOMMAND_NAME, BLOCK_IMPORT_SUBCOMMAND_NAME, "--help");
@@ -137,6 +137,20 @@ public class OperatorSubCommandTest extends CommandTestAbstract {
     assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
   }
 
+  @Test
+  public void callingGenerateTraceIndexCommandVersionMustDisplayVersion() {
+    parseCommand("generate-trace-index", "--version");
+    assertThat(commandOutput.toString(UTF_8)).isEqualToIgnoringWhitespace(BesuInfo.version());
+    assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
+  }
+
+  @Test
+  public void callingGenerateAddressTransactionIndexCommandVersionMustDisplayVersion() {
+    parseCommand("generate-address-transaction-index", "--version");
+    assertThat(commandOutput.toString(UTF_8)).isEqualToIgnoringWhitespace(BesuInfo.version());
+    assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
+  }
+
   @Test
   public void callingRestoreStateCommandVersionMustDisplayVersion() {
     parseCommand("x-restore-state", "--version");
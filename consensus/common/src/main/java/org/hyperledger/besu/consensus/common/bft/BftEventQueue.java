@@ -16,6 +16,7 @@ package org.hyperledger.besu.consensus.common.bft;
 
 import org.hyperledger.besu.consensus.common.bft.events.BftEvent;
 
+import java.util.Collection;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -84,4 +85,15 @@ public class BftEventQueue {
   public BftEvent poll(final long timeout, final TimeUnit unit) throws InterruptedException {
     return queue.poll(timeout, unit);
   }
+
+  /**
+   * Removes the events available on the queue, without waiting, up to the given number of events.
+   *
+   * @param events the collection to add the events to, in queue order
+   * @param maxEvents the maximum number of events to remove
+   * @return the number of events removed
+   */
+  public int drainTo(final Collection<? super BftEvent> events, final int maxEvents) {
+    return queue.drainTo(events, maxEvents);
+  }
 }
@@ -16,10 +16,15 @@ package org.hyperledger.besu.consensus.common.bft;
 
 import org.hyperledger.besu.consensus.common.bft.events.BftEvent;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,11 +32,18 @@ import org.slf4j.LoggerFactory;
 public class BftProcessor implements Runnable {
 
   private static final Logger LOG = LoggerFactory.getLogger(BftProcessor.class);
+  private static final int MAX_EVENT_BATCH_SIZE = 256;
+  private static final int MAX_DECODING_THREADS = 4;
 
   private final BftEventQueue incomingQueue;
   private volatile boolean shutdown = false;
   private final EventMultiplexer eventMultiplexer;
   private final CountDownLatch shutdownLatch = new CountDownLatch(1);
+  // recovers the signatures of batched messages, its threads are only started when first needed
+  private final ExecutorService messageDecodingExecutor =
+      Executors.newFixedThreadPool(
+          Math.max(1, Math.min(MAX_DECODING_THREADS, Runtime.getRuntime().availableProcessors())),
+          new ThreadFactoryBuilder().setDaemon(true).setNameFormat("BftMessageDecoder-%d").build());
 
   /**
    * Construct a new BftProcessor
@@ -62,23 +74,35 @@ public class BftProcessor implements Runnable {
   public void run() {
     try {
       while (!shutdown) {
-        nextEvent().ifPresent(eventMultiplexer::handleBftEvent);
+        final List<BftEvent> events = nextEvents();
+        if (!events.isEmpty()) {
+          eventMultiplexer.handleBftEvents(events, messageDecodingExecutor);
+        }
       }
     } catch (final Throwable t) {
       LOG.error("BFT Mining thread has suffered a fatal error, mining has been halted", t);
     }
     // Clean up the executor service the round timer has been utilising
     LOG.info("Shutting down BFT event processor");
+    messageDecodingExecutor.shutdownNow();
     shutdownLatch.countDown();
   }
 
-  private Optional<BftEvent> nextEvent() {
+  /** Waits for the next event, then takes along the events queued behind it, up to a batch. */
+  private List<BftEvent> nextEvents() {
     try {
-      return Optional.ofNullable(incomingQueue.poll(500, TimeUnit.MILLISECONDS));
+      final BftEvent firstEvent = incomingQueue.poll(500, TimeUnit.MILLISECONDS);
+      if (firstEvent == null) {
+        return Collections.emptyList();
+      }
+      final List<BftEvent> events = new ArrayList<>();
+      events.add(firstEvent);
+      incomingQueue.drainTo(events, MAX_EVENT_BATCH_SIZE - 1);
+      return events;
     } catch (final InterruptedException interrupt) {
       // If the queue was interrupted propagate it and spin to check our shutdown status
       Thread.currentThread().interrupt();
-      return Optional.empty();
+      return Collections.emptyList();
     }
   }
 }
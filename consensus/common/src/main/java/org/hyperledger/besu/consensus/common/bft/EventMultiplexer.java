@@ -15,12 +15,17 @@
 package org.hyperledger.besu.consensus.common.bft;
 
 import org.hyperledger.besu.consensus.common.bft.events.BftEvent;
+import org.hyperledger.besu.consensus.common.bft.events.BftEvents;
 import org.hyperledger.besu.consensus.common.bft.events.BftReceivedMessageEvent;
 import org.hyperledger.besu.consensus.common.bft.events.BlockTimerExpiry;
 import org.hyperledger.besu.consensus.common.bft.events.NewChainHead;
 import org.hyperledger.besu.consensus.common.bft.events.RoundExpiry;
 import org.hyperledger.besu.consensus.common.bft.statemachine.BftEventHandler;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,4 +76,40 @@ public class EventMultiplexer {
       LOG.error("State machine threw exception while processing event \\{" + bftEvent + "\\}", e);
     }
   }
+
+  /**
+   * Handle a batch of bft events. Consecutive message events are handed over together, so they can
+   * be validated concurrently, while other events keep their place in the sequence.
+   *
+   * @param bftEvents the bft events, in the order they were queued
+   * @param decodingExecutor the executor on which batched messages may be decoded concurrently
+   */
+  public void handleBftEvents(final List<BftEvent> bftEvents, final Executor decodingExecutor) {
+    final List<BftReceivedMessageEvent> messageEvents = new ArrayList<>();
+    for (final BftEvent bftEvent : bftEvents) {
+      if (bftEvent.getType() == BftEvents.Type.MESSAGE) {
+        messageEvents.add((BftReceivedMessageEvent) bftEvent);
+      } else {
+        handleMessageEvents(messageEvents, decodingExecutor);
+        messageEvents.clear();
+        handleBftEvent(bftEvent);
+      }
+    }
+    handleMessageEvents(messageEvents, decodingExecutor);
+  }
+
+  private void handleMessageEvents(
+      final List<BftReceivedMessageEvent> messageEvents, final Executor decodingExecutor) {
+    if (messageEvents.isEmpty()) {
+      return;
+    }
+    try {
+      eventHandler.handleMessageEvents(List.copyOf(messageEvents), decodingExecutor);
+    } catch (final Exception e) {
+      LOG.error(
+          "State machine threw exception while processing a batch of {} messages",
+          messageEvents.size(),
+          e);
+    }
+  }
 }
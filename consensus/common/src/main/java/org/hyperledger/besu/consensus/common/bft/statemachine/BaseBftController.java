@@ -29,6 +29,12 @@ import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Message;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
@@ -91,12 +97,135 @@ public abstract class BaseBftController implements BftEventHandler {
     }
   }
 
+  /**
+   * Handles a batch of messages: the duplicates are discarded, the signatures of the others are
+   * recovered concurrently on the decoding executor, then they are consumed one at a time, the
+   * messages for the current round first, then the ones for other rounds of the current height,
+   * then the ones for other heights. Messages with the same priority are consumed in the order they
+   * were received. A message failing to be consumed does not prevent the others from being
+   * consumed.
+   *
+   * @param msgs the msgs
+   * @param decodingExecutor the executor on which the messages may be decoded concurrently
+   */
+  @Override
+  public void handleMessageEvents(
+      final List<BftReceivedMessageEvent> msgs, final Executor decodingExecutor) {
+    final List<Message> freshMessages = new ArrayList<>(msgs.size());
+    for (final BftReceivedMessageEvent msg : msgs) {
+      final MessageData data = msg.getMessage().getData();
+      if (!duplicateMessageTracker.hasSeenMessage(data)) {
+        duplicateMessageTracker.addSeenMessage(data);
+        freshMessages.add(msg.getMessage());
+      }
+    }
+    LOG.trace("Discarded {} duplicate messages", msgs.size() - freshMessages.size());
+
+    decodeMessages(freshMessages, decodingExecutor).stream()
+        .sorted(Comparator.comparingInt(this::consumptionPriority))
+        .forEach(this::tryConsume);
+  }
+
   /**
    * Handle message.
    *
    * @param message the message
    */
-  protected abstract void handleMessage(final Message message);
+  protected void handleMessage(final Message message) {
+    consume(decodeMessage(message));
+  }
+
+  /**
+   * Decodes a message, which recovers its author from its signature. Decoding can run concurrently
+   * with the processing of other messages, so the handler must only access the current height
+   * manager when invoked.
+   *
+   * @param message the message
+   * @return the decoded message
+   * @throws IllegalArgumentException if the message is not a recognised message
+   */
+  protected abstract DecodedMessage<?> decodeMessage(final Message message);
+
+  private List<DecodedMessage<?>> decodeMessages(
+      final List<Message> messages, final Executor decodingExecutor) {
+    if (messages.size() <= 1) {
+      return messages.stream().map(this::tryDecodeMessage).flatMap(Optional::stream).toList();
+    }
+    final List<CompletableFuture<Optional<DecodedMessage<?>>>> decodings =
+        messages.stream()
+            .map(
+                message ->
+                    CompletableFuture.supplyAsync(
+                        () -> tryDecodeMessage(message), decodingExecutor))
+            .toList();
+    return decodings.stream().map(CompletableFuture::join).flatMap(Optional::stream).toList();
+  }
+
+  private Optional<DecodedMessage<?>> tryDecodeMessage(final Message message) {
+    try {
+      return Optional.of(decodeMessage(message));
+    } catch (final RuntimeException e) {
+      LOG.error("Failed to decode BFT message with code {}", message.getData().getCode(), e);
+      return Optional.empty();
+    }
+  }
+
+  private int consumptionPriority(final DecodedMessage<?> decodedMessage) {
+    final ConsensusRoundIdentifier roundIdentifier = decodedMessage.bftMessage.getRoundIdentifier();
+    if (!isMsgForCurrentHeight(roundIdentifier)) {
+      return 2;
+    }
+    return getCurrentHeightManager()
+        .getCurrentRoundIdentifier()
+        .map(currentRound -> currentRound.equals(roundIdentifier) ? 0 : 1)
+        .orElse(0);
+  }
+
+  private void tryConsume(final DecodedMessage<?> decodedMessage) {
+    try {
+      consume(decodedMessage);
+    } catch (final RuntimeException e) {
+      LOG.error(
+          "Failed to process BFT message with code {}",
+          decodedMessage.message.getData().getCode(),
+          e);
+    }
+  }
+
+  private <P extends BftMessage<?>> void consume(final DecodedMessage<P> decodedMessage) {
+    consumeMessage(decodedMessage.message, decodedMessage.bftMessage, decodedMessage.handler);
+  }
+
+  /**
+   * Creates a decoded message.
+   *
+   * @param <P> the type parameter of BftMessage
+   * @param message the message
+   * @param bftMessage the bft message
+   * @param handler the handler of the bft message
+   * @return the decoded message
+   */
+  protected static <P extends BftMessage<?>> DecodedMessage<P> decodedMessage(
+      final Message message, final P bftMessage, final Consumer<P> handler) {
+    return new DecodedMessage<>(message, bftMessage, handler);
+  }
+
+  /**
+   * A message decoded, with its author recovered, waiting to be consumed.
+   *
+   * @param <P> the type parameter of BftMessage
+   */
+  protected static final class DecodedMessage<P extends BftMessage<?>> {
+    private final Message message;
+    private final P bftMessage;
+    private final Consumer<P> handler;
+
+    private DecodedMessage(final Message message, final P bftMessage, final Consumer<P> handler) {
+      this.message = message;
+      this.bftMessage = bftMessage;
+      this.handler = handler;
+    }
+  }
 
   /**
    * Consume message.
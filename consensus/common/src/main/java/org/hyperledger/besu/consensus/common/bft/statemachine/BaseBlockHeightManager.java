@@ -18,6 +18,8 @@ import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
 import org.hyperledger.besu.consensus.common.bft.events.RoundExpiry;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 
+import java.util.Optional;
+
 /** The interface Base block height manager. */
 public interface BaseBlockHeightManager {
 
@@ -48,4 +50,13 @@ public interface BaseBlockHeightManager {
    * @return the parent block header
    */
   BlockHeader getParentBlockHeader();
+
+  /**
+   * Gets the identifier of the round in progress.
+   *
+   * @return the current round identifier, empty if unknown
+   */
+  default Optional<ConsensusRoundIdentifier> getCurrentRoundIdentifier() {
+    return Optional.empty();
+  }
 }
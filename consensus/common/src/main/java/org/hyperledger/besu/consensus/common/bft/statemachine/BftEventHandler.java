@@ -19,6 +19,9 @@ import org.hyperledger.besu.consensus.common.bft.events.BlockTimerExpiry;
 import org.hyperledger.besu.consensus.common.bft.events.NewChainHead;
 import org.hyperledger.besu.consensus.common.bft.events.RoundExpiry;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+
 /** The interface Bft event handler. */
 public interface BftEventHandler {
 
@@ -32,6 +35,17 @@ public interface BftEventHandler {
    */
   void handleMessageEvent(BftReceivedMessageEvent msg);
 
+  /**
+   * Handle a batch of message events, received in the given order.
+   *
+   * @param msgs the msgs
+   * @param decodingExecutor the executor on which the messages may be decoded concurrently
+   */
+  default void handleMessageEvents(
+      final List<BftReceivedMessageEvent> msgs, final Executor decodingExecutor) {
+    msgs.forEach(this::handleMessageEvent);
+  }
+
   /**
    * Handle new block event.
    *
@@ -17,14 +17,14 @@ package org.hyperledger.besu.consensus.common.bft;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import org.hyperledger.besu.consensus.common.bft.events.RoundExpiry;
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -34,6 +34,7 @@ import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -145,7 +146,12 @@ public class BftProcessorTest {
 
     processor.stop();
     processorExecutor.shutdown();
+    assertThat(processorExecutor.awaitTermination(3000, TimeUnit.MILLISECONDS)).isTrue();
 
-    verify(mockeEventMultiplexer, times(2)).handleBftEvent(eq(roundExpiryEvent));
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<BftEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(mockeEventMultiplexer, atLeastOnce()).handleBftEvents(eventsCaptor.capture(), any());
+    assertThat(eventsCaptor.getAllValues().stream().flatMap(List::stream))
+        .containsExactly(roundExpiryEvent, roundExpiryEvent);
   }
 }
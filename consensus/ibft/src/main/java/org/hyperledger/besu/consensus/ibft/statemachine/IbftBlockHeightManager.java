@@ -299,6 +299,11 @@ public class IbftBlockHeightManager implements BaseIbftBlockHeightManager {
     return parentHeader.getNumber() + 1;
   }
 
+  @Override
+  public Optional<ConsensusRoundIdentifier> getCurrentRoundIdentifier() {
+    return Optional.ofNullable(currentRound).map(IbftRound::getRoundIdentifier);
+  }
+
   @Override
   public BlockHeader getParentBlockHeader() {
     return parentHeader;
@@ -68,37 +68,33 @@ public class IbftController extends BaseBftController {
   }
 
   @Override
-  protected void handleMessage(final Message message) {
+  protected DecodedMessage<?> decodeMessage(final Message message) {
     final MessageData messageData = message.getData();
 
     switch (messageData.getCode()) {
       case IbftV2.PROPOSAL:
-        consumeMessage(
+        return decodedMessage(
             message,
             ProposalMessageData.fromMessageData(messageData).decode(),
-            currentHeightManager::handleProposalPayload);
-        break;
+            payload -> currentHeightManager.handleProposalPayload(payload));
 
       case IbftV2.PREPARE:
-        consumeMessage(
+        return decodedMessage(
             message,
             PrepareMessageData.fromMessageData(messageData).decode(),
-            currentHeightManager::handlePreparePayload);
-        break;
+            payload -> currentHeightManager.handlePreparePayload(payload));
 
       case IbftV2.COMMIT:
-        consumeMessage(
+        return decodedMessage(
             message,
             CommitMessageData.fromMessageData(messageData).decode(),
-            currentHeightManager::handleCommitPayload);
-        break;
+            payload -> currentHeightManager.handleCommitPayload(payload));
 
       case IbftV2.ROUND_CHANGE:
-        consumeMessage(
+        return decodedMessage(
             message,
             RoundChangeMessageData.fromMessageData(messageData).decode(),
-            currentHeightManager::handleRoundChangePayload);
-        break;
+            payload -> currentHeightManager.handleRoundChangePayload(payload));
 
       default:
         throw new IllegalArgumentException(
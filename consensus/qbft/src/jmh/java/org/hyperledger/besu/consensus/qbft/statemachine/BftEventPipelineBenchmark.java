@@ -0,0 +1,241 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.qbft.statemachine;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.consensus.common.bft.BftEventQueue;
+import org.hyperledger.besu.consensus.common.bft.BftHelpers;
+import org.hyperledger.besu.consensus.common.bft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.common.bft.EventMultiplexer;
+import org.hyperledger.besu.consensus.common.bft.MessageTracker;
+import org.hyperledger.besu.consensus.common.bft.events.BftEvent;
+import org.hyperledger.besu.consensus.common.bft.events.BftReceivedMessageEvent;
+import org.hyperledger.besu.consensus.common.bft.events.RoundExpiry;
+import org.hyperledger.besu.consensus.common.bft.statemachine.BftFinalState;
+import org.hyperledger.besu.consensus.common.bft.statemachine.FutureMessageBuffer;
+import org.hyperledger.besu.consensus.qbft.QbftExtraDataCodec;
+import org.hyperledger.besu.consensus.qbft.messagedata.CommitMessageData;
+import org.hyperledger.besu.consensus.qbft.messagedata.RoundChangeMessageData;
+import org.hyperledger.besu.consensus.qbft.messagewrappers.Commit;
+import org.hyperledger.besu.consensus.qbft.messagewrappers.Prepare;
+import org.hyperledger.besu.consensus.qbft.messagewrappers.Proposal;
+import org.hyperledger.besu.consensus.qbft.messagewrappers.RoundChange;
+import org.hyperledger.besu.consensus.qbft.payload.MessageFactory;
+import org.hyperledger.besu.cryptoservices.NodeKey;
+import org.hyperledger.besu.cryptoservices.NodeKeyUtils;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.Util;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.DefaultMessage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Simulates the messages a QBFT validator receives at the end of a round: every validator gossips
+ * its commit for the current round, along with round changes for the following rounds, and each
+ * message arrives twice through different peers. Measures the time until the commit quorum for the
+ * current round reaches the height manager, processing the events one at a time or in batches as
+ * drained by the BFT processor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BftEventPipelineBenchmark {
+  private static final int MAX_EVENT_BATCH_SIZE = 256;
+  private static final ConsensusRoundIdentifier CURRENT_ROUND = new ConsensusRoundIdentifier(1, 0);
+
+  @Param({"4", "30", "100"})
+  public int validatorCount;
+
+  @Param({"3"})
+  public int futureRounds;
+
+  private final QbftExtraDataCodec bftExtraDataCodec = new QbftExtraDataCodec();
+  private final List<BftEvent> receivedEvents = new ArrayList<>();
+  private Blockchain blockchain;
+  private BftFinalState bftFinalState;
+  private BftEventQueue queue;
+  private CommitCountingHeightManager heightManager;
+  private EventMultiplexer eventMultiplexer;
+  private ExecutorService decodingExecutor;
+
+  @Setup
+  public void setUp() {
+    decodingExecutor = Executors.newFixedThreadPool(4);
+    final List<NodeKey> nodeKeys = new ArrayList<>();
+    final List<Address> validators = new ArrayList<>();
+    for (int i = 0; i < validatorCount; i++) {
+      final NodeKey nodeKey = NodeKeyUtils.generate();
+      nodeKeys.add(nodeKey);
+      validators.add(Util.publicKeyToAddress(nodeKey.getPublicKey()));
+    }
+
+    final Hash digest = Hash.hash(Bytes.of(1));
+    for (final NodeKey nodeKey : nodeKeys) {
+      final MessageFactory messageFactory = new MessageFactory(nodeKey);
+      final Commit commit =
+          messageFactory.createCommit(CURRENT_ROUND, digest, nodeKey.sign(digest));
+      receivedEvents.add(
+          new BftReceivedMessageEvent(new DefaultMessage(null, CommitMessageData.create(commit))));
+      for (int round = 1; round <= futureRounds; round++) {
+        final RoundChange roundChange =
+            messageFactory.createRoundChange(
+                new ConsensusRoundIdentifier(1, round), Optional.empty());
+        receivedEvents.add(
+            new BftReceivedMessageEvent(
+                new DefaultMessage(null, RoundChangeMessageData.create(roundChange))));
+      }
+    }
+    receivedEvents.addAll(List.copyOf(receivedEvents));
+    receivedEvents.add(new RoundExpiry(new ConsensusRoundIdentifier(1, futureRounds)));
+    Collections.shuffle(receivedEvents, new Random(1));
+
+    final BlockHeader chainHead = mock(BlockHeader.class);
+    blockchain = mock(Blockchain.class);
+    when(blockchain.getChainHeadHeader()).thenReturn(chainHead);
+    when(blockchain.getChainHeadBlockNumber()).thenReturn(0L);
+    bftFinalState = mock(BftFinalState.class);
+    when(bftFinalState.getValidators()).thenReturn(validators);
+    when(bftFinalState.isLocalNodeValidator()).thenReturn(true);
+  }
+
+  @TearDown
+  public void tearDown() {
+    decodingExecutor.shutdownNow();
+  }
+
+  @Setup(Level.Invocation)
+  public void receiveEvents() {
+    queue = new BftEventQueue(receivedEvents.size());
+    receivedEvents.forEach(queue::add);
+
+    heightManager =
+        new CommitCountingHeightManager(
+            BftHelpers.calculateRequiredValidatorQuorum(validatorCount));
+    final QbftBlockHeightManagerFactory heightManagerFactory =
+        mock(QbftBlockHeightManagerFactory.class);
+    when(heightManagerFactory.create(any())).thenReturn(heightManager);
+    final QbftController controller =
+        new QbftController(
+            blockchain,
+            bftFinalState,
+            heightManagerFactory,
+            message -> {},
+            new MessageTracker(10_000),
+            new FutureMessageBuffer(10, 1_000, 0),
+            (knownBlockNumber, peerConnection) -> {},
+            bftExtraDataCodec);
+    controller.start();
+    eventMultiplexer = new EventMultiplexer(controller);
+  }
+
+  @Benchmark
+  public int handleEventsOneByOne() throws InterruptedException {
+    while (!heightManager.hasCommitQuorum()) {
+      final BftEvent event = queue.poll(0, TimeUnit.MILLISECONDS);
+      if (event == null) {
+        break;
+      }
+      eventMultiplexer.handleBftEvent(event);
+    }
+    return heightManager.commitCount;
+  }
+
+  @Benchmark
+  public int handleEventsInBatches() {
+    while (!heightManager.hasCommitQuorum()) {
+      final List<BftEvent> events = new ArrayList<>();
+      if (queue.drainTo(events, MAX_EVENT_BATCH_SIZE) == 0) {
+        break;
+      }
+      eventMultiplexer.handleBftEvents(events, decodingExecutor);
+    }
+    return heightManager.commitCount;
+  }
+
+  private static class CommitCountingHeightManager implements BaseQbftBlockHeightManager {
+    private final int quorum;
+    private int commitCount;
+
+    private CommitCountingHeightManager(final int quorum) {
+      this.quorum = quorum;
+    }
+
+    private boolean hasCommitQuorum() {
+      return commitCount >= quorum;
+    }
+
+    @Override
+    public void handleCommitPayload(final Commit commit) {
+      if (commit.getRoundIdentifier().equals(CURRENT_ROUND)) {
+        commitCount++;
+      }
+    }
+
+    @Override
+    public void handleProposalPayload(final Proposal proposal) {}
+
+    @Override
+    public void handlePreparePayload(final Prepare prepare) {}
+
+    @Override
+    public void handleRoundChangePayload(final RoundChange roundChange) {}
+
+    @Override
+    public void handleBlockTimerExpiry(final ConsensusRoundIdentifier roundIdentifier) {}
+
+    @Override
+    public void roundExpired(final RoundExpiry expire) {}
+
+    @Override
+    public long getChainHeight() {
+      return CURRENT_ROUND.getSequenceNumber();
+    }
+
+    @Override
+    public BlockHeader getParentBlockHeader() {
+      return null;
+    }
+
+    @Override
+    public Optional<ConsensusRoundIdentifier> getCurrentRoundIdentifier() {
+      return Optional.of(CURRENT_ROUND);
+    }
+  }
+}
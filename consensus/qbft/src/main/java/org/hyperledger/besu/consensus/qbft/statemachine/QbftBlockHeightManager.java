@@ -327,6 +327,11 @@ public class QbftBlockHeightManager implements BaseQbftBlockHeightManager {
     return parentHeader.getNumber() + 1;
   }
 
+  @Override
+  public Optional<ConsensusRoundIdentifier> getCurrentRoundIdentifier() {
+    return currentRound.map(QbftRound::getRoundIdentifier);
+  }
+
   @Override
   public BlockHeader getParentBlockHeader() {
     return parentHeader;
@@ -73,37 +73,33 @@ public class QbftController extends BaseBftController {
   }
 
   @Override
-  protected void handleMessage(final Message message) {
+  protected DecodedMessage<?> decodeMessage(final Message message) {
     final MessageData messageData = message.getData();
 
     switch (messageData.getCode()) {
       case QbftV1.PROPOSAL:
-        consumeMessage(
+        return decodedMessage(
             message,
             ProposalMessageData.fromMessageData(messageData).decode(bftExtraDataCodec),
-            currentHeightManager::handleProposalPayload);
-        break;
+            payload -> currentHeightManager.handleProposalPayload(payload));
 
       case QbftV1.PREPARE:
-        consumeMessage(
+        return decodedMessage(
             message,
             PrepareMessageData.fromMessageData(messageData).decode(),
-            currentHeightManager::handlePreparePayload);
-        break;
+            payload -> currentHeightManager.handlePreparePayload(payload));
 
       case QbftV1.COMMIT:
-        consumeMessage(
+        return decodedMessage(
             message,
             CommitMessageData.fromMessageData(messageData).decode(),
-            currentHeightManager::handleCommitPayload);
-        break;
+            payload -> currentHeightManager.handleCommitPayload(payload));
 
       case QbftV1.ROUND_CHANGE:
-        consumeMessage(
+        return decodedMessage(
             message,
             RoundChangeMessageData.fromMessageData(messageData).decode(bftExtraDataCodec),
-            currentHeightManager::handleRoundChangePayload);
-        break;
+            payload -> currentHeightManager.handleRoundChangePayload(payload));
 
       default:
         throw new IllegalArgumentException(
@@ -18,6 +18,8 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -55,11 +57,13 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Message;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import com.google.common.collect.ImmutableList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -410,6 +414,52 @@ public class QbftControllerTest {
     verify(messageTracker).addSeenMessage(proposalMessageData);
   }
 
+  @Test
+  public void batchedMessagesForCurrentRoundAreHandledFirstAndOnlyOnce() {
+    final ConsensusRoundIdentifier nextRoundIdentifier = new ConsensusRoundIdentifier(4, 1);
+    setupRoundChange(nextRoundIdentifier, validator);
+    setupCommit(roundIdentifier, validator);
+    when(blockHeightManager.getCurrentRoundIdentifier()).thenReturn(Optional.of(roundIdentifier));
+    when(messageTracker.hasSeenMessage(commitMessageData)).thenReturn(false, true);
+
+    constructQbftController();
+    qbftController.start();
+    qbftController.handleMessageEvents(
+        List.of(
+            new BftReceivedMessageEvent(roundChangeMessage),
+            new BftReceivedMessageEvent(commitMessage),
+            new BftReceivedMessageEvent(commitMessage)),
+        Runnable::run);
+
+    final InOrder inOrder = inOrder(blockHeightManager);
+    inOrder.verify(blockHeightManager).handleCommitPayload(commit);
+    inOrder.verify(blockHeightManager).handleRoundChangePayload(roundChange);
+    verify(messageTracker, times(1)).addSeenMessage(commitMessageData);
+    verify(qbftGossip, times(1)).send(commitMessage);
+  }
+
+  @Test
+  public void batchedMessageFailingToBeHandledDoesNotDropTheRestOfTheBatch() {
+    final ConsensusRoundIdentifier nextRoundIdentifier = new ConsensusRoundIdentifier(4, 1);
+    setupRoundChange(nextRoundIdentifier, validator);
+    setupCommit(roundIdentifier, validator);
+    when(blockHeightManager.getCurrentRoundIdentifier()).thenReturn(Optional.of(roundIdentifier));
+    doThrow(new IllegalStateException("commit failed"))
+        .when(blockHeightManager)
+        .handleCommitPayload(commit);
+
+    constructQbftController();
+    qbftController.start();
+    qbftController.handleMessageEvents(
+        List.of(
+            new BftReceivedMessageEvent(roundChangeMessage),
+            new BftReceivedMessageEvent(commitMessage)),
+        Runnable::run);
+
+    verify(blockHeightManager).handleCommitPayload(commit);
+    verify(blockHeightManager).handleRoundChangePayload(roundChange);
+  }
+
   @Test
   public void messagesWhichAreAboveHeightManagerButBelowBlockChainLengthAreDiscarded() {
     // NOTE: for this to occur, the system would need to be synchronising - i.e. blockchain is
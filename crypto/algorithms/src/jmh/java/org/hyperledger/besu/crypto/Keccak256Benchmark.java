@@ -0,0 +1,97 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.crypto;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares keccak-256 hashing strategies on inputs the size of trie nodes: 33 byte leaf values,
+ * typical leaf and extension nodes, and full branch nodes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Keccak256Benchmark {
+
+  private static final int BATCH_SIZE = 256;
+
+  @Param({"33", "110", "532"})
+  public int inputSize;
+
+  private final List<Bytes> inputs = new ArrayList<>(BATCH_SIZE);
+  private final byte[] output = new byte[BATCH_SIZE * Bytes32.SIZE];
+  private MessageDigest sharedDigest;
+
+  @Setup(Level.Trial)
+  public void prepare() throws Exception {
+    final Random random = new Random(42);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      final byte[] input = new byte[inputSize];
+      random.nextBytes(input);
+      inputs.add(Bytes.wrap(input));
+    }
+    sharedDigest = MessageDigestFactory.create(MessageDigestFactory.KECCAK256_ALG);
+  }
+
+  /** The previous strategy: clone a shared digest for every input. */
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void clonedDigest(final Blackhole blackhole) throws CloneNotSupportedException {
+    for (final Bytes input : inputs) {
+      final MessageDigest digest = (MessageDigest) sharedDigest.clone();
+      input.update(digest);
+      blackhole.consume(Bytes32.wrap(digest.digest()));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void threadLocalDigest(final Blackhole blackhole) {
+    for (final Bytes input : inputs) {
+      blackhole.consume(Hash.keccak256(input));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public byte[] batchIntoBuffer() {
+    Hash.keccak256Batch(inputs, output, 0);
+    return output;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public List<Bytes32> batch() {
+    return Hash.keccak256Batch(inputs);
+  }
+}
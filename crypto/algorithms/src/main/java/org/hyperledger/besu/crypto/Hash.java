@@ -14,13 +14,15 @@
  */
 package org.hyperledger.besu.crypto;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static org.hyperledger.besu.crypto.MessageDigestFactory.BLAKE2BF_ALG;
-import static org.hyperledger.besu.crypto.MessageDigestFactory.KECCAK256_ALG;
 import static org.hyperledger.besu.crypto.MessageDigestFactory.RIPEMD160_ALG;
 import static org.hyperledger.besu.crypto.MessageDigestFactory.SHA256_ALG;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
 import com.google.common.base.Suppliers;
@@ -31,8 +33,10 @@ import org.apache.tuweni.bytes.Bytes32;
 public abstract class Hash {
   private Hash() {}
 
-  private static final Supplier<MessageDigest> KECCAK256_SUPPLIER =
-      Suppliers.memoize(() -> messageDigest(KECCAK256_ALG));
+  // keccak-256 is hashed far more often than the other algorithms, mostly on small trie nodes, so
+  // each thread reuses its own digest instead of cloning a shared one for every input
+  private static final ThreadLocal<Keccak256MessageDigest> KECCAK256_DIGEST =
+      ThreadLocal.withInitial(Keccak256MessageDigest::new);
   private static final Supplier<MessageDigest> SHA256_SUPPLIER =
       Suppliers.memoize(() -> messageDigest(SHA256_ALG));
   private static final Supplier<MessageDigest> RIPEMD160_SUPPLIER =
@@ -83,7 +87,47 @@ public abstract class Hash {
    * @return A digest.
    */
   public static Bytes32 keccak256(final Bytes input) {
-    return Bytes32.wrap(digestUsingAlgorithm(input, KECCAK256_SUPPLIER));
+    final Keccak256MessageDigest digest = KECCAK256_DIGEST.get();
+    input.update(digest);
+    return Bytes32.wrap(digest.digest());
+  }
+
+  /**
+   * Digest each input using keccak-256, writing the digests one after the other into the output.
+   *
+   * @param inputs The input bytes to produce the digests for.
+   * @param output The buffer to write the digests to, with room for 32 bytes per input.
+   * @param outputOffset The offset in the output of the digest of the first input.
+   */
+  public static void keccak256Batch(
+      final List<? extends Bytes> inputs, final byte[] output, final int outputOffset) {
+    checkArgument(
+        outputOffset >= 0 && output.length - outputOffset >= inputs.size() * Bytes32.SIZE,
+        "Output buffer too small for %s digests",
+        inputs.size());
+    final Keccak256MessageDigest digest = KECCAK256_DIGEST.get();
+    int offset = outputOffset;
+    for (final Bytes input : inputs) {
+      input.update(digest);
+      digest.digestInto(output, offset);
+      offset += Bytes32.SIZE;
+    }
+  }
+
+  /**
+   * Digest each input using keccak-256. The digests share a single backing array.
+   *
+   * @param inputs The input bytes to produce the digests for.
+   * @return The digests, in the order of the inputs.
+   */
+  public static List<Bytes32> keccak256Batch(final List<? extends Bytes> inputs) {
+    final byte[] output = new byte[inputs.size() * Bytes32.SIZE];
+    keccak256Batch(inputs, output, 0);
+    final List<Bytes32> digests = new ArrayList<>(inputs.size());
+    for (int offset = 0; offset < output.length; offset += Bytes32.SIZE) {
+      digests.add(Bytes32.wrap(output, offset));
+    }
+    return digests;
   }
 
   /**
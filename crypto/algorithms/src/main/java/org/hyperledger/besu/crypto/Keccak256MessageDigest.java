@@ -0,0 +1,40 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.crypto;
+
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.bouncycastle.jcajce.provider.digest.BCMessageDigest;
+
+/**
+ * Keccak-256 message digest which can also write its result into a caller provided buffer, so that
+ * digesting many inputs does not allocate an array per digest.
+ */
+final class Keccak256MessageDigest extends BCMessageDigest {
+
+  /** Instantiates a new Keccak-256 message digest. */
+  Keccak256MessageDigest() {
+    super(new KeccakDigest(256));
+  }
+
+  /**
+   * Completes the digest, writes it into the output and resets the digest.
+   *
+   * @param output the buffer to write the digest to
+   * @param offset the offset in the buffer to write the digest at
+   */
+  void digestInto(final byte[] output, final int offset) {
+    digest.doFinal(output, offset);
+  }
+}
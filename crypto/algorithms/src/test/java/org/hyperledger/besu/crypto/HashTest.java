@@ -16,8 +16,12 @@ package org.hyperledger.besu.crypto;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
 
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +56,47 @@ public class HashTest {
     assertThat(resultCow).isEqualTo(Bytes.fromHexString(cowKeccak256));
   }
 
+  /** Validate batched keccak256 hashes. */
+  @Test
+  public void keccak256Batch() {
+    final List<Bytes> inputs =
+        List.of(
+            Bytes.wrap("horse".getBytes(UTF_8)),
+            Bytes.EMPTY,
+            Bytes.wrap("cow".getBytes(UTF_8)).slice(1));
+
+    assertThat(Hash.keccak256Batch(inputs))
+        .containsExactly(
+            Hash.keccak256(inputs.get(0)),
+            Hash.keccak256(Bytes.EMPTY),
+            Hash.keccak256(Bytes.wrap("ow".getBytes(UTF_8))));
+  }
+
+  /** Validate batched keccak256 hashes written at an offset. */
+  @Test
+  public void keccak256BatchIntoBuffer() {
+    final List<Bytes> inputs =
+        List.of(Bytes.wrap("horse".getBytes(UTF_8)), Bytes.wrap("cow".getBytes(UTF_8)));
+    final byte[] output = new byte[2 + 2 * Bytes32.SIZE];
+
+    Hash.keccak256Batch(inputs, output, 2);
+
+    assertThat(Bytes.wrap(output, 0, 2)).isEqualTo(Bytes.of(0, 0));
+    assertThat(Bytes.wrap(output, 2, Bytes32.SIZE)).isEqualTo(Bytes.fromHexString(horseKeccak256));
+    assertThat(Bytes.wrap(output, 2 + Bytes32.SIZE, Bytes32.SIZE))
+        .isEqualTo(Bytes.fromHexString(cowKeccak256));
+  }
+
+  /** Reject output buffers which cannot hold all digests. */
+  @Test
+  public void keccak256BatchRejectsSmallBuffer() {
+    final List<Bytes> inputs = List.of(Bytes.of(1), Bytes.of(2));
+    final byte[] output = new byte[2 * Bytes32.SIZE];
+
+    assertThatThrownBy(() -> Hash.keccak256Batch(inputs, output, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   /** Validate sha256 hash. */
   @Test
   public void sha256Hash() {
@@ -15,9 +15,13 @@
 package org.hyperledger.besu.datatypes;
 
 import static org.hyperledger.besu.crypto.Hash.keccak256;
+import static org.hyperledger.besu.crypto.Hash.keccak256Batch;
 
 import org.hyperledger.besu.ethereum.rlp.RLP;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -66,6 +70,21 @@ public class Hash extends DelegatingBytes32 {
     return new Hash(keccak256(value));
   }
 
+  /**
+   * Convert each value to its keccak256 hash, hashing all of them in one batch.
+   *
+   * @param values the values
+   * @return the hashes, in the order of the values
+   */
+  public static List<Hash> hashAll(final List<? extends Bytes> values) {
+    final List<Bytes32> digests = keccak256Batch(values);
+    final List<Hash> hashes = new ArrayList<>(digests.size());
+    for (final Bytes32 digest : digests) {
+      hashes.add(new Hash(digest));
+    }
+    return hashes;
+  }
+
   /**
    * Wrap bytes to hash.
    *
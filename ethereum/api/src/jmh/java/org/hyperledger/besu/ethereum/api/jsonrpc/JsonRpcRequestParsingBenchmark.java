@@ -0,0 +1,131 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.BaseJsonRpcProcessor;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcExecutor;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestParser;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameterOrBlockHash;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.JsonCallParameter;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Parses and dispatches single JSON-RPC requests of the most frequently called methods, comparing
+ * the single pass parser with decoding into a Vert.x {@link JsonObject} and mapping that to a
+ * {@link JsonRpcRequest}. The methods only read their typed parameters so that the benchmark
+ * measures parsing and dispatch rather than method execution.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonRpcRequestParsingBenchmark {
+
+  private static final Map<String, String> REQUESTS =
+      Map.of(
+          "eth_getBalance",
+          "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"eth_getBalance\","
+              + "\"params\":[\"0x627306090abab3a6e1400e9345bc60c78a8bef57\",\"latest\"]}",
+          "eth_getTransactionReceipt",
+          "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"eth_getTransactionReceipt\","
+              + "\"params\":[\"0x812742182a79a8e67733edc58cfa3767"
+              + "aa2d7ad06439d156ddbbb33e3403b4ed\"]}",
+          "eth_call",
+          "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"eth_call\",\"params\":[{"
+              + "\"from\":\"0x627306090abab3a6e1400e9345bc60c78a8bef57\","
+              + "\"to\":\"0x8888f1f195afa192cfee860698584c030f4c9db1\","
+              + "\"gas\":\"0x5208\",\"gasPrice\":\"0x1\",\"value\":\"0x0\","
+              + "\"data\":\"0x12a7b914\"},\"0x1b4\"]}");
+
+  @Param({"eth_getBalance", "eth_getTransactionReceipt", "eth_call"})
+  public String method;
+
+  private Buffer body;
+  private JsonRpcExecutor executor;
+
+  @Setup
+  public void setUp() {
+    body = Buffer.buffer(REQUESTS.get(method));
+    executor =
+        new JsonRpcExecutor(
+            new BaseJsonRpcProcessor(),
+            Map.of(
+                "eth_getBalance",
+                method(
+                    "eth_getBalance",
+                    request ->
+                        request.getRequiredParameter(0, Address.class).toString()
+                            + request.getRequiredParameter(1, BlockParameterOrBlockHash.class)),
+                "eth_getTransactionReceipt",
+                method(
+                    "eth_getTransactionReceipt",
+                    request -> request.getRequiredParameter(0, Hash.class)),
+                "eth_call",
+                method(
+                    "eth_call",
+                    request ->
+                        request.getRequiredParameter(0, JsonCallParameter.class).toString()
+                            + request.getRequiredParameter(1, BlockParameterOrBlockHash.class))));
+  }
+
+  @Benchmark
+  public JsonRpcResponse singlePass() {
+    final JsonRpcRequest request = JsonRpcRequestParser.parseRequest(body).orElseThrow();
+    return executor.execute(Optional.empty(), null, null, () -> true, request);
+  }
+
+  @Benchmark
+  public JsonRpcResponse viaJsonObject() {
+    final JsonObject request = new JsonObject(body);
+    return executor.execute(
+        Optional.empty(), null, null, () -> true, request, r -> r.mapTo(JsonRpcRequest.class));
+  }
+
+  private static JsonRpcMethod method(
+      final String name, final Function<JsonRpcRequestContext, Object> result) {
+    return new JsonRpcMethod() {
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      public JsonRpcResponse response(final JsonRpcRequestContext request) {
+        return new JsonRpcSuccessResponse(request.getRequest().getId(), result.apply(request));
+      }
+    };
+  }
+}
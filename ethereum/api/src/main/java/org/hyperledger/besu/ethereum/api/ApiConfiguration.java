@@ -82,4 +82,19 @@ public abstract class ApiConfiguration {
   public Long getMaxTraceFilterRange() {
     return 1000L;
   }
+
+  @Value.Default
+  public int getTracingParallelism() {
+    return 1;
+  }
+
+  @Value.Default
+  public boolean isTraceIndexingEnabled() {
+    return false;
+  }
+
+  @Value.Default
+  public boolean isAddressTransactionIndexEnabled() {
+    return false;
+  }
 }
@@ -23,5 +23,6 @@ public enum GraphQLContextType {
   SYNCHRONIZER,
   IS_ALIVE_HANDLER,
   CHAIN_ID,
-  GAS_CAP
+  GAS_CAP,
+  DATA_LOADERS
 }
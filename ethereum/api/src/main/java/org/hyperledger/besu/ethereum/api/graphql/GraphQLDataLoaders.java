@@ -0,0 +1,131 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter.AccountAdapter;
+import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Per-request memoising loaders shared by the GraphQL adapters.
+ *
+ * <p>Nested selections such as {@code block { transactions { status block { number } } }} resolve
+ * the same block, receipt list or account once per parent object. The loaders deduplicate these
+ * lookups for the lifetime of a single query and batch receipt lookups by block, so resolving the
+ * receipts of N transactions in a block reads the block and its receipts once instead of N times.
+ * Each cache is bounded so a single query cannot retain an unbounded amount of chain data.
+ */
+public class GraphQLDataLoaders {
+
+  static final int MAX_CACHED_BLOCKS = 64;
+  static final int MAX_CACHED_TRANSACTIONS = 1024;
+  static final int MAX_CACHED_ACCOUNTS = 1024;
+
+  private final BlockchainQueries blockchainQueries;
+  private final ProtocolSchedule protocolSchedule;
+
+  private final Cache<Hash, Optional<BlockWithMetadata<TransactionWithMetadata, Hash>>> blocks =
+      newCache(MAX_CACHED_BLOCKS);
+  private final Cache<Hash, Optional<List<TransactionReceiptWithMetadata>>> blockReceipts =
+      newCache(MAX_CACHED_BLOCKS);
+  private final Cache<Hash, Optional<TransactionWithMetadata>> transactions =
+      newCache(MAX_CACHED_TRANSACTIONS);
+  private final Cache<AccountKey, Optional<AccountAdapter>> accounts =
+      newCache(MAX_CACHED_ACCOUNTS);
+
+  record AccountKey(long blockNumber, Address address) {}
+
+  public GraphQLDataLoaders(
+      final BlockchainQueries blockchainQueries, final ProtocolSchedule protocolSchedule) {
+    this.blockchainQueries = blockchainQueries;
+    this.protocolSchedule = protocolSchedule;
+  }
+
+  private static <K, V> Cache<K, V> newCache(final int maximumSize) {
+    // per-request caches are short-lived, so run maintenance on the calling thread
+    return Caffeine.newBuilder().maximumSize(maximumSize).executor(Runnable::run).build();
+  }
+
+  /**
+   * Returns the block, including its header and transactions, with the given hash.
+   *
+   * @param blockHash the hash of the block
+   * @return the block, or empty if it is unknown
+   */
+  public Optional<BlockWithMetadata<TransactionWithMetadata, Hash>> getBlock(final Hash blockHash) {
+    return blocks.get(blockHash, blockchainQueries::blockByHash);
+  }
+
+  /**
+   * Returns the transaction with the given hash.
+   *
+   * @param transactionHash the hash of the transaction
+   * @return the transaction, or empty if it is unknown
+   */
+  public Optional<TransactionWithMetadata> getTransaction(final Hash transactionHash) {
+    return transactions.get(transactionHash, blockchainQueries::transactionByHash);
+  }
+
+  /**
+   * Returns the receipt of the given transaction. The receipts of every transaction in the same
+   * block are loaded together and kept for subsequent lookups.
+   *
+   * @param transaction the transaction whose receipt to retrieve
+   * @return the receipt, or empty if the transaction has not been included in a block
+   */
+  public Optional<TransactionReceiptWithMetadata> getTransactionReceipt(
+      final TransactionWithMetadata transaction) {
+    final Optional<Hash> blockHash = transaction.getBlockHash();
+    final Optional<Integer> transactionIndex = transaction.getTransactionIndex();
+    if (blockHash.isEmpty() || transactionIndex.isEmpty()) {
+      return blockchainQueries.transactionReceiptByTransactionHash(
+          transaction.getTransaction().getHash(), protocolSchedule);
+    }
+    return blockReceipts
+        .get(
+            blockHash.get(),
+            hash -> blockchainQueries.transactionReceiptsByBlockHash(hash, protocolSchedule))
+        .filter(receipts -> transactionIndex.get() < receipts.size())
+        .map(receipts -> receipts.get(transactionIndex.get()));
+  }
+
+  /**
+   * Returns the account with the given address in the world state of the given block.
+   *
+   * @param blockNumber the block whose world state to read
+   * @param address the address of the account
+   * @return an adapter over the account, which may not exist, or empty if the world state of the
+   *     block is not available
+   */
+  public Optional<AccountAdapter> getAccount(final long blockNumber, final Address address) {
+    return accounts.get(
+        new AccountKey(blockNumber, address),
+        key ->
+            blockchainQueries.getAndMapWorldState(
+                key.blockNumber(),
+                ws -> Optional.of(new AccountAdapter(key.address(), ws.get(key.address())))));
+  }
+}
@@ -26,7 +26,9 @@ import org.hyperledger.besu.ethereum.api.graphql.internal.response.GraphQLRespon
 import org.hyperledger.besu.ethereum.api.graphql.internal.response.GraphQLSuccessResponse;
 import org.hyperledger.besu.ethereum.api.handlers.IsAliveHandler;
 import org.hyperledger.besu.ethereum.api.handlers.TimeoutOptions;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.util.NetworkUtility;
 
 import java.net.InetSocketAddress;
@@ -402,6 +404,11 @@ public class GraphQLHttpService {
     contextMap.put(
         GraphQLContextType.IS_ALIVE_HANDLER,
         new IsAliveHandler(scheduler, config.getHttpTimeoutSec()));
+    contextMap.put(
+        GraphQLContextType.DATA_LOADERS,
+        new GraphQLDataLoaders(
+            (BlockchainQueries) graphQlContextMap.get(GraphQLContextType.BLOCKCHAIN_QUERIES),
+            (ProtocolSchedule) graphQlContextMap.get(GraphQLContextType.PROTOCOL_SCHEDULE)));
     final ExecutionInput executionInput =
         ExecutionInput.newExecutionInput()
             .query(requestJson)
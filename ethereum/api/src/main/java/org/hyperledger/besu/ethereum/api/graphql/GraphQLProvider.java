@@ -18,6 +18,7 @@ import org.hyperledger.besu.ethereum.api.graphql.internal.Scalars;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.Set;
 
 import com.google.common.base.Charsets;
 import com.google.common.io.Resources;
@@ -35,6 +36,19 @@ public class GraphQLProvider {
 
   public static final int MAX_COMPLEXITY = 200;
 
+  /** Additional cost of fields that resolve a list of objects, each loaded from storage. */
+  static final int LIST_FIELD_COST = 10;
+
+  private static final Set<String> LIST_FIELDS =
+      Set.of(
+          "Query.blocks",
+          "Query.logs",
+          "Block.ommers",
+          "Block.transactions",
+          "Block.logs",
+          "Pending.transactions",
+          "Transaction.logs");
+
   private GraphQLProvider() {}
 
   public static GraphQL buildGraphQL(final GraphQLDataFetchers graphQLDataFetchers)
@@ -95,6 +109,8 @@ public class GraphQLProvider {
       return childComplexity + 100;
     } else if (childTypeName.equals("__Type") && fieldName.equals("fields")) {
       return childComplexity + 100;
+    } else if (LIST_FIELDS.contains(childTypeName + "." + fieldName)) {
+      return childComplexity + LIST_FIELD_COST;
     } else {
       return childComplexity + 1;
     }
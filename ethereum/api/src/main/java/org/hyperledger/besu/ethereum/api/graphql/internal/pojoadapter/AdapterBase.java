@@ -15,12 +15,26 @@
 package org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter;
 
 import org.hyperledger.besu.ethereum.api.graphql.GraphQLContextType;
+import org.hyperledger.besu.ethereum.api.graphql.GraphQLDataLoaders;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 
+import java.util.Optional;
+
 import graphql.schema.DataFetchingEnvironment;
 
 abstract class AdapterBase {
   BlockchainQueries getBlockchainQueries(final DataFetchingEnvironment environment) {
     return environment.getGraphQlContext().get(GraphQLContextType.BLOCKCHAIN_QUERIES);
   }
+
+  GraphQLDataLoaders getDataLoaders(final DataFetchingEnvironment environment) {
+    // contexts built outside of the HTTP service get a non-shared, uncached set of loaders
+    return Optional.<GraphQLDataLoaders>ofNullable(
+            environment.getGraphQlContext().get(GraphQLContextType.DATA_LOADERS))
+        .orElseGet(
+            () ->
+                new GraphQLDataLoaders(
+                    getBlockchainQueries(environment),
+                    environment.getGraphQlContext().get(GraphQLContextType.PROTOCOL_SCHEDULE)));
+  }
 }
@@ -58,10 +58,9 @@ public class BlockAdapterBase extends AdapterBase {
   }
 
   public Optional<NormalBlockAdapter> getParent(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
     final Hash parentHash = header.getParentHash();
     final Optional<BlockWithMetadata<TransactionWithMetadata, Hash>> block =
-        query.blockByHash(parentHash);
+        getDataLoaders(environment).getBlock(parentHash);
     return block.map(NormalBlockAdapter::new);
   }
 
@@ -16,7 +16,6 @@ package org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter;
 
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
-import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import org.hyperledger.besu.evm.log.LogTopic;
@@ -50,14 +49,12 @@ public class LogAdapter extends AdapterBase {
   }
 
   public TransactionAdapter getTransaction(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
     final Hash hash = logWithMetadata.getTransactionHash();
-    final Optional<TransactionWithMetadata> tran = query.transactionByHash(hash);
+    final Optional<TransactionWithMetadata> tran = getDataLoaders(environment).getTransaction(hash);
     return tran.map(TransactionAdapter::new).orElseThrow();
   }
 
   public AccountAdapter getAccount(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
     long blockNumber = logWithMetadata.getBlockNumber();
     final Long bn = environment.getArgument("block");
     if (bn != null) {
@@ -65,8 +62,8 @@ public class LogAdapter extends AdapterBase {
     }
 
     final Address logger = logWithMetadata.getLogger();
-    return query
-        .getAndMapWorldState(blockNumber, ws -> Optional.of(new AccountAdapter(ws.get(logger))))
+    return getDataLoaders(environment)
+        .getAccount(blockNumber, logger)
         .orElse(new EmptyAccountAdapter(logger));
   }
 }
@@ -18,14 +18,11 @@ import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.VersionedHash;
 import org.hyperledger.besu.datatypes.Wei;
-import org.hyperledger.besu.ethereum.api.graphql.GraphQLContextType;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
 import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
-import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import org.hyperledger.besu.ethereum.core.Transaction;
-import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 
 import java.math.BigInteger;
@@ -49,16 +46,12 @@ public class TransactionAdapter extends AdapterBase {
   private Optional<TransactionReceiptWithMetadata> getReceipt(
       final DataFetchingEnvironment environment) {
     if (transactionReceiptWithMetadata == null) {
-      final BlockchainQueries query = getBlockchainQueries(environment);
-      final ProtocolSchedule protocolSchedule =
-          environment.getGraphQlContext().get(GraphQLContextType.PROTOCOL_SCHEDULE);
-
       final Transaction transaction = transactionWithMetadata.getTransaction();
       if (transaction == null) {
         transactionReceiptWithMetadata = Optional.empty();
       } else {
         transactionReceiptWithMetadata =
-            query.transactionReceiptByTransactionHash(transaction.getHash(), protocolSchedule);
+            getDataLoaders(environment).getTransactionReceipt(transactionWithMetadata);
       }
     }
     return transactionReceiptWithMetadata;
@@ -88,10 +81,8 @@ public class TransactionAdapter extends AdapterBase {
             .orElseGet(query::headBlockNumber);
 
     final Address addr = transactionWithMetadata.getTransaction().getSender();
-    return query
-        .getAndMapWorldState(
-            blockNumber,
-            mutableWorldState -> Optional.of(new AccountAdapter(mutableWorldState.get(addr))))
+    return getDataLoaders(environment)
+        .getAccount(blockNumber, addr)
         .orElse(new EmptyAccountAdapter(addr));
   }
 
@@ -107,10 +98,8 @@ public class TransactionAdapter extends AdapterBase {
         .getTo()
         .flatMap(
             address ->
-                query
-                    .getAndMapWorldState(
-                        blockNumber,
-                        ws -> Optional.of(new AccountAdapter(address, ws.get(address))))
+                getDataLoaders(environment)
+                    .getAccount(blockNumber, address)
                     .or(() -> Optional.of(new EmptyAccountAdapter(address))));
   }
 
@@ -150,7 +139,7 @@ public class TransactionAdapter extends AdapterBase {
   public Optional<NormalBlockAdapter> getBlock(final DataFetchingEnvironment environment) {
     return transactionWithMetadata
         .getBlockHash()
-        .flatMap(blockHash -> getBlockchainQueries(environment).blockByHash(blockHash))
+        .flatMap(getDataLoaders(environment)::getBlock)
         .map(NormalBlockAdapter::new);
   }
 
@@ -191,16 +180,14 @@ public class TransactionAdapter extends AdapterBase {
       final Optional<Address> addr = transactionWithMetadata.getTransaction().contractAddress();
 
       if (addr.isPresent()) {
-        final BlockchainQueries query = getBlockchainQueries(environment);
         final Optional<Long> txBlockNumber = transactionWithMetadata.getBlockNumber();
         final Optional<Long> bn = Optional.ofNullable(environment.getArgument("block"));
         if (txBlockNumber.isEmpty() && bn.isEmpty()) {
           return Optional.empty();
         }
         final long blockNumber = bn.orElseGet(txBlockNumber::get);
-        return query
-            .getAndMapWorldState(
-                blockNumber, ws -> Optional.of(new AccountAdapter(ws.get(addr.get()))))
+        return getDataLoaders(environment)
+            .getAccount(blockNumber, addr.get())
             .or(() -> Optional.of(new EmptyAccountAdapter(addr.get())));
       }
     }
@@ -209,15 +196,9 @@ public class TransactionAdapter extends AdapterBase {
 
   public List<LogAdapter> getLogs(final DataFetchingEnvironment environment) {
     final BlockchainQueries query = getBlockchainQueries(environment);
-    final ProtocolSchedule protocolSchedule =
-        environment.getGraphQlContext().get(GraphQLContextType.PROTOCOL_SCHEDULE);
-
-    final Hash hash = transactionWithMetadata.getTransaction().getHash();
-
-    final Optional<BlockHeader> maybeBlockHeader =
-        transactionWithMetadata.getBlockNumber().flatMap(query::getBlockHeaderByNumber);
 
-    if (maybeBlockHeader.isEmpty()) {
+    final Optional<Hash> maybeBlockHash = transactionWithMetadata.getBlockHash();
+    if (maybeBlockHash.isEmpty()) {
       throw new RuntimeException(
           "Cannot get block ("
               + transactionWithMetadata.getBlockNumber()
@@ -226,12 +207,19 @@ public class TransactionAdapter extends AdapterBase {
     }
 
     final Optional<TransactionReceiptWithMetadata> maybeTransactionReceiptWithMetadata =
-        query.transactionReceiptByTransactionHash(hash, protocolSchedule);
+        getReceipt(environment);
     final List<LogAdapter> results = new ArrayList<>();
     if (maybeTransactionReceiptWithMetadata.isPresent()) {
+      final TransactionReceiptWithMetadata receipt = maybeTransactionReceiptWithMetadata.get();
       final List<LogWithMetadata> logs =
-          query.matchingLogs(
-              maybeBlockHeader.get().getBlockHash(), transactionWithMetadata, () -> true);
+          LogWithMetadata.generate(
+              receipt.getLogIndexOffset(),
+              receipt.getReceipt(),
+              receipt.getBlockNumber(),
+              receipt.getBlockHash(),
+              receipt.getTransactionHash(),
+              receipt.getTransactionIndex(),
+              !query.blockIsOnCanonicalChain(maybeBlockHash.get()));
       for (final LogWithMetadata log : logs) {
         results.add(new LogAdapter(log));
       }
@@ -93,6 +93,17 @@ public abstract class AbstractJsonRpcExecutor {
         req -> req.mapTo(JsonRpcRequest.class));
   }
 
+  protected static JsonRpcResponse executeRequest(
+      final JsonRpcExecutor jsonRpcExecutor,
+      final Tracer tracer,
+      final JsonRpcRequest request,
+      final RoutingContext ctx) {
+    final Optional<User> user = ContextKey.AUTHENTICATED_USER.extractFrom(ctx, Optional::empty);
+    final Context spanContext = ctx.get(SPAN_CONTEXT);
+    return jsonRpcExecutor.execute(
+        user, tracer, spanContext, () -> !ctx.response().closed(), request);
+  }
+
   protected static void handleJsonRpcError(
       final RoutingContext routingContext, final Object id, final RpcErrorType error) {
     final HttpServerResponse response = routingContext.response();
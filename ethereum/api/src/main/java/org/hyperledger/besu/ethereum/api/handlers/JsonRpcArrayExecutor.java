@@ -35,12 +35,24 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 
 public class JsonRpcArrayExecutor extends AbstractJsonRpcExecutor {
+  private final JsonRpcBatchExecutor batchExecutor;
+
   public JsonRpcArrayExecutor(
       final JsonRpcExecutor jsonRpcExecutor,
       final Tracer tracer,
       final RoutingContext ctx,
       final JsonRpcConfiguration jsonRpcConfiguration) {
+    this(jsonRpcExecutor, tracer, ctx, jsonRpcConfiguration, JsonRpcBatchExecutor.sequential());
+  }
+
+  public JsonRpcArrayExecutor(
+      final JsonRpcExecutor jsonRpcExecutor,
+      final Tracer tracer,
+      final RoutingContext ctx,
+      final JsonRpcConfiguration jsonRpcConfiguration,
+      final JsonRpcBatchExecutor batchExecutor) {
     super(jsonRpcExecutor, tracer, ctx, jsonRpcConfiguration);
+    this.batchExecutor = batchExecutor;
   }
 
   /**
@@ -72,12 +84,15 @@ public class JsonRpcArrayExecutor extends AbstractJsonRpcExecutor {
       final JsonArray rpcRequestBatch, final JsonResponseStreamer streamer) throws IOException {
     try (JsonGenerator generator = getJsonObjectMapper().getFactory().createGenerator(streamer)) {
       generator.writeStartArray();
-      for (int i = 0; i < rpcRequestBatch.size(); i++) {
-        JsonRpcResponse response = processMaybeRequest(rpcRequestBatch.getValue(i));
-        if (response.getType() != JsonRpcResponseType.NONE) {
-          generator.writeObject(response);
-        }
-      }
+      batchExecutor.execute(
+          rpcRequestBatch.size(),
+          i -> processMaybeRequest(rpcRequestBatch.getValue(i)),
+          (i, error) -> createErrorResponse(rpcRequestBatch.getValue(i), error),
+          response -> {
+            if (response.getType() != JsonRpcResponseType.NONE) {
+              generator.writeObject(response);
+            }
+          });
       generator.writeEndArray();
     }
   }
@@ -116,6 +131,20 @@ public class JsonRpcArrayExecutor extends AbstractJsonRpcExecutor {
     return new JsonRpcErrorResponse(null, INVALID_REQUEST);
   }
 
+  /**
+   * Creates an error response for a request which is not executed.
+   *
+   * @param maybeRequest the object that might be a request.
+   * @param error the reason the request is not executed.
+   * @return an error response with the id of the request, if any.
+   */
+  private JsonRpcErrorResponse createErrorResponse(
+      final Object maybeRequest, final RpcErrorType error) {
+    final Object id =
+        maybeRequest instanceof JsonObject ? ((JsonObject) maybeRequest).getValue("id") : null;
+    return new JsonRpcErrorResponse(id, error);
+  }
+
   @Override
   String getRpcMethodName(final RoutingContext ctx) {
     return "JsonArray";
@@ -0,0 +1,251 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.handlers;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the elements of JSON-RPC batch requests. Up to {@code maxBatchParallelism} elements of
+ * a batch are executed at once on a worker pool shared by all batches, and the responses are
+ * handed over in the order of the requests. A batch which has used more than its CPU time budget
+ * gets an error response for its remaining elements.
+ */
+public class JsonRpcBatchExecutor implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(JsonRpcBatchExecutor.class);
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  private final int maxBatchParallelism;
+  private final long batchCpuTimeBudgetNanos;
+  private final Optional<ExecutorService> workers;
+  private final OperationTimer batchTimer;
+  private final Counter batchCounter;
+  private final Counter batchElementCounter;
+  private final Counter cpuTimeBudgetExceededCounter;
+
+  /** Writes the response of a batch element. */
+  @FunctionalInterface
+  public interface ResponseWriter {
+    void write(JsonRpcResponse response) throws IOException;
+  }
+
+  /** Creates the error response of a batch element which is not executed. */
+  @FunctionalInterface
+  public interface ElementRejection {
+    JsonRpcErrorResponse reject(int index, RpcErrorType error);
+  }
+
+  /**
+   * Creates a new batch executor.
+   *
+   * @param maxBatchParallelism the maximum number of elements of a batch executed at once
+   * @param batchCpuTimeBudgetMillis the CPU time a batch can use, 0 for no limit
+   * @param workerThreads the number of threads of the worker pool shared by the batches
+   * @param metricsSystem the metrics system
+   */
+  public JsonRpcBatchExecutor(
+      final int maxBatchParallelism,
+      final long batchCpuTimeBudgetMillis,
+      final int workerThreads,
+      final MetricsSystem metricsSystem) {
+    this.maxBatchParallelism = Math.max(1, maxBatchParallelism);
+    this.batchCpuTimeBudgetNanos =
+        THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+            ? TimeUnit.MILLISECONDS.toNanos(batchCpuTimeBudgetMillis)
+            : 0;
+    if (batchCpuTimeBudgetMillis > 0 && batchCpuTimeBudgetNanos == 0) {
+      LOG.warn(
+          "Thread CPU time is not supported by this JVM, the batch CPU time budget is ignored");
+    }
+    // the thread handling a batch executes elements as well, so a batch progresses even when its
+    // tasks are discarded because the workers are busy with other batches
+    this.workers =
+        this.maxBatchParallelism > 1
+            ? Optional.of(
+                new ThreadPoolExecutor(
+                    workerThreads,
+                    workerThreads,
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(workerThreads * this.maxBatchParallelism),
+                    new ThreadFactoryBuilder()
+                        .setNameFormat("JsonRpcBatch-%d")
+                        .setDaemon(true)
+                        .build(),
+                    new ThreadPoolExecutor.DiscardPolicy()))
+            : Optional.empty();
+
+    this.batchTimer =
+        metricsSystem.createTimer(
+            BesuMetricCategory.RPC, "batch_request_time", "Time taken to process a JSON-RPC batch");
+    this.batchCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.RPC, "batch_request_count", "Number of JSON-RPC batches processed");
+    this.batchElementCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.RPC,
+            "batch_request_element_count",
+            "Number of requests received in JSON-RPC batches");
+    this.cpuTimeBudgetExceededCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.RPC,
+            "batch_request_cpu_time_exceeded_count",
+            "Number of JSON-RPC batch requests not executed because the batch CPU time budget was used");
+  }
+
+  /**
+   * Creates a batch executor which executes the elements one after the other, without CPU time
+   * budget and metrics.
+   *
+   * @return a sequential batch executor
+   */
+  public static JsonRpcBatchExecutor sequential() {
+    return new JsonRpcBatchExecutor(1, 0, 0, new NoOpMetricsSystem());
+  }
+
+  /**
+   * Executes the elements of a batch and writes their responses in order.
+   *
+   * @param batchSize the number of elements of the batch
+   * @param executeElement executes the element at the given index
+   * @param rejectElement creates the error response of the element at the given index
+   * @param responseWriter writes the responses
+   * @throws IOException if a response cannot be written
+   */
+  public void execute(
+      final int batchSize,
+      final IntFunction<JsonRpcResponse> executeElement,
+      final ElementRejection rejectElement,
+      final ResponseWriter responseWriter)
+      throws IOException {
+    final OperationTimer.TimingContext timingContext = batchTimer.startTimer();
+    batchCounter.inc();
+    batchElementCounter.inc(batchSize);
+    try {
+      final Batch batch = new Batch(batchSize, executeElement, rejectElement);
+      final int lanes = Math.min(maxBatchParallelism, batchSize);
+      if (workers.isEmpty() || lanes <= 1) {
+        for (int i = 0; i < batchSize; i++) {
+          responseWriter.write(batch.executeElement(i));
+        }
+        return;
+      }
+      // the calling thread is one of the lanes
+      for (int lane = 1; lane < lanes; lane++) {
+        workers.get().execute(batch::executeRemainingElements);
+      }
+      for (int i = 0; i < batchSize; i++) {
+        responseWriter.write(batch.awaitResponse(i));
+      }
+    } finally {
+      timingContext.stopTimer();
+    }
+  }
+
+  @Override
+  public void close() {
+    workers.ifPresent(ExecutorService::shutdownNow);
+  }
+
+  private final class Batch {
+    private final int size;
+    private final IntFunction<JsonRpcResponse> elementExecutor;
+    private final ElementRejection elementRejection;
+    private final AtomicInteger nextElement = new AtomicInteger();
+    private final AtomicLong cpuTimeNanos = new AtomicLong();
+    private final CompletableFuture<JsonRpcResponse>[] responses;
+
+    @SuppressWarnings("unchecked")
+    private Batch(
+        final int size,
+        final IntFunction<JsonRpcResponse> elementExecutor,
+        final ElementRejection elementRejection) {
+      this.size = size;
+      this.elementExecutor = elementExecutor;
+      this.elementRejection = elementRejection;
+      this.responses = new CompletableFuture[size];
+      for (int i = 0; i < size; i++) {
+        responses[i] = new CompletableFuture<>();
+      }
+    }
+
+    private void executeRemainingElements() {
+      while (executeNextElement()) {
+        // keep going until all the elements are taken
+      }
+    }
+
+    private JsonRpcResponse awaitResponse(final int index) {
+      // execute the next elements rather than wait idle, elements are taken in request order so
+      // the response is most likely ready by then
+      while (!responses[index].isDone() && executeNextElement()) {
+        // check again
+      }
+      return responses[index].join();
+    }
+
+    private boolean executeNextElement() {
+      final int index = nextElement.getAndIncrement();
+      if (index >= size) {
+        return false;
+      }
+      try {
+        responses[index].complete(executeElement(index));
+      } catch (final RuntimeException e) {
+        responses[index].completeExceptionally(e);
+      }
+      return true;
+    }
+
+    private JsonRpcResponse executeElement(final int index) {
+      if (batchCpuTimeBudgetNanos <= 0) {
+        return elementExecutor.apply(index);
+      }
+      if (cpuTimeNanos.get() >= batchCpuTimeBudgetNanos) {
+        cpuTimeBudgetExceededCounter.inc();
+        return elementRejection.reject(index, RpcErrorType.EXCEEDS_RPC_BATCH_CPU_TIME_BUDGET);
+      }
+      final long start = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+      try {
+        return elementExecutor.apply(index);
+      } finally {
+        cpuTimeNanos.addAndGet(THREAD_MX_BEAN.getCurrentThreadCpuTime() - start);
+      }
+    }
+  }
+}
@@ -48,9 +48,18 @@ public class JsonRpcExecutorHandler {
       final JsonRpcExecutor jsonRpcExecutor,
       final Tracer tracer,
       final JsonRpcConfiguration jsonRpcConfiguration) {
+    return handler(
+        jsonRpcExecutor, tracer, jsonRpcConfiguration, JsonRpcBatchExecutor.sequential());
+  }
+
+  public static Handler<RoutingContext> handler(
+      final JsonRpcExecutor jsonRpcExecutor,
+      final Tracer tracer,
+      final JsonRpcConfiguration jsonRpcConfiguration,
+      final JsonRpcBatchExecutor batchExecutor) {
     return ctx -> {
       try {
-        createExecutor(jsonRpcExecutor, tracer, ctx, jsonRpcConfiguration)
+        createExecutor(jsonRpcExecutor, tracer, ctx, jsonRpcConfiguration, batchExecutor)
             .ifPresentOrElse(
                 executor -> {
                   try {
@@ -72,20 +81,23 @@ public class JsonRpcExecutorHandler {
       final JsonRpcExecutor jsonRpcExecutor,
       final Tracer tracer,
       final RoutingContext ctx,
-      final JsonRpcConfiguration jsonRpcConfiguration) {
+      final JsonRpcConfiguration jsonRpcConfiguration,
+      final JsonRpcBatchExecutor batchExecutor) {
     if (isJsonObjectRequest(ctx)) {
       return Optional.of(
           new JsonRpcObjectExecutor(jsonRpcExecutor, tracer, ctx, jsonRpcConfiguration));
     }
     if (isJsonArrayRequest(ctx)) {
       return Optional.of(
-          new JsonRpcArrayExecutor(jsonRpcExecutor, tracer, ctx, jsonRpcConfiguration));
+          new JsonRpcArrayExecutor(
+              jsonRpcExecutor, tracer, ctx, jsonRpcConfiguration, batchExecutor));
     }
     return Optional.empty();
   }
 
   private static boolean isJsonObjectRequest(final RoutingContext ctx) {
-    return ctx.data().containsKey(ContextKey.REQUEST_BODY_AS_JSON_OBJECT.name());
+    return ctx.data().containsKey(ContextKey.REQUEST_BODY_AS_JSON_RPC_REQUEST.name())
+        || ctx.data().containsKey(ContextKey.REQUEST_BODY_AS_JSON_OBJECT.name());
   }
 
   private static boolean isJsonArrayRequest(final RoutingContext ctx) {
@@ -20,6 +20,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.JsonResponseStreamer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration;
 import org.hyperledger.besu.ethereum.api.jsonrpc.context.ContextKey;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcExecutor;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponseType;
@@ -51,15 +52,25 @@ public class JsonRpcObjectExecutor extends AbstractJsonRpcExecutor {
     HttpServerResponse response = ctx.response();
     response = response.putHeader("Content-Type", APPLICATION_JSON);
 
-    final JsonObject jsonRequest = ctx.get(ContextKey.REQUEST_BODY_AS_JSON_OBJECT.name());
-    lazyTraceLogger(jsonRequest::toString);
-    final JsonRpcResponse jsonRpcResponse =
-        executeRequest(jsonRpcExecutor, tracer, jsonRequest, ctx);
+    final JsonRpcResponse jsonRpcResponse;
+    final JsonRpcRequest request = ctx.get(ContextKey.REQUEST_BODY_AS_JSON_RPC_REQUEST.name());
+    if (request != null) {
+      lazyTraceLogger(request::toString);
+      jsonRpcResponse = executeRequest(jsonRpcExecutor, tracer, request, ctx);
+    } else {
+      final JsonObject jsonRequest = ctx.get(ContextKey.REQUEST_BODY_AS_JSON_OBJECT.name());
+      lazyTraceLogger(jsonRequest::toString);
+      jsonRpcResponse = executeRequest(jsonRpcExecutor, tracer, jsonRequest, ctx);
+    }
     handleJsonObjectResponse(response, jsonRpcResponse, ctx);
   }
 
   @Override
   String getRpcMethodName(final RoutingContext ctx) {
+    final JsonRpcRequest request = ctx.get(ContextKey.REQUEST_BODY_AS_JSON_RPC_REQUEST.name());
+    if (request != null) {
+      return request.getMethod();
+    }
     final JsonObject jsonObject = ctx.get(ContextKey.REQUEST_BODY_AS_JSON_OBJECT.name());
     return jsonObject.getString("method");
   }
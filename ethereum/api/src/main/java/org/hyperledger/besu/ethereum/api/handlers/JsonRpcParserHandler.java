@@ -15,9 +15,13 @@
 package org.hyperledger.besu.ethereum.api.handlers;
 
 import org.hyperledger.besu.ethereum.api.jsonrpc.context.ContextKey;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestParser;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
 
+import java.util.Optional;
+
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpServerResponse;
@@ -36,6 +40,16 @@ public class JsonRpcParserHandler {
       if (ctx.getBody() == null) {
         errorResponse(response, RpcErrorType.PARSE_ERROR);
       } else {
+        if (JsonRpcRequestParser.isSingleRequest(ctx.getBody())) {
+          // fast path for well formed single requests, anything else goes through the generic
+          // JSON decoding below so that errors are reported exactly as before
+          final Optional<JsonRpcRequest> request = JsonRpcRequestParser.parseRequest(ctx.getBody());
+          if (request.isPresent()) {
+            ctx.put(ContextKey.REQUEST_BODY_AS_JSON_RPC_REQUEST.name(), request.get());
+            ctx.next();
+            return;
+          }
+        }
         try {
           ctx.put(ContextKey.REQUEST_BODY_AS_JSON_OBJECT.name(), ctx.getBodyAsJson());
         } catch (DecodeException | ClassCastException jsonObjectDecodeException) {
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.ethereum.api.handlers;
 
 import org.hyperledger.besu.ethereum.api.jsonrpc.context.ContextKey;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
 
 import java.util.Map;
 import java.util.Optional;
@@ -38,7 +39,10 @@ public class TimeoutHandler {
       final Map<String, TimeoutOptions> timeoutOptionsByMethod) {
     try {
       Optional<TimeoutOptions> methodTimeoutOptions = Optional.empty();
-      if (ctx.data().containsKey(ContextKey.REQUEST_BODY_AS_JSON_OBJECT.name())) {
+      if (ctx.data().containsKey(ContextKey.REQUEST_BODY_AS_JSON_RPC_REQUEST.name())) {
+        final JsonRpcRequest request = ctx.get(ContextKey.REQUEST_BODY_AS_JSON_RPC_REQUEST.name());
+        methodTimeoutOptions = Optional.ofNullable(timeoutOptionsByMethod.get(request.getMethod()));
+      } else if (ctx.data().containsKey(ContextKey.REQUEST_BODY_AS_JSON_OBJECT.name())) {
         final JsonObject requestBodyJsonObject =
             ctx.get(ContextKey.REQUEST_BODY_AS_JSON_OBJECT.name());
         final String method = requestBodyJsonObject.getString("method");
@@ -39,6 +39,9 @@ public class JsonRpcConfiguration {
   public static final int DEFAULT_MAX_BATCH_SIZE = 1024;
   public static final long DEFAULT_MAX_REQUEST_CONTENT_LENGTH = 5 * 1024 * 1024; // 5MB
   public static final boolean DEFAULT_PRETTY_JSON_ENABLED = false;
+  public static final int DEFAULT_MAX_BATCH_PARALLELISM = 1;
+  public static final long DEFAULT_BATCH_CPU_TIME_BUDGET_MILLIS = 0;
+  public static final long DEFAULT_RESPONSE_CACHE_SIZE_BYTES = 0;
 
   private boolean enabled;
   private int port;
@@ -57,6 +60,9 @@ public class JsonRpcConfiguration {
   private int maxBatchSize;
   private long maxRequestContentLength;
   private boolean prettyJsonEnabled;
+  private int maxBatchParallelism = DEFAULT_MAX_BATCH_PARALLELISM;
+  private long batchCpuTimeBudgetMillis = DEFAULT_BATCH_CPU_TIME_BUDGET_MILLIS;
+  private long responseCacheSizeBytes = DEFAULT_RESPONSE_CACHE_SIZE_BYTES;
 
   public static JsonRpcConfiguration createDefault() {
     final JsonRpcConfiguration config = new JsonRpcConfiguration();
@@ -223,6 +229,9 @@ public class JsonRpcConfiguration {
         .add("httpTimeoutSec", httpTimeoutSec)
         .add("maxActiveConnections", maxActiveConnections)
         .add("maxBatchSize", maxBatchSize)
+        .add("maxBatchParallelism", maxBatchParallelism)
+        .add("batchCpuTimeBudgetMillis", batchCpuTimeBudgetMillis)
+        .add("responseCacheSizeBytes", responseCacheSizeBytes)
         .toString();
   }
 
@@ -278,6 +287,30 @@ public class JsonRpcConfiguration {
     this.maxBatchSize = maxBatchSize;
   }
 
+  public int getMaxBatchParallelism() {
+    return maxBatchParallelism;
+  }
+
+  public void setMaxBatchParallelism(final int maxBatchParallelism) {
+    this.maxBatchParallelism = maxBatchParallelism;
+  }
+
+  public long getBatchCpuTimeBudgetMillis() {
+    return batchCpuTimeBudgetMillis;
+  }
+
+  public void setBatchCpuTimeBudgetMillis(final long batchCpuTimeBudgetMillis) {
+    this.batchCpuTimeBudgetMillis = batchCpuTimeBudgetMillis;
+  }
+
+  public long getResponseCacheSizeBytes() {
+    return responseCacheSizeBytes;
+  }
+
+  public void setResponseCacheSizeBytes(final long responseCacheSizeBytes) {
+    this.responseCacheSizeBytes = responseCacheSizeBytes;
+  }
+
   public long getMaxRequestContentLength() {
     return maxRequestContentLength;
   }
@@ -19,12 +19,16 @@ import static com.google.common.collect.Streams.stream;
 import static org.apache.tuweni.net.tls.VertxTrustOptions.allowlistClients;
 
 import org.hyperledger.besu.ethereum.api.handlers.HandlerFactory;
+import org.hyperledger.besu.ethereum.api.handlers.JsonRpcBatchExecutor;
 import org.hyperledger.besu.ethereum.api.handlers.TimeoutOptions;
 import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.AuthenticationService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.DefaultAuthenticationService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.AuthenticatedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.BaseJsonRpcProcessor;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.CachingJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcExecutor;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcProcessor;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcResponseCache;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.TimedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.TracedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.HealthService;
@@ -127,6 +131,7 @@ public class JsonRpcHttpService {
   private final NatService natService;
   private final Path dataDir;
   private final LabelledMetric<OperationTimer> requestTimer;
+  private final JsonRpcBatchExecutor batchExecutor;
   private TracerProvider tracerProvider;
   private Tracer tracer;
   private final int maxActiveConnections;
@@ -137,6 +142,7 @@ public class JsonRpcHttpService {
   private HttpServer httpServer;
   private final HealthService livenessService;
   private final HealthService readinessService;
+  private final Optional<JsonRpcResponseCache> responseCache;
 
   /**
    * Construct a JsonRpcHttpService handler
@@ -159,6 +165,41 @@ public class JsonRpcHttpService {
       final Map<String, JsonRpcMethod> methods,
       final HealthService livenessService,
       final HealthService readinessService) {
+    this(
+        vertx,
+        dataDir,
+        config,
+        metricsSystem,
+        natService,
+        methods,
+        livenessService,
+        readinessService,
+        Optional.empty());
+  }
+
+  /**
+   * Construct a JsonRpcHttpService handler that answers requests for finalized data from a cache
+   *
+   * @param vertx The vertx process that will be running this service
+   * @param dataDir The data directory where requests can be buffered
+   * @param config Configuration for the rpc methods being loaded
+   * @param metricsSystem The metrics service that activities should be reported to
+   * @param natService The NAT environment manager.
+   * @param methods The json rpc methods that should be enabled
+   * @param livenessService A service responsible for reporting whether this node is live
+   * @param readinessService A service responsible for reporting whether this node has fully started
+   * @param responseCache The cache of responses that can no longer change, if enabled
+   */
+  public JsonRpcHttpService(
+      final Vertx vertx,
+      final Path dataDir,
+      final JsonRpcConfiguration config,
+      final MetricsSystem metricsSystem,
+      final NatService natService,
+      final Map<String, JsonRpcMethod> methods,
+      final HealthService livenessService,
+      final HealthService readinessService,
+      final Optional<JsonRpcResponseCache> responseCache) {
     this(
         vertx,
         dataDir,
@@ -168,7 +209,8 @@ public class JsonRpcHttpService {
         methods,
         DefaultAuthenticationService.create(vertx, config),
         livenessService,
-        readinessService);
+        readinessService,
+        responseCache);
   }
 
   public JsonRpcHttpService(
@@ -181,6 +223,30 @@ public class JsonRpcHttpService {
       final Optional<AuthenticationService> authenticationService,
       final HealthService livenessService,
       final HealthService readinessService) {
+    this(
+        vertx,
+        dataDir,
+        config,
+        metricsSystem,
+        natService,
+        methods,
+        authenticationService,
+        livenessService,
+        readinessService,
+        Optional.empty());
+  }
+
+  public JsonRpcHttpService(
+      final Vertx vertx,
+      final Path dataDir,
+      final JsonRpcConfiguration config,
+      final MetricsSystem metricsSystem,
+      final NatService natService,
+      final Map<String, JsonRpcMethod> methods,
+      final Optional<AuthenticationService> authenticationService,
+      final HealthService livenessService,
+      final HealthService readinessService,
+      final Optional<JsonRpcResponseCache> responseCache) {
     this.dataDir = dataDir;
     requestTimer =
         metricsSystem.createLabelledTimer(
@@ -195,6 +261,13 @@ public class JsonRpcHttpService {
         "Total no of active rpc http connections",
         activeConnectionsCount::intValue);
 
+    batchExecutor =
+        new JsonRpcBatchExecutor(
+            config.getMaxBatchParallelism(),
+            config.getBatchCpuTimeBudgetMillis(),
+            Runtime.getRuntime().availableProcessors(),
+            metricsSystem);
+
     validateConfig(config);
     this.config = config;
     this.vertx = vertx;
@@ -203,12 +276,20 @@ public class JsonRpcHttpService {
     this.authenticationService = authenticationService;
     this.livenessService = livenessService;
     this.readinessService = readinessService;
+    this.responseCache = responseCache;
     this.maxActiveConnections = config.getMaxActiveConnections();
     if (metricsSystem instanceof OpenTelemetrySystem) {
       this.tracerProvider = ((OpenTelemetrySystem) metricsSystem).getTracerProvider();
     }
   }
 
+  private JsonRpcProcessor baseProcessor() {
+    final JsonRpcProcessor baseProcessor = new BaseJsonRpcProcessor();
+    return responseCache
+        .<JsonRpcProcessor>map(cache -> new CachingJsonRpcProcessor(baseProcessor, cache))
+        .orElse(baseProcessor);
+  }
+
   private void validateConfig(final JsonRpcConfiguration config) {
     checkArgument(
         config.getPort() == 0 || NetworkUtility.isValidPort(config.getPort()),
@@ -347,22 +428,24 @@ public class JsonRpcHttpService {
               new JsonRpcExecutor(
                   new AuthenticatedJsonRpcProcessor(
                       new TimedJsonRpcProcessor(
-                          new TracedJsonRpcProcessor(new BaseJsonRpcProcessor()), requestTimer),
+                          new TracedJsonRpcProcessor(baseProcessor()), requestTimer),
                       authenticationService.get(),
                       config.getNoAuthRpcApis()),
                   rpcMethods),
               tracer,
-              config),
+              config,
+              batchExecutor),
           false);
     } else {
       mainRoute.blockingHandler(
           HandlerFactory.jsonRpcExecutor(
               new JsonRpcExecutor(
                   new TimedJsonRpcProcessor(
-                      new TracedJsonRpcProcessor(new BaseJsonRpcProcessor()), requestTimer),
+                      new TracedJsonRpcProcessor(baseProcessor()), requestTimer),
                   rpcMethods),
               tracer,
-              config),
+              config,
+              batchExecutor),
           false);
     }
 
@@ -545,6 +628,7 @@ public class JsonRpcHttpService {
             resultFuture.completeExceptionally(res.cause());
           } else {
             httpServer = null;
+            batchExecutor.close();
             resultFuture.complete(null);
           }
         });
@@ -118,6 +118,7 @@ public enum RpcMethod {
   ETH_GET_TRANSACTION_BY_HASH("eth_getTransactionByHash"),
   ETH_GET_TRANSACTION_COUNT("eth_getTransactionCount"),
   ETH_GET_TRANSACTION_RECEIPT("eth_getTransactionReceipt"),
+  ETH_GET_TRANSACTIONS_BY_ADDRESS("eth_getTransactionsByAddress"),
   ETH_GET_UNCLE_BY_BLOCK_HASH_AND_INDEX("eth_getUncleByBlockHashAndIndex"),
   ETH_GET_UNCLE_BY_BLOCK_NUMBER_AND_INDEX("eth_getUncleByBlockNumberAndIndex"),
   ETH_GET_UNCLE_COUNT_BY_BLOCK_HASH("eth_getUncleCountByBlockHash"),
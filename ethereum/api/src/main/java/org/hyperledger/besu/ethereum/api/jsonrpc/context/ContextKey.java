@@ -20,6 +20,7 @@ import io.vertx.ext.web.RoutingContext;
 
 public enum ContextKey {
   REQUEST_BODY_AS_JSON_OBJECT,
+  REQUEST_BODY_AS_JSON_RPC_REQUEST,
   REQUEST_BODY_AS_JSON_ARRAY,
   AUTHENTICATED_USER;
 
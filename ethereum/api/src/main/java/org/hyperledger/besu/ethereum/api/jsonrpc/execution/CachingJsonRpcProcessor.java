@@ -0,0 +1,70 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.execution;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestId;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.opentelemetry.api.trace.Span;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class CachingJsonRpcProcessor implements JsonRpcProcessor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CachingJsonRpcProcessor.class);
+
+  private final JsonRpcProcessor rpcProcessor;
+  private final JsonRpcResponseCache responseCache;
+
+  public CachingJsonRpcProcessor(
+      final JsonRpcProcessor rpcProcessor, final JsonRpcResponseCache responseCache) {
+    this.rpcProcessor = rpcProcessor;
+    this.responseCache = responseCache;
+  }
+
+  @Override
+  public JsonRpcResponse process(
+      final JsonRpcRequestId id,
+      final JsonRpcMethod method,
+      final Span metricSpan,
+      final JsonRpcRequestContext request) {
+    final Optional<String> cacheKey = responseCache.cacheKey(request);
+    if (cacheKey.isEmpty()) {
+      return rpcProcessor.process(id, method, metricSpan, request);
+    }
+    final Optional<RawValue> cached = responseCache.get(cacheKey.get());
+    if (cached.isPresent()) {
+      return new JsonRpcSuccessResponse(id.getValue(), cached.get());
+    }
+
+    final JsonRpcResponse response = rpcProcessor.process(id, method, metricSpan, request);
+    if (response instanceof JsonRpcSuccessResponse success && success.getResult() != null) {
+      try {
+        return new JsonRpcSuccessResponse(
+            success.getId(), responseCache.put(cacheKey.get(), success.getResult()));
+      } catch (final JsonProcessingException e) {
+        LOG.debug("Unable to cache response of method: {}", method.getName(), e);
+      }
+    }
+    return response;
+  }
+}
@@ -64,33 +64,7 @@ public class JsonRpcExecutor {
       final Function<JsonObject, JsonRpcRequest> requestBodyProvider) {
     try {
       final JsonRpcRequest requestBody = requestBodyProvider.apply(jsonRpcRequest);
-      final JsonRpcRequestId id = new JsonRpcRequestId(requestBody.getId());
-      // Handle notifications
-      if (requestBody.isNotification()) {
-        // Notifications aren't handled so create empty result for now.
-        return new JsonRpcNoResponse();
-      }
-      final Span span;
-      if (tracer != null) {
-        span =
-            tracer
-                .spanBuilder(requestBody.getMethod())
-                .setSpanKind(SpanKind.INTERNAL)
-                .setParent(spanContext)
-                .startSpan();
-      } else {
-        span = Span.getInvalid();
-      }
-      final Optional<RpcErrorType> unavailableMethod = validateMethodAvailability(requestBody);
-      if (unavailableMethod.isPresent()) {
-        span.setStatus(StatusCode.ERROR, "method unavailable");
-        return new JsonRpcErrorResponse(id, unavailableMethod.get());
-      }
-
-      final JsonRpcMethod method = rpcMethods.get(requestBody.getMethod());
-
-      return rpcProcessor.process(
-          id, method, span, new JsonRpcRequestContext(requestBody, optionalUser, alive));
+      return process(optionalUser, tracer, spanContext, alive, requestBody);
     } catch (final IllegalArgumentException e) {
       try {
         final Integer id = jsonRpcRequest.getInteger("id", null);
@@ -101,6 +75,65 @@ public class JsonRpcExecutor {
     }
   }
 
+  /**
+   * Executes a request that has already been parsed from its JSON representation.
+   *
+   * @param optionalUser the authenticated user, if any
+   * @param tracer the tracer used to create a span for the request, may be null
+   * @param spanContext the parent span context
+   * @param alive whether the caller is still waiting for the response
+   * @param requestBody the parsed request
+   * @return the response to the request
+   */
+  public JsonRpcResponse execute(
+      final Optional<User> optionalUser,
+      final Tracer tracer,
+      final Context spanContext,
+      final Supplier<Boolean> alive,
+      final JsonRpcRequest requestBody) {
+    try {
+      return process(optionalUser, tracer, spanContext, alive, requestBody);
+    } catch (final IllegalArgumentException e) {
+      final Integer id = requestBody.getId() instanceof Number number ? number.intValue() : null;
+      return new JsonRpcErrorResponse(id, INVALID_REQUEST);
+    }
+  }
+
+  private JsonRpcResponse process(
+      final Optional<User> optionalUser,
+      final Tracer tracer,
+      final Context spanContext,
+      final Supplier<Boolean> alive,
+      final JsonRpcRequest requestBody) {
+    final JsonRpcRequestId id = new JsonRpcRequestId(requestBody.getId());
+    // Handle notifications
+    if (requestBody.isNotification()) {
+      // Notifications aren't handled so create empty result for now.
+      return new JsonRpcNoResponse();
+    }
+    final Span span;
+    if (tracer != null) {
+      span =
+          tracer
+              .spanBuilder(requestBody.getMethod())
+              .setSpanKind(SpanKind.INTERNAL)
+              .setParent(spanContext)
+              .startSpan();
+    } else {
+      span = Span.getInvalid();
+    }
+    final Optional<RpcErrorType> unavailableMethod = validateMethodAvailability(requestBody);
+    if (unavailableMethod.isPresent()) {
+      span.setStatus(StatusCode.ERROR, "method unavailable");
+      return new JsonRpcErrorResponse(id, unavailableMethod.get());
+    }
+
+    final JsonRpcMethod method = rpcMethods.get(requestBody.getMethod());
+
+    return rpcProcessor.process(
+        id, method, span, new JsonRpcRequestContext(requestBody, optionalUser, alive));
+  }
+
   private Optional<RpcErrorType> validateMethodAvailability(final JsonRpcRequest request) {
     final String name = request.getMethod();
 
@@ -0,0 +1,205 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.execution;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameter;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameterOrBlockHash;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.chain.TransactionLocation;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Holds the serialized results of JSON-RPC requests whose answer can no longer change: requests
+ * that resolve to a canonical block at or below the finalized block. Finalized blocks cannot be
+ * reorged away, so entries never need to be invalidated; requests that touch non-finalized blocks
+ * are simply not cached.
+ */
+public class JsonRpcResponseCache {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+
+  private static final Map<String, BiFunction<JsonRpcResponseCache, Object[], Optional<Hash>>>
+      BLOCK_RESOLVERS =
+          Map.of(
+              RpcMethod.ETH_GET_BLOCK_BY_NUMBER.getMethodName(),
+              JsonRpcResponseCache::blockByNumber,
+              RpcMethod.DEBUG_TRACE_BLOCK_BY_NUMBER.getMethodName(),
+              JsonRpcResponseCache::blockByNumber,
+              RpcMethod.TRACE_BLOCK.getMethodName(),
+              JsonRpcResponseCache::blockByNumber,
+              RpcMethod.ETH_GET_BLOCK_BY_HASH.getMethodName(),
+              JsonRpcResponseCache::blockByHash,
+              RpcMethod.DEBUG_TRACE_BLOCK_BY_HASH.getMethodName(),
+              JsonRpcResponseCache::blockByHash,
+              RpcMethod.ETH_GET_BLOCK_RECEIPTS.getMethodName(),
+              JsonRpcResponseCache::blockByNumberOrHash,
+              RpcMethod.ETH_GET_TRANSACTION_RECEIPT.getMethodName(),
+              JsonRpcResponseCache::blockByTransactionHash,
+              RpcMethod.ETH_GET_TRANSACTION_BY_HASH.getMethodName(),
+              JsonRpcResponseCache::blockByTransactionHash);
+
+  /** Methods keyed by a transaction hash, all of whose parameters stay part of the key. */
+  private static final Set<String> TRANSACTION_METHODS =
+      Set.of(
+          RpcMethod.ETH_GET_TRANSACTION_RECEIPT.getMethodName(),
+          RpcMethod.ETH_GET_TRANSACTION_BY_HASH.getMethodName());
+
+  private final BlockchainQueries blockchainQueries;
+  private final Cache<String, String> cache;
+  private final Counter hits;
+  private final Counter misses;
+
+  public JsonRpcResponseCache(
+      final BlockchainQueries blockchainQueries,
+      final long maximumSizeBytes,
+      final MetricsSystem metricsSystem) {
+    this.blockchainQueries = blockchainQueries;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maximumSizeBytes)
+            .<String, String>weigher((key, value) -> key.length() + value.length())
+            .build();
+    final LabelledMetric<Counter> lookups =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.RPC,
+            "response_cache_lookups_total",
+            "Number of JSON-RPC response cache lookups",
+            "result");
+    this.hits = lookups.labels("hit");
+    this.misses = lookups.labels("miss");
+  }
+
+  /**
+   * Computes the cache key of a request, if its response is immutable.
+   *
+   * @param request the request to be answered
+   * @return the key under which the response is cached, or empty if it must not be cached
+   */
+  public Optional<String> cacheKey(final JsonRpcRequestContext request) {
+    final String method = request.getRequest().getMethod();
+    final BiFunction<JsonRpcResponseCache, Object[], Optional<Hash>> resolver =
+        BLOCK_RESOLVERS.get(method);
+    if (resolver == null) {
+      return Optional.empty();
+    }
+    final Object[] params = request.getRequest().getParams();
+    if (params == null || params.length == 0) {
+      return Optional.empty();
+    }
+    try {
+      return resolver
+          .apply(this, params)
+          .filter(this::isFinalized)
+          .flatMap(blockHash -> key(method, blockHash, params));
+    } catch (final RuntimeException e) {
+      // malformed parameters are reported by the method itself
+      return Optional.empty();
+    }
+  }
+
+  public Optional<RawValue> get(final String key) {
+    final String cached = cache.getIfPresent(key);
+    if (cached == null) {
+      misses.inc();
+      return Optional.empty();
+    }
+    hits.inc();
+    return Optional.of(new RawValue(cached));
+  }
+
+  public RawValue put(final String key, final Object result) throws JsonProcessingException {
+    final String serialized = MAPPER.writeValueAsString(result);
+    cache.put(key, serialized);
+    return new RawValue(serialized);
+  }
+
+  private boolean isFinalized(final Hash blockHash) {
+    final Optional<BlockHeader> finalized = blockchainQueries.finalizedBlockHeader();
+    final Optional<BlockHeader> header = blockchainQueries.getBlockHeaderByHash(blockHash);
+    return finalized.isPresent()
+        && header.isPresent()
+        && header.get().getNumber() <= finalized.get().getNumber()
+        && blockchainQueries.blockIsOnCanonicalChain(blockHash);
+  }
+
+  /**
+   * The block the request resolves to replaces the block parameter in the key, so that the same
+   * block requested by number, by hash, or with differently formatted values shares an entry.
+   */
+  private static Optional<String> key(
+      final String method, final Hash blockHash, final Object[] params) {
+    final Object[] remaining =
+        TRANSACTION_METHODS.contains(method)
+            ? params
+            : Arrays.copyOfRange(params, 1, params.length);
+    try {
+      return Optional.of(
+          method + ':' + blockHash.toHexString() + ':' + MAPPER.writeValueAsString(remaining));
+    } catch (final JsonProcessingException e) {
+      return Optional.empty();
+    }
+  }
+
+  private Optional<Hash> blockByNumber(final Object[] params) {
+    return new BlockParameter(params[0].toString())
+        .getNumber()
+        .flatMap(blockchainQueries::getBlockHashByNumber);
+  }
+
+  private Optional<Hash> blockByHash(final Object[] params) {
+    return Optional.of(Hash.fromHexString(params[0].toString()));
+  }
+
+  private Optional<Hash> blockByNumberOrHash(final Object[] params) {
+    final BlockParameterOrBlockHash blockParameter;
+    try {
+      blockParameter = new BlockParameterOrBlockHash(params[0]);
+    } catch (final JsonProcessingException e) {
+      return Optional.empty();
+    }
+    if (blockParameter.getHash().isPresent()) {
+      return blockParameter.getHash();
+    }
+    return blockParameter.isNumeric()
+        ? blockchainQueries.getBlockHashByNumber(blockParameter.getNumber().getAsLong())
+        : Optional.empty();
+  }
+
+  private Optional<Hash> blockByTransactionHash(final Object[] params) {
+    return blockchainQueries
+        .transactionLocationByHash(Hash.fromHexString(params[0].toString()))
+        .map(TransactionLocation::getBlockHash);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Reads a JSON-RPC request body straight into a {@link JsonRpcRequest}, without decoding it into
+ * an intermediate Vert.x {@code JsonObject} first. Parameters are kept in their untyped JSON form
+ * and are only converted to their method specific types when the method asks for them.
+ */
+public final class JsonRpcRequestParser {
+
+  private static final ObjectReader REQUEST_READER =
+      new ObjectMapper()
+          .registerModule(new Jdk8Module()) // Handle JDK8 Optionals (de)serialization
+          .readerFor(JsonRpcRequest.class)
+          .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+
+  private JsonRpcRequestParser() {}
+
+  /**
+   * Returns whether the body holds a single JSON object, as opposed to a batch or something that
+   * is not JSON at all, by looking at its first non whitespace character.
+   *
+   * @param body the request body
+   * @return true if the body looks like a single JSON object
+   */
+  public static boolean isSingleRequest(final Buffer body) {
+    final ByteBuf byteBuf = body.getByteBuf();
+    for (int i = byteBuf.readerIndex(); i < byteBuf.writerIndex(); i++) {
+      final byte b = byteBuf.getByte(i);
+      if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+        return b == '{';
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Parses a single JSON-RPC request in one pass over the body.
+   *
+   * @param body the request body
+   * @return the request, or empty if the body is not a well formed JSON-RPC request object. The
+   *     caller is expected to fall back to the generic JSON decoding to report the exact error.
+   */
+  public static Optional<JsonRpcRequest> parseRequest(final Buffer body) {
+    try (final InputStream in = new ByteBufInputStream(body.getByteBuf())) {
+      return Optional.ofNullable(REQUEST_READER.readValue(in));
+    } catch (final IOException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+}
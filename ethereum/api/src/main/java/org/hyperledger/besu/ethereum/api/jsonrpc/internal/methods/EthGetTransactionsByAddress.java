@@ -0,0 +1,112 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameter;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.UnsignedIntParameter;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.TransactionCompleteResult;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.AddressTransactionIndex;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Returns the canonical transactions sent, received or created by an address, oldest first.
+ *
+ * <p>Parameters are the address, the optional first and last blocks of the range (earliest and
+ * latest by default), the optional number of transactions to skip and the optional maximum number
+ * of transactions to return.
+ */
+public class EthGetTransactionsByAddress implements JsonRpcMethod {
+  static final int DEFAULT_COUNT = 100;
+  static final int MAX_COUNT = 1000;
+
+  private final BlockchainQueries blockchainQueries;
+
+  public EthGetTransactionsByAddress(final BlockchainQueries blockchainQueries) {
+    this.blockchainQueries = blockchainQueries;
+  }
+
+  @Override
+  public String getName() {
+    return RpcMethod.ETH_GET_TRANSACTIONS_BY_ADDRESS.getMethodName();
+  }
+
+  @Override
+  public JsonRpcResponse response(final JsonRpcRequestContext requestContext) {
+    final Object id = requestContext.getRequest().getId();
+    final Optional<AddressTransactionIndex> index = blockchainQueries.getAddressTransactionIndex();
+    if (index.isEmpty()) {
+      return new JsonRpcErrorResponse(id, RpcErrorType.ADDRESS_TRANSACTION_INDEX_NOT_ENABLED);
+    }
+
+    final Address address = requestContext.getRequiredParameter(0, Address.class);
+    final Optional<Long> fromBlock =
+        requestContext
+            .getOptionalParameter(1, BlockParameter.class)
+            .orElse(BlockParameter.EARLIEST)
+            .getBlockNumber(blockchainQueries);
+    final Optional<Long> toBlock =
+        requestContext
+            .getOptionalParameter(2, BlockParameter.class)
+            .orElse(BlockParameter.LATEST)
+            .getBlockNumber(blockchainQueries);
+    final int after =
+        requestContext
+            .getOptionalParameter(3, UnsignedIntParameter.class)
+            .map(UnsignedIntParameter::getValue)
+            .orElse(0);
+    final int count =
+        requestContext
+            .getOptionalParameter(4, UnsignedIntParameter.class)
+            .map(UnsignedIntParameter::getValue)
+            .orElse(DEFAULT_COUNT);
+    if (fromBlock.isEmpty() || toBlock.isEmpty() || count > MAX_COUNT) {
+      return new JsonRpcErrorResponse(id, RpcErrorType.INVALID_PARAMS);
+    }
+
+    try (final Stream<AddressTransactionIndex.TransactionPosition> positions =
+        index.get().streamTransactions(address, fromBlock.get(), toBlock.get())) {
+      final List<TransactionCompleteResult> transactions =
+          positions
+              .flatMap(
+                  position ->
+                      blockchainQueries
+                          .transactionByBlockNumberAndIndex(
+                              position.getBlockNumber(), position.getTransactionIndex())
+                          .stream())
+              // entries left behind by an interrupted reorg no longer match the canonical chain
+              .filter(
+                  transaction ->
+                      AddressTransactionIndex.addresses(transaction.getTransaction())
+                          .contains(address))
+              .skip(after)
+              .limit(count)
+              .map(TransactionCompleteResult::new)
+              .collect(Collectors.toList());
+      return new JsonRpcSuccessResponse(id, transactions);
+    }
+  }
+}
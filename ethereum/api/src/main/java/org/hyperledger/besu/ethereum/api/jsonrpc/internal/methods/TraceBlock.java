@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 
 import static org.hyperledger.besu.services.pipeline.PipelineBuilder.createPipelineFrom;
 
+import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameter;
@@ -48,6 +49,7 @@ import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,6 +82,14 @@ public class TraceBlock extends AbstractBlockParameterMethod {
     }
     LOG.trace("Received RPC rpcName={} block={}", getName(), blockNumber);
 
+    final Optional<ArrayNode> storedTraces =
+        getBlockchainQueries().getBlockHashByNumber(blockNumber).flatMap(this::storedTraces);
+    if (storedTraces.isPresent()) {
+      final ArrayNode resultArrayNode = MAPPER.createArrayNode();
+      storedTraces.get().forEach(traces -> resultArrayNode.addAll((ArrayNode) traces));
+      return resultArrayNode;
+    }
+
     return getBlockchainQueries()
         .getBlockchain()
         .getBlockByNumber(blockNumber)
@@ -185,6 +195,19 @@ public class TraceBlock extends AbstractBlockParameterMethod {
         .forEachOrdered(resultArrayNode::addPOJO);
   }
 
+  /**
+   * Returns the traces of a block from the trace storage, if it is enabled and the block has been
+   * indexed.
+   *
+   * @param blockHash the hash of the block
+   * @return one array of traces per transaction of the block followed by the reward traces
+   */
+  protected Optional<ArrayNode> storedTraces(final Hash blockHash) {
+    return getBlockchainQueries()
+        .getTraceStorage()
+        .flatMap(traceStorage -> traceStorage.getBlockTraces(blockHash));
+  }
+
   ArrayNodeWrapper emptyResult() {
     return new ArrayNodeWrapper(MAPPER.createArrayNode());
   }
@@ -17,6 +17,7 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 import static org.hyperledger.besu.services.pipeline.PipelineBuilder.createPipelineFrom;
 
 import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameter;
@@ -31,6 +32,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.FlatTrace;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.RewardTraceGenerator;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.TraceStorage;
 import org.hyperledger.besu.ethereum.api.util.ArrayNodeWrapper;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
@@ -49,10 +51,13 @@ import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.services.pipeline.Pipeline;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
@@ -60,6 +65,7 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.tuweni.bytes.Bytes32;
 import org.slf4j.Logger;
@@ -111,9 +117,108 @@ public class TraceFilter extends TraceBlock {
     if (fromBlock > toBlock)
       return new JsonRpcSuccessResponse(
           requestContext.getRequest().getId(), resultArrayNode.getArrayNode());
-    else
-      return traceFilterWithPipeline(
-          requestContext, filterParameter, fromBlock, toBlock, resultArrayNode);
+
+    final Optional<NavigableMap<Long, Hash>> indexedBlocks = indexedBlocks(fromBlock, toBlock);
+    if (indexedBlocks.isPresent()) {
+      traceFilterFromStorage(filterParameter, indexedBlocks.get(), resultArrayNode);
+      return new JsonRpcSuccessResponse(
+          requestContext.getRequest().getId(), resultArrayNode.getArrayNode());
+    }
+    return traceFilterWithPipeline(
+        requestContext, filterParameter, fromBlock, toBlock, resultArrayNode);
+  }
+
+  /**
+   * Returns the hashes of the canonical blocks in the range if the traces of all of them are in the
+   * trace storage, so the range can be filtered without re-executing any block.
+   */
+  private Optional<NavigableMap<Long, Hash>> indexedBlocks(
+      final long fromBlock, final long toBlock) {
+    final Optional<TraceStorage> traceStorage = getBlockchainQueries().getTraceStorage();
+    if (traceStorage.isEmpty()) {
+      return Optional.empty();
+    }
+    final NavigableMap<Long, Hash> indexedBlocks = new TreeMap<>();
+    // the genesis block has nothing to trace
+    for (long number = Math.max(fromBlock, 1); number <= toBlock; number++) {
+      final Optional<Hash> blockHash = getBlockchainQueries().getBlockHashByNumber(number);
+      if (blockHash.isEmpty()) {
+        break;
+      }
+      if (!traceStorage.get().hasBlockTraces(blockHash.get())) {
+        return Optional.empty();
+      }
+      indexedBlocks.put(number, blockHash.get());
+    }
+    return Optional.of(indexedBlocks);
+  }
+
+  private void traceFilterFromStorage(
+      final FilterParameter filterParameter,
+      final NavigableMap<Long, Hash> indexedBlocks,
+      final ArrayNodeWrapper resultArrayNode) {
+    if (indexedBlocks.isEmpty()) {
+      return;
+    }
+    final List<Address> fromAddress = filterParameter.getFromAddress();
+    final List<Address> toAddress = filterParameter.getToAddress();
+    // a trace has to match both address filters, so only the blocks indexed for the addresses of
+    // one of them can hold a match
+    final Collection<Long> blockNumbers =
+        fromAddress.isEmpty() && toAddress.isEmpty()
+            ? indexedBlocks.keySet()
+            : getBlockchainQueries()
+                .getTraceStorage()
+                .orElseThrow()
+                .getBlockNumbers(
+                    fromAddress.isEmpty() ? toAddress : fromAddress,
+                    indexedBlocks.firstKey(),
+                    indexedBlocks.lastKey());
+    for (final Long blockNumber : blockNumbers) {
+      if (resultArrayNode.isFull()) {
+        return;
+      }
+      final Hash blockHash = indexedBlocks.get(blockNumber);
+      if (blockHash == null) {
+        continue;
+      }
+      storedTraces(blockHash)
+          .ifPresent(
+              blockTraces -> {
+                // the reward traces of the block come after the traces of its transactions
+                final int rewardTracesIndex = blockTraces.size() - 1;
+                for (int i = 0; i < blockTraces.size(); i++) {
+                  final boolean rewards = i == rewardTracesIndex;
+                  blockTraces
+                      .get(i)
+                      .forEach(
+                          trace -> {
+                            if (rewards
+                                ? matchesReward(trace, fromAddress, toAddress)
+                                : matches(trace, fromAddress, toAddress)) {
+                              resultArrayNode.addPOJO(trace);
+                            }
+                          });
+                }
+              });
+    }
+  }
+
+  private static boolean matches(
+      final JsonNode trace, final List<Address> fromAddress, final List<Address> toAddress) {
+    return matchesAddress(trace.path("action").path("from"), fromAddress)
+        && matchesAddress(trace.path("action").path("to"), toAddress);
+  }
+
+  private static boolean matchesReward(
+      final JsonNode trace, final List<Address> fromAddress, final List<Address> toAddress) {
+    // rewards have no sender, their author is matched against the recipients
+    return fromAddress.isEmpty() && matchesAddress(trace.path("action").path("author"), toAddress);
+  }
+
+  private static boolean matchesAddress(final JsonNode address, final List<Address> addresses) {
+    return addresses.isEmpty()
+        || (address.isTextual() && addresses.contains(Address.fromHexString(address.asText())));
   }
 
   private JsonRpcResponse traceFilterWithPipeline(
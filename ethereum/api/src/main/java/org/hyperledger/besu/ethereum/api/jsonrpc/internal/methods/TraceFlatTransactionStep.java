@@ -61,26 +61,32 @@ public class TraceFlatTransactionStep
     if (filterParameter.isPresent()) {
       final List<Address> fromAddress = filterParameter.get().getFromAddress();
       final List<Address> toAddress = filterParameter.get().getToAddress();
+      if (transactionTrace.getTransaction() == null) {
+        // rewards have no sender, their author is matched against the recipients
+        return CompletableFuture.completedFuture(
+            traceStream
+                .map(FlatTrace.class::cast)
+                .filter(
+                    trace ->
+                        fromAddress.isEmpty()
+                            && matchesAddress(trace.getAction().getAuthor(), toAddress)));
+      }
       return CompletableFuture.completedFuture(
           traceStream
               .map(FlatTrace.class::cast)
-              .filter(
-                  trace ->
-                      fromAddress.isEmpty()
-                          || Optional.ofNullable(trace.getAction().getFrom())
-                              .map(Address::fromHexString)
-                              .map(fromAddress::contains)
-                              .orElse(false))
-              .filter(
-                  trace ->
-                      toAddress.isEmpty()
-                          || Optional.ofNullable(trace.getAction().getTo())
-                              .map(Address::fromHexString)
-                              .map(toAddress::contains)
-                              .orElse(false)));
+              .filter(trace -> matchesAddress(trace.getAction().getFrom(), fromAddress))
+              .filter(trace -> matchesAddress(trace.getAction().getTo(), toAddress)));
 
     } else {
       return CompletableFuture.completedFuture(traceStream.map(FlatTrace.class::cast));
     }
   }
+
+  private static boolean matchesAddress(final String address, final List<Address> addresses) {
+    return addresses.isEmpty()
+        || Optional.ofNullable(address)
+            .map(Address::fromHexString)
+            .map(addresses::contains)
+            .orElse(false);
+  }
 }
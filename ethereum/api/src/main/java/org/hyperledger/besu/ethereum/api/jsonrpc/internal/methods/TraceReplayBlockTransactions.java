@@ -21,6 +21,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.TraceBlock.ChainUpdater;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameter;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.TraceTypeParameter;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.Tracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTrace;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.TraceReplayResult;
@@ -46,6 +47,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -56,11 +58,30 @@ public class TraceReplayBlockTransactions extends AbstractBlockParameterMethod {
   private static final Logger LOG = LoggerFactory.getLogger(TraceReplayBlockTransactions.class);
   private final ProtocolSchedule protocolSchedule;
   private static final ObjectMapper MAPPER = new ObjectMapper();
+  private final Optional<Supplier<BlockTracer>> blockTracerSupplier;
 
   public TraceReplayBlockTransactions(
       final ProtocolSchedule protocolSchedule, final BlockchainQueries queries) {
     super(queries);
     this.protocolSchedule = protocolSchedule;
+    this.blockTracerSupplier = Optional.empty();
+  }
+
+  /**
+   * Creates the method with a block tracer used instead of the transaction pipeline when it traces
+   * transactions in parallel.
+   *
+   * @param protocolSchedule the protocol schedule
+   * @param queries the blockchain queries
+   * @param blockTracerSupplier the block tracer supplier
+   */
+  public TraceReplayBlockTransactions(
+      final ProtocolSchedule protocolSchedule,
+      final BlockchainQueries queries,
+      final Supplier<BlockTracer> blockTracerSupplier) {
+    super(queries);
+    this.protocolSchedule = protocolSchedule;
+    this.blockTracerSupplier = Optional.of(blockTracerSupplier);
   }
 
   @Override
@@ -110,6 +131,13 @@ public class TraceReplayBlockTransactions extends AbstractBlockParameterMethod {
             getBlockchainQueries(),
             Optional.of(header),
             traceableState -> {
+              final Optional<BlockTracer> parallelBlockTracer =
+                  blockTracerSupplier.map(Supplier::get).filter(BlockTracer::isParallel);
+              if (parallelBlockTracer.isPresent()) {
+                return traceBlockInParallel(
+                    parallelBlockTracer.get(), traceableState, block, traceTypes);
+              }
+
               ArrayNodeWrapper resultArrayNode = new ArrayNodeWrapper(MAPPER.createArrayNode());
 
               final ProtocolSpec protocolSpec = protocolSchedule.getByBlockHeader(header);
@@ -176,6 +204,32 @@ public class TraceReplayBlockTransactions extends AbstractBlockParameterMethod {
         .orElse(emptyResult());
   }
 
+  private Optional<ArrayNode> traceBlockInParallel(
+      final BlockTracer blockTracer,
+      final Tracer.TraceableState traceableState,
+      final Block block,
+      final Set<TraceTypeParameter.TraceType> traceTypes) {
+    final TraceReplayTransactionStep traceReplayTransactionStep =
+        new TraceReplayTransactionStep(protocolSchedule, block, traceTypes);
+    return blockTracer
+        .trace(
+            traceableState,
+            block,
+            new DebugOperationTracer(new TraceOptions(false, false, true), false))
+        .map(
+            blockTrace -> {
+              final ArrayNodeWrapper resultArrayNode =
+                  new ArrayNodeWrapper(MAPPER.createArrayNode());
+              blockTrace
+                  .getTransactionTraces()
+                  .forEach(
+                      transactionTrace ->
+                          resultArrayNode.addPOJO(
+                              traceReplayTransactionStep.apply(transactionTrace).join()));
+              return resultArrayNode.getArrayNode();
+            });
+  }
+
   private ArrayNode emptyResult() {
     return MAPPER.createArrayNode();
   }
@@ -21,10 +21,13 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.TraceStorage;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,8 +51,29 @@ public class TraceTransaction extends AbstractTraceByHash implements JsonRpcMeth
     final Hash transactionHash = requestContext.getRequiredParameter(0, Hash.class);
     LOG.trace("Received RPC rpcName={} txHash={}", getName(), transactionHash);
 
+    final Optional<JsonNode> storedTraces = storedTraces(transactionHash);
+    if (storedTraces.isPresent()) {
+      return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), storedTraces.get());
+    }
+
     return new JsonRpcSuccessResponse(
         requestContext.getRequest().getId(),
         arrayNodeFromTraceStream(resultByTransactionHash(transactionHash)));
   }
+
+  private Optional<JsonNode> storedTraces(final Hash transactionHash) {
+    final Optional<TraceStorage> traceStorage = blockchainQueries.getTraceStorage();
+    if (traceStorage.isEmpty()) {
+      return Optional.empty();
+    }
+    return blockchainQueries
+        .transactionByHash(transactionHash)
+        .flatMap(
+            transaction ->
+                transaction
+                    .getBlockHash()
+                    .flatMap(traceStorage.get()::getBlockTraces)
+                    .flatMap(
+                        blockTraces -> transaction.getTransactionIndex().map(blockTraces::get)));
+  }
 }
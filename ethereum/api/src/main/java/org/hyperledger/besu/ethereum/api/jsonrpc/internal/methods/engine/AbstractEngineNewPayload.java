@@ -62,6 +62,7 @@ import org.hyperledger.besu.ethereum.mainnet.ValidationResult;
 import org.hyperledger.besu.ethereum.mainnet.feemarket.ExcessBlobGasCalculator;
 import org.hyperledger.besu.ethereum.rlp.RLPException;
 import org.hyperledger.besu.ethereum.trie.MerkleTrieException;
+import org.hyperledger.besu.ethereum.trie.bonsai.cache.BlockStateWarmer;
 import org.hyperledger.besu.plugin.services.exception.StorageException;
 
 import java.security.InvalidParameterException;
@@ -85,6 +86,7 @@ public abstract class AbstractEngineNewPayload extends ExecutionEngineJsonRpcMet
   private static final BlockHeaderFunctions headerFunctions = new MainnetBlockHeaderFunctions();
   private final MergeMiningCoordinator mergeCoordinator;
   private final EthPeers ethPeers;
+  private final Optional<BlockStateWarmer> blockStateWarmer;
 
   public AbstractEngineNewPayload(
       final Vertx vertx,
@@ -96,6 +98,9 @@ public abstract class AbstractEngineNewPayload extends ExecutionEngineJsonRpcMet
     super(vertx, protocolSchedule, protocolContext, engineCallListener);
     this.mergeCoordinator = mergeCoordinator;
     this.ethPeers = ethPeers;
+    this.blockStateWarmer =
+        Optional.ofNullable(protocolContext.getWorldStateArchive())
+            .flatMap(BlockStateWarmer::create);
   }
 
   @Override
@@ -172,172 +177,215 @@ public abstract class AbstractEngineNewPayload extends ExecutionEngineJsonRpcMet
       return respondWith(reqId, blockParam, null, SYNCING);
     }
 
-    final List<Transaction> transactions;
+    // read the state of the payload while it is validated, the parent is usually the head
+    final Optional<BlockStateWarmer.WarmUp> maybeWarmUp =
+        maybeParentHeader.flatMap(
+            parentHeader -> blockStateWarmer.flatMap(warmer -> warmer.start(parentHeader)));
+
     try {
-      transactions =
-          blockParam.getTransactions().stream()
-              .map(Bytes::fromHexString)
-              .map(in -> TransactionDecoder.decodeOpaqueBytes(in, EncodingContext.BLOCK_BODY))
-              .collect(Collectors.toList());
-      transactions.forEach(
-          transaction ->
-              mergeCoordinator
-                  .getEthScheduler()
-                  .scheduleTxWorkerTask(
-                      () -> {
-                        Address sender = transaction.getSender();
-                        LOG.atTrace()
-                            .setMessage("The sender for transaction {} is calculated : {}")
-                            .addArgument(transaction::getHash)
-                            .addArgument(sender)
-                            .log();
-                      }));
-    } catch (final RLPException | IllegalArgumentException e) {
-      return respondWithInvalid(
-          reqId,
-          blockParam,
-          mergeCoordinator.getLatestValidAncestor(blockParam.getParentHash()).orElse(null),
-          INVALID,
-          "Failed to decode transactions from block parameter");
-    }
+      final List<Transaction> transactions;
+      try {
+        transactions =
+            blockParam.getTransactions().stream()
+                .map(Bytes::fromHexString)
+                .map(in -> TransactionDecoder.decodeOpaqueBytes(in, EncodingContext.BLOCK_BODY))
+                .collect(Collectors.toList());
+        transactions.forEach(
+            transaction ->
+                mergeCoordinator
+                    .getEthScheduler()
+                    .scheduleTxWorkerTask(
+                        () -> {
+                          Address sender = transaction.getSender();
+                          LOG.atTrace()
+                              .setMessage("The sender for transaction {} is calculated : {}")
+                              .addArgument(transaction::getHash)
+                              .addArgument(sender)
+                              .log();
+                          maybeWarmUp.ifPresent(warmUp -> warmUp.warmTransaction(transaction));
+                        }));
+        maybeWarmUp.ifPresent(
+            warmUp ->
+                mergeCoordinator
+                    .getEthScheduler()
+                    .scheduleTxWorkerTask(
+                        () -> {
+                          warmUp.warmAccount(blockParam.getFeeRecipient());
+                          maybeWithdrawals.ifPresent(
+                              withdrawals ->
+                                  withdrawals.forEach(
+                                      withdrawal -> warmUp.warmAccount(withdrawal.getAddress())));
+                        }));
+      } catch (final RLPException | IllegalArgumentException e) {
+        return respondWithInvalid(
+            reqId,
+            blockParam,
+            mergeCoordinator.getLatestValidAncestor(blockParam.getParentHash()).orElse(null),
+            INVALID,
+            "Failed to decode transactions from block parameter");
+      }
 
-    if (blockParam.getExtraData() == null) {
-      return respondWithInvalid(
-          reqId,
-          blockParam,
-          mergeCoordinator.getLatestValidAncestor(blockParam.getParentHash()).orElse(null),
-          INVALID,
-          "Field extraData must not be null");
-    }
+      if (blockParam.getExtraData() == null) {
+        return respondWithInvalid(
+            reqId,
+            blockParam,
+            mergeCoordinator.getLatestValidAncestor(blockParam.getParentHash()).orElse(null),
+            INVALID,
+            "Field extraData must not be null");
+      }
 
-    final BlockHeader newBlockHeader =
-        new BlockHeader(
-            blockParam.getParentHash(),
-            OMMERS_HASH_CONSTANT,
-            blockParam.getFeeRecipient(),
-            blockParam.getStateRoot(),
-            BodyValidation.transactionsRoot(transactions),
-            blockParam.getReceiptsRoot(),
-            blockParam.getLogsBloom(),
-            Difficulty.ZERO,
-            blockParam.getBlockNumber(),
-            blockParam.getGasLimit(),
-            blockParam.getGasUsed(),
-            blockParam.getTimestamp(),
-            Bytes.fromHexString(blockParam.getExtraData()),
-            blockParam.getBaseFeePerGas(),
-            blockParam.getPrevRandao(),
-            0,
-            maybeWithdrawals.map(BodyValidation::withdrawalsRoot).orElse(null),
-            blockParam.getBlobGasUsed(),
-            blockParam.getExcessBlobGas() == null
-                ? null
-                : BlobGas.fromHexString(blockParam.getExcessBlobGas()),
-            maybeParentBeaconBlockRoot.orElse(null),
-            maybeDeposits.map(BodyValidation::depositsRoot).orElse(null),
-            headerFunctions);
-
-    // ensure the block hash matches the blockParam hash
-    // this must be done before any other check
-    if (!newBlockHeader.getHash().equals(blockParam.getBlockHash())) {
-      String errorMessage =
-          String.format(
-              "Computed block hash %s does not match block hash parameter %s",
-              newBlockHeader.getBlockHash(), blockParam.getBlockHash());
-      LOG.debug(errorMessage);
-      return respondWithInvalid(reqId, blockParam, null, getInvalidBlockHashStatus(), errorMessage);
-    }
+      final BlockHeader newBlockHeader =
+          new BlockHeader(
+              blockParam.getParentHash(),
+              OMMERS_HASH_CONSTANT,
+              blockParam.getFeeRecipient(),
+              blockParam.getStateRoot(),
+              BodyValidation.transactionsRoot(transactions),
+              blockParam.getReceiptsRoot(),
+              blockParam.getLogsBloom(),
+              Difficulty.ZERO,
+              blockParam.getBlockNumber(),
+              blockParam.getGasLimit(),
+              blockParam.getGasUsed(),
+              blockParam.getTimestamp(),
+              Bytes.fromHexString(blockParam.getExtraData()),
+              blockParam.getBaseFeePerGas(),
+              blockParam.getPrevRandao(),
+              0,
+              maybeWithdrawals.map(BodyValidation::withdrawalsRoot).orElse(null),
+              blockParam.getBlobGasUsed(),
+              blockParam.getExcessBlobGas() == null
+                  ? null
+                  : BlobGas.fromHexString(blockParam.getExcessBlobGas()),
+              maybeParentBeaconBlockRoot.orElse(null),
+              maybeDeposits.map(BodyValidation::depositsRoot).orElse(null),
+              headerFunctions);
+
+      // ensure the block hash matches the blockParam hash
+      // this must be done before any other check
+      if (!newBlockHeader.getHash().equals(blockParam.getBlockHash())) {
+        String errorMessage =
+            String.format(
+                "Computed block hash %s does not match block hash parameter %s",
+                newBlockHeader.getBlockHash(), blockParam.getBlockHash());
+        LOG.debug(errorMessage);
+        return respondWithInvalid(
+            reqId, blockParam, null, getInvalidBlockHashStatus(), errorMessage);
+      }
 
-    final var blobTransactions =
-        transactions.stream().filter(transaction -> transaction.getType().supportsBlob()).toList();
-
-    ValidationResult<RpcErrorType> blobValidationResult =
-        validateBlobs(
-            blobTransactions,
-            newBlockHeader,
-            maybeParentHeader,
-            maybeVersionedHashes,
-            protocolSchedule.get().getByBlockHeader(newBlockHeader));
-    if (!blobValidationResult.isValid()) {
-      return respondWithInvalid(
-          reqId,
-          blockParam,
-          mergeCoordinator.getLatestValidAncestor(blockParam.getParentHash()).orElse(null),
-          getInvalidBlockHashStatus(),
-          blobValidationResult.getErrorMessage());
-    }
+      final var blobTransactions =
+          transactions.stream()
+              .filter(transaction -> transaction.getType().supportsBlob())
+              .toList();
+
+      ValidationResult<RpcErrorType> blobValidationResult =
+          validateBlobs(
+              blobTransactions,
+              newBlockHeader,
+              maybeParentHeader,
+              maybeVersionedHashes,
+              protocolSchedule.get().getByBlockHeader(newBlockHeader));
+      if (!blobValidationResult.isValid()) {
+        return respondWithInvalid(
+            reqId,
+            blockParam,
+            mergeCoordinator.getLatestValidAncestor(blockParam.getParentHash()).orElse(null),
+            getInvalidBlockHashStatus(),
+            blobValidationResult.getErrorMessage());
+      }
 
-    // do we already have this payload
-    if (protocolContext.getBlockchain().getBlockByHash(newBlockHeader.getBlockHash()).isPresent()) {
-      LOG.debug("block already present");
-      return respondWith(reqId, blockParam, blockParam.getBlockHash(), VALID);
-    }
-    if (mergeCoordinator.isBadBlock(blockParam.getBlockHash())) {
-      return respondWithInvalid(
-          reqId,
-          blockParam,
-          mergeCoordinator
-              .getLatestValidHashOfBadBlock(blockParam.getBlockHash())
-              .orElse(Hash.ZERO),
-          INVALID,
-          "Block already present in bad block manager.");
-    }
+      // do we already have this payload
+      if (protocolContext
+          .getBlockchain()
+          .getBlockByHash(newBlockHeader.getBlockHash())
+          .isPresent()) {
+        LOG.debug("block already present");
+        return respondWith(reqId, blockParam, blockParam.getBlockHash(), VALID);
+      }
+      if (mergeCoordinator.isBadBlock(blockParam.getBlockHash())) {
+        return respondWithInvalid(
+            reqId,
+            blockParam,
+            mergeCoordinator
+                .getLatestValidHashOfBadBlock(blockParam.getBlockHash())
+                .orElse(Hash.ZERO),
+            INVALID,
+            "Block already present in bad block manager.");
+      }
 
-    if (maybeParentHeader.isPresent()
-        && (Long.compareUnsigned(maybeParentHeader.get().getTimestamp(), blockParam.getTimestamp())
-            >= 0)) {
-      return respondWithInvalid(
-          reqId,
-          blockParam,
-          mergeCoordinator.getLatestValidAncestor(blockParam.getParentHash()).orElse(null),
-          INVALID,
-          "block timestamp not greater than parent");
-    }
+      if (maybeParentHeader.isPresent()
+          && (Long.compareUnsigned(
+                  maybeParentHeader.get().getTimestamp(), blockParam.getTimestamp())
+              >= 0)) {
+        return respondWithInvalid(
+            reqId,
+            blockParam,
+            mergeCoordinator.getLatestValidAncestor(blockParam.getParentHash()).orElse(null),
+            INVALID,
+            "block timestamp not greater than parent");
+      }
 
-    final var block =
-        new Block(
-            newBlockHeader,
-            new BlockBody(transactions, Collections.emptyList(), maybeWithdrawals, maybeDeposits));
-
-    if (maybeParentHeader.isEmpty()) {
-      LOG.atDebug()
-          .setMessage("Parent of block {} is not present, append it to backward sync")
-          .addArgument(block::toLogString)
-          .log();
-      mergeCoordinator.appendNewPayloadToSync(block);
-      return respondWith(reqId, blockParam, null, SYNCING);
-    }
+      final var block =
+          new Block(
+              newBlockHeader,
+              new BlockBody(
+                  transactions, Collections.emptyList(), maybeWithdrawals, maybeDeposits));
+
+      if (maybeParentHeader.isEmpty()) {
+        LOG.atDebug()
+            .setMessage("Parent of block {} is not present, append it to backward sync")
+            .addArgument(block::toLogString)
+            .log();
+        mergeCoordinator.appendNewPayloadToSync(block);
+        return respondWith(reqId, blockParam, null, SYNCING);
+      }
 
-    final var latestValidAncestor = mergeCoordinator.getLatestValidAncestor(newBlockHeader);
+      final var latestValidAncestor = mergeCoordinator.getLatestValidAncestor(newBlockHeader);
 
-    if (latestValidAncestor.isEmpty()) {
-      return respondWith(reqId, blockParam, null, ACCEPTED);
-    }
+      if (latestValidAncestor.isEmpty()) {
+        return respondWith(reqId, blockParam, null, ACCEPTED);
+      }
 
-    // execute block and return result response
-    final long startTimeMs = System.currentTimeMillis();
-    final BlockProcessingResult executionResult = mergeCoordinator.rememberBlock(block);
-
-    if (executionResult.isSuccessful()) {
-      logImportedBlockInfo(
-          block, blobTransactions.size(), (System.currentTimeMillis() - startTimeMs) / 1000.0);
-      return respondWith(reqId, blockParam, newBlockHeader.getHash(), VALID);
-    } else {
-      if (executionResult.causedBy().isPresent()) {
-        Throwable causedBy = executionResult.causedBy().get();
-        if (causedBy instanceof StorageException || causedBy instanceof MerkleTrieException) {
-          RpcErrorType error = RpcErrorType.INTERNAL_ERROR;
-          JsonRpcErrorResponse response = new JsonRpcErrorResponse(reqId, error);
-          return response;
+      maybeWarmUp.ifPresent(
+          warmUp -> {
+            final long warmingMs = warmUp.stop();
+            LOG.atDebug()
+                .setMessage("Warmed {} accounts and {} storage slots of block {} in ~{} ms")
+                .addArgument(warmUp::getWarmedAccountCount)
+                .addArgument(warmUp::getWarmedSlotCount)
+                .addArgument(block::toLogString)
+                .addArgument(warmingMs)
+                .log();
+          });
+
+      // execute block and return result response
+      final long startTimeMs = System.currentTimeMillis();
+      final BlockProcessingResult executionResult = mergeCoordinator.rememberBlock(block);
+
+      if (executionResult.isSuccessful()) {
+        logImportedBlockInfo(
+            block, blobTransactions.size(), (System.currentTimeMillis() - startTimeMs) / 1000.0);
+        return respondWith(reqId, blockParam, newBlockHeader.getHash(), VALID);
+      } else {
+        if (executionResult.causedBy().isPresent()) {
+          Throwable causedBy = executionResult.causedBy().get();
+          if (causedBy instanceof StorageException || causedBy instanceof MerkleTrieException) {
+            RpcErrorType error = RpcErrorType.INTERNAL_ERROR;
+            JsonRpcErrorResponse response = new JsonRpcErrorResponse(reqId, error);
+            return response;
+          }
         }
+        LOG.debug("New payload is invalid: {}", executionResult.errorMessage.get());
+        return respondWithInvalid(
+            reqId,
+            blockParam,
+            latestValidAncestor.get(),
+            INVALID,
+            executionResult.errorMessage.get());
       }
-      LOG.debug("New payload is invalid: {}", executionResult.errorMessage.get());
-      return respondWithInvalid(
-          reqId,
-          blockParam,
-          latestValidAncestor.get(),
-          INVALID,
-          executionResult.errorMessage.get());
+    } finally {
+      // the early returns must not leave the warm-up reading state for nothing
+      maybeWarmUp.ifPresent(BlockStateWarmer.WarmUp::stop);
     }
   }
 
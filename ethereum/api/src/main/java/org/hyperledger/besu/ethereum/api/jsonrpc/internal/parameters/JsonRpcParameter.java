@@ -14,12 +14,14 @@
  */
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters;
 
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.exception.InvalidJsonRpcParameters;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -30,6 +32,23 @@ public class JsonRpcParameter {
       new ObjectMapper()
           .registerModule(new Jdk8Module()); // Handle JDK8 Optionals (de)serialization
 
+  @FunctionalInterface
+  private interface StringParameterParser {
+    Object parse(String value) throws Exception;
+  }
+
+  /**
+   * Parameter types that are sent as plain JSON strings by the most frequently called methods
+   * (eth_call, eth_getBalance, eth_getTransactionReceipt, ...). They are built directly from the
+   * string with the same factory Jackson would invoke, skipping the databind machinery.
+   */
+  private static final Map<Class<?>, StringParameterParser> STRING_PARAMETER_PARSERS =
+      Map.of(
+          Address.class, Address::fromHexString,
+          Hash.class, Hash::fromHexString,
+          BlockParameter.class, BlockParameter::new,
+          BlockParameterOrBlockHash.class, BlockParameterOrBlockHash::new);
+
   /**
    * Retrieves a required parameter at the given index interpreted as the given class. Throws
    * InvalidJsonRpcParameters if parameter is missing or of the wrong type.
@@ -70,17 +89,19 @@ public class JsonRpcParameter {
     if (paramClass.isAssignableFrom(rawParam.getClass())) {
       // If we're dealing with a simple type, just cast the value
       param = (T) rawParam;
+    } else if (rawParam instanceof String value
+        && STRING_PARAMETER_PARSERS.containsKey(paramClass)) {
+      try {
+        param = (T) STRING_PARAMETER_PARSERS.get(paramClass).parse(value);
+      } catch (final Exception e) {
+        throw invalidParameter(index, rawParam, paramClass, e);
+      }
     } else {
-      // Otherwise, serialize param back to json and then deserialize to the paramClass type
+      // Otherwise, convert the untyped json value to the paramClass type
       try {
-        final String json = mapper.writeValueAsString(rawParam);
-        param = mapper.readValue(json, paramClass);
-      } catch (final JsonProcessingException e) {
-        throw new InvalidJsonRpcParameters(
-            String.format(
-                "Invalid json rpc parameter at index %d. Supplied value was: '%s' of type: '%s' - expected type: '%s'",
-                index, rawParam, rawParam.getClass().getName(), paramClass.getName()),
-            e);
+        param = mapper.convertValue(rawParam, paramClass);
+      } catch (final IllegalArgumentException e) {
+        throw invalidParameter(index, rawParam, paramClass, e);
       }
     }
 
@@ -95,17 +116,21 @@ public class JsonRpcParameter {
     Object rawParam = params[index];
     if (List.class.isAssignableFrom(rawParam.getClass())) {
       try {
-        String listJson = mapper.writeValueAsString(rawParam);
-        List<T> returnedList = mapper.readValue(listJson, new TypeReference<List<T>>() {});
+        List<T> returnedList = mapper.convertValue(rawParam, new TypeReference<List<T>>() {});
         return Optional.of(returnedList);
-      } catch (JsonProcessingException e) {
-        throw new InvalidJsonRpcParameters(
-            String.format(
-                "Invalid json rpc parameter at index %d. Supplied value was: '%s' of type: '%s' - expected type: '%s'",
-                index, rawParam, rawParam.getClass().getName(), listClass.getName()),
-            e);
+      } catch (IllegalArgumentException e) {
+        throw invalidParameter(index, rawParam, listClass, e);
       }
     }
     return Optional.empty();
   }
+
+  private static InvalidJsonRpcParameters invalidParameter(
+      final int index, final Object rawParam, final Class<?> paramClass, final Exception cause) {
+    return new InvalidJsonRpcParameters(
+        String.format(
+            "Invalid json rpc parameter at index %d. Supplied value was: '%s' of type: '%s' - expected type: '%s'",
+            index, rawParam, rawParam.getClass().getName(), paramClass.getName()),
+        cause);
+  }
 }
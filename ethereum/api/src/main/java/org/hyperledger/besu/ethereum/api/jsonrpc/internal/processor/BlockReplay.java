@@ -57,14 +57,7 @@ public class BlockReplay {
         block.getHeader(),
         block.getBody(),
         (body, header, blockchain, transactionProcessor, protocolSpec) -> {
-          final Wei blobGasPrice =
-              protocolSpec
-                  .getFeeMarket()
-                  .blobGasPricePerGas(
-                      blockchain
-                          .getBlockHeader(header.getParentHash())
-                          .map(parent -> calculateExcessBlobGasForParent(protocolSpec, parent))
-                          .orElse(BlobGas.ZERO));
+          final Wei blobGasPrice = blobGasPrice(protocolSpec, blockchain, header);
 
           final List<TransactionTrace> transactionTraces =
               body.getTransactions().stream()
@@ -91,14 +84,7 @@ public class BlockReplay {
         blockHash,
         (body, header, blockchain, transactionProcessor, protocolSpec) -> {
           final BlockHashLookup blockHashLookup = new CachingBlockHashLookup(header, blockchain);
-          final Wei blobGasPrice =
-              protocolSpec
-                  .getFeeMarket()
-                  .blobGasPricePerGas(
-                      blockchain
-                          .getBlockHeader(header.getParentHash())
-                          .map(parent -> calculateExcessBlobGasForParent(protocolSpec, parent))
-                          .orElse(BlobGas.ZERO));
+          final Wei blobGasPrice = blobGasPrice(protocolSpec, blockchain, header);
 
           for (final Transaction transaction : body.getTransactions()) {
             if (transaction.getHash().equals(transactionHash)) {
@@ -157,6 +143,10 @@ public class BlockReplay {
         block -> performActionWithBlock(block.getHeader(), block.getBody(), action));
   }
 
+  public <T> Optional<T> performActionWithBlock(final Block block, final BlockAction<T> action) {
+    return performActionWithBlock(block.getHeader(), block.getBody(), action);
+  }
+
   private <T> Optional<T> performActionWithBlock(
       final BlockHeader header, final BlockBody body, final BlockAction<T> action) {
     if (header == null) {
@@ -171,7 +161,18 @@ public class BlockReplay {
     return action.perform(body, header, blockchain, transactionProcessor, protocolSpec);
   }
 
-  private Optional<Block> getBlock(final Hash blockHash) {
+  static Wei blobGasPrice(
+      final ProtocolSpec protocolSpec, final Blockchain blockchain, final BlockHeader header) {
+    return protocolSpec
+        .getFeeMarket()
+        .blobGasPricePerGas(
+            blockchain
+                .getBlockHeader(header.getParentHash())
+                .map(parent -> calculateExcessBlobGasForParent(protocolSpec, parent))
+                .orElse(BlobGas.ZERO));
+  }
+
+  Optional<Block> getBlock(final Hash blockHash) {
     final BlockHeader blockHeader = blockchain.getBlockHeader(blockHash).orElse(null);
     if (blockHeader != null) {
       final BlockBody blockBody = blockchain.getBlockBody(blockHeader.getHash()).orElse(null);
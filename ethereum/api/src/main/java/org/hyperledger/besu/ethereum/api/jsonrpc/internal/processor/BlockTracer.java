@@ -15,32 +15,72 @@
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor;
 
 import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.debug.TraceFrame;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.mainnet.MainnetTransactionProcessor;
 import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
 import org.hyperledger.besu.ethereum.vm.CachingBlockHashLookup;
 import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
 import org.hyperledger.besu.evm.worldstate.WorldUpdater;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /** Used to produce debug traces of blocks */
 public class BlockTracer {
 
   private final BlockReplay blockReplay;
+  private final int parallelism;
+  private final Optional<EthScheduler> ethScheduler;
   // Either the initial block state or the state of the prior TX, including miner rewards.
   private WorldUpdater chainedUpdater;
 
   public BlockTracer(final BlockReplay blockReplay) {
+    this(blockReplay, 1, Optional.empty());
+  }
+
+  /**
+   * Creates a block tracer that traces up to {@code parallelism} transactions of a block at once.
+   * The block is first executed without tracing to find the state each transaction starts from,
+   * then the transactions are traced concurrently on top of those states.
+   *
+   * @param blockReplay the block replay
+   * @param parallelism the maximum number of transactions traced at once, 1 traces sequentially
+   * @param ethScheduler the scheduler providing the computation threads, if any
+   */
+  public BlockTracer(
+      final BlockReplay blockReplay,
+      final int parallelism,
+      final Optional<EthScheduler> ethScheduler) {
     this.blockReplay = blockReplay;
+    this.parallelism = parallelism;
+    this.ethScheduler = ethScheduler;
+  }
+
+  public boolean isParallel() {
+    return parallelism > 1 && ethScheduler.isPresent();
   }
 
   public Optional<BlockTrace> trace(
       final Tracer.TraceableState mutableWorldState,
       final Hash blockHash,
       final DebugOperationTracer tracer) {
+    if (isParallel()) {
+      return blockReplay
+          .getBlock(blockHash)
+          .flatMap(block -> traceInParallel(mutableWorldState, block, tracer));
+    }
     return blockReplay.block(blockHash, prepareReplayAction(mutableWorldState, tracer));
   }
 
@@ -48,6 +88,9 @@ public class BlockTracer {
       final Tracer.TraceableState mutableWorldState,
       final Block block,
       final DebugOperationTracer tracer) {
+    if (isParallel()) {
+      return traceInParallel(mutableWorldState, block, tracer);
+    }
     return blockReplay.block(block, prepareReplayAction(mutableWorldState, tracer));
   }
 
@@ -62,20 +105,108 @@ public class BlockTracer {
       }
       // create an updater for just this tx
       chainedUpdater = chainedUpdater.updater();
-      final TransactionProcessingResult result =
-          transactionProcessor.processTransaction(
-              blockchain,
-              chainedUpdater,
-              header,
-              transaction,
-              header.getCoinbase(),
-              tracer,
-              new CachingBlockHashLookup(header, blockchain),
-              false,
-              blobGasPrice);
-      final List<TraceFrame> traceFrames = tracer.copyTraceFrames();
-      tracer.reset();
-      return new TransactionTrace(transaction, result, traceFrames);
+      return traceTransaction(
+          chainedUpdater,
+          transaction,
+          header,
+          blockchain,
+          transactionProcessor,
+          tracer,
+          blobGasPrice);
     };
   }
+
+  private Optional<BlockTrace> traceInParallel(
+      final MutableWorldState mutableWorldState,
+      final Block block,
+      final DebugOperationTracer tracer) {
+    return blockReplay.performActionWithBlock(
+        block,
+        (body, header, blockchain, transactionProcessor, protocolSpec) -> {
+          final Wei blobGasPrice = BlockReplay.blobGasPrice(protocolSpec, blockchain, header);
+          final List<Transaction> transactions = body.getTransactions();
+
+          // Execute the block once without tracing, keeping the updater each transaction starts
+          // from. The updaters are stacked exactly as in a sequential trace and none of them is
+          // written to once the next transaction has run.
+          final List<WorldUpdater> startingUpdaters = new ArrayList<>(transactions.size());
+          WorldUpdater updater = mutableWorldState.updater();
+          for (final Transaction transaction : transactions) {
+            if (!startingUpdaters.isEmpty()) {
+              updater.markTransactionBoundary();
+            }
+            startingUpdaters.add(updater);
+            updater = updater.updater();
+            transactionProcessor.processTransaction(
+                blockchain,
+                updater,
+                header,
+                transaction,
+                header.getCoinbase(),
+                OperationTracer.NO_TRACING,
+                new CachingBlockHashLookup(header, blockchain),
+                false,
+                blobGasPrice);
+          }
+
+          final TransactionTrace[] traces = new TransactionTrace[transactions.size()];
+          final AtomicInteger nextTransaction = new AtomicInteger();
+          final Runnable worker =
+              () -> {
+                final DebugOperationTracer transactionTracer = tracer.newInstance();
+                int index;
+                while ((index = nextTransaction.getAndIncrement()) < traces.length) {
+                  traces[index] =
+                      traceTransaction(
+                          startingUpdaters.get(index).updater(),
+                          transactions.get(index),
+                          header,
+                          blockchain,
+                          transactionProcessor,
+                          transactionTracer,
+                          blobGasPrice);
+                }
+              };
+          final int helpers = Math.max(Math.min(parallelism, traces.length) - 1, 0);
+          final List<CompletableFuture<Void>> helpersDone = new ArrayList<>(helpers);
+          for (int i = 0; i < helpers; i++) {
+            helpersDone.add(
+                ethScheduler
+                    .get()
+                    .scheduleComputationTask(
+                        () -> {
+                          worker.run();
+                          return null;
+                        }));
+          }
+          // the calling thread traces too, so the block completes even if no helper gets a thread
+          worker.run();
+          CompletableFuture.allOf(helpersDone.toArray(CompletableFuture[]::new)).join();
+          return Optional.of(new BlockTrace(Arrays.asList(traces)));
+        });
+  }
+
+  private static TransactionTrace traceTransaction(
+      final WorldUpdater updater,
+      final Transaction transaction,
+      final BlockHeader header,
+      final Blockchain blockchain,
+      final MainnetTransactionProcessor transactionProcessor,
+      final DebugOperationTracer tracer,
+      final Wei blobGasPrice) {
+    final TransactionProcessingResult result =
+        transactionProcessor.processTransaction(
+            blockchain,
+            updater,
+            header,
+            transaction,
+            header.getCoinbase(),
+            tracer,
+            new CachingBlockHashLookup(header, blockchain),
+            false,
+            blobGasPrice);
+    final List<TraceFrame> traceFrames = tracer.copyTraceFrames();
+    tracer.reset();
+    return new TransactionTrace(transaction, result, traceFrames);
+  }
 }
@@ -56,6 +56,7 @@ public enum RpcErrorType {
   EXCEEDS_BLOCK_GAS_LIMIT(-32005, "Transaction gas limit exceeds block gas limit"),
   EXCEEDS_RPC_MAX_BLOCK_RANGE(-32005, "Requested range exceeds maximum RPC range limit"),
   EXCEEDS_RPC_MAX_BATCH_SIZE(-32005, "Number of requests exceeds max batch size"),
+  EXCEEDS_RPC_BATCH_CPU_TIME_BUDGET(-32005, "Batch exceeds its CPU time budget"),
   NONCE_TOO_HIGH(-32006, "Nonce too high"),
   TX_SENDER_NOT_AUTHORIZED(-32007, "Sender account not authorized to send transactions"),
   CHAIN_HEAD_WORLD_STATE_NOT_AVAILABLE(-32008, "Initial sync is still in progress"),
@@ -101,6 +102,9 @@ public enum RpcErrorType {
   // Worldstate errors
   WORLD_STATE_UNAVAILABLE(-32000, "World state unavailable"),
 
+  // Address transaction index errors
+  ADDRESS_TRANSACTION_INDEX_NOT_ENABLED(-32000, "Address transaction index has not been enabled"),
+
   // Debug failures
   BLOCK_NOT_FOUND(-32000, "Block not found"),
   PARENT_BLOCK_NOT_FOUND(-32000, "Parent block not found"),
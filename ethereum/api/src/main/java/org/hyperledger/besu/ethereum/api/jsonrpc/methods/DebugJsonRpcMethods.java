@@ -52,6 +52,7 @@ import org.hyperledger.besu.metrics.ObservableMetricsSystem;
 
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class DebugJsonRpcMethods extends ApiGroupJsonRpcMethods {
 
@@ -94,6 +95,12 @@ public class DebugJsonRpcMethods extends ApiGroupJsonRpcMethods {
   protected Map<String, JsonRpcMethod> create() {
     final BlockReplay blockReplay =
         new BlockReplay(protocolSchedule, protocolContext, blockchainQueries.getBlockchain());
+    final Supplier<BlockTracer> parallelBlockTracer =
+        () ->
+            new BlockTracer(
+                blockReplay,
+                apiConfiguration.getTracingParallelism(),
+                blockchainQueries.getEthScheduler());
 
     return mapOf(
         new DebugTraceTransaction(blockchainQueries, new TransactionTracer(blockReplay)),
@@ -102,13 +109,13 @@ public class DebugJsonRpcMethods extends ApiGroupJsonRpcMethods {
         new DebugMetrics(metricsSystem),
         new DebugResyncWorldstate(protocolContext, synchronizer),
         new DebugTraceBlock(
-            () -> new BlockTracer(blockReplay),
+            parallelBlockTracer,
             ScheduleBasedBlockHeaderFunctions.create(protocolSchedule),
             blockchainQueries),
         new DebugSetHead(blockchainQueries, protocolContext),
         new DebugReplayBlock(blockchainQueries, protocolContext, protocolSchedule),
-        new DebugTraceBlockByNumber(() -> new BlockTracer(blockReplay), blockchainQueries),
-        new DebugTraceBlockByHash(() -> new BlockTracer(blockReplay), () -> blockchainQueries),
+        new DebugTraceBlockByNumber(parallelBlockTracer, blockchainQueries),
+        new DebugTraceBlockByHash(parallelBlockTracer, () -> blockchainQueries),
         new DebugBatchSendRawTransaction(transactionPool),
         new DebugGetBadBlocks(protocolContext, blockResult),
         new DebugStandardTraceBlockToFile(
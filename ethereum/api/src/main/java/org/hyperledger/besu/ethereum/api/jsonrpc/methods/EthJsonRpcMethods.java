@@ -46,6 +46,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.EthGetTransact
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.EthGetTransactionByHash;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.EthGetTransactionCount;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.EthGetTransactionReceipt;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.EthGetTransactionsByAddress;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.EthGetUncleByBlockHashAndIndex;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.EthGetUncleByBlockNumberAndIndex;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.EthGetUncleCountByBlockHash;
@@ -151,6 +152,7 @@ public class EthJsonRpcMethods extends ApiGroupJsonRpcMethods {
         new EthGetTransactionByBlockNumberAndIndex(blockchainQueries),
         new EthGetTransactionCount(blockchainQueries, transactionPool),
         new EthGetTransactionReceipt(blockchainQueries, protocolSchedule),
+        new EthGetTransactionsByAddress(blockchainQueries),
         new EthUninstallFilter(filterManager),
         new EthGetFilterChanges(filterManager),
         new EthGetFilterLogs(filterManager),
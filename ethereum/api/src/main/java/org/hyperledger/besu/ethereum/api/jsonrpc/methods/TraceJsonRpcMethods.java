@@ -63,7 +63,14 @@ public class TraceJsonRpcMethods extends ApiGroupJsonRpcMethods {
     final BlockReplay blockReplay =
         new BlockReplay(protocolSchedule, protocolContext, blockchainQueries.getBlockchain());
     return mapOf(
-        new TraceReplayBlockTransactions(protocolSchedule, blockchainQueries),
+        new TraceReplayBlockTransactions(
+            protocolSchedule,
+            blockchainQueries,
+            () ->
+                new BlockTracer(
+                    blockReplay,
+                    apiConfiguration.getTracingParallelism(),
+                    blockchainQueries.getEthScheduler())),
         new TraceFilter(
             () -> new BlockTracer(blockReplay),
             protocolSchedule,
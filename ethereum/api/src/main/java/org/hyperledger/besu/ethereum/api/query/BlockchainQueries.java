@@ -23,11 +23,14 @@ import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
 import org.hyperledger.besu.ethereum.api.ApiConfiguration;
 import org.hyperledger.besu.ethereum.api.ImmutableApiConfiguration;
+import org.hyperledger.besu.ethereum.api.query.cache.AddressTransactionIndex;
+import org.hyperledger.besu.ethereum.api.query.cache.TraceStorage;
 import org.hyperledger.besu.ethereum.api.query.cache.TransactionLogBloomCacher;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.chain.TransactionLocation;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockBodyView;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
@@ -36,6 +39,7 @@ import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.log.LogsBloomFilter;
@@ -72,6 +76,8 @@ public class BlockchainQueries {
   private final Optional<TransactionLogBloomCacher> transactionLogBloomCacher;
   private final Optional<EthScheduler> ethScheduler;
   private final ApiConfiguration apiConfig;
+  private final Optional<TraceStorage> traceStorage;
+  private final Optional<AddressTransactionIndex> addressTransactionIndex;
 
   public BlockchainQueries(final Blockchain blockchain, final WorldStateArchive worldStateArchive) {
     this(blockchain, worldStateArchive, Optional.empty(), Optional.empty());
@@ -103,6 +109,24 @@ public class BlockchainQueries {
       final Optional<Path> cachePath,
       final Optional<EthScheduler> scheduler,
       final ApiConfiguration apiConfig) {
+    this(
+        blockchain,
+        worldStateArchive,
+        cachePath,
+        scheduler,
+        apiConfig,
+        Optional.empty(),
+        Optional.empty());
+  }
+
+  public BlockchainQueries(
+      final Blockchain blockchain,
+      final WorldStateArchive worldStateArchive,
+      final Optional<Path> cachePath,
+      final Optional<EthScheduler> scheduler,
+      final ApiConfiguration apiConfig,
+      final Optional<TraceStorage> traceStorage,
+      final Optional<AddressTransactionIndex> addressTransactionIndex) {
     this.blockchain = blockchain;
     this.worldStateArchive = worldStateArchive;
     this.cachePath = cachePath;
@@ -113,6 +137,8 @@ public class BlockchainQueries {
                 new TransactionLogBloomCacher(blockchain, cachePath.get(), scheduler.get()))
             : Optional.empty();
     this.apiConfig = apiConfig;
+    this.traceStorage = traceStorage;
+    this.addressTransactionIndex = addressTransactionIndex;
   }
 
   public Blockchain getBlockchain() {
@@ -127,6 +153,14 @@ public class BlockchainQueries {
     return transactionLogBloomCacher;
   }
 
+  public Optional<TraceStorage> getTraceStorage() {
+    return traceStorage;
+  }
+
+  public Optional<AddressTransactionIndex> getAddressTransactionIndex() {
+    return addressTransactionIndex;
+  }
+
   /**
    * Retrieves the header hash of the block at the given height in the canonical chain.
    *
@@ -463,22 +497,20 @@ public class BlockchainQueries {
         .flatMap(
             header ->
                 blockchain
-                    .getBlockBody(blockHeaderHash)
+                    .getBlockBodyRlp(blockHeaderHash)
+                    .map(BlockBodyView::wrap)
                     .flatMap(
                         body ->
                             blockchain
                                 .getTotalDifficultyByHash(blockHeaderHash)
                                 .map(
                                     td -> {
-                                      final List<Hash> txs =
-                                          body.getTransactions().stream()
-                                              .map(Transaction::getHash)
-                                              .collect(Collectors.toList());
-                                      final List<Hash> ommers =
-                                          body.getOmmers().stream()
-                                              .map(BlockHeader::getHash)
-                                              .collect(Collectors.toList());
-                                      final int size = new Block(header, body).calculateSize();
+                                      // only the hashes are needed, read them from the encoding
+                                      final List<Hash> txs = body.getTransactionHashes();
+                                      final List<Hash> ommers = body.getOmmerHashes();
+                                      final int size =
+                                          body.calculateBlockSize(
+                                              RLP.encode(header::writeTo).size());
                                       return new BlockWithMetadata<>(
                                           header, txs, ommers, td, size, body.getWithdrawals());
                                     })));
@@ -619,42 +651,83 @@ public class BlockchainQueries {
     final int transactionIndex = location.getTransactionIndex();
 
     final Block block = blockchain.getBlockByHash(blockhash).orElseThrow();
-    final Transaction transaction = block.getBody().getTransactions().get(transactionIndex);
-
-    final BlockHeader header = block.getHeader();
     final List<TransactionReceipt> transactionReceipts =
         blockchain.getTxReceipts(blockhash).orElseThrow();
-    final TransactionReceipt transactionReceipt = transactionReceipts.get(transactionIndex);
 
-    long gasUsed = transactionReceipt.getCumulativeGasUsed();
     int logIndexOffset = 0;
     if (transactionIndex > 0) {
-      gasUsed -= transactionReceipts.get(transactionIndex - 1).getCumulativeGasUsed();
       logIndexOffset =
           IntStream.range(0, transactionIndex)
               .map(i -> transactionReceipts.get(i).getLogsList().size())
               .sum();
     }
 
-    Optional<Long> maybeBlobGasUsed =
-        getBlobGasUsed(transaction, protocolSchedule.getByBlockHeader(header));
+    return Optional.of(
+        receiptWithMetadata(
+            block, transactionReceipts, transactionIndex, logIndexOffset, protocolSchedule));
+  }
 
-    Optional<Wei> maybeBlobGasPrice =
-        getBlobGasPrice(transaction, header, protocolSchedule.getByBlockHeader(header));
+  /**
+   * Returns the receipts of every transaction in the given block, loading the block and its
+   * receipts only once.
+   *
+   * @param blockHash The hash of the block whose receipts to retrieve.
+   * @param protocolSchedule the protocol schedule used to compute blob gas values
+   * @return The receipts of the block in transaction order, or empty if the block is unknown.
+   */
+  public Optional<List<TransactionReceiptWithMetadata>> transactionReceiptsByBlockHash(
+      final Hash blockHash, final ProtocolSchedule protocolSchedule) {
+    final Optional<Block> maybeBlock = blockchain.getBlockByHash(blockHash);
+    final Optional<List<TransactionReceipt>> maybeReceipts = blockchain.getTxReceipts(blockHash);
+    if (maybeBlock.isEmpty() || maybeReceipts.isEmpty()) {
+      return Optional.empty();
+    }
+    final Block block = maybeBlock.get();
+    final List<TransactionReceipt> transactionReceipts = maybeReceipts.get();
 
-    return Optional.of(
-        TransactionReceiptWithMetadata.create(
-            transactionReceipt,
-            transaction,
-            transactionHash,
-            transactionIndex,
-            gasUsed,
-            header.getBaseFee(),
-            blockhash,
-            header.getNumber(),
-            maybeBlobGasUsed,
-            maybeBlobGasPrice,
-            logIndexOffset));
+    final List<TransactionReceiptWithMetadata> result =
+        new ArrayList<>(transactionReceipts.size());
+    int logIndexOffset = 0;
+    for (int i = 0; i < transactionReceipts.size(); i++) {
+      result.add(
+          receiptWithMetadata(block, transactionReceipts, i, logIndexOffset, protocolSchedule));
+      logIndexOffset += transactionReceipts.get(i).getLogsList().size();
+    }
+    return Optional.of(result);
+  }
+
+  private TransactionReceiptWithMetadata receiptWithMetadata(
+      final Block block,
+      final List<TransactionReceipt> transactionReceipts,
+      final int transactionIndex,
+      final int logIndexOffset,
+      final ProtocolSchedule protocolSchedule) {
+    final BlockHeader header = block.getHeader();
+    final Transaction transaction = block.getBody().getTransactions().get(transactionIndex);
+    final TransactionReceipt transactionReceipt = transactionReceipts.get(transactionIndex);
+
+    long gasUsed = transactionReceipt.getCumulativeGasUsed();
+    if (transactionIndex > 0) {
+      gasUsed -= transactionReceipts.get(transactionIndex - 1).getCumulativeGasUsed();
+    }
+
+    final ProtocolSpec protocolSpec = protocolSchedule.getByBlockHeader(header);
+    Optional<Long> maybeBlobGasUsed = getBlobGasUsed(transaction, protocolSpec);
+
+    Optional<Wei> maybeBlobGasPrice = getBlobGasPrice(transaction, header, protocolSpec);
+
+    return TransactionReceiptWithMetadata.create(
+        transactionReceipt,
+        transaction,
+        transaction.getHash(),
+        transactionIndex,
+        gasUsed,
+        header.getBaseFee(),
+        header.getHash(),
+        header.getNumber(),
+        maybeBlobGasUsed,
+        maybeBlobGasPrice,
+        logIndexOffset);
   }
 
   /**
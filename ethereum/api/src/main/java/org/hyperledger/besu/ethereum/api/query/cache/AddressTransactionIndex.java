@@ -0,0 +1,239 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Maps addresses to the canonical transactions they sent, received or created.
+ *
+ * <p>Every block holding transactions of an address has one entry keyed by the address followed
+ * by the block number, so the history of an address is a single range scan in block order. The
+ * value lists the indices of the transactions within the block, delta encoded as unsigned varints.
+ * The hash of the last block written by {@link #indexBlock(Block)} is kept alongside the entries
+ * to detect the blocks which have to be unwound after a reorg.
+ */
+public class AddressTransactionIndex {
+  private static final Bytes INDEXED_HEAD_KEY =
+      Bytes.wrap("indexedHead".getBytes(StandardCharsets.UTF_8));
+  private static final Bytes VARIABLES_PREFIX = Bytes.of(0);
+  private static final Bytes ADDRESS_PREFIX = Bytes.of(1);
+  private static final int ENTRY_KEY_SIZE = 1 + Address.SIZE + Long.BYTES;
+
+  private final KeyValueStorage storage;
+
+  public AddressTransactionIndex(final KeyValueStorage storage) {
+    this.storage = storage;
+  }
+
+  /**
+   * Returns the hash of the last block indexed while following the chain head.
+   *
+   * @return the hash of the last indexed block, empty if none was indexed yet
+   */
+  public Optional<Hash> getIndexedHead() {
+    return storage
+        .get(Bytes.concatenate(VARIABLES_PREFIX, INDEXED_HEAD_KEY).toArrayUnsafe())
+        .map(bytes -> Hash.wrap(Bytes32.wrap(bytes)));
+  }
+
+  /**
+   * Adds the transactions of a block which joined the canonical chain and makes it the indexed
+   * head.
+   *
+   * @param block the block to index
+   */
+  public void indexBlock(final Block block) {
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    putEntries(transaction, block);
+    setIndexedHead(transaction, block.getHash());
+    transaction.commit();
+  }
+
+  /**
+   * Removes the transactions of a block which left the canonical chain and makes its parent the
+   * indexed head.
+   *
+   * @param block the block to unwind, which must be the indexed head
+   */
+  public void unindexBlock(final Block block) {
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    transactionIndices(block)
+        .keySet()
+        .forEach(
+            address -> transaction.remove(entryKey(address, block.getHeader().getNumber())));
+    setIndexedHead(transaction, block.getHeader().getParentHash());
+    transaction.commit();
+  }
+
+  /**
+   * Adds the transactions of canonical blocks without moving the indexed head, used to backfill
+   * the history of blocks imported before the index was enabled.
+   *
+   * @param blocks the blocks to index
+   * @param indexedHead the new indexed head, if it has to be moved
+   */
+  public void backfillBlocks(final List<Block> blocks, final Optional<Hash> indexedHead) {
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    blocks.forEach(block -> putEntries(transaction, block));
+    indexedHead.ifPresent(hash -> setIndexedHead(transaction, hash));
+    transaction.commit();
+  }
+
+  /**
+   * Streams the positions of the transactions of an address within a range of blocks, in chain
+   * order. The stream must be closed.
+   *
+   * @param address the address to look up
+   * @param fromBlock the first block of the range
+   * @param toBlock the last block of the range, inclusive
+   * @return the block number and index of every transaction of the address
+   */
+  public Stream<TransactionPosition> streamTransactions(
+      final Address address, final long fromBlock, final long toBlock) {
+    return storage
+        .streamFromKey(entryKey(address, fromBlock), entryKey(address, toBlock))
+        .filter(entry -> entry.getKey().length == ENTRY_KEY_SIZE)
+        .flatMap(
+            entry -> {
+              final Bytes key = Bytes.wrap(entry.getKey());
+              if (!key.slice(1, Address.SIZE).equals(address)) {
+                return Stream.empty();
+              }
+              final long blockNumber = key.getLong(1 + Address.SIZE);
+              if (blockNumber < fromBlock || blockNumber > toBlock) {
+                return Stream.empty();
+              }
+              return decodeIndices(entry.getValue()).stream()
+                  .map(index -> new TransactionPosition(blockNumber, index));
+            });
+  }
+
+  private void putEntries(final KeyValueStorageTransaction transaction, final Block block) {
+    transactionIndices(block)
+        .forEach(
+            (address, indices) ->
+                transaction.put(
+                    entryKey(address, block.getHeader().getNumber()), encodeIndices(indices)));
+  }
+
+  private void setIndexedHead(final KeyValueStorageTransaction transaction, final Hash blockHash) {
+    transaction.put(
+        Bytes.concatenate(VARIABLES_PREFIX, INDEXED_HEAD_KEY).toArrayUnsafe(),
+        blockHash.toArrayUnsafe());
+  }
+
+  private static Map<Address, List<Integer>> transactionIndices(final Block block) {
+    final Map<Address, List<Integer>> indices = new HashMap<>();
+    final List<Transaction> transactions = block.getBody().getTransactions();
+    for (int i = 0; i < transactions.size(); i++) {
+      final int index = i;
+      addresses(transactions.get(i))
+          .forEach(address -> indices.computeIfAbsent(address, a -> new ArrayList<>()).add(index));
+    }
+    return indices;
+  }
+
+  /**
+   * Returns the addresses a transaction is indexed under: its sender, its recipient and, for a
+   * contract creation, the created contract.
+   *
+   * @param transaction the transaction
+   * @return the addresses touched by the transaction
+   */
+  public static Set<Address> addresses(final Transaction transaction) {
+    final Set<Address> addresses = new LinkedHashSet<>();
+    addresses.add(transaction.getSender());
+    transaction.getTo().or(transaction::contractAddress).ifPresent(addresses::add);
+    return addresses;
+  }
+
+  private static byte[] entryKey(final Address address, final long blockNumber) {
+    return Bytes.concatenate(ADDRESS_PREFIX, address, Bytes.ofUnsignedLong(blockNumber))
+        .toArrayUnsafe();
+  }
+
+  static byte[] encodeIndices(final List<Integer> indices) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(indices.size());
+    int previous = 0;
+    for (final int index : indices) {
+      int delta = index - previous;
+      previous = index;
+      while ((delta & ~0x7F) != 0) {
+        out.write((delta & 0x7F) | 0x80);
+        delta >>>= 7;
+      }
+      out.write(delta);
+    }
+    return out.toByteArray();
+  }
+
+  static List<Integer> decodeIndices(final byte[] value) {
+    final List<Integer> indices = new ArrayList<>();
+    int previous = 0;
+    int position = 0;
+    while (position < value.length) {
+      int delta = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = value[position++];
+        delta |= (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      previous += delta;
+      indices.add(previous);
+    }
+    return indices;
+  }
+
+  /** The position of a transaction in the canonical chain. */
+  public static class TransactionPosition {
+    private final long blockNumber;
+    private final int transactionIndex;
+
+    public TransactionPosition(final long blockNumber, final int transactionIndex) {
+      this.blockNumber = blockNumber;
+      this.transactionIndex = transactionIndex;
+    }
+
+    public long getBlockNumber() {
+      return blockNumber;
+    }
+
+    public int getTransactionIndex() {
+      return transactionIndex;
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the address transaction index in line with the canonical chain, unwinding the blocks
+ * dropped by a reorg before indexing the blocks which replaced them.
+ */
+public class AutoAddressTransactionIndexingService {
+  private static final Logger LOG =
+      LoggerFactory.getLogger(AutoAddressTransactionIndexingService.class);
+  private final Blockchain blockchain;
+  private final AddressTransactionIndex addressTransactionIndex;
+  private final EthScheduler scheduler;
+  private OptionalLong blockAddedSubscriptionId = OptionalLong.empty();
+
+  public AutoAddressTransactionIndexingService(
+      final Blockchain blockchain,
+      final AddressTransactionIndex addressTransactionIndex,
+      final EthScheduler scheduler) {
+    this.blockchain = blockchain;
+    this.addressTransactionIndex = addressTransactionIndex;
+    this.scheduler = scheduler;
+  }
+
+  public void start() {
+    LOG.info("Starting auto address transaction indexing service.");
+    blockAddedSubscriptionId =
+        OptionalLong.of(
+            blockchain.observeBlockAdded(
+                event -> {
+                  if (event.isNewCanonicalHead()) {
+                    // run long tasks in the computation executor
+                    scheduler.scheduleComputationTask(
+                        () -> {
+                          followChainHead();
+                          return null;
+                        });
+                  }
+                }));
+  }
+
+  public void stop() {
+    LOG.info("Shutting down auto address transaction indexing service.");
+    blockAddedSubscriptionId.ifPresent(blockchain::removeObserver);
+  }
+
+  synchronized void followChainHead() {
+    try {
+      final Optional<Hash> indexedHead = addressTransactionIndex.getIndexedHead();
+      if (indexedHead.isEmpty()) {
+        // history before the first indexed block is left to the backfill subcommand
+        blockchain.getBlockByHash(blockchain.getChainHeadHash()).ifPresent(this::index);
+        return;
+      }
+      final Optional<BlockHeader> commonAncestor = unwindNonCanonicalBlocks(indexedHead.get());
+      if (commonAncestor.isEmpty()) {
+        return;
+      }
+      final long chainHeadNumber = blockchain.getChainHeadBlockNumber();
+      for (long number = commonAncestor.get().getNumber() + 1;
+          number <= chainHeadNumber;
+          number++) {
+        final Optional<Block> block = blockchain.getBlockByNumber(number);
+        if (block.isEmpty()) {
+          // the chain head moved again, the next event picks up from here
+          return;
+        }
+        index(block.get());
+      }
+    } catch (final Exception e) {
+      LOG.error("Unhandled address transaction indexing exception.", e);
+    }
+  }
+
+  private Optional<BlockHeader> unwindNonCanonicalBlocks(final Hash indexedHead) {
+    Hash hash = indexedHead;
+    while (true) {
+      final Optional<Block> block = blockchain.getBlockByHash(hash);
+      if (block.isEmpty()) {
+        LOG.warn("Indexed block {} is unknown, address transaction index not updated", hash);
+        return Optional.empty();
+      }
+      final BlockHeader header = block.get().getHeader();
+      if (blockchain.getBlockHashByNumber(header.getNumber()).filter(hash::equals).isPresent()) {
+        return Optional.of(header);
+      }
+      LOG.debug("Unwinding address transactions of block {}", header.toLogString());
+      addressTransactionIndex.unindexBlock(block.get());
+      hash = header.getParentHash();
+    }
+  }
+
+  private void index(final Block block) {
+    LOG.trace("Indexing address transactions of block {}", block.toLogString());
+    addressTransactionIndex.indexBlock(block);
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.chain.BlockAddedEvent;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Indexes the traces of every block which becomes part of the canonical chain. */
+public class AutoTraceIndexingService {
+  private static final Logger LOG = LoggerFactory.getLogger(AutoTraceIndexingService.class);
+  private final Blockchain blockchain;
+  private final TraceIndexer traceIndexer;
+  private final EthScheduler scheduler;
+  private OptionalLong blockAddedSubscriptionId = OptionalLong.empty();
+
+  public AutoTraceIndexingService(
+      final Blockchain blockchain, final TraceIndexer traceIndexer, final EthScheduler scheduler) {
+    this.blockchain = blockchain;
+    this.traceIndexer = traceIndexer;
+    this.scheduler = scheduler;
+  }
+
+  public void start() {
+    LOG.info("Starting auto trace indexing service.");
+    blockAddedSubscriptionId =
+        OptionalLong.of(
+            blockchain.observeBlockAdded(
+                event -> {
+                  if (event.isNewCanonicalHead()) {
+                    // run long tasks in the computation executor
+                    scheduler.scheduleComputationTask(
+                        () -> {
+                          indexNewCanonicalBlocks(event);
+                          return null;
+                        });
+                  }
+                }));
+  }
+
+  public void stop() {
+    LOG.info("Shutting down auto trace indexing service.");
+    blockAddedSubscriptionId.ifPresent(blockchain::removeObserver);
+  }
+
+  private void indexNewCanonicalBlocks(final BlockAddedEvent event) {
+    try {
+      // after a reorg every block between the common ancestor and the new head is new to the
+      // canonical chain, index them oldest first
+      final Deque<Block> newBlocks = new ArrayDeque<>();
+      final Hash commonAncestorHash = event.getCommonAncestorHash();
+      Optional<Block> block = Optional.of(event.getBlock());
+      while (block.isPresent() && !block.get().getHash().equals(commonAncestorHash)) {
+        newBlocks.push(block.get());
+        block = blockchain.getBlockByHash(block.get().getHeader().getParentHash());
+      }
+      newBlocks.forEach(traceIndexer::indexBlock);
+    } catch (final Exception e) {
+      LOG.error("Unhandled trace indexing exception.", e);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTrace;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.Tracer;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.FlatTrace;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.FlatTraceGenerator;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.RewardTraceGenerator;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.debug.TraceOptions;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Computes the flat traces of blocks and writes them to the {@link TraceStorage}. */
+public class TraceIndexer {
+  private static final Logger LOG = LoggerFactory.getLogger(TraceIndexer.class);
+  private static final long PROGRESS_LOG_INTERVAL = 10_000;
+
+  private final ProtocolSchedule protocolSchedule;
+  private final BlockchainQueries blockchainQueries;
+  private final Supplier<BlockTracer> blockTracerSupplier;
+  private final TraceStorage traceStorage;
+
+  public TraceIndexer(
+      final ProtocolSchedule protocolSchedule,
+      final BlockchainQueries blockchainQueries,
+      final Supplier<BlockTracer> blockTracerSupplier,
+      final TraceStorage traceStorage) {
+    this.protocolSchedule = protocolSchedule;
+    this.blockchainQueries = blockchainQueries;
+    this.blockTracerSupplier = blockTracerSupplier;
+    this.traceStorage = traceStorage;
+  }
+
+  public TraceStorage getTraceStorage() {
+    return traceStorage;
+  }
+
+  /**
+   * Traces a block and stores its traces, unless they are already stored.
+   *
+   * @param block the block to index
+   * @return true if the traces of the block are stored, false if the world state needed to trace
+   *     it is not available
+   */
+  public boolean indexBlock(final Block block) {
+    final BlockHeader header = block.getHeader();
+    if (header.getNumber() == BlockHeader.GENESIS_BLOCK_NUMBER
+        || traceStorage.hasBlockTraces(header.getBlockHash())) {
+      return true;
+    }
+    final Optional<List<List<FlatTrace>>> transactionTraces =
+        Tracer.processTracing(
+            blockchainQueries,
+            Optional.of(header),
+            traceableState ->
+                blockTracerSupplier
+                    .get()
+                    .trace(
+                        traceableState,
+                        block,
+                        new DebugOperationTracer(new TraceOptions(false, false, true), false))
+                    .map(BlockTrace::getTransactionTraces)
+                    .map(
+                        traces ->
+                            traces.stream()
+                                .map(
+                                    transactionTrace ->
+                                        FlatTraceGenerator.generateFromTransactionTraceAndBlock(
+                                                protocolSchedule, transactionTrace, block)
+                                            .map(FlatTrace.class::cast)
+                                            .toList())
+                                .toList()));
+    if (transactionTraces.isEmpty()) {
+      LOG.debug("Unable to trace block {}, world state not available", header.toLogString());
+      return false;
+    }
+    final List<FlatTrace> rewardTraces =
+        RewardTraceGenerator.generateFromBlock(protocolSchedule, block)
+            .map(FlatTrace.class::cast)
+            .toList();
+    traceStorage.putBlockTraces(header, transactionTraces.get(), rewardTraces);
+    return true;
+  }
+
+  /**
+   * Indexes the canonical blocks of a range, stopping at the first block which cannot be traced.
+   *
+   * @param fromBlock the first block to index
+   * @param toBlock the last block to index, inclusive
+   * @return the number of the last block indexed, or fromBlock - 1 if none was
+   */
+  public long indexBlocks(final long fromBlock, final long toBlock) {
+    LOG.info("Indexing traces of blocks {} to {}", fromBlock, toBlock);
+    for (long number = fromBlock; number <= toBlock; number++) {
+      final Optional<Block> block = blockchainQueries.getBlockchain().getBlockByNumber(number);
+      if (block.isEmpty() || !indexBlock(block.get())) {
+        LOG.warn("Stopped indexing traces at block {}", number);
+        return number - 1;
+      }
+      if ((number - fromBlock + 1) % PROGRESS_LOG_INTERVAL == 0) {
+        LOG.info("Indexed traces up to block {}", number);
+      }
+    }
+    LOG.info("Indexed traces of blocks {} to {}", fromBlock, toBlock);
+    return toBlock;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.FlatTrace;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.tuweni.bytes.Bytes;
+import org.xerial.snappy.Snappy;
+
+/**
+ * Persists the flat traces of blocks, as produced by trace_block, so they can be served without
+ * re-executing the blocks.
+ *
+ * <p>The traces of a block are stored under its hash as a snappy compressed JSON array holding one
+ * array of traces per transaction followed by the array of reward traces. Every address appearing
+ * as the sender or recipient of a trace, or as the author of a reward, is indexed by block number,
+ * which lets trace_filter skip the blocks that cannot match its address filters.
+ */
+public class TraceStorage {
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+
+  private static final Bytes BLOCK_TRACES_PREFIX = Bytes.of(0);
+  private static final Bytes ADDRESS_INDEX_PREFIX = Bytes.of(1);
+  private static final int ADDRESS_INDEX_KEY_SIZE = 1 + Address.SIZE + Long.BYTES;
+  private static final byte[] EMPTY_VALUE = new byte[0];
+
+  private final KeyValueStorage storage;
+
+  public TraceStorage(final KeyValueStorage storage) {
+    this.storage = storage;
+  }
+
+  public boolean hasBlockTraces(final Hash blockHash) {
+    return storage.containsKey(blockTracesKey(blockHash));
+  }
+
+  /**
+   * Returns the traces stored for a block.
+   *
+   * @param blockHash the hash of the block
+   * @return an array holding one array of traces per transaction of the block, in order, followed
+   *     by the array of reward traces, or empty if the block has not been indexed
+   */
+  public Optional<ArrayNode> getBlockTraces(final Hash blockHash) {
+    return storage.get(blockTracesKey(blockHash)).map(TraceStorage::decode);
+  }
+
+  public void putBlockTraces(
+      final BlockHeader header,
+      final List<List<FlatTrace>> transactionTraces,
+      final List<FlatTrace> rewardTraces) {
+    final List<List<FlatTrace>> blockTraces = new ArrayList<>(transactionTraces.size() + 1);
+    blockTraces.addAll(transactionTraces);
+    blockTraces.add(rewardTraces);
+
+    final Set<Address> addresses = new HashSet<>();
+    transactionTraces.stream()
+        .flatMap(List::stream)
+        .map(FlatTrace::getAction)
+        .forEach(
+            action ->
+                Stream.of(action.getFrom(), action.getTo())
+                    .filter(Objects::nonNull)
+                    .map(Address::fromHexString)
+                    .forEach(addresses::add));
+    rewardTraces.stream()
+        .map(trace -> trace.getAction().getAuthor())
+        .filter(Objects::nonNull)
+        .map(Address::fromHexString)
+        .forEach(addresses::add);
+
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    transaction.put(blockTracesKey(header.getBlockHash()), encode(blockTraces));
+    addresses.forEach(
+        address -> transaction.put(addressIndexKey(address, header.getNumber()), EMPTY_VALUE));
+    transaction.commit();
+  }
+
+  /**
+   * Returns the numbers of the blocks within a range holding a trace sent by or to any of the
+   * given addresses, or a reward to any of them. The index is keyed by number, so after a reorg it may also return blocks
+   * which are no longer relevant and callers must still filter the traces of each block.
+   *
+   * @param addresses the addresses to look up
+   * @param fromBlock the first block of the range
+   * @param toBlock the last block of the range, inclusive
+   * @return the matching block numbers in ascending order
+   */
+  public NavigableSet<Long> getBlockNumbers(
+      final Collection<Address> addresses, final long fromBlock, final long toBlock) {
+    final NavigableSet<Long> blockNumbers = new TreeSet<>();
+    for (final Address address : addresses) {
+      try (final Stream<Pair<byte[], byte[]>> entries =
+          storage.streamFromKey(
+              addressIndexKey(address, fromBlock), addressIndexKey(address, toBlock))) {
+        entries
+            .map(Pair::getKey)
+            .map(Bytes::wrap)
+            .filter(key -> key.size() == ADDRESS_INDEX_KEY_SIZE)
+            .filter(key -> key.slice(1, Address.SIZE).equals(address))
+            .map(key -> key.getLong(1 + Address.SIZE))
+            .filter(number -> number >= fromBlock && number <= toBlock)
+            .forEach(blockNumbers::add);
+      }
+    }
+    return blockNumbers;
+  }
+
+  private static byte[] blockTracesKey(final Hash blockHash) {
+    return Bytes.concatenate(BLOCK_TRACES_PREFIX, blockHash).toArrayUnsafe();
+  }
+
+  private static byte[] addressIndexKey(final Address address, final long blockNumber) {
+    return Bytes.concatenate(ADDRESS_INDEX_PREFIX, address, Bytes.ofUnsignedLong(blockNumber))
+        .toArrayUnsafe();
+  }
+
+  private static byte[] encode(final List<List<FlatTrace>> blockTraces) {
+    try {
+      return Snappy.compress(MAPPER.writeValueAsBytes(blockTraces));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static ArrayNode decode(final byte[] value) {
+    try {
+      return (ArrayNode) MAPPER.readTree(Snappy.uncompress(value));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
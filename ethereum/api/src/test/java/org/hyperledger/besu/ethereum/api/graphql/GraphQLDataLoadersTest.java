@@ -0,0 +1,103 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class GraphQLDataLoadersTest {
+
+  private static final Hash BLOCK_HASH = Hash.hash(Hash.ZERO);
+
+  @Mock private BlockchainQueries blockchainQueries;
+  @Mock private ProtocolSchedule protocolSchedule;
+
+  private GraphQLDataLoaders loaders;
+
+  @BeforeEach
+  public void setUp() {
+    loaders = new GraphQLDataLoaders(blockchainQueries, protocolSchedule);
+  }
+
+  @Test
+  public void receiptsOfTransactionsInTheSameBlockAreLoadedOnce() {
+    final TransactionReceiptWithMetadata firstReceipt = mock(TransactionReceiptWithMetadata.class);
+    final TransactionReceiptWithMetadata secondReceipt = mock(TransactionReceiptWithMetadata.class);
+    when(blockchainQueries.transactionReceiptsByBlockHash(BLOCK_HASH, protocolSchedule))
+        .thenReturn(Optional.of(List.of(firstReceipt, secondReceipt)));
+
+    assertThat(loaders.getTransactionReceipt(minedTransaction(1))).contains(secondReceipt);
+    assertThat(loaders.getTransactionReceipt(minedTransaction(0))).contains(firstReceipt);
+    assertThat(loaders.getTransactionReceipt(minedTransaction(2))).isEmpty();
+
+    verify(blockchainQueries, times(1)).transactionReceiptsByBlockHash(any(), any());
+    verify(blockchainQueries, times(0)).transactionReceiptByTransactionHash(any(), any());
+  }
+
+  @Test
+  public void pendingTransactionReceiptIsLookedUpByHash() {
+    final Transaction transaction = mock(Transaction.class);
+    when(transaction.getHash()).thenReturn(Hash.ZERO);
+    when(blockchainQueries.transactionReceiptByTransactionHash(Hash.ZERO, protocolSchedule))
+        .thenReturn(Optional.empty());
+
+    assertThat(loaders.getTransactionReceipt(new TransactionWithMetadata(transaction))).isEmpty();
+
+    verify(blockchainQueries, times(0)).transactionReceiptsByBlockHash(any(), any());
+  }
+
+  @Test
+  public void blocksAreMemoisedIncludingMissingOnes() {
+    @SuppressWarnings("unchecked")
+    final BlockWithMetadata<TransactionWithMetadata, Hash> block = mock(BlockWithMetadata.class);
+    when(blockchainQueries.blockByHash(BLOCK_HASH)).thenReturn(Optional.of(block));
+    when(blockchainQueries.blockByHash(Hash.ZERO)).thenReturn(Optional.empty());
+
+    assertThat(loaders.getBlock(BLOCK_HASH)).contains(block);
+    assertThat(loaders.getBlock(BLOCK_HASH)).contains(block);
+    assertThat(loaders.getBlock(Hash.ZERO)).isEmpty();
+    assertThat(loaders.getBlock(Hash.ZERO)).isEmpty();
+
+    verify(blockchainQueries, times(1)).blockByHash(BLOCK_HASH);
+    verify(blockchainQueries, times(1)).blockByHash(Hash.ZERO);
+  }
+
+  private TransactionWithMetadata minedTransaction(final int index) {
+    return new TransactionWithMetadata(
+        mock(Transaction.class), 1L, Optional.empty(), BLOCK_HASH, index);
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class JsonRpcBatchExecutorTest {
+
+  @Test
+  public void responsesAreWrittenInRequestOrder() throws Exception {
+    final Set<String> threads = ConcurrentHashMap.newKeySet();
+    final List<JsonRpcResponse> responses = new ArrayList<>();
+    try (final JsonRpcBatchExecutor batchExecutor =
+        new JsonRpcBatchExecutor(4, 0, 4, new NoOpMetricsSystem())) {
+      batchExecutor.execute(
+          20,
+          i -> {
+            threads.add(Thread.currentThread().getName());
+            // the first elements are the slowest
+            sleep(20 - i);
+            return new JsonRpcSuccessResponse(i, i);
+          },
+          (i, error) -> new JsonRpcErrorResponse(i, error),
+          responses::add);
+    }
+
+    assertThat(responses)
+        .extracting(response -> ((JsonRpcSuccessResponse) response).getResult())
+        .containsExactlyElementsOf(IntStream.range(0, 20).boxed().toList());
+    assertThat(threads).hasSizeGreaterThan(1);
+  }
+
+  @Test
+  public void sequentialExecutorUsesCallingThread() throws Exception {
+    final Set<String> threads = ConcurrentHashMap.newKeySet();
+    final List<JsonRpcResponse> responses = new ArrayList<>();
+    try (final JsonRpcBatchExecutor batchExecutor = JsonRpcBatchExecutor.sequential()) {
+      batchExecutor.execute(
+          5,
+          i -> {
+            threads.add(Thread.currentThread().getName());
+            return new JsonRpcSuccessResponse(i, i);
+          },
+          (i, error) -> new JsonRpcErrorResponse(i, error),
+          responses::add);
+    }
+
+    assertThat(responses).hasSize(5);
+    assertThat(threads).containsExactly(Thread.currentThread().getName());
+  }
+
+  @Test
+  public void requestsAfterCpuTimeBudgetIsUsedGetAnError() throws Exception {
+    final List<JsonRpcResponse> responses = new ArrayList<>();
+    try (final JsonRpcBatchExecutor batchExecutor =
+        new JsonRpcBatchExecutor(1, 1, 1, new NoOpMetricsSystem())) {
+      batchExecutor.execute(
+          3,
+          i -> {
+            busyWait(TimeUnit.MILLISECONDS.toNanos(5));
+            return new JsonRpcSuccessResponse(i, i);
+          },
+          (i, error) -> new JsonRpcErrorResponse(i, error),
+          responses::add);
+    }
+
+    assertThat(responses).hasSize(3);
+    assertThat(responses.get(0)).isInstanceOf(JsonRpcSuccessResponse.class);
+    assertThat(responses.subList(1, 3))
+        .allSatisfy(
+            response ->
+                assertThat(((JsonRpcErrorResponse) response).getErrorType())
+                    .isEqualTo(RpcErrorType.EXCEEDS_RPC_BATCH_CPU_TIME_BUDGET));
+  }
+
+  private static void sleep(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void busyWait(final long nanos) {
+    final long end = System.nanoTime() + nanos;
+    long spins = 0;
+    while (System.nanoTime() < end) {
+      spins++;
+    }
+    assertThat(spins).isPositive();
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestId;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.opentelemetry.api.trace.Span;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CachingJsonRpcProcessorTest {
+
+  private final BlockchainQueries blockchainQueries = mock(BlockchainQueries.class);
+  private final JsonRpcProcessor delegate = mock(JsonRpcProcessor.class);
+  private final JsonRpcMethod method = mock(JsonRpcMethod.class);
+  private final BlockHeader finalizedHeader =
+      new BlockHeaderTestFixture().number(20).buildHeader();
+  private final BlockHeader header = new BlockHeaderTestFixture().number(16).buildHeader();
+  private final BlockHeader unfinalizedHeader =
+      new BlockHeaderTestFixture().number(24).buildHeader();
+
+  private CachingJsonRpcProcessor processor;
+
+  @BeforeEach
+  public void setUp() {
+    when(blockchainQueries.finalizedBlockHeader()).thenReturn(Optional.of(finalizedHeader));
+    mockBlock(header);
+    mockBlock(unfinalizedHeader);
+    when(delegate.process(any(), any(), any(), any()))
+        .thenAnswer(
+            invocation ->
+                new JsonRpcSuccessResponse(
+                    invocation.<JsonRpcRequestId>getArgument(0).getValue(),
+                    Map.of("number", "0x10")));
+    processor =
+        new CachingJsonRpcProcessor(
+            delegate, new JsonRpcResponseCache(blockchainQueries, 1024, new NoOpMetricsSystem()));
+  }
+
+  @Test
+  public void finalizedBlockIsServedFromCache() {
+    process("eth_getBlockByNumber", "0x10", false);
+    final JsonRpcResponse response = process("eth_getBlockByNumber", "16", false);
+
+    verify(delegate, times(1)).process(any(), any(), any(), any());
+    assertThat(response).isInstanceOf(JsonRpcSuccessResponse.class);
+    final JsonRpcSuccessResponse success = (JsonRpcSuccessResponse) response;
+    assertThat(success.getId()).isEqualTo(2);
+    assertThat(((RawValue) success.getResult()).rawValue()).isEqualTo("{\"number\":\"0x10\"}");
+  }
+
+  @Test
+  public void blockByHashIsCachedPerMethod() {
+    process("eth_getBlockByHash", header.getHash().toHexString(), false);
+    process("eth_getBlockByHash", header.getHash().toHexString(), false);
+    process("eth_getBlockByNumber", "0x10", false);
+
+    verify(delegate, times(2)).process(any(), any(), any(), any());
+  }
+
+  @Test
+  public void differentParametersAreCachedSeparately() {
+    process("eth_getBlockByNumber", "0x10", false);
+    process("eth_getBlockByNumber", "0x10", true);
+
+    verify(delegate, times(2)).process(any(), any(), any(), any());
+  }
+
+  @Test
+  public void blockAboveFinalizedIsNotCached() {
+    process("eth_getBlockByNumber", "0x18", false);
+    process("eth_getBlockByNumber", "0x18", false);
+
+    verify(delegate, times(2)).process(any(), any(), any(), any());
+  }
+
+  @Test
+  public void blockTagIsNotCached() {
+    process("eth_getBlockByNumber", "finalized", false);
+    process("eth_getBlockByNumber", "finalized", false);
+
+    verify(delegate, times(2)).process(any(), any(), any(), any());
+  }
+
+  @Test
+  public void nonCanonicalBlockIsNotCached() {
+    when(blockchainQueries.blockIsOnCanonicalChain(header.getHash())).thenReturn(false);
+
+    process("eth_getBlockByHash", header.getHash().toHexString(), false);
+    process("eth_getBlockByHash", header.getHash().toHexString(), false);
+
+    verify(delegate, times(2)).process(any(), any(), any(), any());
+  }
+
+  @Test
+  public void otherMethodsAreNotCached() {
+    process("eth_getBalance", "0x0000000000000000000000000000000000000000", "0x10");
+    process("eth_getBalance", "0x0000000000000000000000000000000000000000", "0x10");
+
+    verify(delegate, times(2)).process(any(), any(), any(), any());
+  }
+
+  private void mockBlock(final BlockHeader blockHeader) {
+    final Hash hash = blockHeader.getHash();
+    when(blockchainQueries.getBlockHashByNumber(blockHeader.getNumber()))
+        .thenReturn(Optional.of(hash));
+    when(blockchainQueries.getBlockHeaderByHash(hash)).thenReturn(Optional.of(blockHeader));
+    when(blockchainQueries.blockIsOnCanonicalChain(hash)).thenReturn(true);
+  }
+
+  private JsonRpcResponse process(final String methodName, final Object... params) {
+    final JsonRpcRequest request = new JsonRpcRequest("2.0", methodName, params);
+    return processor.process(
+        new JsonRpcRequestId(2), method, Span.getInvalid(), new JsonRpcRequestContext(request));
+  }
+}
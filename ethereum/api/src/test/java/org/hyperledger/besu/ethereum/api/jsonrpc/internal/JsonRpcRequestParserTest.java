@@ -0,0 +1,81 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameterOrBlockHash;
+
+import java.util.Optional;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+public class JsonRpcRequestParserTest {
+
+  @Test
+  public void parsesRequestIdenticallyToJsonObjectMapping() {
+    final String body =
+        "{\"jsonrpc\":\"2.0\",\"id\":7,\"method\":\"eth_getBalance\","
+            + "\"params\":[\"0x627306090abab3a6e1400e9345bc60c78a8bef57\",\"latest\"],"
+            + "\"unknown\":true}";
+
+    final Optional<JsonRpcRequest> request = JsonRpcRequestParser.parseRequest(buffer(body));
+
+    assertThat(request).contains(new JsonObject(body).mapTo(JsonRpcRequest.class));
+    assertThat(request.get().getRequiredParameter(0, Address.class))
+        .isEqualTo(Address.fromHexString("0x627306090abab3a6e1400e9345bc60c78a8bef57"));
+    assertThat(request.get().getRequiredParameter(1, BlockParameterOrBlockHash.class).isLatest())
+        .isTrue();
+  }
+
+  @Test
+  public void notificationHasNoId() {
+    final Optional<JsonRpcRequest> request =
+        JsonRpcRequestParser.parseRequest(
+            buffer("{\"jsonrpc\":\"2.0\",\"method\":\"eth_blockNumber\"}"));
+
+    assertThat(request).isPresent();
+    assertThat(request.get().isNotification()).isTrue();
+  }
+
+  @Test
+  public void rejectsBodiesThatAreNotWellFormedRequests() {
+    assertThat(JsonRpcRequestParser.parseRequest(buffer("{\"jsonrpc\":\"2.0\",\"id\":1}")))
+        .isEmpty();
+    assertThat(
+            JsonRpcRequestParser.parseRequest(
+                buffer("{\"jsonrpc\":\"2.0\",\"id\":{},\"method\":\"eth_blockNumber\"}")))
+        .isEmpty();
+    assertThat(
+            JsonRpcRequestParser.parseRequest(
+                buffer("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"eth_blockNumber\"} {}")))
+        .isEmpty();
+    assertThat(JsonRpcRequestParser.parseRequest(buffer("{\"jsonrpc\":"))).isEmpty();
+  }
+
+  @Test
+  public void detectsSingleRequests() {
+    assertThat(JsonRpcRequestParser.isSingleRequest(buffer(" \n{\"id\":1}"))).isTrue();
+    assertThat(JsonRpcRequestParser.isSingleRequest(buffer("[{\"id\":1}]"))).isFalse();
+    assertThat(JsonRpcRequestParser.isSingleRequest(buffer("   "))).isFalse();
+  }
+
+  private static Buffer buffer(final String body) {
+    return Buffer.buffer(body);
+  }
+}
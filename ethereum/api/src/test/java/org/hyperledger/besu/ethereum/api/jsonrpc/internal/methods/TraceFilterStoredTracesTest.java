@@ -0,0 +1,162 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.ethereum.api.ImmutableApiConfiguration;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameter;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.FilterParameter;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockReplay;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.cache.TraceIndexer;
+import org.hyperledger.besu.ethereum.api.query.cache.TraceStorage;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockchainSetupUtil;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.storage.DataStorageFormat;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TraceFilterStoredTracesTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+
+  private EthScheduler ethScheduler;
+  private BlockchainSetupUtil setupUtil;
+  private TraceFilter reExecutingTraceFilter;
+  private TraceFilter storedTraceFilter;
+
+  @BeforeEach
+  public void setUp() {
+    ethScheduler = new EthScheduler(1, 1, 4, new NoOpMetricsSystem());
+    setupUtil = BlockchainSetupUtil.forTesting(DataStorageFormat.FOREST);
+    setupUtil.importAllBlocks();
+
+    final BlockchainQueries reExecutingQueries =
+        new BlockchainQueries(setupUtil.getBlockchain(), setupUtil.getWorldArchive(), ethScheduler);
+    final TraceStorage traceStorage = new TraceStorage(new InMemoryKeyValueStorage());
+    final BlockchainQueries storedQueries =
+        new BlockchainQueries(
+            setupUtil.getBlockchain(),
+            setupUtil.getWorldArchive(),
+            Optional.empty(),
+            Optional.of(ethScheduler),
+            ImmutableApiConfiguration.builder().build(),
+            Optional.of(traceStorage),
+            Optional.empty());
+    final BlockReplay blockReplay =
+        new BlockReplay(
+            setupUtil.getProtocolSchedule(),
+            setupUtil.getProtocolContext(),
+            setupUtil.getBlockchain());
+    final Supplier<BlockTracer> blockTracerSupplier = () -> new BlockTracer(blockReplay);
+
+    final long lastBlock = setupUtil.getMaxBlockNumber();
+    assertThat(
+            new TraceIndexer(
+                    setupUtil.getProtocolSchedule(),
+                    reExecutingQueries,
+                    blockTracerSupplier,
+                    traceStorage)
+                .indexBlocks(1, lastBlock))
+        .isEqualTo(lastBlock);
+
+    reExecutingTraceFilter =
+        new TraceFilter(
+            blockTracerSupplier, setupUtil.getProtocolSchedule(), reExecutingQueries, 0L);
+    storedTraceFilter =
+        new TraceFilter(blockTracerSupplier, setupUtil.getProtocolSchedule(), storedQueries, 0L);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ethScheduler.stop();
+  }
+
+  @Test
+  public void storedTracesMatchReExecutedTraces() {
+    final Block block =
+        setupUtil.getBlocks().stream()
+            .filter(b -> !b.getBody().getTransactions().isEmpty())
+            .findFirst()
+            .orElseThrow();
+    final Transaction transaction = block.getBody().getTransactions().get(0);
+    final List<Address> sender = List.of(transaction.getSender());
+    final List<Address> recipient = transaction.getTo().map(List::of).orElse(List.of());
+    final List<Address> miner = List.of(block.getHeader().getCoinbase());
+
+    assertThat(assertSameTraces(List.of(), List.of())).isNotEmpty();
+    assertThat(assertSameTraces(sender, List.of())).isNotEmpty();
+    assertSameTraces(List.of(), recipient);
+    assertSameTraces(sender, recipient);
+    // rewards are matched on their author
+    assertThat(assertSameTraces(List.of(), miner)).isNotEmpty();
+    assertSameTraces(miner, List.of());
+  }
+
+  private JsonNode assertSameTraces(
+      final List<Address> fromAddress, final List<Address> toAddress) {
+    final JsonNode reExecuted = traceFilter(reExecutingTraceFilter, fromAddress, toAddress);
+    final JsonNode stored = traceFilter(storedTraceFilter, fromAddress, toAddress);
+    assertThat(stored).isEqualTo(reExecuted);
+    return stored;
+  }
+
+  private JsonNode traceFilter(
+      final TraceFilter traceFilter,
+      final List<Address> fromAddress,
+      final List<Address> toAddress) {
+    final FilterParameter filterParameter =
+        new FilterParameter(
+            new BlockParameter(1),
+            new BlockParameter(setupUtil.getMaxBlockNumber()),
+            fromAddress,
+            toAddress,
+            null,
+            null,
+            null,
+            null,
+            null);
+    final JsonRpcSuccessResponse response =
+        (JsonRpcSuccessResponse)
+            traceFilter.response(
+                new JsonRpcRequestContext(
+                    new JsonRpcRequest("2.0", "trace_filter", new Object[] {filterParameter})));
+    try {
+      return MAPPER.readTree(MAPPER.writeValueAsString(response.getResult()));
+    } catch (final JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
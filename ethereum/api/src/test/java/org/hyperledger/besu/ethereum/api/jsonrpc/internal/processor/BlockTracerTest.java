@@ -0,0 +1,110 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.DebugTraceTransactionResult;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockchainSetupUtil;
+import org.hyperledger.besu.ethereum.debug.TraceOptions;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.storage.DataStorageFormat;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class BlockTracerTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private EthScheduler ethScheduler;
+
+  @BeforeEach
+  public void setUp() {
+    ethScheduler = new EthScheduler(1, 1, 4, new NoOpMetricsSystem());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ethScheduler.stop();
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = DataStorageFormat.class,
+      names = {"FOREST", "BONSAI"})
+  public void parallelTracesMatchSequentialTraces(final DataStorageFormat storageFormat) {
+    final BlockchainSetupUtil setupUtil = BlockchainSetupUtil.forTesting(storageFormat);
+    setupUtil.importAllBlocks();
+    final BlockchainQueries blockchainQueries =
+        new BlockchainQueries(setupUtil.getBlockchain(), setupUtil.getWorldArchive(), ethScheduler);
+    final BlockReplay blockReplay =
+        new BlockReplay(
+            setupUtil.getProtocolSchedule(),
+            setupUtil.getProtocolContext(),
+            setupUtil.getBlockchain());
+
+    final List<Block> blocksWithTransactions =
+        setupUtil.getBlocks().stream()
+            .filter(block -> block.getBody().getTransactions().size() > 1)
+            .toList();
+    assertThat(blocksWithTransactions).isNotEmpty();
+
+    for (final Block block : blocksWithTransactions) {
+      final Optional<String> sequential =
+          trace(blockchainQueries, new BlockTracer(blockReplay), block);
+      final Optional<String> parallel =
+          trace(
+              blockchainQueries,
+              new BlockTracer(blockReplay, 4, Optional.of(ethScheduler)),
+              block);
+
+      assertThat(sequential).isPresent();
+      assertThat(parallel).isEqualTo(sequential);
+    }
+  }
+
+  private static Optional<String> trace(
+      final BlockchainQueries blockchainQueries, final BlockTracer blockTracer, final Block block) {
+    return Tracer.processTracing(
+        blockchainQueries,
+        Optional.of(block.getHeader()),
+        worldState ->
+            blockTracer
+                .trace(worldState, block, new DebugOperationTracer(TraceOptions.DEFAULT, true))
+                .map(BlockTrace::getTransactionTraces)
+                .map(DebugTraceTransactionResult::of)
+                .map(BlockTracerTest::toJson));
+  }
+
+  private static String toJson(final Object result) {
+    try {
+      return MAPPER.writeValueAsString(result);
+    } catch (final JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.ethereum.api.query.cache.AddressTransactionIndex.TransactionPosition;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressTransactionIndexTest {
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+  private final AddressTransactionIndex index =
+      new AddressTransactionIndex(new InMemoryKeyValueStorage());
+
+  @Test
+  public void transactionIndicesAreDeltaEncoded() {
+    final List<Integer> indices = List.of(0, 1, 2, 130, 20_000, 20_001);
+    final byte[] encoded = AddressTransactionIndex.encodeIndices(indices);
+
+    // one byte per delta below 128, two for 128 and three for 19870
+    assertThat(encoded).hasSize(9);
+    assertThat(AddressTransactionIndex.decodeIndices(encoded)).isEqualTo(indices);
+  }
+
+  @Test
+  public void returnsTheTransactionsOfAnAddressInChainOrder() {
+    final Transaction first = gen.transaction();
+    final Transaction second = gen.transaction();
+    final Block block5 = block(5, first, second, first);
+    final Block block7 = block(7, second);
+    index.indexBlock(block5);
+    index.indexBlock(block7);
+
+    final Address sender = first.getSender();
+    assertThat(positions(sender, 0, 10)).containsExactly("5:0", "5:2");
+    assertThat(positions(second.getSender(), 0, 10)).containsExactly("5:1", "7:0");
+    assertThat(positions(second.getSender(), 6, 7)).containsExactly("7:0");
+    assertThat(positions(second.getSender(), 0, 4)).isEmpty();
+    assertThat(positions(gen.address(), 0, 10)).isEmpty();
+    assertThat(index.getIndexedHead()).contains(block7.getHash());
+  }
+
+  @Test
+  public void indexesRecipientsAndCreatedContracts() {
+    final Transaction transaction = gen.transaction();
+    index.indexBlock(block(1, transaction));
+
+    final Address other = transaction.getTo().or(transaction::contractAddress).orElseThrow();
+    assertThat(positions(other, 0, 1)).containsExactly("1:0");
+  }
+
+  @Test
+  public void unindexingABlockRemovesItsTransactionsAndRewindsTheIndexedHead() {
+    final Transaction transaction = gen.transaction();
+    final Block block3 = block(3, transaction);
+    final Block block4 = block(4, transaction);
+    index.indexBlock(block3);
+    index.indexBlock(block4);
+
+    index.unindexBlock(block4);
+
+    assertThat(positions(transaction.getSender(), 0, 10)).containsExactly("3:0");
+    assertThat(index.getIndexedHead()).contains(block4.getHeader().getParentHash());
+  }
+
+  @Test
+  public void backfillingOnlyMovesTheIndexedHeadWhenAsked() {
+    final Transaction transaction = gen.transaction();
+    final Block block1 = block(1, transaction);
+    final Block block2 = block(2, transaction);
+
+    index.backfillBlocks(List.of(block1), Optional.empty());
+    assertThat(index.getIndexedHead()).isEmpty();
+
+    index.backfillBlocks(List.of(block2), Optional.of(block2.getHash()));
+    assertThat(index.getIndexedHead()).contains(block2.getHash());
+    assertThat(positions(transaction.getSender(), 0, 2)).containsExactly("1:0", "2:0");
+  }
+
+  private Block block(final long number, final Transaction... transactions) {
+    return gen.block(
+        BlockDataGenerator.BlockOptions.create()
+            .setBlockNumber(number)
+            .addTransaction(transactions));
+  }
+
+  private List<String> positions(final Address address, final long from, final long to) {
+    try (final Stream<TransactionPosition> positions =
+        index.streamTransactions(address, from, to)) {
+      return positions
+          .map(position -> position.getBlockNumber() + ":" + position.getTransactionIndex())
+          .collect(Collectors.toList());
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.Action;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.FlatTrace;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.jupiter.api.Test;
+
+public class TraceStorageTest {
+
+  private static final Address SENDER = Address.fromHexString("0x01");
+  private static final Address RECIPIENT = Address.fromHexString("0x02");
+  private static final Address CONTRACT = Address.fromHexString("0x03");
+  private static final Address MINER = Address.fromHexString("0x04");
+
+  private final TraceStorage traceStorage = new TraceStorage(new InMemoryKeyValueStorage());
+
+  @Test
+  public void storesTheTracesOfEachTransactionFollowedByTheRewards() {
+    final BlockHeader header = new BlockHeaderTestFixture().number(5).buildHeader();
+    traceStorage.putBlockTraces(
+        header,
+        List.of(
+            List.of(call(SENDER, RECIPIENT)),
+            List.of(call(SENDER, CONTRACT), call(CONTRACT, RECIPIENT))),
+        List.of(reward(MINER)));
+
+    assertThat(traceStorage.hasBlockTraces(header.getHash())).isTrue();
+    final ArrayNode blockTraces = traceStorage.getBlockTraces(header.getHash()).orElseThrow();
+    assertThat(blockTraces).hasSize(3);
+    assertThat(blockTraces.get(0)).hasSize(1);
+    assertThat(blockTraces.get(1)).hasSize(2);
+    assertThat(blockTraces.get(1).get(1).get("action").get("from").asText())
+        .isEqualTo(CONTRACT.toHexString());
+    assertThat(blockTraces.get(2).get(0).get("action").get("author").asText())
+        .isEqualTo(MINER.toHexString());
+  }
+
+  @Test
+  public void returnsEmptyForBlocksNotIndexed() {
+    assertThat(traceStorage.hasBlockTraces(Hash.ZERO)).isFalse();
+    assertThat(traceStorage.getBlockTraces(Hash.ZERO)).isEmpty();
+  }
+
+  @Test
+  public void indexesSendersRecipientsAndRewardAuthorsByBlockNumber() {
+    traceStorage.putBlockTraces(
+        new BlockHeaderTestFixture().number(5).buildHeader(),
+        List.of(List.of(call(SENDER, RECIPIENT))),
+        List.of(reward(MINER)));
+    traceStorage.putBlockTraces(
+        new BlockHeaderTestFixture().number(7).buildHeader(),
+        List.of(List.of(call(SENDER, CONTRACT))),
+        List.of(reward(MINER)));
+
+    assertThat(traceStorage.getBlockNumbers(List.of(SENDER), 0, 10)).containsExactly(5L, 7L);
+    assertThat(traceStorage.getBlockNumbers(List.of(RECIPIENT), 0, 10)).containsExactly(5L);
+    assertThat(traceStorage.getBlockNumbers(List.of(RECIPIENT, CONTRACT), 0, 10))
+        .containsExactly(5L, 7L);
+    assertThat(traceStorage.getBlockNumbers(List.of(SENDER), 6, 7)).containsExactly(7L);
+    assertThat(traceStorage.getBlockNumbers(List.of(SENDER), 8, 10)).isEmpty();
+    assertThat(traceStorage.getBlockNumbers(List.of(MINER), 0, 10)).containsExactly(5L, 7L);
+  }
+
+  private static FlatTrace call(final Address from, final Address to) {
+    return trace(Action.builder().from(from.toHexString()).to(to.toHexString()), "call");
+  }
+
+  private static FlatTrace reward(final Address author) {
+    return trace(Action.builder().author(author.toHexString()).rewardType("block"), "reward");
+  }
+
+  private static FlatTrace trace(final Action.Builder action, final String type) {
+    return new FlatTrace(
+        action, null, 0, List.of(), type, 5L, Hash.ZERO.toHexString(), 0, null, Optional.empty()) {
+      // FlatTrace only exposes its constructors to subclasses
+    };
+  }
+}
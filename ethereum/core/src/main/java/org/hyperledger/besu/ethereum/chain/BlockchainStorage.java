@@ -24,6 +24,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.apache.tuweni.bytes.Bytes;
+
 public interface BlockchainStorage {
 
   Optional<Hash> getChainHead();
@@ -40,6 +42,12 @@ public interface BlockchainStorage {
 
   Optional<List<TransactionReceipt>> getTransactionReceipts(Hash blockHash);
 
+  Optional<Bytes> getBlockHeaderRlp(Hash blockHash);
+
+  Optional<Bytes> getBlockBodyRlp(Hash blockHash);
+
+  Optional<Bytes> getTransactionReceiptsRlp(Hash blockHash);
+
   Optional<Hash> getBlockHash(long blockNumber);
 
   Optional<Difficulty> getTotalDifficulty(Hash blockHash);
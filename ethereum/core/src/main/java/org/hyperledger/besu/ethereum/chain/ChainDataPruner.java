@@ -19,37 +19,36 @@ import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
 
 import java.util.Collection;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class ChainDataPruner implements BlockAddedObserver {
-  public static final int MAX_PRUNING_THREAD_QUEUE_SIZE = 16;
+public class ChainDataPruner implements BlockAddedObserver, PruningService.Pruner {
   private static final Logger LOG = LoggerFactory.getLogger(ChainDataPruner.class);
   private final BlockchainStorage blockchainStorage;
   private final ChainDataPrunerStorage prunerStorage;
   private final long blocksToRetain;
   private final long pruningFrequency;
-  private final ExecutorService pruningExecutor;
+  private final AtomicLong canonicalHead = new AtomicLong(-1);
+  private boolean pruningDue = false;
 
   public ChainDataPruner(
       final BlockchainStorage blockchainStorage,
       final ChainDataPrunerStorage prunerStorage,
       final long blocksToRetain,
-      final long pruningFrequency,
-      final ExecutorService pruningExecutor) {
+      final long pruningFrequency) {
     this.blockchainStorage = blockchainStorage;
     this.prunerStorage = prunerStorage;
     this.blocksToRetain = blocksToRetain;
     this.pruningFrequency = pruningFrequency;
-    this.pruningExecutor = pruningExecutor;
   }
 
   @Override
   public void onBlockAdded(final BlockAddedEvent event) {
     final long blockNumber = event.getBlock().getHeader().getNumber();
-    final long storedPruningMark = prunerStorage.getPruningMark().orElse(blockNumber);
+    final var maybeStoredPruningMark = prunerStorage.getPruningMark();
+    final long storedPruningMark = maybeStoredPruningMark.orElse(blockNumber);
     if (blockNumber < storedPruningMark) {
       LOG.warn(
           "Block added event: "
@@ -66,31 +65,88 @@ public class ChainDataPruner implements BlockAddedObserver {
     final Collection<Hash> forkBlocks = prunerStorage.getForkBlocks(blockNumber);
     forkBlocks.add(event.getBlock().getHash());
     prunerStorage.setForkBlocks(recordBlockHashesTransaction, blockNumber, forkBlocks);
+    if (maybeStoredPruningMark.isEmpty()) {
+      prunerStorage.setPruningMark(recordBlockHashesTransaction, storedPruningMark);
+    }
     recordBlockHashesTransaction.commit();
 
-    pruningExecutor.submit(
-        () -> {
-          final KeyValueStorageTransaction pruningTransaction = prunerStorage.startTransaction();
-          long currentPruningMark = storedPruningMark;
-          final long newPruningMark = blockNumber - blocksToRetain;
-          final long blocksToBePruned = newPruningMark - currentPruningMark;
-          if (event.isNewCanonicalHead() && blocksToBePruned >= pruningFrequency) {
-            long currentRetainedBlock = blockNumber - currentPruningMark + 1;
-            while (currentRetainedBlock > blocksToRetain) {
-              LOG.debug("Pruning chain data with block height of " + currentPruningMark);
-              pruneChainDataAtBlock(pruningTransaction, currentPruningMark);
-              currentPruningMark++;
-              currentRetainedBlock = blockNumber - currentPruningMark;
-            }
-          }
-          prunerStorage.setPruningMark(pruningTransaction, currentPruningMark);
-          pruningTransaction.commit();
-        });
+    if (event.isNewCanonicalHead()) {
+      canonicalHead.set(blockNumber);
+    }
   }
 
-  private void pruneChainDataAtBlock(final KeyValueStorageTransaction tx, final long blockNumber) {
-    final Collection<Hash> oldForkBlocks = prunerStorage.getForkBlocks(blockNumber);
+  @Override
+  public String getName() {
+    return "chain_data";
+  }
+
+  /**
+   * Gets the number of blocks below the retained ones whose chain data is not pruned yet. Nothing
+   * is reported until at least {@code pruningFrequency} blocks are due, after which the pruner
+   * keeps reporting them until all of them are pruned.
+   *
+   * @return the number of blocks due for pruning
+   */
+  @Override
+  public synchronized long getPruningLag() {
+    final long lag = blocksBelowRetained();
+    if (lag == 0) {
+      pruningDue = false;
+    } else if (lag >= pruningFrequency) {
+      pruningDue = true;
+    }
+    return pruningDue ? lag : 0;
+  }
+
+  /**
+   * Prunes the chain data of at most {@code maxBlocks} heights, oldest first, deleting all of them
+   * and moving the pruning mark in a single write batch per storage.
+   *
+   * @param maxBlocks the maximum number of block heights to prune
+   * @return the number of block heights pruned
+   */
+  @Override
+  public synchronized int prune(final int maxBlocks) {
+    final var maybePruningMark = prunerStorage.getPruningMark();
+    if (maybePruningMark.isEmpty() || canonicalHead.get() < 0) {
+      return 0;
+    }
+    final long pruningMark = maybePruningMark.get();
+    final long pruneToExclusive = Math.min(retainedFrom(), pruningMark + maxBlocks);
+    if (pruneToExclusive <= pruningMark) {
+      return 0;
+    }
+    final KeyValueStorageTransaction pruningTransaction = prunerStorage.startTransaction();
     final BlockchainStorage.Updater updater = blockchainStorage.updater();
+    for (long blockNumber = pruningMark; blockNumber < pruneToExclusive; blockNumber++) {
+      LOG.debug("Pruning chain data with block height of " + blockNumber);
+      pruneChainDataAtBlock(updater, pruningTransaction, blockNumber);
+    }
+    prunerStorage.setPruningMark(pruningTransaction, pruneToExclusive);
+    updater.commit();
+    pruningTransaction.commit();
+    return (int) (pruneToExclusive - pruningMark);
+  }
+
+  private long retainedFrom() {
+    return canonicalHead.get() - blocksToRetain;
+  }
+
+  private long blocksBelowRetained() {
+    if (canonicalHead.get() < 0) {
+      return 0;
+    }
+    return prunerStorage
+        .getPruningMark()
+        .map(pruningMark -> Math.max(0, retainedFrom() - pruningMark))
+        .orElse(0L);
+  }
+
+  private void pruneChainDataAtBlock(
+      final BlockchainStorage.Updater updater,
+      final KeyValueStorageTransaction tx,
+      final long blockNumber) {
+    final Collection<Hash> oldForkBlocks = prunerStorage.getForkBlocks(blockNumber);
     for (final Hash toPrune : oldForkBlocks) {
       updater.removeBlockHeader(toPrune);
       updater.removeBlockBody(toPrune);
@@ -105,7 +161,6 @@ public class ChainDataPruner implements BlockAddedObserver {
                       .forEach(t -> updater.removeTransactionLocation(t.getHash())));
     }
     updater.removeBlockHash(blockNumber);
-    updater.commit();
     prunerStorage.removeForkBlocks(tx, blockNumber);
   }
 }
@@ -55,6 +55,7 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
 import io.prometheus.client.guava.cache.CacheMetricsCollector;
+import org.apache.tuweni.bytes.Bytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -332,6 +333,24 @@ public class DefaultBlockchain implements MutableBlockchain {
         .orElseGet(() -> blockchainStorage.getTransactionReceipts(blockHeaderHash));
   }
 
+  @Override
+  public Optional<Bytes> getBlockHeaderRlp(final Hash blockHeaderHash) {
+    return blockchainStorage.getBlockHeaderRlp(blockHeaderHash);
+  }
+
+  @Override
+  public Optional<Bytes> getBlockBodyRlp(final Hash blockHeaderHash) {
+    return blockchainStorage.getBlockBodyRlp(blockHeaderHash);
+  }
+
+  @Override
+  public Optional<Bytes> getTxReceiptsRlp(final Hash blockHeaderHash) {
+    // receipts may be stored with their revert reason, which is not part of the wire encoding
+    return blockchainStorage
+        .getTransactionReceiptsRlp(blockHeaderHash)
+        .map(TransactionReceipt::withoutRevertReasons);
+  }
+
   @Override
   public Optional<Hash> getBlockHashByNumber(final long number) {
     return blockchainStorage.getBlockHash(number);
@@ -0,0 +1,246 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.chain;
+
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs every background pruner (trie logs, chain data) from a single worker, one batch at a time.
+ *
+ * <p>A pruning round starts when a new canonical head is added, which is right after a block has
+ * been imported, and only starts batches during a budget derived from the observed block interval,
+ * leaving the rest of the slot to the import of the next block. Within a round the batch size is
+ * adapted so that a single write batch stays around {@link #TARGET_BATCH_NANOS}: it halves when a
+ * batch runs long and doubles when batches are quick, so pruning backs off when the database is
+ * busy. Whatever does not fit in a round is left for the next one and reported as pruning lag.
+ */
+public class PruningService implements BlockAddedObserver, Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PruningService.class);
+
+  /** Data due for pruning that can be deleted in batches by the {@link PruningService}. */
+  public interface Pruner {
+
+    /**
+     * Gets the name used to label this pruner's metrics.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Gets the number of blocks whose data is due for pruning but not pruned yet.
+     *
+     * @return the pruning lag in blocks
+     */
+    long getPruningLag();
+
+    /**
+     * Prunes the data of at most {@code maxBlocks} blocks, in as few write batches as possible.
+     *
+     * @param maxBlocks the maximum number of blocks to prune
+     * @return the number of blocks pruned, zero when nothing could be pruned
+     */
+    int prune(int maxBlocks);
+  }
+
+  static final int INITIAL_BATCH_SIZE = 64;
+  static final int MAX_BATCH_SIZE = 4096;
+  static final long TARGET_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long DEFAULT_BLOCK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(12);
+  private static final long MIN_ROUND_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+  private static final long MAX_ROUND_BUDGET_NANOS = TimeUnit.SECONDS.toNanos(8);
+  // fraction of the block interval, after an import, during which batches may be started
+  private static final double ROUND_BUDGET_FRACTION = 0.5;
+  private static final double INTERVAL_SMOOTHING = 0.2;
+  private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+  private final Executor executor;
+  private final LongSupplier nanoTime;
+  private final List<Pruner> pruners = new CopyOnWriteArrayList<>();
+  private final AtomicBoolean roundScheduled = new AtomicBoolean(false);
+  private final LabelledMetric<Counter> prunedBlocksCounter;
+  private final LabelledGauge pruningLagGauge;
+
+  private volatile long lastHeadNanos = -1;
+  private volatile long blockIntervalNanos = DEFAULT_BLOCK_INTERVAL_NANOS;
+  private volatile int batchSize = INITIAL_BATCH_SIZE;
+  private volatile boolean closed = false;
+
+  /**
+   * Instantiates a new pruning service.
+   *
+   * @param executor the executor running pruning rounds, expected to be single threaded
+   * @param metricsSystem the metrics system
+   */
+  public PruningService(final Executor executor, final MetricsSystem metricsSystem) {
+    this(executor, metricsSystem, System::nanoTime);
+  }
+
+  @VisibleForTesting
+  PruningService(
+      final Executor executor, final MetricsSystem metricsSystem, final LongSupplier nanoTime) {
+    this.executor = executor;
+    this.nanoTime = nanoTime;
+    this.prunedBlocksCounter =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.PRUNER,
+            "background_pruned_blocks_total",
+            "Number of blocks whose data was pruned by the background pruning service",
+            "pruner");
+    this.pruningLagGauge =
+        metricsSystem.createLabelledGauge(
+            BesuMetricCategory.PRUNER,
+            "background_pruning_lag_blocks",
+            "Number of blocks whose data is due for pruning but not pruned yet",
+            "pruner");
+    metricsSystem.createIntegerGauge(
+        BesuMetricCategory.PRUNER,
+        "background_pruning_batch_size",
+        "Number of blocks currently pruned per write batch",
+        () -> batchSize);
+    metricsSystem.createLongGauge(
+        BesuMetricCategory.PRUNER,
+        "background_pruning_round_budget_milliseconds",
+        "Time after a block import during which pruning batches may start",
+        () -> TimeUnit.NANOSECONDS.toMillis(roundBudgetNanos()));
+  }
+
+  /**
+   * Registers a pruner, run in registration order within each round.
+   *
+   * @param pruner the pruner
+   */
+  public void addPruner(final Pruner pruner) {
+    pruners.add(pruner);
+    pruningLagGauge.labels(pruner::getPruningLag, pruner.getName());
+  }
+
+  @Override
+  public void onBlockAdded(final BlockAddedEvent event) {
+    if (!event.isNewCanonicalHead()) {
+      return;
+    }
+    final long now = nanoTime.getAsLong();
+    final long previousHead = lastHeadNanos;
+    if (previousHead >= 0 && now > previousHead) {
+      blockIntervalNanos =
+          (long)
+              (blockIntervalNanos * (1 - INTERVAL_SMOOTHING)
+                  + (now - previousHead) * INTERVAL_SMOOTHING);
+    }
+    lastHeadNanos = now;
+    requestPruning();
+  }
+
+  /** Schedules a pruning round, unless one is already waiting to run. */
+  public void requestPruning() {
+    if (!closed && roundScheduled.compareAndSet(false, true)) {
+      executor.execute(this::pruneRound);
+    }
+  }
+
+  @VisibleForTesting
+  void pruneRound() {
+    roundScheduled.set(false);
+    final long deadline =
+        (lastHeadNanos >= 0 ? lastHeadNanos : nanoTime.getAsLong()) + roundBudgetNanos();
+    boolean progress = true;
+    while (progress && nanoTime.getAsLong() < deadline) {
+      progress = false;
+      for (final Pruner pruner : pruners) {
+        if (closed || nanoTime.getAsLong() >= deadline) {
+          break;
+        }
+        if (pruner.getPruningLag() > 0 && pruneBatch(pruner) > 0) {
+          progress = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * Stops pruning: no round is started anymore and the running one stops after its current batch,
+   * which is waited for so that the pruned storage can be closed afterwards.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    if (executor instanceof ExecutorService executorService) {
+      executorService.shutdown();
+      try {
+        if (!executorService.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+          LOG.warn("Pruning did not stop within {} seconds", CLOSE_TIMEOUT_SECONDS);
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private int pruneBatch(final Pruner pruner) {
+    final int maxBlocks = batchSize;
+    final long start = nanoTime.getAsLong();
+    final int pruned;
+    try {
+      pruned = pruner.prune(maxBlocks);
+    } catch (final RuntimeException e) {
+      LOG.error("Error running {} pruner", pruner.getName(), e);
+      return 0;
+    }
+    final long elapsed = nanoTime.getAsLong() - start;
+    if (elapsed > TARGET_BATCH_NANOS) {
+      batchSize = Math.max(1, maxBlocks / 2);
+    } else if (pruned == maxBlocks && elapsed < TARGET_BATCH_NANOS / 4) {
+      batchSize = Math.min(MAX_BATCH_SIZE, maxBlocks * 2);
+    }
+    prunedBlocksCounter.labels(pruner.getName()).inc(pruned);
+    LOG.atTrace()
+        .setMessage("{} pruner pruned {} of at most {} blocks in {} ms")
+        .addArgument(pruner::getName)
+        .addArgument(pruned)
+        .addArgument(maxBlocks)
+        .addArgument(() -> TimeUnit.NANOSECONDS.toMillis(elapsed))
+        .log();
+    return pruned;
+  }
+
+  private long roundBudgetNanos() {
+    final long budget = (long) (blockIntervalNanos * ROUND_BUDGET_FRACTION);
+    return Math.max(MIN_ROUND_BUDGET_NANOS, Math.min(MAX_ROUND_BUDGET_NANOS, budget));
+  }
+
+  @VisibleForTesting
+  int getBatchSize() {
+    return batchSize;
+  }
+}
@@ -29,7 +29,8 @@ public interface VariablesStorage {
     FORK_HEADS("forkHeads"),
     FINALIZED_BLOCK_HASH("finalizedBlockHash"),
     SAFE_BLOCK_HASH("safeBlockHash"),
-    SEQ_NO_STORE("local-enr-seqno");
+    SEQ_NO_STORE("local-enr-seqno"),
+    FLAT_DB_HEALING_CHECKPOINT("flatDbHealingCheckpoint");
 
     private final String key;
     private final byte[] byteArray;
@@ -65,6 +66,8 @@ public interface VariablesStorage {
 
   Optional<Bytes> getLocalEnrSeqno();
 
+  Optional<Bytes> getFlatDbHealingCheckpoint();
+
   Updater updater();
 
   interface Updater {
@@ -79,6 +82,10 @@ public interface VariablesStorage {
 
     void setLocalEnrSeqno(Bytes nodeRecord);
 
+    void setFlatDbHealingCheckpoint(Bytes checkpoint);
+
+    void removeFlatDbHealingCheckpoint();
+
     void removeAll();
 
     void commit();
@@ -0,0 +1,173 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.core;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.mainnet.BodyValidation;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPListView;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A lazily decoded block body, as it is stored and sent to peers: [[txs],[ommers],[withdrawals]]
+ * with the withdrawals and deposits lists only present after the forks introducing them.
+ *
+ * <p>Transaction hashes and the roots committed to by the block header are computed from the
+ * encoded bytes, so a body can be matched against its header or summarised without decoding or
+ * encoding again any of its transactions.
+ */
+public class BlockBodyView {
+
+  private static final int TRANSACTIONS = 0;
+  private static final int OMMERS = 1;
+  private static final int WITHDRAWALS = 2;
+  private static final int DEPOSITS = 3;
+
+  private final RLPListView items;
+
+  private BlockBodyView(final RLPListView items) {
+    this.items = items;
+  }
+
+  /**
+   * Creates a view of an encoded block body. An empty list is read as an empty body.
+   *
+   * @param encoded the encoded block body, wrapped in a list
+   * @return a view of the block body
+   */
+  public static BlockBodyView wrap(final Bytes encoded) {
+    return new BlockBodyView(RLPListView.wrap(encoded));
+  }
+
+  /**
+   * Returns the block body this view was created from.
+   *
+   * @return the encoded block body, without any copy
+   */
+  public Bytes encoded() {
+    return items.encoded();
+  }
+
+  public int getTransactionCount() {
+    return list(TRANSACTIONS).map(RLPListView::size).orElse(0);
+  }
+
+  public TransactionView getTransaction(final int index) {
+    return TransactionView.wrap(list(TRANSACTIONS).orElseThrow().raw(index));
+  }
+
+  public List<TransactionView> getTransactions() {
+    return list(TRANSACTIONS).map(list -> map(list, TransactionView::wrap)).orElse(List.of());
+  }
+
+  public List<Hash> getTransactionHashes() {
+    return getTransactions().stream().map(TransactionView::getHash).collect(Collectors.toList());
+  }
+
+  public int getOmmerCount() {
+    return list(OMMERS).map(RLPListView::size).orElse(0);
+  }
+
+  /**
+   * Returns the hashes of the ommers, which are the hashes of their encoding as ommers only exist
+   * with proof of work.
+   *
+   * @return the hashes of the ommers
+   */
+  public List<Hash> getOmmerHashes() {
+    return list(OMMERS).map(list -> map(list, Hash::hash)).orElse(List.of());
+  }
+
+  public List<BlockHeader> getOmmers(final BlockHeaderFunctions blockHeaderFunctions) {
+    return list(OMMERS)
+        .map(
+            list ->
+                map(list, header -> BlockHeader.readFrom(RLP.input(header), blockHeaderFunctions)))
+        .orElse(List.of());
+  }
+
+  public Optional<List<Withdrawal>> getWithdrawals() {
+    return list(WITHDRAWALS).map(list -> map(list, Withdrawal::readFrom));
+  }
+
+  public Optional<List<Deposit>> getDeposits() {
+    return list(DEPOSITS).map(list -> map(list, Deposit::readFrom));
+  }
+
+  public Hash getTransactionsRoot() {
+    return BodyValidation.encodedItemsRoot(
+        getTransactions().stream()
+            .map(TransactionView::getOpaqueBytes)
+            .collect(Collectors.toList()));
+  }
+
+  public Hash getOmmersHash() {
+    return Hash.hash(list(OMMERS).map(RLPListView::encoded).orElse(RLP.EMPTY_LIST));
+  }
+
+  public Optional<Hash> getWithdrawalsRoot() {
+    return list(WITHDRAWALS).map(list -> BodyValidation.encodedItemsRoot(map(list, raw -> raw)));
+  }
+
+  public Optional<Hash> getDepositsRoot() {
+    return list(DEPOSITS).map(list -> BodyValidation.encodedItemsRoot(map(list, raw -> raw)));
+  }
+
+  /**
+   * Returns the size of the encoding of the block made of this body and a header.
+   *
+   * @param encodedHeaderSize the size of the encoded header of the block
+   * @return the size of the encoded block
+   */
+  public int calculateBlockSize(final int encodedHeaderSize) {
+    // a block is the list of the header followed by the items of its body
+    final int payloadSize = encodedHeaderSize + items.payloadSize();
+    return payloadSize + (payloadSize < 56 ? 1 : 1 + Bytes.minimalBytes(payloadSize).size());
+  }
+
+  /**
+   * Decodes the whole block body. Transactions reuse the hash computed from their encoding.
+   *
+   * @param blockHeaderFunctions the block header functions used for decoding ommers
+   * @return the decoded block body
+   */
+  public BlockBody decode(final BlockHeaderFunctions blockHeaderFunctions) {
+    if (items.size() == 0) {
+      return BlockBody.empty();
+    }
+    return new BlockBody(
+        getTransactions().stream().map(TransactionView::decode).collect(Collectors.toList()),
+        getOmmers(blockHeaderFunctions),
+        getWithdrawals(),
+        getDeposits());
+  }
+
+  private Optional<RLPListView> list(final int index) {
+    return index < items.size() ? Optional.of(items.list(index)) : Optional.empty();
+  }
+
+  private static <T> List<T> map(final RLPListView list, final Function<Bytes, T> itemReader) {
+    return IntStream.range(0, list.size())
+        .mapToObj(i -> itemReader.apply(list.raw(i)))
+        .collect(Collectors.toList());
+  }
+}
@@ -51,8 +51,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.primitives.Longs;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -77,9 +75,6 @@ public class Transaction
 
   public static final BigInteger TWO = BigInteger.valueOf(2);
 
-  private static final Cache<Hash, Address> senderCache =
-      CacheBuilder.newBuilder().recordStats().maximumSize(100_000L).build();
-
   private final long nonce;
 
   private final Optional<Wei> gasPrice;
@@ -416,8 +411,7 @@ public class Transaction
   @Override
   public Address getSender() {
     if (sender == null) {
-      Optional<Address> cachedSender = Optional.ofNullable(senderCache.getIfPresent(getHash()));
-      sender = cachedSender.orElseGet(this::computeSender);
+      sender = TransactionSenderCache.getInstance().get(getHash()).orElseGet(this::computeSender);
     }
     return sender;
   }
@@ -431,7 +425,7 @@ public class Transaction
                     new IllegalStateException(
                         "Cannot recover public key from signature for " + this));
     final Address calculatedSender = Address.extract(Hash.hash(publicKey.getEncodedBytes()));
-    senderCache.put(this.hash, calculatedSender);
+    TransactionSenderCache.getInstance().put(getHash(), calculatedSender);
     return calculatedSender;
   }
 
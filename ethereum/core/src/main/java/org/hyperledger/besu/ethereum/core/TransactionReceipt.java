@@ -25,6 +25,7 @@ import org.hyperledger.besu.ethereum.rlp.RLPOutput;
 import org.hyperledger.besu.evm.log.Log;
 import org.hyperledger.besu.evm.log.LogsBloomFilter;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -269,6 +270,73 @@ public class TransactionReceipt implements org.hyperledger.besu.plugin.data.Tran
     }
   }
 
+  /**
+   * Converts an RLP encoded list of receipts written with {@link #writeToWithRevertReason} to the
+   * encoding of {@link #writeTo}, by dropping the revert reasons. The receipt fields, and the logs
+   * in particular, are copied as they are and not decoded.
+   *
+   * @param encodedReceipts the RLP encoded list of transaction receipts
+   * @return the receipts without revert reason, or {@code encodedReceipts} if none had one
+   */
+  public static Bytes withoutRevertReasons(final Bytes encodedReceipts) {
+    final RLPInput input = RLP.input(encodedReceipts);
+    final List<Bytes> receipts = new ArrayList<>();
+    boolean revertReasonDropped = false;
+    input.enterList();
+    while (!input.isEndOfCurrentList()) {
+      final Bytes receipt = input.readAsRlp().raw();
+      final Bytes receiptWithoutRevertReason = withoutRevertReason(receipt);
+      revertReasonDropped |= receiptWithoutRevertReason != receipt;
+      receipts.add(receiptWithoutRevertReason);
+    }
+    input.leaveList();
+    if (!revertReasonDropped) {
+      return encodedReceipts;
+    }
+    return RLP.encode(
+        out -> {
+          out.startList();
+          receipts.forEach(out::writeRaw);
+          out.endList();
+        });
+  }
+
+  private static Bytes withoutRevertReason(final Bytes receipt) {
+    final RLPInput input = RLP.input(receipt);
+    if (input.nextIsList()) {
+      return fieldsWithoutRevertReason(receipt);
+    }
+    // typed receipt: the transaction type followed by the list of fields, wrapped in a string
+    final Bytes typedReceipt = input.readBytes();
+    final Bytes fields = typedReceipt.slice(1);
+    final Bytes fieldsWithoutRevertReason = fieldsWithoutRevertReason(fields);
+    if (fieldsWithoutRevertReason == fields) {
+      return receipt;
+    }
+    return RLP.encodeOne(Bytes.concatenate(typedReceipt.slice(0, 1), fieldsWithoutRevertReason));
+  }
+
+  private static Bytes fieldsWithoutRevertReason(final Bytes fields) {
+    final RLPInput input = RLP.input(fields);
+    input.enterList();
+    // status or state root, cumulative gas used, bloom filter and logs
+    final Bytes[] wireFields = new Bytes[4];
+    for (int i = 0; i < wireFields.length; i++) {
+      wireFields[i] = input.readAsRlp().raw();
+    }
+    if (input.isEndOfCurrentList()) {
+      return fields;
+    }
+    return RLP.encode(
+        out -> {
+          out.startList();
+          for (final Bytes field : wireFields) {
+            out.writeRaw(field);
+          }
+          out.endList();
+        });
+  }
+
   /**
    * Returns the state root for a state root-encoded transaction receipt
    *
@@ -0,0 +1,159 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.core;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+import java.util.Optional;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of the senders recovered from transaction signatures, keyed by transaction hash.
+ *
+ * <p>Transactions decoded again, for example when a block including pooled transactions is
+ * imported, look up their sender here before running the signature recovery. The transaction pool
+ * seeds the cache when it admits a transaction, and sizes it so the senders of all the pooled
+ * transactions fit, see {@link #ensureCapacity(long)}.
+ */
+public class TransactionSenderCache {
+  private static final Logger LOG = LoggerFactory.getLogger(TransactionSenderCache.class);
+
+  public static final long DEFAULT_CAPACITY = 100_000L;
+
+  private static volatile TransactionSenderCache instance =
+      new TransactionSenderCache(DEFAULT_CAPACITY);
+
+  private final Cache<Hash, Address> senders;
+  private final long capacity;
+  private volatile Counter hitCounter = NoOpMetricsSystem.NO_OP_COUNTER;
+  private volatile Counter missCounter = NoOpMetricsSystem.NO_OP_COUNTER;
+
+  TransactionSenderCache(final long capacity) {
+    this.capacity = capacity;
+    this.senders = CacheBuilder.newBuilder().maximumSize(capacity).build();
+  }
+
+  /**
+   * Returns the cache used by all the transactions.
+   *
+   * @return the sender cache
+   */
+  public static TransactionSenderCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Grows the cache used by all the transactions to at least the given capacity, keeping the
+   * senders already cached. The cache never shrinks, so components sharing it can each ask for the
+   * capacity they need.
+   *
+   * @param capacity the minimum number of senders to keep
+   * @return the sender cache
+   */
+  public static synchronized TransactionSenderCache ensureCapacity(final long capacity) {
+    final TransactionSenderCache current = instance;
+    if (capacity > current.capacity) {
+      final TransactionSenderCache resized = new TransactionSenderCache(capacity);
+      resized.senders.putAll(current.senders.asMap());
+      resized.hitCounter = current.hitCounter;
+      resized.missCounter = current.missCounter;
+      instance = resized;
+      LOG.debug("Transaction sender cache capacity set to {}", capacity);
+      return resized;
+    }
+    return current;
+  }
+
+  /**
+   * Registers the metrics of the cache, the metrics follow the cache when it is resized.
+   *
+   * @param metricsSystem the metrics system
+   */
+  public static synchronized void registerMetrics(final MetricsSystem metricsSystem) {
+    final LabelledMetric<Counter> lookups =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.TRANSACTION_POOL,
+            "sender_cache_lookups",
+            "Lookups of transaction senders in the sender cache, by result",
+            "result");
+    final TransactionSenderCache current = instance;
+    current.hitCounter = lookups.labels("hit");
+    current.missCounter = lookups.labels("miss");
+    metricsSystem.createLongGauge(
+        BesuMetricCategory.TRANSACTION_POOL,
+        "sender_cache_size",
+        "Number of transaction senders in the sender cache",
+        () -> instance.senders.size());
+    metricsSystem.createLongGauge(
+        BesuMetricCategory.TRANSACTION_POOL,
+        "sender_cache_capacity",
+        "Maximum number of transaction senders in the sender cache",
+        () -> instance.capacity);
+  }
+
+  /**
+   * Returns the cached sender of a transaction.
+   *
+   * @param transactionHash the transaction hash
+   * @return the sender if cached
+   */
+  public Optional<Address> get(final Hash transactionHash) {
+    final Address sender = senders.getIfPresent(transactionHash);
+    if (sender == null) {
+      missCounter.inc();
+      return Optional.empty();
+    }
+    hitCounter.inc();
+    return Optional.of(sender);
+  }
+
+  /**
+   * Caches the sender of a transaction.
+   *
+   * @param transactionHash the transaction hash
+   * @param sender the sender recovered from the transaction signature
+   */
+  public void put(final Hash transactionHash, final Address sender) {
+    senders.put(transactionHash, sender);
+  }
+
+  /**
+   * Caches the sender of a transaction, recovering it if not done yet. Seeding again a transaction
+   * already cached renews its entry, so it is evicted after the less recently seeded ones.
+   *
+   * @param transaction the transaction
+   */
+  public void seed(final Transaction transaction) {
+    put(transaction.getHash(), transaction.getSender());
+  }
+
+  public long getCapacity() {
+    return capacity;
+  }
+
+  public long size() {
+    return senders.size();
+  }
+}
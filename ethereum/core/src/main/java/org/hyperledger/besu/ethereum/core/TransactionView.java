@@ -0,0 +1,120 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.core;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.TransactionType;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPListView;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A lazily decoded transaction, as it is encoded in a block body.
+ *
+ * <p>The hash and the encoding are taken from the encoded bytes, other fields are only decoded
+ * when read. {@link #decode()} builds the full {@link Transaction}, which then reuses the hash
+ * instead of encoding the transaction again to compute it.
+ */
+public class TransactionView {
+
+  private final Bytes encoded;
+  private final Bytes opaqueBytes;
+  private final TransactionType type;
+  private final RLPListView fields;
+  private volatile Hash hash;
+
+  private TransactionView(
+      final Bytes encoded,
+      final Bytes opaqueBytes,
+      final TransactionType type,
+      final RLPListView fields) {
+    this.encoded = encoded;
+    this.opaqueBytes = opaqueBytes;
+    this.type = type;
+    this.fields = fields;
+  }
+
+  /**
+   * Creates a view of a transaction encoded as in a block body: an RLP list for a frontier
+   * transaction, or an RLP string holding the type and the RLP list for a typed transaction.
+   *
+   * @param encoded the encoded transaction
+   * @return a view of the transaction
+   */
+  public static TransactionView wrap(final Bytes encoded) {
+    if (RLP.input(encoded).nextIsList()) {
+      return new TransactionView(
+          encoded, encoded, TransactionType.FRONTIER, RLPListView.wrap(encoded));
+    }
+    final Bytes opaqueBytes = RLP.decodeOne(encoded);
+    return new TransactionView(
+        encoded,
+        opaqueBytes,
+        TransactionType.of(opaqueBytes.get(0)),
+        RLPListView.wrap(opaqueBytes.slice(1)));
+  }
+
+  /**
+   * Returns the transaction as it is encoded in a block body.
+   *
+   * @return the encoded transaction, without any copy
+   */
+  public Bytes encoded() {
+    return encoded;
+  }
+
+  /**
+   * Returns the transaction as it is stored in the transactions trie, with the type prefixing the
+   * RLP list of a typed transaction.
+   *
+   * @return the opaque bytes of the transaction, without any copy
+   */
+  public Bytes getOpaqueBytes() {
+    return opaqueBytes;
+  }
+
+  public TransactionType getType() {
+    return type;
+  }
+
+  public Hash getHash() {
+    if (hash == null) {
+      hash = Hash.hash(opaqueBytes);
+    }
+    return hash;
+  }
+
+  public int getSize() {
+    return opaqueBytes.size();
+  }
+
+  public long getNonce() {
+    // typed transactions start with the chain id
+    return fields.readLongScalar(type == TransactionType.FRONTIER ? 0 : 1);
+  }
+
+  /**
+   * Decodes every field of the transaction.
+   *
+   * @return the decoded transaction
+   */
+  public Transaction decode() {
+    final Transaction transaction = Transaction.readFrom(encoded);
+    transaction.hash = getHash();
+    transaction.size = getSize();
+    return transaction;
+  }
+}
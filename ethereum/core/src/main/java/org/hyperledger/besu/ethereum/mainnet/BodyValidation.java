@@ -72,6 +72,22 @@ public final class BodyValidation {
     return Hash.wrap(trie.getRootHash());
   }
 
+  /**
+   * Generates the trie root for a list of items already encoded as they are stored in the trie,
+   * such as the opaque bytes of transactions
+   *
+   * @param encodedItems the encoded items
+   * @return the trie root
+   */
+  public static Hash encodedItemsRoot(final List<Bytes> encodedItems) {
+    final MerkleTrie<Bytes, Bytes> trie = trie();
+
+    IntStream.range(0, encodedItems.size())
+        .forEach(i -> trie.put(indexKey(i), encodedItems.get(i)));
+
+    return Hash.wrap(trie.getRootHash());
+  }
+
   /**
    * Generates the withdrawals root for a list of withdrawals
    *
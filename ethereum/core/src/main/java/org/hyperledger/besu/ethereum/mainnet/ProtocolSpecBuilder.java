@@ -163,6 +163,7 @@ public class ProtocolSpecBuilder {
         (precompiledContractConfiguration) -> {
           final PrecompileContractRegistry registry =
               precompileContractRegistryBuilder.apply(precompiledContractConfiguration);
+          evmConfiguration.precompileResultCache().ifPresent(registry::cacheResults);
           if (precompiledContractConfiguration.getPrivacyParameters().isEnabled()) {
             MainnetPrecompiledContractRegistries.appendPrivacy(
                 registry, precompiledContractConfiguration);
@@ -170,8 +170,9 @@ public class WorldStateProofProvider {
 
     // reconstruct a part of the trie with the proof
     final Map<Bytes32, Bytes> proofsEntries = new HashMap<>();
-    for (Bytes proof : proofs) {
-      proofsEntries.put(Hash.hash(proof), proof);
+    final List<Hash> proofHashes = Hash.hashAll(proofs);
+    for (int i = 0; i < proofs.size(); i++) {
+      proofsEntries.put(proofHashes.get(i), proofs.get(i));
     }
 
     if (keys.isEmpty()) {
@@ -46,7 +46,10 @@ public enum KeyValueSegmentIdentifier implements SegmentIdentifier {
   BACKWARD_SYNC_CHAIN(new byte[] {15}),
   SNAPSYNC_MISSING_ACCOUNT_RANGE(new byte[] {16}),
   SNAPSYNC_ACCOUNT_TO_FIX(new byte[] {17}),
-  CHAIN_PRUNER_STATE(new byte[] {18});
+  CHAIN_PRUNER_STATE(new byte[] {18}),
+  SNAPSYNC_PENDING_TASKS(new byte[] {19}),
+  TRACE_STORAGE(new byte[] {20}),
+  ADDRESS_TRANSACTIONS(new byte[] {21});
 
   private final byte[] id;
   private final EnumSet<DataStorageFormat> formats;
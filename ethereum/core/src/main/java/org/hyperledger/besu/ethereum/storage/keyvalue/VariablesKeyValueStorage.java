@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.storage.keyvalue;
 
 import static org.hyperledger.besu.ethereum.chain.VariablesStorage.Keys.CHAIN_HEAD_HASH;
 import static org.hyperledger.besu.ethereum.chain.VariablesStorage.Keys.FINALIZED_BLOCK_HASH;
+import static org.hyperledger.besu.ethereum.chain.VariablesStorage.Keys.FLAT_DB_HEALING_CHECKPOINT;
 import static org.hyperledger.besu.ethereum.chain.VariablesStorage.Keys.FORK_HEADS;
 import static org.hyperledger.besu.ethereum.chain.VariablesStorage.Keys.SAFE_BLOCK_HASH;
 import static org.hyperledger.besu.ethereum.chain.VariablesStorage.Keys.SEQ_NO_STORE;
@@ -67,6 +68,11 @@ public class VariablesKeyValueStorage implements VariablesStorage {
     return getVariable(SEQ_NO_STORE).map(Bytes::wrap);
   }
 
+  @Override
+  public Optional<Bytes> getFlatDbHealingCheckpoint() {
+    return getVariable(FLAT_DB_HEALING_CHECKPOINT);
+  }
+
   @Override
   public Updater updater() {
     return new Updater(variables.startTransaction());
@@ -115,6 +121,16 @@ public class VariablesKeyValueStorage implements VariablesStorage {
       setVariable(SEQ_NO_STORE, nodeRecord);
     }
 
+    @Override
+    public void setFlatDbHealingCheckpoint(final Bytes checkpoint) {
+      setVariable(FLAT_DB_HEALING_CHECKPOINT, checkpoint);
+    }
+
+    @Override
+    public void removeFlatDbHealingCheckpoint() {
+      removeVariable(FLAT_DB_HEALING_CHECKPOINT);
+    }
+
     @Override
     public void removeAll() {
       removeVariable(CHAIN_HEAD_HASH);
@@ -122,6 +138,7 @@ public class VariablesKeyValueStorage implements VariablesStorage {
       removeVariable(SAFE_BLOCK_HASH);
       removeVariable(FORK_HEADS);
       removeVariable(SEQ_NO_STORE);
+      removeVariable(FLAT_DB_HEALING_CHECKPOINT);
     }
 
     @Override
@@ -273,6 +273,10 @@ public class BonsaiWorldStateProvider implements WorldStateArchive {
     return cachedMerkleTrieLoader;
   }
 
+  public BonsaiWorldStateKeyValueStorage getWorldStateKeyValueStorage() {
+    return worldStateKeyValueStorage;
+  }
+
   @Override
   public MutableWorldState getMutable() {
     return persistedState;
@@ -0,0 +1,200 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.trie.bonsai.cache;
+
+import org.hyperledger.besu.datatypes.AccessListEntry;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.StorageSlotKey;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.trie.bonsai.BonsaiWorldStateProvider;
+import org.hyperledger.besu.ethereum.trie.bonsai.storage.BonsaiWorldStateKeyValueStorage;
+import org.hyperledger.besu.ethereum.worldstate.StateTrieAccountValue;
+import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads ahead the state a block is going to touch, while the block is still being validated.
+ *
+ * <p>For every transaction the sender, the recipient, their code and the accounts and storage
+ * slots of the access list are read from the flat database, which fills the RocksDB block cache
+ * for the execution, and the trie nodes leading to them are loaded into the {@link
+ * CachedMerkleTrieLoader}, which the state root computation reads after the execution.
+ */
+public class BlockStateWarmer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BlockStateWarmer.class);
+
+  private final BonsaiWorldStateKeyValueStorage worldStateStorage;
+  private final CachedMerkleTrieLoader cachedMerkleTrieLoader;
+
+  public BlockStateWarmer(
+      final BonsaiWorldStateKeyValueStorage worldStateStorage,
+      final CachedMerkleTrieLoader cachedMerkleTrieLoader) {
+    this.worldStateStorage = worldStateStorage;
+    this.cachedMerkleTrieLoader = cachedMerkleTrieLoader;
+  }
+
+  /**
+   * Creates a warmer for the given world state archive, only Bonsai world states can be warmed.
+   *
+   * @param worldStateArchive the world state archive
+   * @return the warmer, empty if the archive is not a Bonsai one
+   */
+  public static Optional<BlockStateWarmer> create(final WorldStateArchive worldStateArchive) {
+    if (worldStateArchive instanceof BonsaiWorldStateProvider bonsaiWorldStateProvider) {
+      return Optional.of(
+          new BlockStateWarmer(
+              bonsaiWorldStateProvider.getWorldStateKeyValueStorage(),
+              bonsaiWorldStateProvider.getCachedMerkleTrieLoader()));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Starts warming the state of a child of {@code parentHeader}. Warming is only possible when the
+   * parent state is the persisted one, which is the case when the block extends the chain head.
+   *
+   * @param parentHeader the header of the parent of the block to warm
+   * @return the warm-up, empty if the parent state is not the persisted one
+   */
+  public Optional<WarmUp> start(final BlockHeader parentHeader) {
+    final boolean parentStatePersisted =
+        worldStateStorage
+            .getWorldStateRootHash()
+            .map(parentHeader.getStateRoot()::equals)
+            .orElse(false);
+    return parentStatePersisted
+        ? Optional.of(new WarmUp(parentHeader.getStateRoot()))
+        : Optional.empty();
+  }
+
+  /** The warm-up of one block, fed with its transactions from several threads. */
+  public class WarmUp {
+    private final Hash worldStateRootHash;
+    private final Set<Address> warmedAccounts = ConcurrentHashMap.newKeySet();
+    private final Set<StorageSlot> warmedSlots = ConcurrentHashMap.newKeySet();
+    private final LongAdder nanosBeforeExecution = new LongAdder();
+    private volatile boolean stopped = false;
+
+    private WarmUp(final Hash worldStateRootHash) {
+      this.worldStateRootHash = worldStateRootHash;
+    }
+
+    /**
+     * Warms the accounts and storage slots the transaction is known to touch. Recovers the sender
+     * if not done yet.
+     *
+     * @param transaction the transaction
+     */
+    public void warmTransaction(final Transaction transaction) {
+      warmAccount(transaction.getSender());
+      transaction.getTo().ifPresent(this::warmAccount);
+      transaction
+          .getAccessList()
+          .ifPresent(
+              accessList -> {
+                for (final AccessListEntry entry : accessList) {
+                  warmAccount(entry.address());
+                  for (final Bytes32 storageKey : entry.storageKeys()) {
+                    warmSlot(entry.address(), storageKey);
+                  }
+                }
+              });
+    }
+
+    /**
+     * Warms an account and its code.
+     *
+     * @param address the account address
+     */
+    public void warmAccount(final Address address) {
+      if (stopped || !warmedAccounts.add(address)) {
+        return;
+      }
+      final long start = System.nanoTime();
+      try {
+        final Hash accountHash = address.addressHash();
+        worldStateStorage
+            .getAccount(accountHash)
+            .map(account -> StateTrieAccountValue.readFrom(RLP.input(account)).getCodeHash())
+            .ifPresent(codeHash -> worldStateStorage.getCode(codeHash, accountHash));
+        cachedMerkleTrieLoader.cacheAccountNodes(worldStateStorage, worldStateRootHash, address);
+      } catch (final RuntimeException e) {
+        LOG.atTrace().setMessage("Failed to warm account {}").addArgument(address).log();
+      }
+      recordWarmingTime(start);
+    }
+
+    private void warmSlot(final Address address, final Bytes32 storageKey) {
+      final StorageSlotKey slotKey = new StorageSlotKey(UInt256.fromBytes(storageKey));
+      if (stopped || !warmedSlots.add(new StorageSlot(address, slotKey))) {
+        return;
+      }
+      final long start = System.nanoTime();
+      try {
+        worldStateStorage.getStorageValueByStorageSlotKey(address.addressHash(), slotKey);
+        cachedMerkleTrieLoader.cacheStorageNodes(worldStateStorage, address, slotKey);
+      } catch (final RuntimeException e) {
+        LOG.atTrace()
+            .setMessage("Failed to warm slot {} of account {}")
+            .addArgument(storageKey)
+            .addArgument(address)
+            .log();
+      }
+      recordWarmingTime(start);
+    }
+
+    private void recordWarmingTime(final long start) {
+      // reads finishing after the execution started may have been done by the execution itself
+      if (!stopped) {
+        nanosBeforeExecution.add(System.nanoTime() - start);
+      }
+    }
+
+    /**
+     * Stops the warm-up, nothing is warmed after that. Called when the execution starts or when
+     * the payload is rejected before it, stopping an already stopped warm-up has no effect.
+     *
+     * @return the time spent warming state before the execution, summed over all warming threads
+     */
+    public long stop() {
+      stopped = true;
+      return TimeUnit.NANOSECONDS.toMillis(nanosBeforeExecution.sum());
+    }
+
+    public int getWarmedAccountCount() {
+      return warmedAccounts.size();
+    }
+
+    public int getWarmedSlotCount() {
+      return warmedSlots.size();
+    }
+  }
+
+  private record StorageSlot(Address address, StorageSlotKey slotKey) {}
+}
@@ -40,6 +40,7 @@ import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorageTran
 import org.hyperledger.besu.util.Subscribers;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -73,6 +74,8 @@ public class BonsaiWorldStateKeyValueStorage implements WorldStateKeyValueStorag
 
   protected final Subscribers<BonsaiStorageSubscriber> subscribers = Subscribers.create();
 
+  private final Object worldStateCommitLock = new Object();
+
   public BonsaiWorldStateKeyValueStorage(
       final StorageProvider provider,
       final MetricsSystem metricsSystem,
@@ -277,6 +280,45 @@ public class BonsaiWorldStateKeyValueStorage implements WorldStateKeyValueStorag
         flatDbStrategyProvider.getFlatDbStrategy(composedWorldStateStorage));
   }
 
+  @Override
+  public Updater bulkLoadUpdater() {
+    return new Updater(
+        composedWorldStateStorage.startBulkLoad(),
+        trieLogStorage.startTransaction(),
+        flatDbStrategyProvider.getFlatDbStrategy(composedWorldStateStorage));
+  }
+
+  /**
+   * Commits the updater of a world state persist. Persists are serialized with {@link
+   * #commitAtWorldStateRoot(Updater, Bytes32)}.
+   *
+   * @param updater the updater holding the persisted world state
+   */
+  public void commitWorldState(final Updater updater) {
+    synchronized (worldStateCommitLock) {
+      updater.commit();
+    }
+  }
+
+  /**
+   * Commits an updater only if the persisted world state root is still {@code expectedRootHash},
+   * with no world state persist committed between the check and the commit.
+   *
+   * @param updater the updater to commit
+   * @param expectedRootHash the world state root the updater was computed against
+   * @return true if the updater was committed, false if it was rolled back because the root changed
+   */
+  public boolean commitAtWorldStateRoot(final Updater updater, final Bytes32 expectedRootHash) {
+    synchronized (worldStateCommitLock) {
+      if (!getWorldStateRootHash().map(expectedRootHash::equals).orElse(false)) {
+        updater.rollback();
+        return false;
+      }
+      updater.commit();
+      return true;
+    }
+  }
+
   public boolean pruneTrieLog(final Hash blockHash) {
     try {
       return trieLogStorage.tryDelete(blockHash.toArrayUnsafe());
@@ -286,6 +328,27 @@ public class BonsaiWorldStateKeyValueStorage implements WorldStateKeyValueStorag
     }
   }
 
+  /**
+   * Deletes the trie logs of several blocks in a single write batch.
+   *
+   * @param blockHashes the block hashes whose trie logs should be deleted
+   * @return true if the batch was committed, false if it failed and nothing was deleted
+   */
+  public boolean pruneTrieLogs(final Collection<Hash> blockHashes) {
+    if (blockHashes.isEmpty()) {
+      return true;
+    }
+    try {
+      final KeyValueStorageTransaction transaction = trieLogStorage.startTransaction();
+      blockHashes.forEach(blockHash -> transaction.remove(blockHash.toArrayUnsafe()));
+      transaction.commit();
+      return true;
+    } catch (Exception e) {
+      LOG.error("Error pruning {} trie logs", blockHashes.size(), e);
+      return false;
+    }
+  }
+
   public FlatDbStrategy getFlatDbStrategy() {
     return flatDbStrategyProvider.getFlatDbStrategy(composedWorldStateStorage);
   }
@@ -0,0 +1,426 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.trie.bonsai.storage.flat;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.chain.VariablesStorage;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.trie.MerkleTrie;
+import org.hyperledger.besu.ethereum.trie.MerkleTrieException;
+import org.hyperledger.besu.ethereum.trie.bonsai.storage.BonsaiWorldStateKeyValueStorage;
+import org.hyperledger.besu.ethereum.trie.bonsai.storage.BonsaiWorldStateKeyValueStorage.BonsaiStorageSubscriber;
+import org.hyperledger.besu.ethereum.trie.patricia.StoredMerklePatriciaTrie;
+import org.hyperledger.besu.ethereum.worldstate.FlatDbMode;
+import org.hyperledger.besu.ethereum.worldstate.StateTrieAccountValue;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Heals a partial Bonsai flat database online, then upgrades it to {@link FlatDbMode#FULL}.
+ *
+ * <p>The service walks the account trie, and the storage trie of every account, of the persisted
+ * world state in key order, one batch at a time, and reconciles the flat database with the tries:
+ * missing or stale flat entries are written and flat entries that are not in the tries are removed.
+ * Batches are paced to stay under a configured number of checked entries per second. The position
+ * reached is checkpointed in the variables storage after each batch, so healing resumes where it
+ * stopped after a restart. Once the whole key space has been walked the flat database is switched
+ * to full mode, which no longer falls back to the tries on missing entries.
+ *
+ * <p>Blocks keep being imported while healing: a batch is only committed if the persisted world
+ * state root did not change while it was read, and the commit is serialized with world state
+ * persists, otherwise it is dropped and healed again against the new root.
+ */
+public class FlatDbHealingService implements BonsaiStorageSubscriber, Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(FlatDbHealingService.class);
+
+  private static final int BATCH_SIZE = 1_000;
+  private static final long IDLE_DELAY_SECONDS = 30;
+  private static final Bytes32 MAX_KEY =
+      Bytes32.fromHexString("0xffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff");
+
+  private final BonsaiWorldStateKeyValueStorage worldStateStorage;
+  private final VariablesStorage variablesStorage;
+  private final BooleanSupplier canHeal;
+  private final int entriesPerSecond;
+  private final int batchSize;
+  private final Counter checkedEntriesCounter;
+  private final Counter healedEntriesCounter;
+  private final ScheduledExecutorService executor;
+
+  private boolean started = false;
+  private long storageSubscriberId = -1;
+  private volatile Checkpoint checkpoint;
+
+  /**
+   * Instantiates a new flat database healing service.
+   *
+   * @param worldStateStorage the Bonsai world state storage to heal
+   * @param variablesStorage the variables storage holding the healing checkpoint
+   * @param executor the single threaded executor running the healing batches
+   * @param metricsSystem the metrics system
+   * @param canHeal whether healing can run now, typically false while syncing
+   * @param entriesPerSecond the maximum number of accounts and storage slots checked per second
+   */
+  public FlatDbHealingService(
+      final BonsaiWorldStateKeyValueStorage worldStateStorage,
+      final VariablesStorage variablesStorage,
+      final ScheduledExecutorService executor,
+      final MetricsSystem metricsSystem,
+      final BooleanSupplier canHeal,
+      final int entriesPerSecond) {
+    this(
+        worldStateStorage,
+        variablesStorage,
+        executor,
+        metricsSystem,
+        canHeal,
+        entriesPerSecond,
+        BATCH_SIZE);
+  }
+
+  @VisibleForTesting
+  FlatDbHealingService(
+      final BonsaiWorldStateKeyValueStorage worldStateStorage,
+      final VariablesStorage variablesStorage,
+      final ScheduledExecutorService executor,
+      final MetricsSystem metricsSystem,
+      final BooleanSupplier canHeal,
+      final int entriesPerSecond,
+      final int batchSize) {
+    this.worldStateStorage = worldStateStorage;
+    this.variablesStorage = variablesStorage;
+    this.executor = executor;
+    this.canHeal = canHeal;
+    this.entriesPerSecond = entriesPerSecond;
+    this.batchSize = batchSize;
+    this.checkpoint =
+        variablesStorage
+            .getFlatDbHealingCheckpoint()
+            .map(Checkpoint::decode)
+            .orElse(Checkpoint.START);
+    this.checkedEntriesCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.BLOCKCHAIN,
+            "flat_db_healing_checked_entries_total",
+            "Number of accounts and storage slots checked by the flat database healing");
+    this.healedEntriesCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.BLOCKCHAIN,
+            "flat_db_healing_healed_entries_total",
+            "Number of flat database entries written or removed by the flat database healing");
+    metricsSystem.createGauge(
+        BesuMetricCategory.BLOCKCHAIN,
+        "flat_db_healing_coverage_percent",
+        "Percentage of the account key space covered by the flat database healing",
+        this::getCoveragePercent);
+  }
+
+  /** Starts healing in the background, unless the flat database is already in full mode. */
+  public synchronized void start() {
+    if (started || executor.isShutdown() || isFullFlatDb()) {
+      return;
+    }
+    started = true;
+    storageSubscriberId = worldStateStorage.subscribe(this);
+    LOG.info(
+        "Starting flat database healing at {}% of the account key space",
+        String.format("%.2f", getCoveragePercent()));
+    executor.schedule(this::runBatch, IDLE_DELAY_SECONDS, TimeUnit.SECONDS);
+  }
+
+  @Override
+  public synchronized void close() {
+    executor.shutdownNow();
+    if (started) {
+      started = false;
+      worldStateStorage.unSubscribe(storageSubscriberId);
+    }
+  }
+
+  private void runBatch() {
+    long delayNanos = TimeUnit.SECONDS.toNanos(IDLE_DELAY_SECONDS);
+    try {
+      if (isFullFlatDb()) {
+        close();
+        return;
+      }
+      if (canHeal.getAsBoolean()) {
+        final long start = System.nanoTime();
+        final int checked = healNextBatch();
+        if (checked > 0) {
+          final long budgetNanos = TimeUnit.SECONDS.toNanos(checked) / entriesPerSecond;
+          delayNanos = Math.max(0, budgetNanos - (System.nanoTime() - start));
+        }
+      }
+    } catch (final MerkleTrieException e) {
+      // trie nodes of the root being read were replaced by a block import, retry on the new root
+      LOG.atDebug().setMessage("Flat database healing batch interrupted: {}").addArgument(e).log();
+      delayNanos = 0;
+    } catch (final RuntimeException e) {
+      LOG.warn("Flat database healing batch failed, retrying later", e);
+    }
+    synchronized (this) {
+      if (started && !isFullFlatDb()) {
+        executor.schedule(this::runBatch, delayNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  /**
+   * Heals the next batch of flat database entries and moves the checkpoint, upgrading to full flat
+   * database mode once the whole key space is covered.
+   *
+   * @return the number of accounts and storage slots checked
+   */
+  @VisibleForTesting
+  synchronized int healNextBatch() {
+    final Optional<Bytes32> maybeRootHash =
+        worldStateStorage.getWorldStateRootHash().map(Bytes32::wrap);
+    if (maybeRootHash.isEmpty() || isFullFlatDb()) {
+      return 0;
+    }
+    final Bytes32 rootHash = maybeRootHash.get();
+    final MerkleTrie<Bytes, Bytes> accountTrie =
+        new StoredMerklePatriciaTrie<>(
+            worldStateStorage::getAccountStateTrieNode,
+            rootHash,
+            Function.identity(),
+            Function.identity());
+    final BonsaiWorldStateKeyValueStorage.Updater updater = worldStateStorage.updater();
+
+    Checkpoint next = checkpoint;
+    int checked = 0;
+    int healed = 0;
+    while (!next.isComplete() && checked < batchSize) {
+      final RangeHealing range;
+      if (next.slot().isPresent()) {
+        range =
+            healStorageRange(
+                updater, accountTrie, next.account(), next.slot().get(), batchSize - checked);
+      } else {
+        range = healAccountRange(updater, accountTrie, next.account(), batchSize - checked);
+      }
+      checked += range.checked();
+      healed += range.healed();
+      next = range.next();
+    }
+
+    if (!worldStateStorage.commitAtWorldStateRoot(updater, rootHash)) {
+      // a block was imported while reading, heal this batch again against the new root
+      return checked;
+    }
+
+    checkedEntriesCounter.inc(checked);
+    healedEntriesCounter.inc(healed);
+    checkpoint = next;
+    final VariablesStorage.Updater variablesUpdater = variablesStorage.updater();
+    if (next.isComplete()) {
+      variablesUpdater.removeFlatDbHealingCheckpoint();
+      variablesUpdater.commit();
+      worldStateStorage.upgradeToFullFlatDbMode();
+      LOG.info("Flat database healing complete, switched to full flat database mode");
+    } else {
+      variablesUpdater.setFlatDbHealingCheckpoint(next.encode());
+      variablesUpdater.commit();
+    }
+    return checked;
+  }
+
+  /**
+   * Heals the flat accounts from {@code startAccount}, stopping after the first account that has
+   * storage so that its storage is healed next.
+   */
+  private RangeHealing healAccountRange(
+      final BonsaiWorldStateKeyValueStorage.Updater updater,
+      final MerkleTrie<Bytes, Bytes> accountTrie,
+      final Bytes32 startAccount,
+      final int limit) {
+    final NavigableMap<Bytes32, Bytes> trieAccounts =
+        new TreeMap<>(accountTrie.entriesFrom(startAccount, limit));
+
+    Bytes32 endAccount = trieAccounts.size() < limit ? MAX_KEY : trieAccounts.lastKey();
+    Checkpoint next = Checkpoint.after(endAccount);
+    for (final Map.Entry<Bytes32, Bytes> account : trieAccounts.entrySet()) {
+      if (!storageRoot(account.getValue()).equals(Hash.EMPTY_TRIE_HASH)) {
+        endAccount = account.getKey();
+        next = new Checkpoint(endAccount, Optional.of(Bytes32.ZERO));
+        break;
+      }
+    }
+    final NavigableMap<Bytes32, Bytes> healedAccounts = trieAccounts.headMap(endAccount, true);
+
+    final Map<Bytes32, Bytes> flatAccounts =
+        new TreeMap<>(
+            worldStateStorage.streamFlatAccounts(startAccount, endAccount, Long.MAX_VALUE));
+    int healed = 0;
+    for (final Map.Entry<Bytes32, Bytes> account : healedAccounts.entrySet()) {
+      if (!account.getValue().equals(flatAccounts.remove(account.getKey()))) {
+        updater.putAccountInfoState(Hash.wrap(account.getKey()), account.getValue());
+        healed++;
+      }
+    }
+    for (final Bytes32 staleAccount : flatAccounts.keySet()) {
+      updater.removeAccountInfoState(Hash.wrap(staleAccount));
+      healed++;
+    }
+    return new RangeHealing(healedAccounts.size(), healed, next);
+  }
+
+  /** Heals the flat storage of {@code account} from {@code startSlot}. */
+  private RangeHealing healStorageRange(
+      final BonsaiWorldStateKeyValueStorage.Updater updater,
+      final MerkleTrie<Bytes, Bytes> accountTrie,
+      final Bytes32 account,
+      final Bytes32 startSlot,
+      final int limit) {
+    final Hash accountHash = Hash.wrap(account);
+    final Bytes32 storageRoot =
+        accountTrie.get(accountHash).map(this::storageRoot).orElse(Hash.EMPTY_TRIE_HASH);
+    final MerkleTrie<Bytes, Bytes> storageTrie =
+        new StoredMerklePatriciaTrie<>(
+            (location, hash) ->
+                worldStateStorage.getAccountStorageTrieNode(accountHash, location, hash),
+            storageRoot,
+            Function.identity(),
+            Function.identity());
+    final NavigableMap<Bytes32, Bytes> trieSlots =
+        new TreeMap<>(storageTrie.entriesFrom(startSlot, limit));
+
+    final Bytes32 endSlot;
+    final Checkpoint next;
+    if (trieSlots.size() < limit) {
+      endSlot = MAX_KEY;
+      next = Checkpoint.after(account);
+    } else {
+      endSlot = trieSlots.lastKey();
+      next =
+          endSlot.equals(MAX_KEY)
+              ? Checkpoint.after(account)
+              : new Checkpoint(account, Optional.of(increment(endSlot)));
+    }
+
+    final Map<Bytes32, Bytes> flatSlots =
+        new TreeMap<>(
+            worldStateStorage.streamFlatStorages(accountHash, startSlot, endSlot, Long.MAX_VALUE));
+    int healed = 0;
+    for (final Map.Entry<Bytes32, Bytes> slot : trieSlots.entrySet()) {
+      if (!slot.getValue().equals(flatSlots.remove(slot.getKey()))) {
+        updater.putStorageValueBySlotHash(
+            accountHash,
+            Hash.wrap(slot.getKey()),
+            Bytes32.leftPad(RLP.decodeValue(slot.getValue())));
+        healed++;
+      }
+    }
+    for (final Bytes32 staleSlot : flatSlots.keySet()) {
+      updater.removeStorageValueBySlotHash(accountHash, Hash.wrap(staleSlot));
+      healed++;
+    }
+    return new RangeHealing(trieSlots.size(), healed, next);
+  }
+
+  private Hash storageRoot(final Bytes accountValue) {
+    return StateTrieAccountValue.readFrom(RLP.input(accountValue)).getStorageRoot();
+  }
+
+  private boolean isFullFlatDb() {
+    return worldStateStorage.getFlatDbMode() == FlatDbMode.FULL;
+  }
+
+  /**
+   * Gets the share of the account key space already healed. Account hashes are uniformly
+   * distributed, so this is a good estimate of the share of accounts healed.
+   *
+   * @return the coverage percentage
+   */
+  public double getCoveragePercent() {
+    if (isFullFlatDb() || checkpoint.isComplete()) {
+      return 100.0;
+    }
+    final double position = checkpoint.account().toUnsignedBigInteger().doubleValue();
+    return 100.0 * position / MAX_KEY.toUnsignedBigInteger().doubleValue();
+  }
+
+  @Override
+  public synchronized void onClearFlatDatabaseStorage() {
+    // the flat database is rebuilt by a resync, start over from an empty checkpoint
+    checkpoint = Checkpoint.START;
+    final VariablesStorage.Updater variablesUpdater = variablesStorage.updater();
+    variablesUpdater.removeFlatDbHealingCheckpoint();
+    variablesUpdater.commit();
+  }
+
+  @Override
+  public void onClearStorage() {
+    onClearFlatDatabaseStorage();
+  }
+
+  private static Bytes32 increment(final Bytes32 key) {
+    return UInt256.fromBytes(key).add(1);
+  }
+
+  private record RangeHealing(int checked, int healed, Checkpoint next) {}
+
+  /**
+   * The next account to heal and, while the storage of that account is being healed, the next
+   * storage slot. A null account marks the end of the key space.
+   */
+  @VisibleForTesting
+  record Checkpoint(Bytes32 account, Optional<Bytes32> slot) {
+    static final Checkpoint START = new Checkpoint(Bytes32.ZERO, Optional.empty());
+    private static final Checkpoint COMPLETE = new Checkpoint(null, Optional.empty());
+
+    static Checkpoint after(final Bytes32 account) {
+      return account.equals(MAX_KEY)
+          ? COMPLETE
+          : new Checkpoint(increment(account), Optional.empty());
+    }
+
+    boolean isComplete() {
+      return account == null;
+    }
+
+    Bytes encode() {
+      return slot.map(s -> Bytes.concatenate(account, s)).orElse(account);
+    }
+
+    static Checkpoint decode(final Bytes encoded) {
+      return new Checkpoint(
+          Bytes32.wrap(encoded, 0),
+          encoded.size() > Bytes32.SIZE
+              ? Optional.of(Bytes32.wrap(encoded, Bytes32.SIZE))
+              : Optional.empty());
+    }
+  }
+}
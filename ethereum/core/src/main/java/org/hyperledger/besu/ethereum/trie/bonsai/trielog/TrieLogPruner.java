@@ -17,15 +17,20 @@ package org.hyperledger.besu.ethereum.trie.bonsai.trielog;
 
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.chain.PruningService;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.ProcessableBlockHeader;
 import org.hyperledger.besu.ethereum.trie.bonsai.storage.BonsaiWorldStateKeyValueStorage;
 import org.hyperledger.besu.plugin.services.trielogs.TrieLogEvent;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.common.collect.ArrayListMultimap;
@@ -35,7 +40,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class TrieLogPruner implements TrieLogEvent.TrieLogObserver {
+public class TrieLogPruner implements TrieLogEvent.TrieLogObserver, PruningService.Pruner {
 
   private static final Logger LOG = LoggerFactory.getLogger(TrieLogPruner.class);
 
@@ -43,23 +48,20 @@ public class TrieLogPruner implements TrieLogEvent.TrieLogObserver {
   private final int loadingLimit;
   private final BonsaiWorldStateKeyValueStorage rootWorldStateStorage;
   private final Blockchain blockchain;
-  private final Consumer<Runnable> executeAsync;
   private final long numBlocksToRetain;
   private final boolean requireFinalizedBlock;
 
-  private final Multimap<Long, Hash> trieLogBlocksAndForksByDescendingBlockNumber =
+  private final TreeMultimap<Long, Hash> trieLogBlocksAndForksByDescendingBlockNumber =
       TreeMultimap.create(Comparator.reverseOrder(), Comparator.naturalOrder());
 
   public TrieLogPruner(
       final BonsaiWorldStateKeyValueStorage rootWorldStateStorage,
       final Blockchain blockchain,
-      final Consumer<Runnable> executeAsync,
       final long numBlocksToRetain,
       final int pruningLimit,
       final boolean requireFinalizedBlock) {
     this.rootWorldStateStorage = rootWorldStateStorage;
     this.blockchain = blockchain;
-    this.executeAsync = executeAsync;
     this.numBlocksToRetain = numBlocksToRetain;
     this.pruningLimit = pruningLimit;
     this.loadingLimit = pruningLimit; // same as pruningLimit for now
@@ -77,7 +79,7 @@ public class TrieLogPruner implements TrieLogEvent.TrieLogObserver {
         .log();
     try (final Stream<byte[]> trieLogKeys = rootWorldStateStorage.streamTrieLogKeys(loadingLimit)) {
       final AtomicLong count = new AtomicLong();
-      final AtomicLong orphansPruned = new AtomicLong();
+      final List<Hash> orphans = new ArrayList<>();
       trieLogKeys.forEach(
           blockHashAsBytes -> {
             final Hash blockHash = Hash.wrap(Bytes32.wrap(blockHashAsBytes));
@@ -87,20 +89,20 @@ public class TrieLogPruner implements TrieLogEvent.TrieLogObserver {
               count.getAndIncrement();
             } else {
               // prune orphaned blocks (sometimes created during block production)
-              rootWorldStateStorage.pruneTrieLog(blockHash);
-              orphansPruned.getAndIncrement();
+              orphans.add(blockHash);
             }
           });
-      LOG.atDebug().log("Pruned {} orphaned trie logs from database...", orphansPruned.intValue());
+      final int orphansPruned = rootWorldStateStorage.pruneTrieLogs(orphans) ? orphans.size() : 0;
+      LOG.atDebug().log("Pruned {} orphaned trie logs from database...", orphansPruned);
       LOG.atInfo().log("Loaded {} trie logs from database", count);
-      return pruneFromQueue() + orphansPruned.intValue();
+      return pruneFromQueue() + orphansPruned;
     } catch (Exception e) {
       LOG.error("Error loading trie logs from database, nothing pruned", e);
       return 0;
     }
   }
 
-  void addToPruneQueue(final long blockNumber, final Hash blockHash) {
+  synchronized void addToPruneQueue(final long blockNumber, final Hash blockHash) {
     LOG.atTrace()
         .setMessage("adding trie log to queue for later pruning blockNumber {}; blockHash {}")
         .addArgument(blockNumber)
@@ -110,19 +112,65 @@ public class TrieLogPruner implements TrieLogEvent.TrieLogObserver {
   }
 
   int pruneFromQueue() {
-    final long retainAboveThisBlock = blockchain.getChainHeadBlockNumber() - numBlocksToRetain;
-    final Optional<Hash> finalized = blockchain.getFinalized();
-    if (requireFinalizedBlock && finalized.isEmpty()) {
-      LOG.debug("No finalized block present, skipping pruning");
-      return 0;
+    return pruneWindow(pruningLimit).size();
+  }
+
+  /**
+   * Prunes the trie logs of at most {@code limit} block numbers, starting below the retained and
+   * finalized blocks. All trie logs of the window, forks included, are deleted in one batch.
+   *
+   * @param limit the maximum number of block numbers to prune
+   * @return the pruned trie logs by block number
+   */
+  private synchronized Multimap<Long, Hash> pruneWindow(final int limit) {
+    final Multimap<Long, Hash> wasPruned = ArrayListMultimap.create();
+    final Optional<Long> maybeRetainAbove = retainAboveThisBlockOrFinalized();
+    if (maybeRetainAbove.isEmpty()) {
+      return wasPruned;
     }
+    final long retainAboveThisBlockOrFinalized = maybeRetainAbove.get();
 
-    final long retainAboveThisBlockOrFinalized =
-        finalized
-            .flatMap(blockchain::getBlockHeader)
-            .map(ProcessableBlockHeader::getNumber)
-            .map(finalizedBlock -> Math.min(finalizedBlock, retainAboveThisBlock))
-            .orElse(retainAboveThisBlock);
+    final List<Map.Entry<Long, Collection<Hash>>> pruneWindowEntries =
+        trieLogBlocksAndForksByDescendingBlockNumber.asMap().entrySet().stream()
+            .dropWhile((e) -> e.getKey() > retainAboveThisBlockOrFinalized)
+            .limit(limit)
+            .collect(Collectors.toList());
+    final List<Hash> blockHashes =
+        pruneWindowEntries.stream()
+            .flatMap(e -> e.getValue().stream())
+            .collect(Collectors.toList());
+    if (blockHashes.isEmpty()) {
+      return wasPruned;
+    }
+
+    if (rootWorldStateStorage.pruneTrieLogs(blockHashes)) {
+      pruneWindowEntries.forEach(e -> wasPruned.putAll(e.getKey(), e.getValue()));
+    }
+
+    wasPruned.keySet().forEach(trieLogBlocksAndForksByDescendingBlockNumber::removeAll);
+
+    LOG.atTrace()
+        .setMessage("pruned {} trie logs for blocks {}")
+        .addArgument(wasPruned::size)
+        .addArgument(wasPruned)
+        .log();
+    LOG.atDebug()
+        .setMessage("pruned {} trie logs from {} blocks")
+        .addArgument(wasPruned::size)
+        .addArgument(() -> wasPruned.keySet().size())
+        .log();
+
+    return wasPruned;
+  }
+
+  private Optional<Long> retainAboveThisBlockOrFinalized() {
+    final Optional<Long> maybeRetainAbove = computeRetainAboveThisBlockOrFinalized();
+    if (maybeRetainAbove.isEmpty()) {
+      LOG.debug("No finalized block present, skipping pruning");
+      return maybeRetainAbove;
+    }
+    final long retainAboveThisBlock = blockchain.getChainHeadBlockNumber() - numBlocksToRetain;
+    final long retainAboveThisBlockOrFinalized = maybeRetainAbove.get();
 
     LOG.atTrace()
         .setMessage(
@@ -132,43 +180,53 @@ public class TrieLogPruner implements TrieLogEvent.TrieLogObserver {
         .addArgument(retainAboveThisBlock)
         .addArgument(
             () ->
-                finalized
+                blockchain
+                    .getFinalized()
                     .flatMap(blockchain::getBlockHeader)
                     .map(ProcessableBlockHeader::getNumber)
                     .orElse(null))
         .addArgument(retainAboveThisBlockOrFinalized)
         .log();
+    return maybeRetainAbove;
+  }
 
-    final var pruneWindowEntries =
-        trieLogBlocksAndForksByDescendingBlockNumber.asMap().entrySet().stream()
-            .dropWhile((e) -> e.getKey() > retainAboveThisBlockOrFinalized)
-            .limit(pruningLimit);
-
-    final Multimap<Long, Hash> wasPruned = ArrayListMultimap.create();
-
-    pruneWindowEntries.forEach(
-        (e) -> {
-          for (Hash blockHash : e.getValue()) {
-            if (rootWorldStateStorage.pruneTrieLog(blockHash)) {
-              wasPruned.put(e.getKey(), blockHash);
-            }
-          }
-        });
+  // no logging here, the pruning lag gauge calls it on every metrics scrape
+  private Optional<Long> computeRetainAboveThisBlockOrFinalized() {
+    final long retainAboveThisBlock = blockchain.getChainHeadBlockNumber() - numBlocksToRetain;
+    final Optional<Hash> finalized = blockchain.getFinalized();
+    if (requireFinalizedBlock && finalized.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        finalized
+            .flatMap(blockchain::getBlockHeader)
+            .map(ProcessableBlockHeader::getNumber)
+            .map(finalizedBlock -> Math.min(finalizedBlock, retainAboveThisBlock))
+            .orElse(retainAboveThisBlock));
+  }
 
-    wasPruned.keySet().forEach(trieLogBlocksAndForksByDescendingBlockNumber::removeAll);
+  @Override
+  public String getName() {
+    return "trie_log";
+  }
 
-    LOG.atTrace()
-        .setMessage("pruned {} trie logs for blocks {}")
-        .addArgument(wasPruned::size)
-        .addArgument(wasPruned)
-        .log();
-    LOG.atDebug()
-        .setMessage("pruned {} trie logs from {} blocks")
-        .addArgument(wasPruned::size)
-        .addArgument(() -> wasPruned.keySet().size())
-        .log();
+  @Override
+  public synchronized long getPruningLag() {
+    // block numbers are in descending order, so the tail holds the ones at or below retainAbove
+    return computeRetainAboveThisBlockOrFinalized()
+        .map(
+            retainAbove ->
+                (long)
+                    trieLogBlocksAndForksByDescendingBlockNumber
+                        .keySet()
+                        .tailSet(retainAbove, true)
+                        .size())
+        .orElse(0L);
+  }
 
-    return wasPruned.size();
+  @Override
+  public int prune(final int maxBlocks) {
+    return pruneWindow(maxBlocks).keySet().size();
   }
 
   @Override
@@ -176,13 +234,7 @@ public class TrieLogPruner implements TrieLogEvent.TrieLogObserver {
     if (TrieLogEvent.Type.ADDED.equals(event.getType())) {
       final Hash blockHash = event.layer().getBlockHash();
       final Optional<Long> blockNumber = event.layer().getBlockNumber();
-      blockNumber.ifPresent(
-          blockNum ->
-              executeAsync.accept(
-                  () -> {
-                    addToPruneQueue(blockNum, blockHash);
-                    pruneFromQueue();
-                  }));
+      blockNumber.ifPresent(blockNum -> addToPruneQueue(blockNum, blockHash));
     }
   }
 }
@@ -461,7 +461,7 @@ public class BonsaiWorldState
       success = true;
     } finally {
       if (success) {
-        stateUpdater.commit();
+        worldStateKeyValueStorage.commitWorldState(stateUpdater);
         accumulator.reset();
         saveTrieLog.run();
       } else {
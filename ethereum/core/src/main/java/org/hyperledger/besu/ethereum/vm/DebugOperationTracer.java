@@ -264,4 +264,14 @@ public class DebugOperationTracer implements OperationTracer {
   public List<TraceFrame> copyTraceFrames() {
     return new ArrayList<>(traceFrames);
   }
+
+  /**
+   * Creates a tracer with the same options as this one and no recorded frames, to trace another
+   * transaction concurrently.
+   *
+   * @return the new tracer
+   */
+  public DebugOperationTracer newInstance() {
+    return new DebugOperationTracer(options, recordChildCallGas);
+  }
 }
@@ -62,6 +62,8 @@ public interface DataStorageConfiguration {
     long MINIMUM_BONSAI_TRIE_LOG_RETENTION_LIMIT = DEFAULT_BONSAI_MAX_LAYERS_TO_LOAD;
     int DEFAULT_BONSAI_TRIE_LOG_PRUNING_WINDOW_SIZE = 30_000;
     boolean DEFAULT_BONSAI_CODE_USING_CODE_HASH_ENABLED = false;
+    boolean DEFAULT_BONSAI_FLAT_DB_HEALING_ENABLED = false;
+    int DEFAULT_BONSAI_FLAT_DB_HEALING_ENTRIES_PER_SECOND = 10_000;
 
     DataStorageConfiguration.Unstable DEFAULT =
         ImmutableDataStorageConfiguration.Unstable.builder().build();
@@ -80,5 +82,15 @@ public interface DataStorageConfiguration {
     default boolean getBonsaiCodeStoredByCodeHashEnabled() {
       return DEFAULT_BONSAI_CODE_USING_CODE_HASH_ENABLED;
     }
+
+    @Value.Default
+    default boolean getBonsaiFlatDbHealingEnabled() {
+      return DEFAULT_BONSAI_FLAT_DB_HEALING_ENABLED;
+    }
+
+    @Value.Default
+    default int getBonsaiFlatDbHealingEntriesPerSecond() {
+      return DEFAULT_BONSAI_FLAT_DB_HEALING_ENTRIES_PER_SECOND;
+    }
   }
 }
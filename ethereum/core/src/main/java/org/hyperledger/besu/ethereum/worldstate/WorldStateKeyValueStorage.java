@@ -26,6 +26,16 @@ public interface WorldStateKeyValueStorage {
 
   Updater updater();
 
+  /**
+   * Returns an updater suited to writing a large amount of data at once, such as the ranges
+   * downloaded by snap sync. Its commit may not be atomic. By default this is a regular updater.
+   *
+   * @return an updater for bulk writes
+   */
+  default Updater bulkLoadUpdater() {
+    return updater();
+  }
+
   void clear();
 
   interface NodesAddedListener {
@@ -145,6 +145,10 @@ public class WorldStateStorageCoordinator {
     return worldStateKeyValueStorage().updater();
   }
 
+  public WorldStateKeyValueStorage.Updater bulkLoadUpdater() {
+    return worldStateKeyValueStorage().bulkLoadUpdater();
+  }
+
   public void clear() {
     worldStateKeyValueStorage.clear();
   }
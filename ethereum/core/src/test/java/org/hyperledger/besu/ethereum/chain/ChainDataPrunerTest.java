@@ -47,13 +47,16 @@ public class ChainDataPrunerTest {
             blockchainStorage,
             new ChainDataPrunerStorage(new InMemoryKeyValueStorage()),
             512,
-            0,
-            new BlockingExecutor());
+            0);
+    final PruningService pruningService =
+        new PruningService(new BlockingExecutor(), new NoOpMetricsSystem());
+    pruningService.addPruner(chainDataPruner);
     Block genesisBlock = gen.genesisBlock();
     final MutableBlockchain blockchain =
         DefaultBlockchain.createMutable(
             genesisBlock, blockchainStorage, new NoOpMetricsSystem(), 0);
     blockchain.observeBlockAdded(chainDataPruner);
+    blockchain.observeBlockAdded(pruningService);
 
     // Generate & Import 1000 blocks
     gen.blockSequence(genesisBlock, 1000)
@@ -61,13 +64,13 @@ public class ChainDataPrunerTest {
             blk -> {
               blockchain.appendBlock(blk, gen.receipts(blk));
               long number = blk.getHeader().getNumber();
-              if (number <= 512) {
+              if (number <= 513) {
                 // No prune happened
                 assertThat(blockchain.getBlockHeader(1)).isPresent();
               } else {
-                // Prune number - 512 only
-                assertThat(blockchain.getBlockHeader(number - 512)).isEmpty();
-                assertThat(blockchain.getBlockHeader(number - 511)).isPresent();
+                // Prune below number - 512 only
+                assertThat(blockchain.getBlockHeader(number - 513)).isEmpty();
+                assertThat(blockchain.getBlockHeader(number - 512)).isPresent();
               }
             });
   }
@@ -85,35 +88,38 @@ public class ChainDataPrunerTest {
             blockchainStorage,
             new ChainDataPrunerStorage(new InMemoryKeyValueStorage()),
             512,
-            0,
-            new BlockingExecutor());
+            0);
+    final PruningService pruningService =
+        new PruningService(new BlockingExecutor(), new NoOpMetricsSystem());
+    pruningService.addPruner(chainDataPruner);
     Block genesisBlock = gen.genesisBlock();
     final MutableBlockchain blockchain =
         DefaultBlockchain.createMutable(
             genesisBlock, blockchainStorage, new NoOpMetricsSystem(), 0);
     blockchain.observeBlockAdded(chainDataPruner);
+    blockchain.observeBlockAdded(pruningService);
 
     List<Block> canonicalChain = gen.blockSequence(genesisBlock, 1000);
     List<Block> forkChain = gen.blockSequence(genesisBlock, 16);
     for (Block blk : forkChain) {
       blockchain.storeBlock(blk, gen.receipts(blk));
     }
-    for (int i = 0; i < 512; i++) {
+    for (int i = 0; i < 513; i++) {
       Block blk = canonicalChain.get(i);
       blockchain.appendBlock(blk, gen.receipts(blk));
     }
     // No prune happened
     assertThat(blockchain.getBlockByHash(canonicalChain.get(0).getHash())).isPresent();
     assertThat(blockchain.getBlockByHash(forkChain.get(0).getHash())).isPresent();
-    for (int i = 512; i < 527; i++) {
+    for (int i = 513; i < 528; i++) {
       final int index = i;
       Block blk = canonicalChain.get(i);
       blockchain.appendBlock(blk, gen.receipts(blk));
-      // Prune block on canonical chain and fork for i - 512 only
-      assertThat(blockchain.getBlockByHash(canonicalChain.get(index - 512).getHash())).isEmpty();
-      assertThat(blockchain.getBlockByHash(canonicalChain.get(i - 511).getHash())).isPresent();
-      assertThat(blockchain.getBlockByHash(canonicalChain.get(index - 512).getHash())).isEmpty();
-      assertThat(blockchain.getBlockByHash(forkChain.get(i - 511).getHash())).isPresent();
+      // Prune block on canonical chain and fork for i - 513 only
+      assertThat(blockchain.getBlockByHash(canonicalChain.get(index - 513).getHash())).isEmpty();
+      assertThat(blockchain.getBlockByHash(canonicalChain.get(i - 512).getHash())).isPresent();
+      assertThat(blockchain.getBlockByHash(forkChain.get(index - 513).getHash())).isEmpty();
+      assertThat(blockchain.getBlockByHash(forkChain.get(i - 512).getHash())).isPresent();
     }
   }
 
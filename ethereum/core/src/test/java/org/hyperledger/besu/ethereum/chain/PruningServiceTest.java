@@ -0,0 +1,198 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.chain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hyperledger.besu.ethereum.chain.PruningService.INITIAL_BATCH_SIZE;
+import static org.hyperledger.besu.ethereum.chain.PruningService.MAX_BATCH_SIZE;
+import static org.hyperledger.besu.ethereum.chain.PruningService.TARGET_BATCH_NANOS;
+
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PruningServiceTest {
+
+  private final AtomicLong clock = new AtomicLong(0);
+  private final List<Runnable> scheduledRounds = new ArrayList<>();
+  private PruningService pruningService;
+
+  @BeforeEach
+  public void setup() {
+    pruningService =
+        new PruningService(scheduledRounds::add, new NoOpMetricsSystem(), clock::get);
+  }
+
+  @Test
+  public void roundsAreCoalescedUntilTheyRun() {
+    pruningService.requestPruning();
+    pruningService.requestPruning();
+    assertThat(scheduledRounds).hasSize(1);
+
+    scheduledRounds.remove(0).run();
+    pruningService.requestPruning();
+    assertThat(scheduledRounds).hasSize(1);
+  }
+
+  @Test
+  public void onlyCanonicalHeadsStartRounds() {
+    final BlockDataGenerator gen = new BlockDataGenerator();
+    final Block block = gen.block();
+
+    pruningService.onBlockAdded(BlockAddedEvent.createForStoredOnly(block));
+    assertThat(scheduledRounds).isEmpty();
+
+    pruningService.onBlockAdded(
+        BlockAddedEvent.createForHeadAdvancement(block, List.of(), List.of()));
+    assertThat(scheduledRounds).hasSize(1);
+  }
+
+  @Test
+  public void prunesEverythingDueWhenBatchesAreFast() {
+    final FakePruner pruner = new FakePruner("fast", 1000, 0);
+    pruningService.addPruner(pruner);
+
+    pruningService.pruneRound();
+
+    assertThat(pruner.getPruningLag()).isZero();
+    assertThat(pruner.batches).startsWith(64, 128, 256, 512);
+  }
+
+  @Test
+  public void batchSizeGrowsWithFastFullBatchesUpToTheMaximum() {
+    final FakePruner pruner = new FakePruner("fast", 3L * MAX_BATCH_SIZE, 0);
+    pruningService.addPruner(pruner);
+
+    pruningService.pruneRound();
+
+    assertThat(pruner.getPruningLag()).isZero();
+    assertThat(pruner.batches).contains(MAX_BATCH_SIZE).allMatch(size -> size <= MAX_BATCH_SIZE);
+    assertThat(pruningService.getBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  public void batchSizeHalvesWhenBatchesAreSlow() {
+    final FakePruner pruner = new FakePruner("slow", 1000, TARGET_BATCH_NANOS * 2);
+    pruningService.addPruner(pruner);
+
+    pruningService.pruneRound();
+
+    assertThat(pruner.batches).isNotEmpty();
+    assertThat(pruner.batches.get(0)).isEqualTo(INITIAL_BATCH_SIZE);
+    assertThat(pruningService.getBatchSize()).isLessThan(INITIAL_BATCH_SIZE);
+    for (int i = 1; i < pruner.batches.size(); i++) {
+      assertThat(pruner.batches.get(i)).isEqualTo(Math.max(1, pruner.batches.get(i - 1) / 2));
+    }
+  }
+
+  @Test
+  public void noBatchIsStartedAfterTheRoundBudget() {
+    final FakePruner pruner = new FakePruner("slow", 1_000_000, TimeUnit.SECONDS.toNanos(1));
+    pruningService.addPruner(pruner);
+
+    // the default budget is half of a 12 seconds block interval
+    pruningService.pruneRound();
+
+    assertThat(pruner.batches).hasSize(6);
+    assertThat(pruner.getPruningLag()).isPositive();
+  }
+
+  @Test
+  public void prunersWithoutLagAreSkipped() {
+    final FakePruner idle = new FakePruner("idle", 0, 0);
+    final FakePruner busy = new FakePruner("busy", 10, 0);
+    pruningService.addPruner(idle);
+    pruningService.addPruner(busy);
+
+    pruningService.pruneRound();
+
+    assertThat(idle.batches).isEmpty();
+    assertThat(busy.batches).containsExactly(INITIAL_BATCH_SIZE);
+    assertThat(busy.getPruningLag()).isZero();
+  }
+
+  @Test
+  public void failingPrunerDoesNotStopOtherPruners() {
+    final FakePruner failing = new FakePruner("failing", 10, 0);
+    failing.onBatch =
+        () -> {
+          throw new IllegalStateException("boom");
+        };
+    final FakePruner working = new FakePruner("working", 10, 0);
+    pruningService.addPruner(failing);
+    pruningService.addPruner(working);
+
+    pruningService.pruneRound();
+
+    assertThat(working.getPruningLag()).isZero();
+    assertThat(failing.getPruningLag()).isEqualTo(10);
+  }
+
+  @Test
+  public void closeStopsTheRunningRoundAndFurtherRounds() {
+    final FakePruner pruner = new FakePruner("closing", 1000, 0);
+    pruner.onBatch = pruningService::close;
+    pruningService.addPruner(pruner);
+
+    pruningService.pruneRound();
+    pruningService.requestPruning();
+
+    assertThat(pruner.batches).containsExactly(INITIAL_BATCH_SIZE);
+    assertThat(scheduledRounds).isEmpty();
+  }
+
+  private class FakePruner implements PruningService.Pruner {
+    private final String name;
+    private final long batchNanos;
+    private final List<Integer> batches = Collections.synchronizedList(new ArrayList<>());
+    private long lag;
+    private Runnable onBatch = () -> {};
+
+    FakePruner(final String name, final long lag, final long batchNanos) {
+      this.name = name;
+      this.lag = lag;
+      this.batchNanos = batchNanos;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public long getPruningLag() {
+      return lag;
+    }
+
+    @Override
+    public int prune(final int maxBlocks) {
+      batches.add(maxBlocks);
+      onBatch.run();
+      clock.addAndGet(batchNanos);
+      final int pruned = (int) Math.min(lag, maxBlocks);
+      lag -= pruned;
+      return pruned;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.GWei;
+import org.hyperledger.besu.datatypes.TransactionType;
+import org.hyperledger.besu.ethereum.mainnet.BodyValidation;
+import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt64;
+import org.junit.jupiter.api.Test;
+
+public class BlockBodyViewTest {
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+
+  @Test
+  public void readsTheSameBodyAsTheEagerDecoding() {
+    final Block block = block();
+    final BlockBody body = block.getBody();
+    final BlockBodyView view = BlockBodyView.wrap(RLP.encode(body::writeWrappedBodyTo));
+
+    assertThat(view.getTransactionCount()).isEqualTo(body.getTransactions().size());
+    assertThat(view.getTransactionHashes())
+        .isEqualTo(
+            body.getTransactions().stream().map(Transaction::getHash).collect(Collectors.toList()));
+    assertThat(view.getOmmerHashes())
+        .isEqualTo(
+            body.getOmmers().stream().map(BlockHeader::getHash).collect(Collectors.toList()));
+    assertThat(view.getWithdrawals()).isEqualTo(body.getWithdrawals());
+    assertThat(view.getDeposits()).isEmpty();
+    assertThat(view.decode(new MainnetBlockHeaderFunctions())).isEqualTo(body);
+  }
+
+  @Test
+  public void computesTheRootsOfTheHeaderFromTheEncoding() {
+    final Block block = block();
+    final BlockBodyView view = BlockBodyView.wrap(RLP.encode(block.getBody()::writeWrappedBodyTo));
+
+    assertThat(view.getTransactionsRoot()).isEqualTo(block.getHeader().getTransactionsRoot());
+    assertThat(view.getOmmersHash()).isEqualTo(block.getHeader().getOmmersHash());
+    assertThat(view.getWithdrawalsRoot())
+        .contains(BodyValidation.withdrawalsRoot(block.getBody().getWithdrawals().orElseThrow()));
+    assertThat(view.getDepositsRoot()).isEmpty();
+  }
+
+  @Test
+  public void computesTheBlockSizeFromTheEncoding() {
+    final Block block = block();
+    final BlockBodyView view = BlockBodyView.wrap(RLP.encode(block.getBody()::writeWrappedBodyTo));
+
+    assertThat(view.calculateBlockSize(RLP.encode(block.getHeader()::writeTo).size()))
+        .isEqualTo(block.calculateSize());
+  }
+
+  @Test
+  public void emptyListIsAnEmptyBody() {
+    final BlockBodyView view = BlockBodyView.wrap(RLP.EMPTY_LIST);
+
+    assertThat(view.getTransactionCount()).isZero();
+    assertThat(view.getTransactionsRoot()).isEqualTo(BodyValidation.transactionsRoot(List.of()));
+    assertThat(view.getOmmersHash()).isEqualTo(BodyValidation.ommersHash(List.of()));
+    assertThat(view.decode(new MainnetBlockHeaderFunctions())).isEqualTo(BlockBody.empty());
+  }
+
+  @Test
+  public void transactionViewsKeepTheirEncoding() {
+    final Block block = block();
+    final BlockBodyView view = BlockBodyView.wrap(RLP.encode(block.getBody()::writeWrappedBodyTo));
+
+    for (int i = 0; i < view.getTransactionCount(); i++) {
+      final Transaction transaction = block.getBody().getTransactions().get(i);
+      final TransactionView transactionView = view.getTransaction(i);
+      final Bytes encoded = RLP.encode(transaction::writeTo);
+
+      assertThat(transactionView.encoded()).isEqualTo(encoded);
+      assertThat(transactionView.getType()).isEqualTo(transaction.getType());
+      assertThat(transactionView.getNonce()).isEqualTo(transaction.getNonce());
+      assertThat(transactionView.getHash()).isEqualTo(transaction.getHash());
+      assertThat(transactionView.getSize()).isEqualTo(transaction.getSize());
+      assertThat(transactionView.decode()).isEqualTo(transaction);
+    }
+  }
+
+  private Block block() {
+    return gen.block(
+        BlockDataGenerator.BlockOptions.create()
+            .addTransaction(
+                gen.transaction(TransactionType.FRONTIER),
+                gen.transaction(TransactionType.ACCESS_LIST),
+                gen.transaction(TransactionType.EIP1559))
+            .setWithdrawals(
+                Optional.of(
+                    List.of(
+                        new Withdrawal(
+                            UInt64.ONE, UInt64.ONE, Address.fromHexString("0x1"), GWei.ONE)))));
+  }
+}
@@ -16,8 +16,12 @@ package org.hyperledger.besu.ethereum.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.hyperledger.besu.datatypes.TransactionType;
 import org.hyperledger.besu.ethereum.rlp.RLP;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 
@@ -40,4 +44,39 @@ public class TransactionReceiptTest {
         TransactionReceipt.readFrom(RLP.input(RLP.encode(receipt::writeToWithRevertReason)));
     assertThat(copy).isEqualTo(receipt);
   }
+
+  @Test
+  public void withoutRevertReasonsMatchesWireEncoding() {
+    final BlockDataGenerator gen = new BlockDataGenerator();
+    final List<TransactionReceipt> receipts =
+        List.of(
+            new TransactionReceipt(
+                TransactionType.FRONTIER,
+                1,
+                21_000,
+                List.of(gen.log()),
+                Optional.of(Bytes.fromHexString("0x1122"))),
+            new TransactionReceipt(
+                TransactionType.EIP1559,
+                0,
+                42_000,
+                List.of(gen.log(), gen.log()),
+                Optional.of(Bytes.fromHexString("0x3344"))),
+            gen.receipt());
+    final Bytes stored =
+        RLP.encode(out -> out.writeList(receipts, TransactionReceipt::writeToWithRevertReason));
+    final Bytes wire = RLP.encode(out -> out.writeList(receipts, TransactionReceipt::writeTo));
+
+    assertThat(TransactionReceipt.withoutRevertReasons(stored)).isEqualTo(wire);
+  }
+
+  @Test
+  public void withoutRevertReasonsReturnsInputWhenThereIsNoRevertReason() {
+    final BlockDataGenerator gen = new BlockDataGenerator();
+    final List<TransactionReceipt> receipts = List.of(gen.receipt(), gen.receipt());
+    final Bytes stored =
+        RLP.encode(out -> out.writeList(receipts, TransactionReceipt::writeToWithRevertReason));
+
+    assertThat(TransactionReceipt.withoutRevertReasons(stored)).isSameAs(stored);
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.core.encoding.EncodingContext;
+import org.hyperledger.besu.ethereum.core.encoding.TransactionDecoder;
+import org.hyperledger.besu.ethereum.core.encoding.TransactionEncoder;
+
+import org.junit.jupiter.api.Test;
+
+class TransactionSenderCacheTest {
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+
+  @Test
+  void shouldReturnCachedSender() {
+    final TransactionSenderCache cache = new TransactionSenderCache(10);
+    final Hash hash = Hash.hash(Hash.ZERO);
+    final Address sender = Address.fromHexString("0xdeadbeef");
+
+    assertThat(cache.get(hash)).isEmpty();
+    cache.put(hash, sender);
+    assertThat(cache.get(hash)).contains(sender);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlySeededSenders() {
+    final TransactionSenderCache cache = new TransactionSenderCache(1);
+    final Transaction first = gen.transaction();
+    final Transaction second = gen.transaction();
+
+    cache.seed(first);
+    cache.seed(second);
+
+    assertThat(cache.get(first.getHash())).isEmpty();
+    assertThat(cache.get(second.getHash())).contains(second.getSender());
+  }
+
+  @Test
+  void decodedTransactionShouldUseSenderRecoveredBefore() {
+    final Transaction transaction = gen.transaction();
+    TransactionSenderCache.getInstance().seed(transaction);
+
+    final Transaction decoded =
+        TransactionDecoder.decodeOpaqueBytes(
+            TransactionEncoder.encodeOpaqueBytes(transaction, EncodingContext.BLOCK_BODY),
+            EncodingContext.BLOCK_BODY);
+
+    assertThat(TransactionSenderCache.getInstance().get(decoded.getHash()))
+        .contains(transaction.getSender());
+    assertThat(decoded.getSender()).isEqualTo(transaction.getSender());
+  }
+
+  @Test
+  void shouldOnlyGrowAndKeepCachedSenders() {
+    final Transaction transaction = gen.transaction();
+    TransactionSenderCache.getInstance().seed(transaction);
+    final long capacity = TransactionSenderCache.getInstance().getCapacity();
+
+    final TransactionSenderCache grown = TransactionSenderCache.ensureCapacity(capacity + 1);
+    assertThat(grown.getCapacity()).isEqualTo(capacity + 1);
+    assertThat(grown.get(transaction.getHash())).contains(transaction.getSender());
+    assertThat(TransactionSenderCache.getInstance()).isSameAs(grown);
+
+    assertThat(TransactionSenderCache.ensureCapacity(1)).isSameAs(grown);
+  }
+}
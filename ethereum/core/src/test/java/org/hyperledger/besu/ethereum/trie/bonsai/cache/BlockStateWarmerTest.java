@@ -0,0 +1,139 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.trie.bonsai.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.datatypes.AccessListEntry;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.StorageSlotKey;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.InMemoryKeyValueStorageProvider;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.TrieGenerator;
+import org.hyperledger.besu.ethereum.trie.MerkleTrie;
+import org.hyperledger.besu.ethereum.trie.bonsai.storage.BonsaiWorldStateKeyValueStorage;
+import org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration;
+import org.hyperledger.besu.ethereum.worldstate.WorldStateStorageCoordinator;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BlockStateWarmerTest {
+
+  private final Address sender = Address.fromHexString("0xdeadbeef");
+  private final Address recipient = Address.fromHexString("0xdeadbeee");
+  private final Bytes32 storageKey = Bytes32.leftPad(Bytes.of(1));
+
+  private final BonsaiWorldStateKeyValueStorage worldStateStorage =
+      spy(
+          new BonsaiWorldStateKeyValueStorage(
+              new InMemoryKeyValueStorageProvider(),
+              new NoOpMetricsSystem(),
+              DataStorageConfiguration.DEFAULT_BONSAI_CONFIG));
+  private final CachedMerkleTrieLoader cachedMerkleTrieLoader =
+      spy(new CachedMerkleTrieLoader(new NoOpMetricsSystem()));
+  private final BlockStateWarmer warmer =
+      new BlockStateWarmer(worldStateStorage, cachedMerkleTrieLoader);
+
+  private BlockHeader parentHeader;
+
+  @BeforeEach
+  void setup() {
+    final MerkleTrie<Bytes, Bytes> trie =
+        TrieGenerator.generateTrie(
+            new WorldStateStorageCoordinator(worldStateStorage),
+            List.of(sender.addressHash(), recipient.addressHash()));
+    doReturn(Optional.of(trie.getRootHash())).when(worldStateStorage).getWorldStateRootHash();
+    parentHeader =
+        new BlockHeaderTestFixture().stateRoot(Hash.wrap(trie.getRootHash())).buildHeader();
+  }
+
+  @Test
+  void shouldWarmAccountsAndSlotsOfTransaction() {
+    final BlockStateWarmer.WarmUp warmUp = warmer.start(parentHeader).orElseThrow();
+
+    warmUp.warmTransaction(transaction());
+
+    final Hash rootHash = parentHeader.getStateRoot();
+    verify(cachedMerkleTrieLoader).cacheAccountNodes(worldStateStorage, rootHash, sender);
+    verify(cachedMerkleTrieLoader).cacheAccountNodes(worldStateStorage, rootHash, recipient);
+    verify(cachedMerkleTrieLoader)
+        .cacheStorageNodes(
+            worldStateStorage, recipient, new StorageSlotKey(UInt256.fromBytes(storageKey)));
+    verify(worldStateStorage).getAccount(sender.addressHash());
+    assertThat(warmUp.getWarmedAccountCount()).isEqualTo(2);
+    assertThat(warmUp.getWarmedSlotCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldWarmEachAccountOnlyOnce() {
+    final BlockStateWarmer.WarmUp warmUp = warmer.start(parentHeader).orElseThrow();
+
+    warmUp.warmTransaction(transaction());
+    warmUp.warmTransaction(transaction());
+    warmUp.warmAccount(sender);
+
+    verify(cachedMerkleTrieLoader, times(1)).cacheAccountNodes(any(), any(), eq(sender));
+    verify(cachedMerkleTrieLoader, times(1)).cacheStorageNodes(any(), eq(recipient), any());
+  }
+
+  @Test
+  void shouldNotWarmWhenParentStateIsNotPersisted() {
+    final BlockHeader otherParent =
+        new BlockHeaderTestFixture().stateRoot(Hash.EMPTY_TRIE_HASH).buildHeader();
+
+    assertThat(warmer.start(otherParent)).isEmpty();
+  }
+
+  @Test
+  void shouldNotWarmAfterStop() {
+    final BlockStateWarmer.WarmUp warmUp = warmer.start(parentHeader).orElseThrow();
+
+    assertThat(warmUp.stop()).isZero();
+    warmUp.warmTransaction(transaction());
+
+    verify(cachedMerkleTrieLoader, never()).cacheAccountNodes(any(), any(), any());
+    verify(cachedMerkleTrieLoader, never()).cacheStorageNodes(any(), any(), any());
+    assertThat(warmUp.getWarmedAccountCount()).isZero();
+  }
+
+  private Transaction transaction() {
+    final Transaction transaction = mock(Transaction.class);
+    when(transaction.getSender()).thenReturn(sender);
+    when(transaction.getTo()).thenReturn(Optional.of(recipient));
+    when(transaction.getAccessList())
+        .thenReturn(Optional.of(List.of(new AccessListEntry(recipient, List.of(storageKey)))));
+    return transaction;
+  }
+}
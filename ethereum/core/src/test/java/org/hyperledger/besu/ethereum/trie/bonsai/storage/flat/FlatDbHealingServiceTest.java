@@ -0,0 +1,194 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.trie.bonsai.storage.flat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier.TRIE_BRANCH_STORAGE;
+import static org.hyperledger.besu.ethereum.trie.bonsai.storage.BonsaiWorldStateKeyValueStorage.WORLD_ROOT_HASH_KEY;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.chain.VariablesStorage;
+import org.hyperledger.besu.ethereum.core.InMemoryKeyValueStorageProvider;
+import org.hyperledger.besu.ethereum.core.TrieGenerator;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.storage.keyvalue.VariablesKeyValueStorage;
+import org.hyperledger.besu.ethereum.trie.MerkleTrie;
+import org.hyperledger.besu.ethereum.trie.bonsai.storage.BonsaiWorldStateKeyValueStorage;
+import org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration;
+import org.hyperledger.besu.ethereum.worldstate.FlatDbMode;
+import org.hyperledger.besu.ethereum.worldstate.StateTrieAccountValue;
+import org.hyperledger.besu.ethereum.worldstate.WorldStateStorageCoordinator;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FlatDbHealingServiceTest {
+
+  private static final int ACCOUNTS = 20;
+  private static final int SLOTS_PER_ACCOUNT = 3;
+  private static final Bytes32 MAX_KEY =
+      Bytes32.fromHexString("0xffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff");
+
+  private final VariablesStorage variablesStorage =
+      new VariablesKeyValueStorage(new InMemoryKeyValueStorage());
+  private BonsaiWorldStateKeyValueStorage storage;
+  private MerkleTrie<Bytes, Bytes> accountTrie;
+
+  @BeforeEach
+  void setup() {
+    storage =
+        new BonsaiWorldStateKeyValueStorage(
+            new InMemoryKeyValueStorageProvider(),
+            new NoOpMetricsSystem(),
+            DataStorageConfiguration.DEFAULT_BONSAI_CONFIG);
+    accountTrie = TrieGenerator.generateTrie(new WorldStateStorageCoordinator(storage), ACCOUNTS);
+    final BonsaiWorldStateKeyValueStorage.Updater updater = storage.updater();
+    updater
+        .getWorldStateTransaction()
+        .put(TRIE_BRANCH_STORAGE, WORLD_ROOT_HASH_KEY, accountTrie.getRootHash().toArrayUnsafe());
+    updater.commit();
+    storage.clearFlatDatabase();
+  }
+
+  @Test
+  void healsMissingFlatEntriesAndUpgradesToFullMode() {
+    assertThat(flatAccounts()).isEmpty();
+    final FlatDbHealingService healingService = createService(1_000);
+
+    healUntilFullFlatDb(healingService);
+
+    assertThat(storage.getFlatDbMode()).isEqualTo(FlatDbMode.FULL);
+    assertThat(flatAccounts())
+        .isEqualTo(accountTrie.entriesFrom(Bytes32.ZERO, ACCOUNTS + 1))
+        .hasSize(ACCOUNTS);
+    flatAccounts()
+        .keySet()
+        .forEach(account -> assertThat(flatSlots(account)).hasSize(SLOTS_PER_ACCOUNT));
+    assertThat(variablesStorage.getFlatDbHealingCheckpoint()).isEmpty();
+    assertThat(healingService.getCoveragePercent()).isEqualTo(100.0);
+  }
+
+  @Test
+  void removesFlatEntriesThatAreNotInTheTries() {
+    final Hash staleAccount = Hash.wrap(MAX_KEY);
+    final Hash existingAccount = Hash.wrap(Bytes32.leftPad(Bytes.of(1)));
+    final Hash staleSlot = Hash.wrap(MAX_KEY);
+    final BonsaiWorldStateKeyValueStorage.Updater updater = storage.updater();
+    updater.putAccountInfoState(staleAccount, Bytes.of(1));
+    updater.putStorageValueBySlotHash(existingAccount, staleSlot, Bytes32.leftPad(Bytes.of(1)));
+    updater.commit();
+
+    healUntilFullFlatDb(createService(1_000));
+
+    assertThat(flatAccounts()).hasSize(ACCOUNTS).doesNotContainKey(staleAccount);
+    assertThat(flatSlots(existingAccount)).hasSize(SLOTS_PER_ACCOUNT).doesNotContainKey(staleSlot);
+  }
+
+  @Test
+  void resumesFromCheckpoint() {
+    final FlatDbHealingService healingService = createService(5);
+    assertThat(healingService.healNextBatch()).isEqualTo(5);
+
+    assertThat(variablesStorage.getFlatDbHealingCheckpoint()).isPresent();
+    assertThat(storage.getFlatDbMode()).isEqualTo(FlatDbMode.PARTIAL);
+    final int healedAccounts = flatAccounts().size();
+    assertThat(healedAccounts).isPositive().isLessThan(ACCOUNTS);
+
+    final FlatDbHealingService restartedService = createService(5);
+    assertThat(restartedService.getCoveragePercent()).isPositive();
+    restartedService.healNextBatch();
+
+    // the restarted service continues after the accounts healed by the first one
+    assertThat(flatAccounts().size()).isGreaterThan(healedAccounts);
+    healUntilFullFlatDb(restartedService);
+    assertThat(flatAccounts()).hasSize(ACCOUNTS);
+  }
+
+  @Test
+  void doesNotCheckpointBatchWhenWorldStateRootChanges() {
+    final BonsaiWorldStateKeyValueStorage spiedStorage = spy(storage);
+    doReturn(Optional.of(accountTrie.getRootHash()), Optional.of(Bytes32.ZERO))
+        .when(spiedStorage)
+        .getWorldStateRootHash();
+    final FlatDbHealingService healingService =
+        new FlatDbHealingService(
+            spiedStorage,
+            variablesStorage,
+            mock(ScheduledExecutorService.class),
+            new NoOpMetricsSystem(),
+            () -> true,
+            1_000,
+            1_000);
+
+    healingService.healNextBatch();
+
+    assertThat(flatAccounts()).isEmpty();
+    assertThat(variablesStorage.getFlatDbHealingCheckpoint()).isEmpty();
+    assertThat(storage.getFlatDbMode()).isEqualTo(FlatDbMode.PARTIAL);
+  }
+
+  @Test
+  void clearingTheFlatDatabaseResetsTheCheckpoint() {
+    final FlatDbHealingService healingService = createService(5);
+    healingService.healNextBatch();
+    assertThat(variablesStorage.getFlatDbHealingCheckpoint()).isPresent();
+
+    healingService.onClearFlatDatabaseStorage();
+
+    assertThat(variablesStorage.getFlatDbHealingCheckpoint()).isEmpty();
+    assertThat(healingService.getCoveragePercent()).isZero();
+  }
+
+  private FlatDbHealingService createService(final int batchSize) {
+    return new FlatDbHealingService(
+        storage,
+        variablesStorage,
+        mock(ScheduledExecutorService.class),
+        new NoOpMetricsSystem(),
+        () -> true,
+        1_000,
+        batchSize);
+  }
+
+  private void healUntilFullFlatDb(final FlatDbHealingService healingService) {
+    for (int i = 0; i < 1_000 && storage.getFlatDbMode() != FlatDbMode.FULL; i++) {
+      healingService.healNextBatch();
+    }
+  }
+
+  private Map<Bytes32, Bytes> flatAccounts() {
+    return storage.streamFlatAccounts(Bytes32.ZERO, MAX_KEY, Long.MAX_VALUE);
+  }
+
+  private Map<Bytes32, Bytes> flatSlots(final Bytes32 account) {
+    final Hash accountHash = Hash.wrap(account);
+    assertThat(
+            StateTrieAccountValue.readFrom(RLP.input(accountTrie.get(accountHash).orElseThrow()))
+                .getStorageRoot())
+        .isNotEqualTo(Hash.EMPTY_TRIE_HASH);
+    return storage.streamFlatStorages(accountHash, Bytes32.ZERO, MAX_KEY, Long.MAX_VALUE);
+  }
+}
@@ -17,6 +17,8 @@ package org.hyperledger.besu.ethereum.trie.bonsai.trielog;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -28,8 +30,9 @@ import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.trie.bonsai.storage.BonsaiWorldStateKeyValueStorage;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.apache.logging.log4j.Level;
@@ -45,8 +48,6 @@ public class TrieLogPrunerTest {
 
   private BonsaiWorldStateKeyValueStorage worldState;
   private Blockchain blockchain;
-  private final Consumer<Runnable> executeAsync = Runnable::run;
-
   @SuppressWarnings("BannedMethod")
   @BeforeEach
   public void setup() {
@@ -54,6 +55,7 @@ public class TrieLogPrunerTest {
     worldState = Mockito.mock(BonsaiWorldStateKeyValueStorage.class);
     blockchain = Mockito.mock(Blockchain.class);
     when(worldState.pruneTrieLog(any(Hash.class))).thenReturn(true);
+    when(worldState.pruneTrieLogs(anyCollection())).thenReturn(true);
   }
 
   @Test
@@ -70,12 +72,12 @@ public class TrieLogPrunerTest {
 
     // When
     TrieLogPruner trieLogPruner =
-        new TrieLogPruner(worldState, blockchain, executeAsync, 3, loadingLimit, false);
+        new TrieLogPruner(worldState, blockchain, 3, loadingLimit, false);
     trieLogPruner.initialize();
 
     // Then
     verify(worldState, times(1)).streamTrieLogKeys(2);
-    verify(worldState, times(1)).pruneTrieLog(header2.getBlockHash());
+    verify(worldState, times(1)).pruneTrieLogs(List.of(header2.getBlockHash()));
   }
 
   @Test
@@ -86,11 +88,9 @@ public class TrieLogPrunerTest {
     final long blocksToRetain = 3;
     final int pruningWindowSize = 2;
     when(blockchain.getChainHeadBlockNumber()).thenReturn(5L);
-    when(worldState.pruneTrieLog(any(Hash.class))).thenReturn(true);
     // requireFinalizedBlock = false means this is not a PoS chain
     TrieLogPruner trieLogPruner =
-        new TrieLogPruner(
-            worldState, blockchain, executeAsync, blocksToRetain, pruningWindowSize, false);
+        new TrieLogPruner(worldState, blockchain, blocksToRetain, pruningWindowSize, false);
 
     trieLogPruner.addToPruneQueue(0, key(0)); // older block outside prune window
     trieLogPruner.addToPruneQueue(1, key(1)); // block inside the prune window
@@ -106,9 +106,8 @@ public class TrieLogPrunerTest {
     // Then
     assertThat(wasPruned).isEqualTo(3);
     InOrder inOrder = Mockito.inOrder(worldState);
-    inOrder.verify(worldState, times(1)).pruneTrieLog(key(3));
-    inOrder.verify(worldState, times(1)).pruneTrieLog(key(1)); // forks in order
-    inOrder.verify(worldState, times(1)).pruneTrieLog(key(2));
+    // a single batch, with forks in order
+    inOrder.verify(worldState, times(1)).pruneTrieLogs(List.of(key(3), key(1), key(2)));
 
     // Subsequent run should add one more block, then prune two oldest remaining keys
     trieLogPruner.addToPruneQueue(6, key(6));
@@ -117,8 +116,7 @@ public class TrieLogPrunerTest {
     wasPruned = trieLogPruner.pruneFromQueue();
 
     assertThat(wasPruned).isEqualTo(2);
-    inOrder.verify(worldState, times(1)).pruneTrieLog(key(4));
-    inOrder.verify(worldState, times(1)).pruneTrieLog(key(0));
+    inOrder.verify(worldState, times(1)).pruneTrieLogs(List.of(key(4), key(0)));
   }
 
   @Test
@@ -135,11 +133,11 @@ public class TrieLogPrunerTest {
 
     // Then
     assertThat(wasPruned).isEqualTo(1);
-    verify(worldState, times(1)).pruneTrieLog(key(1)); // should prune (finalized)
-    verify(worldState, never()).pruneTrieLog(key(2)); // would prune but (NOT finalized)
-    verify(worldState, never()).pruneTrieLog(key(3)); // would prune but (NOT finalized)
-    verify(worldState, never()).pruneTrieLog(key(4)); // retained block (NOT finalized)
-    verify(worldState, never()).pruneTrieLog(key(5)); // chain height (NOT finalized)
+    verify(worldState, times(1)).pruneTrieLogs(List.of(key(1))); // should prune (finalized)
+    verify(worldState, never()).pruneTrieLogs(containing(key(2))); // would prune (NOT finalized)
+    verify(worldState, never()).pruneTrieLogs(containing(key(3))); // would prune (NOT finalized)
+    verify(worldState, never()).pruneTrieLogs(containing(key(4))); // retained (NOT finalized)
+    verify(worldState, never()).pruneTrieLogs(containing(key(5))); // chain height (NOT finalized)
   }
 
   @Test
@@ -156,11 +154,11 @@ public class TrieLogPrunerTest {
 
     // Then
     assertThat(wasPruned).isEqualTo(1);
-    verify(worldState, times(1)).pruneTrieLog(key(1)); // should prune (finalized)
-    verify(worldState, never()).pruneTrieLog(key(2)); // retained block (finalized)
-    verify(worldState, never()).pruneTrieLog(key(3)); // retained block (NOT finalized)
-    verify(worldState, never()).pruneTrieLog(key(4)); // retained block (NOT finalized)
-    verify(worldState, never()).pruneTrieLog(key(5)); // chain height (NOT finalized)
+    verify(worldState, times(1)).pruneTrieLogs(List.of(key(1))); // should prune (finalized)
+    verify(worldState, never()).pruneTrieLogs(containing(key(2))); // retained block (finalized)
+    verify(worldState, never()).pruneTrieLogs(containing(key(3))); // retained (NOT finalized)
+    verify(worldState, never()).pruneTrieLogs(containing(key(4))); // retained (NOT finalized)
+    verify(worldState, never()).pruneTrieLogs(containing(key(5))); // chain height (NOT finalized)
   }
 
   @Test
@@ -177,12 +175,11 @@ public class TrieLogPrunerTest {
 
     // Then
     assertThat(wasPruned).isEqualTo(2);
-    final InOrder inOrder = Mockito.inOrder(worldState);
-    inOrder.verify(worldState, times(1)).pruneTrieLog(key(2)); // should prune (finalized)
-    inOrder.verify(worldState, times(1)).pruneTrieLog(key(1)); // should prune (finalized)
-    verify(worldState, never()).pruneTrieLog(key(3)); // retained block (finalized)
-    verify(worldState, never()).pruneTrieLog(key(4)); // retained block (finalized)
-    verify(worldState, never()).pruneTrieLog(key(5)); // chain height (NOT finalized)
+    // should prune (finalized), newest first
+    verify(worldState, times(1)).pruneTrieLogs(List.of(key(2), key(1)));
+    verify(worldState, never()).pruneTrieLogs(containing(key(3))); // retained block (finalized)
+    verify(worldState, never()).pruneTrieLogs(containing(key(4))); // retained block (finalized)
+    verify(worldState, never()).pruneTrieLogs(containing(key(5))); // chain height (NOT finalized)
   }
 
   @Test
@@ -198,8 +195,7 @@ public class TrieLogPrunerTest {
     final int pruningWindowSize = (int) chainHeight;
     when(blockchain.getChainHeadBlockNumber()).thenReturn(chainHeight);
     TrieLogPruner trieLogPruner =
-        new TrieLogPruner(
-            worldState, blockchain, executeAsync, blocksToRetain, pruningWindowSize, true);
+        new TrieLogPruner(worldState, blockchain, blocksToRetain, pruningWindowSize, true);
 
     trieLogPruner.addToPruneQueue(1, key(1));
     trieLogPruner.addToPruneQueue(2, key(2));
@@ -209,14 +205,13 @@ public class TrieLogPrunerTest {
 
     // Then
     assertThat(wasPruned).isEqualTo(0);
-    verify(worldState, never()).pruneTrieLog(key(1)); // not finalized
-    verify(worldState, never()).pruneTrieLog(key(2)); // not finalized
+    verify(worldState, never()).pruneTrieLogs(anyCollection()); // not finalized
   }
 
   @Test
-  public void do_not_count_trieLog_when_prune_fails_first_attempt() {
+  public void do_not_count_trieLogs_when_prune_fails_first_attempt() {
     // Given
-    when(worldState.pruneTrieLog(key(2))).thenReturn(false);
+    when(worldState.pruneTrieLogs(anyCollection())).thenReturn(false);
     final long finalizedBlockHeight = 4;
     final long configuredRetainHeight = 4;
     final TrieLogPruner trieLogPruner =
@@ -226,19 +221,36 @@ public class TrieLogPrunerTest {
     final int wasPruned = trieLogPruner.pruneFromQueue();
 
     // Then
-    assertThat(wasPruned).isEqualTo(2);
+    assertThat(wasPruned).isEqualTo(0);
+    assertThat(trieLogPruner.getPruningLag()).isEqualTo(3);
 
-    // Subsequent run should prune previously skipped trieLog
-    when(worldState.pruneTrieLog(key(2))).thenReturn(true);
-    assertThat(trieLogPruner.pruneFromQueue()).isEqualTo(1);
+    // Subsequent run should prune previously failed batch
+    when(worldState.pruneTrieLogs(anyCollection())).thenReturn(true);
+    assertThat(trieLogPruner.pruneFromQueue()).isEqualTo(3);
+    assertThat(trieLogPruner.getPruningLag()).isZero();
   }
 
   @Test
-  public void onTrieLogAdded_should_prune() {
+  public void prune_is_limited_to_requested_number_of_blocks() {
     // Given
-    final TriggerableConsumer triggerableConsumer = new TriggerableConsumer();
-    TrieLogPruner trieLogPruner =
-        new TrieLogPruner(worldState, blockchain, triggerableConsumer, 0, 1, false);
+    final long finalizedBlockHeight = 4;
+    final long configuredRetainHeight = 4;
+    final TrieLogPruner trieLogPruner =
+        setupPrunerAndFinalizedBlock(configuredRetainHeight, finalizedBlockHeight);
+
+    // When
+    final int wasPruned = trieLogPruner.prune(2);
+
+    // Then
+    assertThat(wasPruned).isEqualTo(2);
+    verify(worldState, times(1)).pruneTrieLogs(List.of(key(3), key(2)));
+    assertThat(trieLogPruner.getPruningLag()).isEqualTo(1);
+  }
+
+  @Test
+  public void onTrieLogAdded_should_queue_for_pruning() {
+    // Given
+    TrieLogPruner trieLogPruner = new TrieLogPruner(worldState, blockchain, 0, 1, false);
     assertThat(trieLogPruner.pruneFromQueue()).isEqualTo(0);
 
     final TrieLogLayer layer = new TrieLogLayer();
@@ -248,18 +260,18 @@ public class TrieLogPrunerTest {
 
     // When
     trieLogPruner.onTrieLogAdded(new TrieLogAddedEvent(layer));
-    verify(worldState, never()).pruneTrieLog(key(1));
-    triggerableConsumer.run();
+    verify(worldState, never()).pruneTrieLogs(anyCollection());
+    assertThat(trieLogPruner.getPruningLag()).isEqualTo(1);
+    assertThat(trieLogPruner.prune(1)).isEqualTo(1);
 
     // Then
-    verify(worldState, times(1)).pruneTrieLog(key(1));
+    verify(worldState, times(1)).pruneTrieLogs(List.of(key(1)));
   }
 
   @Test
   public void onTrieLogAdded_should_not_prune_when_no_blockNumber() {
     // Given
-    TrieLogPruner trieLogPruner =
-        new TrieLogPruner(worldState, blockchain, executeAsync, 0, 1, false);
+    TrieLogPruner trieLogPruner = new TrieLogPruner(worldState, blockchain, 0, 1, false);
     assertThat(trieLogPruner.pruneFromQueue()).isEqualTo(0);
 
     final TrieLogLayer layer = new TrieLogLayer();
@@ -270,7 +282,7 @@ public class TrieLogPrunerTest {
     trieLogPruner.onTrieLogAdded(new TrieLogAddedEvent(layer));
 
     // Then
-    verify(worldState, never()).pruneTrieLog(key(1));
+    verify(worldState, never()).pruneTrieLogs(anyCollection());
   }
 
   private TrieLogPruner setupPrunerAndFinalizedBlock(
@@ -286,8 +298,7 @@ public class TrieLogPrunerTest {
         .thenReturn(Optional.of(finalizedHeader));
     when(blockchain.getChainHeadBlockNumber()).thenReturn(chainHeight);
     TrieLogPruner trieLogPruner =
-        new TrieLogPruner(
-            worldState, blockchain, executeAsync, blocksToRetain, pruningWindowSize, true);
+        new TrieLogPruner(worldState, blockchain, blocksToRetain, pruningWindowSize, true);
 
     trieLogPruner.addToPruneQueue(1, key(1));
     trieLogPruner.addToPruneQueue(2, key(2));
@@ -298,21 +309,11 @@ public class TrieLogPrunerTest {
     return trieLogPruner;
   }
 
-  private Hash key(final int k) {
-    return Hash.hash(Bytes.of(k));
+  private static Collection<Hash> containing(final Hash blockHash) {
+    return argThat(blockHashes -> blockHashes != null && blockHashes.contains(blockHash));
   }
 
-  private static class TriggerableConsumer implements Consumer<Runnable> {
-
-    private Runnable runnable;
-
-    @Override
-    public void accept(final Runnable runnable) {
-      this.runnable = runnable;
-    }
-
-    public void run() {
-      runnable.run();
-    }
+  private Hash key(final int k) {
+    return Hash.hash(Bytes.of(k));
   }
 }
@@ -37,11 +37,13 @@ import org.hyperledger.besu.ethereum.eth.messages.snap.SnapV1;
 import org.hyperledger.besu.ethereum.eth.peervalidation.PeerValidator;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.AbstractSnapMessageData;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.DisconnectReason;
 import org.hyperledger.besu.plugin.services.permissioning.NodeMessagePermissioningProvider;
 
+import java.math.BigInteger;
 import java.time.Clock;
 import java.util.Collections;
 import java.util.HashMap;
@@ -154,19 +156,15 @@ public class EthPeer implements Comparable<EthPeer> {
     requestManagers.put(
         protocolName,
         Map.ofEntries(
-            Map.entry(
-                EthPV62.GET_BLOCK_HEADERS,
-                new RequestManager(this, supportsRequestId, protocolName)),
-            Map.entry(
-                EthPV62.GET_BLOCK_BODIES,
-                new RequestManager(this, supportsRequestId, protocolName)),
-            Map.entry(
-                EthPV63.GET_RECEIPTS, new RequestManager(this, supportsRequestId, protocolName)),
-            Map.entry(
-                EthPV63.GET_NODE_DATA, new RequestManager(this, supportsRequestId, protocolName)),
-            Map.entry(
-                EthPV65.GET_POOLED_TRANSACTIONS,
-                new RequestManager(this, supportsRequestId, protocolName))));
+            Map.entry(EthPV62.GET_BLOCK_HEADERS, ethRequestManager(supportsRequestId)),
+            Map.entry(EthPV62.GET_BLOCK_BODIES, ethRequestManager(supportsRequestId)),
+            Map.entry(EthPV63.GET_RECEIPTS, ethRequestManager(supportsRequestId)),
+            Map.entry(EthPV63.GET_NODE_DATA, ethRequestManager(supportsRequestId)),
+            Map.entry(EthPV65.GET_POOLED_TRANSACTIONS, ethRequestManager(supportsRequestId))));
+  }
+
+  private RequestManager ethRequestManager(final boolean supportsRequestId) {
+    return new RequestManager(this, supportsRequestId, protocolName, clock);
   }
 
   private void initSnapRequestManagers() {
@@ -174,10 +172,14 @@ public class EthPeer implements Comparable<EthPeer> {
     requestManagers.put(
         SnapProtocol.NAME,
         Map.ofEntries(
-            Map.entry(SnapV1.GET_ACCOUNT_RANGE, new RequestManager(this, true, SnapProtocol.NAME)),
-            Map.entry(SnapV1.GET_STORAGE_RANGE, new RequestManager(this, true, SnapProtocol.NAME)),
-            Map.entry(SnapV1.GET_BYTECODES, new RequestManager(this, true, SnapProtocol.NAME)),
-            Map.entry(SnapV1.GET_TRIE_NODES, new RequestManager(this, true, SnapProtocol.NAME))));
+            Map.entry(SnapV1.GET_ACCOUNT_RANGE, snapRequestManager()),
+            Map.entry(SnapV1.GET_STORAGE_RANGE, snapRequestManager()),
+            Map.entry(SnapV1.GET_BYTECODES, snapRequestManager()),
+            Map.entry(SnapV1.GET_TRIE_NODES, snapRequestManager())));
+  }
+
+  private RequestManager snapRequestManager() {
+    return new RequestManager(this, true, SnapProtocol.NAME, clock);
   }
 
   public void markValidated(final PeerValidator validator) {
@@ -210,6 +212,11 @@ public class EthPeer implements Comparable<EthPeer> {
   }
 
   public void recordRequestTimeout(final int requestCode) {
+    recordRequestTimeout(protocolName, requestCode);
+  }
+
+  public void recordRequestTimeout(final String protocolName, final int requestCode) {
+    getRequestManagerForCode(protocolName, requestCode).ifPresent(RequestManager::recordTimeout);
     LOG.atDebug()
         .setMessage("Timed out while waiting for response from peer {}...")
         .addArgument(this::getLoggableId)
@@ -356,7 +363,8 @@ public class EthPeer implements Comparable<EthPeer> {
       final Hash stateRoot, final Bytes32 startKeyHash, final Bytes32 endKeyHash)
       throws PeerNotConnected {
     final GetAccountRangeMessage getAccountRangeMessage =
-        GetAccountRangeMessage.create(stateRoot, startKeyHash, endKeyHash);
+        GetAccountRangeMessage.create(
+            stateRoot, startKeyHash, endKeyHash, snapResponseBytes(SnapV1.GET_ACCOUNT_RANGE));
     getAccountRangeMessage.setRootHash(Optional.of(stateRoot));
     return sendRequest(
         requestManagers.get(SnapProtocol.NAME).get(SnapV1.GET_ACCOUNT_RANGE),
@@ -370,7 +378,12 @@ public class EthPeer implements Comparable<EthPeer> {
       final Bytes32 endKeyHash)
       throws PeerNotConnected {
     final GetStorageRangeMessage getStorageRangeMessage =
-        GetStorageRangeMessage.create(stateRoot, accountHashes, startKeyHash, endKeyHash);
+        GetStorageRangeMessage.create(
+            stateRoot,
+            accountHashes,
+            startKeyHash,
+            endKeyHash,
+            snapResponseBytes(SnapV1.GET_STORAGE_RANGE));
     getStorageRangeMessage.setRootHash(Optional.of(stateRoot));
     return sendRequest(
         requestManagers.get(SnapProtocol.NAME).get(SnapV1.GET_STORAGE_RANGE),
@@ -379,7 +392,8 @@ public class EthPeer implements Comparable<EthPeer> {
 
   public RequestManager.ResponseStream getSnapBytecode(
       final Hash stateRoot, final List<Bytes32> codeHashes) throws PeerNotConnected {
-    final GetByteCodesMessage getByteCodes = GetByteCodesMessage.create(codeHashes);
+    final GetByteCodesMessage getByteCodes =
+        GetByteCodesMessage.create(codeHashes, snapResponseBytes(SnapV1.GET_BYTECODES));
     getByteCodes.setRootHash(Optional.of(stateRoot));
     return sendRequest(
         requestManagers.get(SnapProtocol.NAME).get(SnapV1.GET_BYTECODES), getByteCodes);
@@ -387,12 +401,22 @@ public class EthPeer implements Comparable<EthPeer> {
 
   public RequestManager.ResponseStream getSnapTrieNode(
       final Hash stateRoot, final List<List<Bytes>> paths) throws PeerNotConnected {
-    final GetTrieNodesMessage getTrieNodes = GetTrieNodesMessage.create(stateRoot, paths);
+    final GetTrieNodesMessage getTrieNodes =
+        GetTrieNodesMessage.create(stateRoot, paths, snapResponseBytes(SnapV1.GET_TRIE_NODES));
     getTrieNodes.setRootHash(Optional.of(stateRoot));
     return sendRequest(
         requestManagers.get(SnapProtocol.NAME).get(SnapV1.GET_TRIE_NODES), getTrieNodes);
   }
 
+  private BigInteger snapResponseBytes(final int requestCode) {
+    return BigInteger.valueOf(
+        requestManagers
+            .get(SnapProtocol.NAME)
+            .get(requestCode)
+            .getStatistics()
+            .requestSize(AbstractSnapMessageData.SIZE_REQUEST.intValueExact()));
+  }
+
   private RequestManager.ResponseStream sendRequest(
       final RequestManager requestManager, final MessageData messageData) throws PeerNotConnected {
     lastRequestTimestamp = clock.millis();
@@ -475,6 +499,58 @@ public class EthPeer implements Comparable<EthPeer> {
     return Optional.empty();
   }
 
+  /**
+   * Looks up the request manager for a request, accepting either the request code or the code of
+   * the matching response.
+   */
+  private Optional<RequestManager> getRequestManagerForCode(
+      final String protocolName, final int code) {
+    return Optional.ofNullable(requestManagers.get(protocolName))
+        .flatMap(
+            managers ->
+                Optional.ofNullable(managers.get(code))
+                    .or(
+                        () ->
+                            Optional.ofNullable(
+                                managers.get(roundMessages.getOrDefault(code, -1)))));
+  }
+
+  public Optional<RequestStatistics> requestStatistics(
+      final String protocolName, final int requestCode) {
+    return getRequestManagerForCode(protocolName, requestCode).map(RequestManager::getStatistics);
+  }
+
+  /**
+   * Estimates the rate at which a new request would be answered by this peer, given the measured
+   * throughput for this type of request shared among the requests already outstanding. Peers
+   * without measurements are assumed to be fast so that they get the chance to be measured.
+   *
+   * @param protocolName the protocol of the request
+   * @param requestCode the code of the request or of its response
+   * @return the expected throughput in bytes per second
+   */
+  public double expectedThroughput(final String protocolName, final int requestCode) {
+    final double bytesPerSecond =
+        requestStatistics(protocolName, requestCode)
+            .filter(RequestStatistics::hasSamples)
+            .map(RequestStatistics::getBytesPerSecond)
+            .orElse(Double.MAX_VALUE);
+    return bytesPerSecond / (1 + outstandingRequests());
+  }
+
+  /**
+   * Scales the number of items requested by an eth request to what this peer can serve promptly.
+   *
+   * @param requestCode the eth request code
+   * @param maxSize the number of items wanted
+   * @return the number of items to request from this peer
+   */
+  public int requestSize(final int requestCode, final int maxSize) {
+    return requestStatistics(protocolName, requestCode)
+        .map(statistics -> statistics.requestSize(maxSize))
+        .orElse(maxSize);
+  }
+
   public Map<Integer, AtomicInteger> timeoutCounts() {
     return reputation.timeoutCounts();
   }
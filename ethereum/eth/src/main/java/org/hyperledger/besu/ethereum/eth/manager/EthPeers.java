@@ -14,7 +14,12 @@
  */
 package org.hyperledger.besu.ethereum.eth.manager;
 
+import org.hyperledger.besu.ethereum.eth.SnapProtocol;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer.DisconnectCallback;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV62;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV63;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV65;
+import org.hyperledger.besu.ethereum.eth.messages.snap.SnapV1;
 import org.hyperledger.besu.ethereum.eth.peervalidation.PeerValidator;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
 import org.hyperledger.besu.ethereum.p2p.peers.Peer;
@@ -24,6 +29,7 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.permissioning.NodeMessagePermissioningProvider;
 import org.hyperledger.besu.util.Subscribers;
 
@@ -39,6 +45,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -69,6 +76,25 @@ public class EthPeers {
   public static final Comparator<EthPeer> LEAST_TO_MOST_BUSY =
       Comparator.comparing(EthPeer::outstandingRequests)
           .thenComparing(EthPeer::getLastRequestTimestamp);
+
+  private static final Map<Integer, String> ETH_REQUEST_NAMES =
+      Map.of(
+          EthPV62.GET_BLOCK_HEADERS, "GetBlockHeaders",
+          EthPV62.GET_BLOCK_BODIES, "GetBlockBodies",
+          EthPV63.GET_RECEIPTS, "GetReceipts",
+          EthPV63.GET_NODE_DATA, "GetNodeData",
+          EthPV65.GET_POOLED_TRANSACTIONS, "GetPooledTransactions");
+  private static final Map<Integer, String> SNAP_REQUEST_NAMES =
+      Map.of(
+          SnapV1.GET_ACCOUNT_RANGE, "GetAccountRange",
+          SnapV1.GET_STORAGE_RANGE, "GetStorageRange",
+          SnapV1.GET_BYTECODES, "GetByteCodes",
+          SnapV1.GET_TRIE_NODES, "GetTrieNodes");
+  // a request is hedged once it has taken this many times the peer's usual latency
+  private static final double HEDGE_LATENCY_MULTIPLIER = 3.0;
+  private static final long MIN_HEDGE_DELAY_MILLIS = 1_000;
+  private static final long MIN_SAMPLES_TO_HEDGE = 5;
+
   public static final int NODE_ID_LENGTH = 64;
   public static final int USEFULL_PEER_SCORE_THRESHOLD = 102;
 
@@ -98,6 +124,7 @@ public class EthPeers {
   private RlpxAgent rlpxAgent;
 
   private final Counter connectedPeersCounter;
+  private final Counter hedgedRequestsCounter;
 
   public EthPeers(
       final String protocolName,
@@ -140,6 +167,89 @@ public class EthPeers {
     connectedPeersCounter =
         metricsSystem.createCounter(
             BesuMetricCategory.PEERS, "connected_total", "Total number of peers connected");
+    hedgedRequestsCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.PEERS,
+            "hedged_requests_total",
+            "Total number of requests also sent to another peer because the first one was slow");
+    createRequestStatisticsMetrics(metricsSystem);
+  }
+
+  private void createRequestStatisticsMetrics(final MetricsSystem metricsSystem) {
+    final LabelledGauge latency =
+        metricsSystem.createLabelledGauge(
+            BesuMetricCategory.PEERS,
+            "request_latency_milliseconds",
+            "Smoothed response latency of a request type, averaged over the connected peers",
+            "protocol",
+            "request");
+    final LabelledGauge throughput =
+        metricsSystem.createLabelledGauge(
+            BesuMetricCategory.PEERS,
+            "request_throughput_bytes_per_second",
+            "Smoothed response throughput of a request type, averaged over the connected peers",
+            "protocol",
+            "request");
+    final LabelledGauge sizeFactor =
+        metricsSystem.createLabelledGauge(
+            BesuMetricCategory.PEERS,
+            "request_size_factor",
+            "Fraction of the full request size currently asked of peers, averaged over the peers",
+            "protocol",
+            "request");
+    final Map<String, Map<Integer, String>> requestNames =
+        Map.of(protocolName, ETH_REQUEST_NAMES, SnapProtocol.NAME, SNAP_REQUEST_NAMES);
+    requestNames.forEach(
+        (protocol, names) ->
+            names.forEach(
+                (code, name) -> {
+                  latency.labels(
+                      () ->
+                          averageRequestStatistic(
+                              protocol, code, RequestStatistics::getLatencyMillis),
+                      protocol,
+                      name);
+                  throughput.labels(
+                      () ->
+                          averageRequestStatistic(
+                              protocol, code, RequestStatistics::getBytesPerSecond),
+                      protocol,
+                      name);
+                  sizeFactor.labels(
+                      () ->
+                          averageRequestStatistic(
+                              protocol, code, RequestStatistics::getRequestSizeFactor),
+                      protocol,
+                      name);
+                }));
+  }
+
+  private double averageRequestStatistic(
+      final String protocol,
+      final int requestCode,
+      final ToDoubleFunction<RequestStatistics> statistic) {
+    return streamAvailablePeers()
+        .map(peer -> peer.requestStatistics(protocol, requestCode))
+        .flatMap(Optional::stream)
+        .filter(RequestStatistics::hasSamples)
+        .mapToDouble(statistic)
+        .average()
+        .orElse(0);
+  }
+
+  /**
+   * Orders peers from the highest to the lowest expected throughput for a type of request, falling
+   * back to how busy they are.
+   *
+   * @param protocolName the protocol of the request
+   * @param requestCode the code of the request or of its response
+   * @return the comparator
+   */
+  public static Comparator<EthPeer> fastestFirst(final String protocolName, final int requestCode) {
+    return Comparator.comparingDouble(
+            (final EthPeer p) -> p.expectedThroughput(protocolName, requestCode))
+        .reversed()
+        .thenComparing(LEAST_TO_MOST_BUSY);
   }
 
   public void registerNewConnection(
@@ -222,6 +332,86 @@ public class EthPeers {
 
   public PendingPeerRequest executePeerRequest(
       final PeerRequest request, final long minimumBlockNumber, final Optional<EthPeer> peer) {
+    return executePeerRequest(
+        request, minimumBlockNumber, peer, LEAST_TO_MOST_BUSY, Optional.empty());
+  }
+
+  public PendingPeerRequest executePeerRequest(
+      final PeerRequest request,
+      final long minimumBlockNumber,
+      final Optional<EthPeer> peer,
+      final Optional<String> protocolName,
+      final int requestCode) {
+    return executePeerRequest(
+        request,
+        minimumBlockNumber,
+        peer,
+        fastestFirst(protocolName.orElse(this.protocolName), requestCode),
+        Optional.empty());
+  }
+
+  /**
+   * Sends a copy of a request that is taking too long to another peer, leaving the original request
+   * outstanding so that whichever peer answers first wins.
+   *
+   * @param request the request to send again
+   * @param minimumBlockNumber the minimum chain height the other peer must have
+   * @param protocolName the protocol of the request, if not the one peers were registered with
+   * @param requestCode the code of the request or of its response
+   * @param slowPeer the peer the request was originally sent to
+   * @return the pending hedged request
+   */
+  public PendingPeerRequest executeHedgedPeerRequest(
+      final PeerRequest request,
+      final long minimumBlockNumber,
+      final Optional<String> protocolName,
+      final int requestCode,
+      final EthPeer slowPeer) {
+    hedgedRequestsCounter.inc();
+    return executePeerRequest(
+        request,
+        minimumBlockNumber,
+        Optional.empty(),
+        fastestFirst(protocolName.orElse(this.protocolName), requestCode),
+        Optional.of(slowPeer));
+  }
+
+  /**
+   * Gets the clock request latencies are measured with.
+   *
+   * @return the clock
+   */
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * Returns how long to wait for a peer to answer a request before hedging it, or empty if too
+   * little is known about the peer to tell a slow response from a normal one.
+   *
+   * @param peer the peer the request was sent to
+   * @param protocolName the protocol of the request, if not the one peers were registered with
+   * @param requestCode the code of the request or of its response
+   * @return the hedging delay
+   */
+  public Optional<Duration> hedgeDelay(
+      final EthPeer peer, final Optional<String> protocolName, final int requestCode) {
+    return peer.requestStatistics(protocolName.orElse(this.protocolName), requestCode)
+        .filter(statistics -> statistics.getSamples() >= MIN_SAMPLES_TO_HEDGE)
+        .map(
+            statistics ->
+                Duration.ofMillis(
+                    Math.max(
+                        MIN_HEDGE_DELAY_MILLIS,
+                        Math.round(HEDGE_LATENCY_MULTIPLIER * statistics.getLatencyMillis()))));
+  }
+
+  private PendingPeerRequest executePeerRequest(
+      final PeerRequest request,
+      final long minimumBlockNumber,
+      final Optional<EthPeer> peer,
+      final Comparator<EthPeer> peerOrder,
+      final Optional<EthPeer> excludedPeer) {
     final long actualMinBlockNumber;
     if (minimumBlockNumber > 0 && currentProtocolSpecSupplier.get().isPoS()) {
       // if on PoS do not enforce a min block number, since the estimated chain height of the remote
@@ -231,7 +421,8 @@ public class EthPeers {
       actualMinBlockNumber = minimumBlockNumber;
     }
     final PendingPeerRequest pendingPeerRequest =
-        new PendingPeerRequest(this, request, actualMinBlockNumber, peer);
+        new PendingPeerRequest(
+            this, request, actualMinBlockNumber, peer, peerOrder, excludedPeer);
     synchronized (this) {
       if (!pendingPeerRequest.attemptExecution()) {
         pendingRequests.add(pendingPeerRequest);
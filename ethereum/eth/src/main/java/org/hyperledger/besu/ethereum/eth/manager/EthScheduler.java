@@ -75,9 +75,56 @@ public class EthScheduler {
       final int txWorkerQueueSize,
       final int computationWorkerCount,
       final MetricsSystem metricsSystem) {
+    this(
+        syncWorkerCount,
+        txWorkerCount,
+        txWorkerQueueSize,
+        computationWorkerCount,
+        false,
+        metricsSystem);
+  }
+
+  public EthScheduler(
+      final int syncWorkerCount,
+      final int txWorkerCount,
+      final int computationWorkerCount,
+      final boolean virtualThreadsEnabled,
+      final MetricsSystem metricsSystem) {
+    this(
+        syncWorkerCount,
+        txWorkerCount,
+        TX_WORKER_CAPACITY,
+        computationWorkerCount,
+        virtualThreadsEnabled,
+        metricsSystem);
+  }
+
+  /**
+   * Creates a scheduler whose sync worker and services executors, which mostly wait on peers and
+   * storage, may run on virtual threads. Transaction, computation and block creation work is CPU
+   * bound and always runs on platform threads.
+   *
+   * @param syncWorkerCount the maximum number of sync workers
+   * @param txWorkerCount the maximum number of transaction workers
+   * @param txWorkerQueueSize the capacity of the transaction work queue
+   * @param computationWorkerCount the maximum number of computation workers
+   * @param virtualThreadsEnabled whether to use virtual threads for I/O bound executors
+   * @param metricsSystem the metrics system
+   */
+  public EthScheduler(
+      final int syncWorkerCount,
+      final int txWorkerCount,
+      final int txWorkerQueueSize,
+      final int computationWorkerCount,
+      final boolean virtualThreadsEnabled,
+      final MetricsSystem metricsSystem) {
     this(
         MonitoredExecutors.newFixedThreadPool(
-            EthScheduler.class.getSimpleName() + "-Workers", 1, syncWorkerCount, metricsSystem),
+            EthScheduler.class.getSimpleName() + "-Workers",
+            1,
+            syncWorkerCount,
+            virtualThreadsEnabled,
+            metricsSystem),
         MonitoredExecutors.newScheduledThreadPool(
             EthScheduler.class.getSimpleName() + "-Timer", 1, metricsSystem),
         MonitoredExecutors.newBoundedThreadPool(
@@ -87,7 +134,7 @@ public class EthScheduler {
             txWorkerQueueSize,
             metricsSystem),
         MonitoredExecutors.newCachedThreadPool(
-            EthScheduler.class.getSimpleName() + "-Services", metricsSystem),
+            EthScheduler.class.getSimpleName() + "-Services", virtualThreadsEnabled, metricsSystem),
         MonitoredExecutors.newFixedThreadPool(
             EthScheduler.class.getSimpleName() + "-Computation",
             1,
@@ -16,10 +16,8 @@ package org.hyperledger.besu.ethereum.eth.manager;
 
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
-import org.hyperledger.besu.ethereum.core.BlockBody;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Transaction;
-import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.core.encoding.EncodingContext;
 import org.hyperledger.besu.ethereum.core.encoding.TransactionEncoder;
 import org.hyperledger.besu.ethereum.eth.EthProtocolConfiguration;
@@ -43,7 +41,6 @@ import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 
 import org.apache.tuweni.bytes.Bytes;
@@ -157,18 +154,18 @@ class EthServer {
       if (blockNumber < BlockHeader.GENESIS_BLOCK_NUMBER) {
         break;
       }
-      final Optional<BlockHeader> maybeHeader = blockchain.getBlockHeader(blockNumber);
-      if (maybeHeader.isEmpty()) {
+      final Optional<Bytes> maybeHeaderRlp =
+          blockchain.getBlockHashByNumber(blockNumber).flatMap(blockchain::getBlockHeaderRlp);
+      if (maybeHeaderRlp.isEmpty()) {
         break;
       }
-      final BytesValueRLPOutput headerRlp = new BytesValueRLPOutput();
-      maybeHeader.get().writeTo(headerRlp);
-      final int encodedSize = headerRlp.encodedSize();
+      final Bytes headerRlp = maybeHeaderRlp.get();
+      final int encodedSize = headerRlp.size();
       if (responseSizeEstimate + encodedSize > maxMessageSize) {
         break;
       }
       responseSizeEstimate += encodedSize;
-      rlp.writeRaw(headerRlp.encoded());
+      rlp.writeRaw(headerRlp);
     }
     rlp.endList();
 
@@ -192,20 +189,19 @@ class EthServer {
         break;
       }
       count++;
-      final Optional<BlockBody> maybeBody = blockchain.getBlockBody(hash);
-      if (maybeBody.isEmpty()) {
+      // the body is sent as it is stored, without decoding it
+      final Optional<Bytes> maybeBodyRlp = blockchain.getBlockBodyRlp(hash);
+      if (maybeBodyRlp.isEmpty()) {
         continue;
       }
 
-      final BlockBody body = maybeBody.get();
-      final BytesValueRLPOutput bodyOutput = new BytesValueRLPOutput();
-      body.writeWrappedBodyTo(bodyOutput);
-      final int encodedSize = bodyOutput.encodedSize();
+      final Bytes bodyRlp = maybeBodyRlp.get();
+      final int encodedSize = bodyRlp.size();
       if (responseSizeEstimate + encodedSize > maxMessageSize) {
         break;
       }
       responseSizeEstimate += encodedSize;
-      rlp.writeRaw(bodyOutput.encoded());
+      rlp.writeRaw(bodyRlp);
     }
     rlp.endList();
     return BlockBodiesMessage.createUnsafe(rlp.encoded());
@@ -228,21 +224,18 @@ class EthServer {
         break;
       }
       count++;
-      final Optional<List<TransactionReceipt>> maybeReceipts = blockchain.getTxReceipts(hash);
-      if (maybeReceipts.isEmpty()) {
+      final Optional<Bytes> maybeReceiptsRlp = blockchain.getTxReceiptsRlp(hash);
+      if (maybeReceiptsRlp.isEmpty()) {
         continue;
       }
-      final BytesValueRLPOutput encodedReceipts = new BytesValueRLPOutput();
-      encodedReceipts.startList();
-      maybeReceipts.get().forEach(r -> r.writeTo(encodedReceipts));
-      encodedReceipts.endList();
-      final int encodedSize = encodedReceipts.encodedSize();
+      final Bytes receiptsRlp = maybeReceiptsRlp.get();
+      final int encodedSize = receiptsRlp.size();
       if (responseSizeEstimate + encodedSize > maxMessageSize) {
         break;
       }
 
       responseSizeEstimate += encodedSize;
-      rlp.writeRaw(encodedReceipts.encoded());
+      rlp.writeRaw(receiptsRlp);
     }
     rlp.endList();
 
@@ -19,7 +19,10 @@ import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -31,19 +34,47 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class MonitoredExecutors {
+  private static final Logger LOG = LoggerFactory.getLogger(MonitoredExecutors.class);
 
   public static ExecutorService newFixedThreadPool(
       final String name,
       final int minWorkerCount,
       final int workerCount,
       final MetricsSystem metricsSystem) {
+    return newFixedThreadPool(name, minWorkerCount, workerCount, false, metricsSystem);
+  }
+
+  /**
+   * Creates a thread pool with an unbounded work queue.
+   *
+   * @param name the name of the pool, used for thread names and metrics
+   * @param minWorkerCount the number of workers to keep alive when idle
+   * @param workerCount the maximum number of workers
+   * @param virtualThreads whether workers should be virtual threads, when the JVM supports them
+   * @param metricsSystem the metrics system
+   * @return the executor
+   */
+  public static ExecutorService newFixedThreadPool(
+      final String name,
+      final int minWorkerCount,
+      final int workerCount,
+      final boolean virtualThreads,
+      final MetricsSystem metricsSystem) {
     return newFixedThreadPool(
-        name, minWorkerCount, workerCount, new LinkedBlockingQueue<>(), metricsSystem);
+        name,
+        minWorkerCount,
+        workerCount,
+        new LinkedBlockingQueue<>(),
+        virtualThreads,
+        metricsSystem);
   }
 
   public static ExecutorService newBoundedThreadPool(
@@ -65,6 +96,7 @@ public class MonitoredExecutors {
         minWorkerCount,
         maxWorkerCount,
         new BoundedQueue(queueSize, toMetricName(name), metricsSystem),
+        false,
         metricsSystem);
   }
 
@@ -73,12 +105,14 @@ public class MonitoredExecutors {
       final int minWorkerCount,
       final int maxWorkerCount,
       final BlockingQueue<Runnable> workingQueue,
+      final boolean virtualThreads,
       final MetricsSystem metricsSystem) {
     return newMonitoredExecutor(
         name,
+        virtualThreads,
         metricsSystem,
         (rejectedExecutionHandler, threadFactory) ->
-            new ThreadPoolExecutor(
+            new TimedThreadPoolExecutor(
                 minWorkerCount,
                 maxWorkerCount,
                 60L,
@@ -93,13 +127,35 @@ public class MonitoredExecutors {
     return newCachedThreadPool(name, 0, metricsSystem);
   }
 
+  /**
+   * Creates a thread pool which starts a new worker whenever none is idle.
+   *
+   * @param name the name of the pool, used for thread names and metrics
+   * @param virtualThreads whether workers should be virtual threads, when the JVM supports them
+   * @param metricsSystem the metrics system
+   * @return the executor
+   */
+  public static ExecutorService newCachedThreadPool(
+      final String name, final boolean virtualThreads, final MetricsSystem metricsSystem) {
+    return newCachedThreadPool(name, 0, virtualThreads, metricsSystem);
+  }
+
   public static ExecutorService newCachedThreadPool(
       final String name, final int corePoolSize, final MetricsSystem metricsSystem) {
+    return newCachedThreadPool(name, corePoolSize, false, metricsSystem);
+  }
+
+  private static ExecutorService newCachedThreadPool(
+      final String name,
+      final int corePoolSize,
+      final boolean virtualThreads,
+      final MetricsSystem metricsSystem) {
     return newMonitoredExecutor(
         name,
+        virtualThreads,
         metricsSystem,
         (rejectedExecutionHandler, threadFactory) ->
-            new ThreadPoolExecutor(
+            new TimedThreadPoolExecutor(
                 corePoolSize,
                 Integer.MAX_VALUE,
                 60L,
@@ -113,6 +169,7 @@ public class MonitoredExecutors {
       final String name, final int corePoolSize, final MetricsSystem metricsSystem) {
     return newMonitoredExecutor(
         name,
+        false,
         metricsSystem,
         (rejectedExecutionHandler, threadFactory) ->
             new ScheduledThreadPoolExecutor(corePoolSize, threadFactory, rejectedExecutionHandler));
@@ -125,6 +182,7 @@ public class MonitoredExecutors {
 
   private static <T extends ThreadPoolExecutor> T newMonitoredExecutor(
       final String name,
+      final boolean virtualThreads,
       final MetricsSystem metricsSystem,
       final BiFunction<RejectedExecutionHandler, ThreadFactory, T> creator) {
 
@@ -133,7 +191,10 @@ public class MonitoredExecutors {
     final T executor =
         creator.apply(
             new CountingAbortPolicy(metricName, metricsSystem),
-            new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+            virtualThreads
+                ? virtualThreadFactory(name)
+                    .orElseGet(() -> platformThreadFactory(name, "virtual threads unavailable"))
+                : platformThreadFactory(name, null));
 
     metricsSystem.createIntegerGauge(
         BesuMetricCategory.EXECUTORS,
@@ -165,13 +226,114 @@ public class MonitoredExecutors {
         "Total number of tasks executed",
         executor::getTaskCount);
 
+    if (executor instanceof TimedThreadPoolExecutor) {
+      final TimedThreadPoolExecutor timedExecutor = (TimedThreadPoolExecutor) executor;
+      metricsSystem.createGauge(
+          BesuMetricCategory.EXECUTORS,
+          metricName + "_task_time_seconds_total",
+          "Total wall clock time spent running tasks",
+          timedExecutor::getTaskTimeSeconds);
+
+      metricsSystem.createGauge(
+          BesuMetricCategory.EXECUTORS,
+          metricName + "_task_blocked_time_seconds_total",
+          "Total time tasks spent off CPU, where thread CPU time is measurable",
+          timedExecutor::getTaskBlockedTimeSeconds);
+    }
+
     return executor;
   }
 
+  private static ThreadFactory platformThreadFactory(final String name, final String reason) {
+    if (reason != null) {
+      LOG.warn("Using platform threads for {}: {}", name, reason);
+    }
+    return new ThreadFactoryBuilder().setNameFormat(name + "-%d").build();
+  }
+
+  /**
+   * Looks up a virtual thread factory reflectively, since virtual threads are only available from
+   * Java 21 while the code base targets Java 17.
+   *
+   * @param name the thread name prefix
+   * @return the virtual thread factory if the running JVM supports virtual threads
+   */
+  private static Optional<ThreadFactory> virtualThreadFactory(final String name) {
+    try {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Object namedBuilder =
+          builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+      return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(namedBuilder));
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      LOG.debug("Virtual threads are not supported by this JVM", e);
+      return Optional.empty();
+    }
+  }
+
   private static String toMetricName(final String name) {
     return name.toLowerCase(Locale.US).replace('-', '_');
   }
 
+  /**
+   * Thread pool executor which accumulates the wall clock time of its tasks and, where the JVM can
+   * measure the CPU time of the worker thread, the part of it not spent on the CPU. Virtual threads
+   * do not support CPU time measurement, so only their wall clock time is accumulated.
+   */
+  private static class TimedThreadPoolExecutor extends ThreadPoolExecutor {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final ThreadLocal<long[]> taskStart = ThreadLocal.withInitial(() -> new long[2]);
+    private final LongAdder taskTimeNanos = new LongAdder();
+    private final LongAdder taskBlockedTimeNanos = new LongAdder();
+
+    TimedThreadPoolExecutor(
+        final int corePoolSize,
+        final int maximumPoolSize,
+        final long keepAliveTime,
+        final TimeUnit unit,
+        final BlockingQueue<Runnable> workQueue,
+        final ThreadFactory threadFactory,
+        final RejectedExecutionHandler handler) {
+      super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+    }
+
+    @Override
+    protected void beforeExecute(final Thread thread, final Runnable task) {
+      super.beforeExecute(thread, task);
+      final long[] start = taskStart.get();
+      start[0] = System.nanoTime();
+      start[1] = currentThreadCpuTime();
+    }
+
+    @Override
+    protected void afterExecute(final Runnable task, final Throwable error) {
+      final long[] start = taskStart.get();
+      final long taskTime = System.nanoTime() - start[0];
+      taskTimeNanos.add(taskTime);
+      final long cpuTime = currentThreadCpuTime();
+      if (start[1] >= 0 && cpuTime >= 0) {
+        taskBlockedTimeNanos.add(Math.max(0, taskTime - (cpuTime - start[1])));
+      }
+      super.afterExecute(task, error);
+    }
+
+    double getTaskTimeSeconds() {
+      return taskTimeNanos.sum() / NANOS_PER_SECOND;
+    }
+
+    double getTaskBlockedTimeSeconds() {
+      return taskBlockedTimeNanos.sum() / NANOS_PER_SECOND;
+    }
+
+    private static long currentThreadCpuTime() {
+      return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+          ? THREAD_MX_BEAN.getCurrentThreadCpuTime()
+          : -1;
+    }
+  }
+
   private static class CountingAbortPolicy extends AbortPolicy {
 
     private final Counter rejectedTaskCounter;
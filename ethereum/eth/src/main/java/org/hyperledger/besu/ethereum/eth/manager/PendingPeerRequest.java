@@ -19,6 +19,7 @@ import org.hyperledger.besu.ethereum.eth.manager.exceptions.NoAvailablePeersExce
 import org.hyperledger.besu.ethereum.eth.manager.exceptions.PeerDisconnectedException;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 
+import java.util.Comparator;
 import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -31,16 +32,22 @@ public class PendingPeerRequest {
   private final CompletableFuture<ResponseStream> result = new CompletableFuture<>();
   private final long minimumBlockNumber;
   private final Optional<EthPeer> peer;
+  private final Comparator<EthPeer> peerOrder;
+  private final Optional<EthPeer> excludedPeer;
 
   PendingPeerRequest(
       final EthPeers ethPeers,
       final PeerRequest request,
       final long minimumBlockNumber,
-      final Optional<EthPeer> peer) {
+      final Optional<EthPeer> peer,
+      final Comparator<EthPeer> peerOrder,
+      final Optional<EthPeer> excludedPeer) {
     this.ethPeers = ethPeers;
     this.request = request;
     this.minimumBlockNumber = minimumBlockNumber;
     this.peer = peer;
+    this.peerOrder = peerOrder;
+    this.excludedPeer = excludedPeer;
   }
 
   /**
@@ -86,7 +93,10 @@ public class PendingPeerRequest {
         : ethPeers
             .streamAvailablePeers()
             .filter(peer -> peer.chainState().getEstimatedHeight() >= minimumBlockNumber)
-            .min(EthPeers.LEAST_TO_MOST_BUSY);
+            .filter(peer -> excludedPeer.map(excluded -> !excluded.equals(peer)).orElse(true))
+            .min(
+                Comparator.comparing((final EthPeer p) -> !p.hasAvailableRequestCapacity())
+                    .thenComparing(peerOrder));
   }
 
   /**
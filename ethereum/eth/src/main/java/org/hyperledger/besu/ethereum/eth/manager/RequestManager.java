@@ -20,6 +20,7 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage;
 import org.hyperledger.besu.ethereum.rlp.RLPException;
 
 import java.math.BigInteger;
+import java.time.Clock;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -44,12 +45,26 @@ public class RequestManager {
   private final String protocolName;
 
   private final AtomicInteger outstandingRequests = new AtomicInteger(0);
+  private final Clock clock;
+  private final RequestStatistics statistics = new RequestStatistics();
+  // send times of outstanding requests, by request id or in sending order for legacy peers
+  private final Map<BigInteger, Long> requestTimestamps = new ConcurrentHashMap<>();
+  private final Queue<Long> legacyRequestTimestamps = new ConcurrentLinkedQueue<>();
 
   public RequestManager(
       final EthPeer peer, final boolean supportsRequestId, final String protocolName) {
+    this(peer, supportsRequestId, protocolName, Clock.systemUTC());
+  }
+
+  public RequestManager(
+      final EthPeer peer,
+      final boolean supportsRequestId,
+      final String protocolName,
+      final Clock clock) {
     this.peer = peer;
     this.supportsRequestId = supportsRequestId;
     this.protocolName = protocolName;
+    this.clock = clock;
   }
 
   public int outstandingRequests() {
@@ -60,11 +75,20 @@ public class RequestManager {
     return protocolName;
   }
 
+  public RequestStatistics getStatistics() {
+    return statistics;
+  }
+
   public ResponseStream dispatchRequest(final RequestSender sender, final MessageData messageData)
       throws PeerNotConnected {
     outstandingRequests.incrementAndGet();
     final BigInteger requestId = BigInteger.valueOf(requestIdCounter.getAndIncrement());
     final ResponseStream stream = createStream(requestId);
+    if (supportsRequestId) {
+      requestTimestamps.put(requestId, clock.millis());
+    } else {
+      legacyRequestTimestamps.add(clock.millis());
+    }
     sender.send(supportsRequestId ? messageData.wrapMessageData(requestId) : messageData);
     return stream;
   }
@@ -77,6 +101,8 @@ public class RequestManager {
         // If there's a requestId, find the specific stream it belongs to
         final Map.Entry<BigInteger, MessageData> requestIdAndEthMessage =
             ethMessage.getData().unwrapMessageData();
+        recordResponse(
+            requestTimestamps.remove(requestIdAndEthMessage.getKey()), ethMessage.getData());
         Optional.ofNullable(responseStreams.get(requestIdAndEthMessage.getKey()))
             .ifPresentOrElse(
                 responseStream -> responseStream.processMessage(requestIdAndEthMessage.getValue()),
@@ -86,6 +112,7 @@ public class RequestManager {
 
       } else {
         // otherwise iterate through all of them
+        recordResponse(legacyRequestTimestamps.poll(), ethMessage.getData());
         streams.forEach(stream -> stream.processMessage(ethMessage.getData()));
       }
     } catch (final RLPException e) {
@@ -100,10 +127,31 @@ public class RequestManager {
 
     if (count == 0) {
       // No possibility of any remaining outstanding messages
+      legacyRequestTimestamps.clear();
       closeOutstandingStreams(streams);
     }
   }
 
+  private void recordResponse(final Long requestTimestamp, final MessageData response) {
+    if (requestTimestamp != null) {
+      statistics.recordResponse(clock.millis() - requestTimestamp, response.getSize());
+    }
+  }
+
+  /**
+   * Records that a request timed out, charging the statistics with the age of the oldest request
+   * still waiting for a response.
+   */
+  public void recordTimeout() {
+    final long now = clock.millis();
+    // legacy responses are matched in sending order, the timed out request will not get one
+    final long oldestRequest =
+        supportsRequestId
+            ? requestTimestamps.values().stream().min(Long::compare).orElse(now)
+            : Optional.ofNullable(legacyRequestTimestamps.poll()).orElse(now);
+    statistics.recordTimeout(now - oldestRequest);
+  }
+
   public void close() {
     closeOutstandingStreams(responseStreams.values());
   }
@@ -121,6 +169,7 @@ public class RequestManager {
 
   private void deregisterStream(final BigInteger id) {
     responseStreams.remove(id);
+    requestTimestamps.remove(id);
   }
 
   @FunctionalInterface
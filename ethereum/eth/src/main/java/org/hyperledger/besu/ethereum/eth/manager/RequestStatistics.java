@@ -0,0 +1,105 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.manager;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Tracks how quickly a peer answers one type of request. Latency and throughput are exponentially
+ * weighted moving averages over the observed responses, and the request size factor is adjusted
+ * additively on timely responses and multiplicatively on slow ones or timeouts, so request batches
+ * shrink for peers that cannot keep up and grow back once they do.
+ */
+public class RequestStatistics {
+  static final double SMOOTHING_FACTOR = 0.25;
+  static final long SLOW_RESPONSE_MILLIS = 2_000;
+  static final double MIN_REQUEST_SIZE_FACTOR = 0.125;
+  static final double REQUEST_SIZE_INCREMENT = 0.125;
+  static final double SLOW_RESPONSE_DECREASE = 0.75;
+  static final double TIMEOUT_DECREASE = 0.5;
+
+  private long samples = 0;
+  private double latencyMillis = 0;
+  private double bytesPerSecond = 0;
+  private double requestSizeFactor = 1.0;
+
+  public synchronized void recordResponse(final long latencyMillis, final int responseBytes) {
+    final long elapsed = Math.max(1, latencyMillis);
+    addSample(elapsed, responseBytes * 1000.0 / elapsed);
+    if (elapsed > SLOW_RESPONSE_MILLIS) {
+      decreaseRequestSize(SLOW_RESPONSE_DECREASE);
+    } else {
+      requestSizeFactor = Math.min(1.0, requestSizeFactor + REQUEST_SIZE_INCREMENT);
+    }
+  }
+
+  public synchronized void recordTimeout(final long elapsedMillis) {
+    addSample(Math.max(SLOW_RESPONSE_MILLIS, Math.max(latencyMillis, elapsedMillis)), 0);
+    decreaseRequestSize(TIMEOUT_DECREASE);
+  }
+
+  private void addSample(final double latency, final double throughput) {
+    if (samples == 0) {
+      latencyMillis = latency;
+      bytesPerSecond = throughput;
+    } else {
+      latencyMillis += SMOOTHING_FACTOR * (latency - latencyMillis);
+      bytesPerSecond += SMOOTHING_FACTOR * (throughput - bytesPerSecond);
+    }
+    samples++;
+  }
+
+  private void decreaseRequestSize(final double factor) {
+    requestSizeFactor = Math.max(MIN_REQUEST_SIZE_FACTOR, requestSizeFactor * factor);
+  }
+
+  /**
+   * Scales a request size to what this peer has recently been able to serve.
+   *
+   * @param maxSize the size that would be requested from a peer without any history
+   * @return a size between 1 and {@code maxSize}
+   */
+  public synchronized int requestSize(final int maxSize) {
+    checkArgument(maxSize >= 0, "Request size must not be negative");
+    return maxSize == 0 ? 0 : (int) Math.max(1, Math.round(maxSize * requestSizeFactor));
+  }
+
+  public synchronized boolean hasSamples() {
+    return samples > 0;
+  }
+
+  public synchronized long getSamples() {
+    return samples;
+  }
+
+  public synchronized double getLatencyMillis() {
+    return latencyMillis;
+  }
+
+  public synchronized double getBytesPerSecond() {
+    return bytesPerSecond;
+  }
+
+  public synchronized double getRequestSizeFactor() {
+    return requestSizeFactor;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return String.format(
+        "RequestStatistics samples: %d, latency: %.0fms, throughput: %.0fB/s, size factor: %.3f",
+        samples, latencyMillis, bytesPerSecond, requestSizeFactor);
+  }
+}
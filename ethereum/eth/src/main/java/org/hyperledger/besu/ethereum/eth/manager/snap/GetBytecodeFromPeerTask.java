@@ -19,6 +19,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.eth.SnapProtocol;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.manager.PendingPeerRequest;
@@ -50,7 +51,7 @@ public class GetBytecodeFromPeerTask extends AbstractPeerRequestTask<Map<Bytes32
       final List<Bytes32> codeHashes,
       final BlockHeader blockHeader,
       final MetricsSystem metricsSystem) {
-    super(ethContext, SnapV1.STORAGE_RANGE, metricsSystem);
+    super(ethContext, SnapProtocol.NAME, SnapV1.BYTECODES, metricsSystem);
     this.codeHashes = codeHashes;
     this.blockHeader = blockHeader;
   }
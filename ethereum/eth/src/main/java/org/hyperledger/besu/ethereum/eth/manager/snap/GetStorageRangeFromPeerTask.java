@@ -15,6 +15,7 @@
 package org.hyperledger.besu.ethereum.eth.manager.snap;
 
 import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.eth.SnapProtocol;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.manager.PendingPeerRequest;
@@ -48,7 +49,7 @@ public class GetStorageRangeFromPeerTask
       final Bytes32 endKeyHash,
       final BlockHeader blockHeader,
       final MetricsSystem metricsSystem) {
-    super(ethContext, SnapV1.STORAGE_RANGE, metricsSystem);
+    super(ethContext, SnapProtocol.NAME, SnapV1.STORAGE_RANGE, metricsSystem);
     this.accountHashes = accountHashes;
     this.startKeyHash = startKeyHash;
     this.endKeyHash = endKeyHash;
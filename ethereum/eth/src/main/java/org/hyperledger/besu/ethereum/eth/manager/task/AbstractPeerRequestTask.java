@@ -39,12 +39,28 @@ public abstract class AbstractPeerRequestTask<R> extends AbstractPeerTask<R> {
   private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
 
   private Duration timeout = DEFAULT_TIMEOUT;
+  // empty for requests of the protocol the peers were registered with
+  private final Optional<String> protocolName;
   private final int requestCode;
   private volatile PendingPeerRequest responseStream;
+  private volatile Optional<PendingPeerRequest> hedgedResponseStream = Optional.empty();
+  private volatile PeerRequest request;
+  private volatile long minimumBlockNumber;
 
   protected AbstractPeerRequestTask(
       final EthContext ethContext, final int requestCode, final MetricsSystem metricsSystem) {
     super(ethContext, metricsSystem);
+    this.protocolName = Optional.empty();
+    this.requestCode = requestCode;
+  }
+
+  protected AbstractPeerRequestTask(
+      final EthContext ethContext,
+      final String protocolName,
+      final int requestCode,
+      final MetricsSystem metricsSystem) {
+    super(ethContext, metricsSystem);
+    this.protocolName = Optional.of(protocolName);
     this.requestCode = requestCode;
   }
 
@@ -55,12 +71,14 @@ public abstract class AbstractPeerRequestTask<R> extends AbstractPeerTask<R> {
 
   @Override
   protected final void executeTask() {
-    final CompletableFuture<R> promise = new CompletableFuture<>();
+    final CompletableFuture<PeerTaskResult<R>> promise = new CompletableFuture<>();
     responseStream = sendRequest();
     responseStream.then(
         stream -> {
           // Start the timeout now that the request has actually been sent
           ethContext.getScheduler().failAfterTimeout(promise, timeout);
+          scheduleHedgedRequest(
+              promise, stream.getPeer(), ethContext.getEthPeers().getClock().millis());
 
           stream.then(
               (streamClosed, message, peer1) ->
@@ -72,26 +90,88 @@ public abstract class AbstractPeerRequestTask<R> extends AbstractPeerTask<R> {
         (r, t) -> {
           final Optional<RequestManager.ResponseStream> responseStream =
               this.responseStream.abort();
+          hedgedResponseStream
+              .flatMap(PendingPeerRequest::abort)
+              .ifPresent(RequestManager.ResponseStream::close);
           if (t != null) {
             t = ExceptionUtils.rootCause(t);
             if (t instanceof TimeoutException && responseStream.isPresent()) {
-              responseStream.get().getPeer().recordRequestTimeout(requestCode);
+              final EthPeer peer = responseStream.get().getPeer();
+              peer.recordRequestTimeout(
+                  protocolName.orElseGet(peer::getProtocolName), requestCode);
             }
             result.completeExceptionally(t);
           } else if (r != null) {
-            // If we got a response we must have had a response stream...
-            result.complete(new PeerTaskResult<>(responseStream.get().getPeer(), r));
+            result.complete(r);
           }
         });
   }
 
+  /**
+   * Once the peer has taken much longer than usual to answer, sends the same request to another
+   * peer as well and takes whichever response comes first. Requests assigned to a specific peer are
+   * never hedged.
+   */
+  private void scheduleHedgedRequest(
+      final CompletableFuture<PeerTaskResult<R>> promise,
+      final EthPeer peer,
+      final long sentAtMillis) {
+    if (assignedPeer.isPresent() || request == null) {
+      return;
+    }
+    ethContext
+        .getEthPeers()
+        .hedgeDelay(peer, protocolName, requestCode)
+        .filter(delay -> delay.compareTo(timeout) < 0)
+        .ifPresent(
+            delay ->
+                ethContext
+                    .getScheduler()
+                    .scheduleFutureTask(
+                        () -> sendHedgedRequest(promise, peer, sentAtMillis, delay), delay));
+  }
+
+  private void sendHedgedRequest(
+      final CompletableFuture<PeerTaskResult<R>> promise,
+      final EthPeer slowPeer,
+      final long sentAtMillis,
+      final Duration delay) {
+    if (promise.isDone()
+        || ethContext.getEthPeers().getClock().millis() - sentAtMillis < delay.toMillis()) {
+      return;
+    }
+    final PendingPeerRequest hedgedRequest =
+        ethContext
+            .getEthPeers()
+            .executeHedgedPeerRequest(
+                request, minimumBlockNumber, protocolName, requestCode, slowPeer);
+    hedgedResponseStream = Optional.of(hedgedRequest);
+    hedgedRequest.then(
+        stream ->
+            stream.then(
+                (streamClosed, message, peer) -> {
+                  // only the original request may end the task without a response
+                  if (!streamClosed) {
+                    handleMessage(promise, false, message, peer);
+                  }
+                }),
+        error -> LOG.trace("Unable to hedge request sent to {}", slowPeer.getLoggableId(), error));
+    if (promise.isDone()) {
+      hedgedRequest.abort().ifPresent(RequestManager.ResponseStream::close);
+    }
+  }
+
   public PendingPeerRequest sendRequestToPeer(
       final PeerRequest request, final long minimumBlockNumber) {
-    return ethContext.getEthPeers().executePeerRequest(request, minimumBlockNumber, assignedPeer);
+    this.request = request;
+    this.minimumBlockNumber = minimumBlockNumber;
+    return ethContext
+        .getEthPeers()
+        .executePeerRequest(request, minimumBlockNumber, assignedPeer, protocolName, requestCode);
   }
 
   private void handleMessage(
-      final CompletableFuture<R> promise,
+      final CompletableFuture<PeerTaskResult<R>> promise,
       final boolean streamClosed,
       final MessageData message,
       final EthPeer peer) {
@@ -103,7 +183,7 @@ public abstract class AbstractPeerRequestTask<R> extends AbstractPeerTask<R> {
       final Optional<R> result = processResponse(streamClosed, message, peer);
       result.ifPresent(
           r -> {
-            promise.complete(r);
+            promise.complete(new PeerTaskResult<>(peer, r));
             peer.recordUsefulResponse();
           });
     } catch (final RLPException e) {
@@ -122,6 +202,9 @@ public abstract class AbstractPeerRequestTask<R> extends AbstractPeerTask<R> {
   protected void cleanup() {
     super.cleanup();
     responseStream.abort().ifPresent(RequestManager.ResponseStream::close);
+    hedgedResponseStream
+        .flatMap(PendingPeerRequest::abort)
+        .ifPresent(RequestManager.ResponseStream::close);
   }
 
   protected abstract PendingPeerRequest sendRequest();
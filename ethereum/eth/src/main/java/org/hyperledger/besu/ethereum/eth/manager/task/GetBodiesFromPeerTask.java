@@ -19,7 +19,9 @@ import static com.google.common.base.Preconditions.checkArgument;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockBodyView;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.core.Deposit;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.Withdrawal;
@@ -30,6 +32,7 @@ import org.hyperledger.besu.ethereum.eth.messages.BlockBodiesMessage;
 import org.hyperledger.besu.ethereum.eth.messages.EthPV62;
 import org.hyperledger.besu.ethereum.mainnet.BodyValidation;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 
@@ -93,12 +96,14 @@ public class GetBodiesFromPeerTask extends AbstractPeerRequestTask<List<Block>>
 
     return sendRequestToPeer(
         peer -> {
+          // slow peers are asked for fewer bodies, the rest are requested again by the caller
+          final int requestSize = peer.requestSize(EthPV62.GET_BLOCK_BODIES, blockHashes.size());
           LOG.atTrace()
               .setMessage("Requesting {} bodies from peer {}.")
-              .addArgument(blockHashes.size())
+              .addArgument(requestSize)
               .addArgument(peer)
               .log();
-          return peer.getBodies(blockHashes);
+          return peer.getBodies(blockHashes.subList(0, requestSize));
         },
         minimumRequiredBlockNumber);
   }
@@ -114,7 +119,8 @@ public class GetBodiesFromPeerTask extends AbstractPeerRequestTask<List<Block>>
     }
 
     final BlockBodiesMessage bodiesMessage = BlockBodiesMessage.readFrom(message);
-    final List<BlockBody> bodies = bodiesMessage.bodies(protocolSchedule);
+    // bodies are matched to headers from their encoding and only decoded once matched
+    final List<BlockBodyView> bodies = bodiesMessage.bodyViews();
     if (bodies.size() == 0) {
       // Message contains no data - nothing to do
       LOG.debug("Message contains no data. Peer: {}", peer);
@@ -125,14 +131,17 @@ public class GetBodiesFromPeerTask extends AbstractPeerRequestTask<List<Block>>
       return Optional.empty();
     }
 
+    final BlockHeaderFunctions blockHeaderFunctions =
+        ScheduleBasedBlockHeaderFunctions.create(protocolSchedule);
     final List<Block> blocks = new ArrayList<>(headers.size());
-    for (final BlockBody body : bodies) {
-      final List<BlockHeader> headers = bodyToHeaders.get(new BodyIdentifier(body));
+    for (final BlockBodyView bodyView : bodies) {
+      final List<BlockHeader> headers = bodyToHeaders.get(new BodyIdentifier(bodyView));
       if (headers == null) {
         // This message contains unrelated bodies - exit
         LOG.debug("This message contains unrelated bodies. Peer: {}", peer);
         return Optional.empty();
       }
+      final BlockBody body = bodyView.decode(blockHeaderFunctions);
       headers.forEach(h -> blocks.add(new Block(h, body)));
       // Clear processed headers
       headers.clear();
@@ -168,6 +177,14 @@ public class GetBodiesFromPeerTask extends AbstractPeerRequestTask<List<Block>>
       this(body.getTransactions(), body.getOmmers(), body.getWithdrawals(), body.getDeposits());
     }
 
+    public BodyIdentifier(final BlockBodyView body) {
+      this(
+          body.getTransactionsRoot(),
+          body.getOmmersHash(),
+          body.getWithdrawalsRoot().orElse(null),
+          body.getDepositsRoot().orElse(null));
+    }
+
     public BodyIdentifier(
         final List<Transaction> transactions,
         final List<BlockHeader> ommers,
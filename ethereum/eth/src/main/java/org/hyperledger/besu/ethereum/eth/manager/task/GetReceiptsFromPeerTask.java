@@ -83,12 +83,14 @@ public class GetReceiptsFromPeerTask
             .collect(toList());
     return sendRequestToPeer(
         peer -> {
+          // slow peers are asked for fewer receipts, the rest are requested again by the caller
+          final int requestSize = peer.requestSize(EthPV63.GET_RECEIPTS, blockHashes.size());
           LOG.atTrace()
               .setMessage("Requesting {} receipts from peer {}...")
-              .addArgument(blockHeaders::size)
+              .addArgument(requestSize)
               .addArgument(peer::getLoggableId)
               .log();
-          return peer.getReceipts(blockHashes);
+          return peer.getReceipts(blockHashes.subList(0, requestSize));
         },
         maximumRequiredBlockNumber);
   }
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.ethereum.eth.messages;
 
 import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockBodyView;
 import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
@@ -22,8 +23,11 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.AbstractMessageData;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPInput;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
+import org.hyperledger.besu.ethereum.rlp.RLPListView;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.tuweni.bytes.Bytes;
 
@@ -73,4 +77,16 @@ public final class BlockBodiesMessage extends AbstractMessageData {
     return new BytesValueRLPInput(data, false)
         .readList(rlp -> BlockBody.readWrappedBodyFrom(rlp, blockHeaderFunctions, true));
   }
+
+  /**
+   * Returns lazily decoded views of the bodies, which are slices of the message data.
+   *
+   * @return the views of the bodies of the message
+   */
+  public List<BlockBodyView> bodyViews() {
+    final RLPListView bodies = RLPListView.wrap(data);
+    return IntStream.range(0, bodies.size())
+        .mapToObj(i -> BlockBodyView.wrap(bodies.raw(i)))
+        .collect(Collectors.toList());
+  }
 }
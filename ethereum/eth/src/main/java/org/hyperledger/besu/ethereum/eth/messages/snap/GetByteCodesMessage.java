@@ -51,20 +51,34 @@ public final class GetByteCodesMessage extends AbstractSnapMessageData {
     return create(Optional.empty(), codeHashes);
   }
 
+  public static GetByteCodesMessage create(
+      final List<Bytes32> codeHashes, final BigInteger responseBytes) {
+    return create(Optional.empty(), codeHashes, responseBytes);
+  }
+
   public static GetByteCodesMessage create(
       final Optional<BigInteger> requestId, final List<Bytes32> codeHashes) {
+    return create(requestId, codeHashes, SIZE_REQUEST);
+  }
+
+  public static GetByteCodesMessage create(
+      final Optional<BigInteger> requestId,
+      final List<Bytes32> codeHashes,
+      final BigInteger responseBytes) {
     final BytesValueRLPOutput tmp = new BytesValueRLPOutput();
     tmp.startList();
     requestId.ifPresent(tmp::writeBigIntegerScalar);
     tmp.writeList(codeHashes, (hash, rlpOutput) -> rlpOutput.writeBytes(hash));
-    tmp.writeBigIntegerScalar(SIZE_REQUEST);
+    tmp.writeBigIntegerScalar(responseBytes);
     tmp.endList();
     return new GetByteCodesMessage(tmp.encoded());
   }
 
   @Override
   protected Bytes wrap(final BigInteger requestId) {
-    return create(Optional.of(requestId), codeHashes(false).hashes()).getData();
+    final CodeHashes codeHashes = codeHashes(false);
+    return create(Optional.of(requestId), codeHashes.hashes(), codeHashes.responseBytes())
+        .getData();
   }
 
   @Override
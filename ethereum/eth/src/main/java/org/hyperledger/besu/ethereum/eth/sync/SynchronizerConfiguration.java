@@ -51,6 +51,7 @@ public class SynchronizerConfiguration {
       TimeUnit.SECONDS.toMillis(60);
 
   public static final boolean DEFAULT_CHECKPOINT_POST_MERGE_ENABLED = false;
+  public static final boolean DEFAULT_VIRTUAL_THREADS_ENABLED = false;
 
   // Fast sync config
   private final int fastSyncPivotDistance;
@@ -72,6 +73,7 @@ public class SynchronizerConfiguration {
 
   // Near head Checkpoint sync
   private final boolean checkpointPostMergeEnabled;
+  private final boolean virtualThreadsEnabled;
 
   // Downloader config
   private final long downloaderChangeTargetThresholdByHeight;
@@ -108,7 +110,8 @@ public class SynchronizerConfiguration {
       final int computationParallelism,
       final int maxTrailingPeers,
       final long propagationManagerGetBlockTimeoutMillis,
-      final boolean checkpointPostMergeEnabled) {
+      final boolean checkpointPostMergeEnabled,
+      final boolean virtualThreadsEnabled) {
     this.fastSyncPivotDistance = fastSyncPivotDistance;
     this.fastSyncFullValidationRate = fastSyncFullValidationRate;
     this.fastSyncMinimumPeerCount = fastSyncMinimumPeerCount;
@@ -131,6 +134,7 @@ public class SynchronizerConfiguration {
     this.maxTrailingPeers = maxTrailingPeers;
     this.propagationManagerGetBlockTimeoutMillis = propagationManagerGetBlockTimeoutMillis;
     this.checkpointPostMergeEnabled = checkpointPostMergeEnabled;
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
   }
 
   public static Builder builder() {
@@ -150,6 +154,15 @@ public class SynchronizerConfiguration {
     return checkpointPostMergeEnabled;
   }
 
+  /**
+   * Whether the I/O bound sync worker and services executors run their tasks on virtual threads.
+   *
+   * @return true if virtual threads are enabled
+   */
+  public boolean isVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
   /**
    * All the configuration related to snapsync
    *
@@ -283,6 +296,7 @@ public class SynchronizerConfiguration {
     private long propagationManagerGetBlockTimeoutMillis =
         DEFAULT_PROPAGATION_MANAGER_GET_BLOCK_TIMEOUT_MILLIS;
     private boolean checkpointPostMergeEnabled = DEFAULT_CHECKPOINT_POST_MERGE_ENABLED;
+    private boolean virtualThreadsEnabled = DEFAULT_VIRTUAL_THREADS_ENABLED;
 
     public Builder fastSyncPivotDistance(final int distance) {
       fastSyncPivotDistance = distance;
@@ -406,6 +420,11 @@ public class SynchronizerConfiguration {
       return this;
     }
 
+    public Builder virtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+      this.virtualThreadsEnabled = virtualThreadsEnabled;
+      return this;
+    }
+
     public SynchronizerConfiguration build() {
       return new SynchronizerConfiguration(
           fastSyncPivotDistance,
@@ -429,7 +448,8 @@ public class SynchronizerConfiguration {
           computationParallelism,
           maxTrailingPeers,
           propagationManagerGetBlockTimeoutMillis,
-          checkpointPostMergeEnabled);
+          checkpointPostMergeEnabled,
+          virtualThreadsEnabled);
     }
   }
 }
@@ -54,7 +54,7 @@ public class PersistDataStep {
 
   public List<Task<SnapDataRequest>> persist(final List<Task<SnapDataRequest>> tasks) {
     try {
-      final WorldStateKeyValueStorage.Updater updater = worldStateStorageCoordinator.updater();
+      final WorldStateKeyValueStorage.Updater updater = createUpdater();
       for (Task<SnapDataRequest> task : tasks) {
         if (task.getData().isResponseReceived()) {
           // enqueue child requests
@@ -137,6 +137,15 @@ public class PersistDataStep {
     return tasks;
   }
 
+  private WorldStateKeyValueStorage.Updater createUpdater() {
+    // ranges are written once and not read back before the commit, the heal writes small
+    // batches of trie nodes which are cheaper to write with a regular transaction
+    if (snapSyncConfiguration.isBulkLoadEnabled() && !snapSyncState.isHealTrieInProgress()) {
+      return worldStateStorageCoordinator.bulkLoadUpdater();
+    }
+    return worldStateStorageCoordinator.updater();
+  }
+
   public Task<SnapDataRequest> persist(final Task<SnapDataRequest> task) {
     return persist(List.of(task)).get(0);
   }
@@ -126,8 +126,9 @@ public class RangeManager {
       return Optional.empty();
     } else {
       final Map<Bytes32, Bytes> proofsEntries = new HashMap<>();
-      for (Bytes proof : proofs) {
-        proofsEntries.put(Hash.hash(proof), proof);
+      final List<Hash> proofHashes = Hash.hashAll(proofs);
+      for (int i = 0; i < proofs.size(); i++) {
+        proofsEntries.put(proofHashes.get(i), proofs.get(i));
       }
       final StoredMerklePatriciaTrie<Bytes, Bytes> storageTrie =
           new StoredMerklePatriciaTrie<>(
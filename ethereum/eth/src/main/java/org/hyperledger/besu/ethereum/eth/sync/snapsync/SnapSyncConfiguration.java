@@ -38,6 +38,14 @@ public class SnapSyncConfiguration {
 
   public static final Boolean DEFAULT_IS_FLAT_DB_HEALING_ENABLED = Boolean.FALSE;
 
+  public static final Boolean DEFAULT_IS_BULK_LOAD_ENABLED = Boolean.FALSE;
+
+  public static final int DEFAULT_TRIENODE_QUEUE_HOT_WINDOW_SIZE =
+      0; // The default number of pending trienode requests kept in memory, 0 to keep them all.
+
+  public static final int TRIENODE_QUEUE_BATCH_SIZE =
+      4096; // The number of pending trienode requests moved to or from disk at once.
+
   public static SnapSyncConfiguration getDefault() {
     return ImmutableSnapSyncConfiguration.builder().build();
   }
@@ -81,4 +89,14 @@ public class SnapSyncConfiguration {
   public Boolean isFlatDbHealingEnabled() {
     return DEFAULT_IS_FLAT_DB_HEALING_ENABLED;
   }
+
+  @Value.Default
+  public int getTrienodeQueueHotWindowSize() {
+    return DEFAULT_TRIENODE_QUEUE_HOT_WINDOW_SIZE;
+  }
+
+  @Value.Default
+  public Boolean isBulkLoadEnabled() {
+    return DEFAULT_IS_BULK_LOAD_ENABLED;
+  }
 }
@@ -68,8 +68,7 @@ public class SnapWorldDownloadState extends WorldDownloadState<SnapDataRequest>
       new InMemoryTaskQueue<>();
   protected final InMemoryTaskQueue<SnapDataRequest> pendingCodeRequests =
       new InMemoryTaskQueue<>();
-  protected final InMemoryTasksPriorityQueues<SnapDataRequest> pendingTrieNodeRequests =
-      new InMemoryTasksPriorityQueues<>();
+  protected final TaskCollection<SnapDataRequest> pendingTrieNodeRequests;
 
   protected final InMemoryTasksPriorityQueues<SnapDataRequest>
       pendingAccountFlatDatabaseHealingRequests = new InMemoryTasksPriorityQueues<>();
@@ -99,12 +98,37 @@ public class SnapWorldDownloadState extends WorldDownloadState<SnapDataRequest>
       final long minMillisBeforeStalling,
       final SnapSyncMetricsManager metricsManager,
       final Clock clock) {
+    this(
+        worldStateStorageCoordinator,
+        snapContext,
+        blockchain,
+        snapSyncState,
+        pendingRequests,
+        new InMemoryTasksPriorityQueues<>(),
+        maxRequestsWithoutProgress,
+        minMillisBeforeStalling,
+        metricsManager,
+        clock);
+  }
+
+  public SnapWorldDownloadState(
+      final WorldStateStorageCoordinator worldStateStorageCoordinator,
+      final SnapSyncStatePersistenceManager snapContext,
+      final Blockchain blockchain,
+      final SnapSyncProcessState snapSyncState,
+      final InMemoryTasksPriorityQueues<SnapDataRequest> pendingRequests,
+      final TaskCollection<SnapDataRequest> pendingTrieNodeRequests,
+      final int maxRequestsWithoutProgress,
+      final long minMillisBeforeStalling,
+      final SnapSyncMetricsManager metricsManager,
+      final Clock clock) {
     super(
         worldStateStorageCoordinator,
         pendingRequests,
         maxRequestsWithoutProgress,
         minMillisBeforeStalling,
         clock);
+    this.pendingTrieNodeRequests = pendingTrieNodeRequests;
     this.snapContext = snapContext;
     this.blockchain = blockchain;
     this.snapSyncState = snapSyncState;
@@ -26,6 +26,7 @@ import org.hyperledger.besu.ethereum.eth.sync.fastsync.FastSyncState;
 import org.hyperledger.besu.ethereum.eth.sync.snapsync.context.SnapSyncStatePersistenceManager;
 import org.hyperledger.besu.ethereum.eth.sync.snapsync.request.AccountRangeDataRequest;
 import org.hyperledger.besu.ethereum.eth.sync.snapsync.request.SnapDataRequest;
+import org.hyperledger.besu.ethereum.eth.sync.snapsync.request.heal.TrieNodeHealingRequestSerializer;
 import org.hyperledger.besu.ethereum.eth.sync.worldstate.WorldStateDownloader;
 import org.hyperledger.besu.ethereum.trie.bonsai.storage.BonsaiWorldStateKeyValueStorage;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateStorageCoordinator;
@@ -33,6 +34,8 @@ import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.storage.DataStorageFormat;
 import org.hyperledger.besu.services.tasks.InMemoryTasksPriorityQueues;
+import org.hyperledger.besu.services.tasks.PersistentTasksPriorityQueues;
+import org.hyperledger.besu.services.tasks.TaskCollection;
 
 import java.time.Clock;
 import java.util.HashSet;
@@ -104,6 +107,19 @@ public class SnapWorldStateDownloader implements WorldStateDownloader {
         downloadStateValue(SnapWorldDownloadState::getOutstandingTaskCount));
   }
 
+  private TaskCollection<SnapDataRequest> createPendingTrieNodeRequests() {
+    final int hotWindowSize = snapSyncConfiguration.getTrienodeQueueHotWindowSize();
+    if (hotWindowSize <= 0) {
+      return new InMemoryTasksPriorityQueues<>();
+    }
+    // keep the highest priority requests in memory and move the others to disk
+    return new PersistentTasksPriorityQueues<>(
+        snapContext.getPendingTasksStorage(),
+        new TrieNodeHealingRequestSerializer(),
+        hotWindowSize,
+        SnapSyncConfiguration.TRIENODE_QUEUE_BATCH_SIZE);
+  }
+
   private IntSupplier downloadStateValue(final Function<SnapWorldDownloadState, Integer> getter) {
     return () -> {
       final SnapWorldDownloadState state = this.downloadState.get();
@@ -143,6 +159,7 @@ public class SnapWorldStateDownloader implements WorldStateDownloader {
               protocolContext.getBlockchain(),
               snapSyncState,
               snapTaskCollection,
+              createPendingTrieNodeRequests(),
               maxNodeRequestsWithoutProgress,
               minMillisBeforeStalling,
               snapsyncMetricsManager,
@@ -21,6 +21,7 @@ import org.hyperledger.besu.ethereum.eth.sync.snapsync.request.SnapDataRequest;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPInput;
 import org.hyperledger.besu.ethereum.storage.StorageProvider;
 import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
 
 import java.io.IOException;
 import java.math.BigInteger;
@@ -47,6 +48,7 @@ public class SnapSyncStatePersistenceManager {
   private final GenericKeyValueStorageFacade<BigInteger, AccountRangeDataRequest>
       accountRangeToDownload;
   private final GenericKeyValueStorageFacade<BigInteger, Bytes> healContext;
+  private final KeyValueStorage pendingTasksStorage;
 
   public SnapSyncStatePersistenceManager(final StorageProvider storageProvider) {
     this.accountRangeToDownload =
@@ -82,6 +84,9 @@ public class SnapSyncStatePersistenceManager {
             },
             storageProvider.getStorageBySegmentIdentifier(
                 KeyValueSegmentIdentifier.SNAPSYNC_ACCOUNT_TO_FIX));
+    this.pendingTasksStorage =
+        storageProvider.getStorageBySegmentIdentifier(
+            KeyValueSegmentIdentifier.SNAPSYNC_PENDING_TASKS);
   }
 
   /**
@@ -133,6 +138,16 @@ public class SnapSyncStatePersistenceManager {
         .collect(Collectors.toCollection(HashSet::new));
   }
 
+  /**
+   * Returns the storage used to move pending healing requests out of memory. Its content is only
+   * meaningful to the running sync and is not reloaded after a restart.
+   *
+   * @return the pending tasks storage
+   */
+  public KeyValueStorage getPendingTasksStorage() {
+    return pendingTasksStorage;
+  }
+
   public void clearAccountRangeTasks() {
     accountRangeToDownload.clear();
   }
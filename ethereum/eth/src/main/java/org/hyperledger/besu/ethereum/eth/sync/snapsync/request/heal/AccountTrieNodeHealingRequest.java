@@ -89,6 +89,10 @@ public class AccountTrieNodeHealingRequest extends TrieNodeHealingRequest {
         childHash, getRootHash(), location, getSubLocation(location));
   }
 
+  HashSet<Bytes> getInconsistentAccounts() {
+    return inconsistentAccounts;
+  }
+
   private HashSet<Bytes> getSubLocation(final Bytes location) {
     final HashSet<Bytes> foundAccountsToHeal = new HashSet<>();
     for (Bytes account : inconsistentAccounts) {
@@ -127,6 +127,21 @@ public abstract class TrieNodeHealingRequest extends SnapDataRequest
     return possibleParent.isEmpty();
   }
 
+  Optional<TrieNodeHealingRequest> getParent() {
+    return possibleParent;
+  }
+
+  /**
+   * Restores the position in the trie of a request read back from disk, without registering it
+   * again as a pending child of its parent.
+   */
+  void restorePosition(
+      final Optional<TrieNodeHealingRequest> parent, final int depth, final long priority) {
+    this.possibleParent = parent;
+    this.depth = depth;
+    this.priority = priority;
+  }
+
   @Override
   public boolean isResponseReceived() {
     return !data.isEmpty() && Hash.hash(data).equals(getNodeHash());
@@ -0,0 +1,145 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.sync.snapsync.request.heal;
+
+import static org.hyperledger.besu.ethereum.eth.sync.snapsync.request.SnapDataRequest.createAccountTrieNodeDataRequest;
+import static org.hyperledger.besu.ethereum.eth.sync.snapsync.request.SnapDataRequest.createStorageTrieNodeDataRequest;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.eth.sync.snapsync.request.SnapDataRequest;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+import org.hyperledger.besu.services.tasks.TaskDataSerializer;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Serializes pending trie node healing requests which are moved to disk.
+ *
+ * <p>A pending request references its parent, which is only persisted once all of its children are.
+ * The parents stay in memory while their children are on disk: each one is given an id, written
+ * with the children, and released once all of its children have been read back.
+ *
+ * <p>This class is not thread safe, it relies on the task collection to synchronize access.
+ */
+public class TrieNodeHealingRequestSerializer implements TaskDataSerializer<SnapDataRequest> {
+
+  private static final byte ACCOUNT_TRIE_NODE = 0;
+  private static final byte STORAGE_TRIE_NODE = 1;
+  private static final long NO_PARENT = 0;
+
+  private final Map<TrieNodeHealingRequest, Long> parentIds = new IdentityHashMap<>();
+  private final Map<Long, SpilledParent> spilledParents = new HashMap<>();
+  private long nextParentId = NO_PARENT + 1;
+
+  @Override
+  public byte[] serialize(final SnapDataRequest data) {
+    final TrieNodeHealingRequest request = (TrieNodeHealingRequest) data;
+    final long parentId = request.getParent().map(this::retainParent).orElse(NO_PARENT);
+    return RLP.encode(
+            out -> {
+              out.startList();
+              if (request instanceof StorageTrieNodeHealingRequest) {
+                out.writeByte(STORAGE_TRIE_NODE);
+                out.writeBytes(((StorageTrieNodeHealingRequest) request).getAccountHash());
+              } else {
+                out.writeByte(ACCOUNT_TRIE_NODE);
+                out.writeList(
+                    ((AccountTrieNodeHealingRequest) request).getInconsistentAccounts(),
+                    (account, accountOut) -> accountOut.writeBytes(account));
+              }
+              out.writeBytes(request.getNodeHash());
+              out.writeBytes(request.getRootHash());
+              out.writeBytes(request.getLocation());
+              out.writeBytes(request.data);
+              out.writeByte(request.isRequiresPersisting() ? (byte) 1 : (byte) 0);
+              out.writeIntScalar(request.getDepth());
+              out.writeLongScalar(request.getPriority());
+              out.writeLongScalar(parentId);
+              out.endList();
+            })
+        .toArrayUnsafe();
+  }
+
+  @Override
+  public SnapDataRequest deserialize(final byte[] bytes) {
+    final RLPInput in = RLP.input(Bytes.wrap(bytes));
+    in.enterList();
+    final byte type = in.readByte();
+    final Hash accountHash = type == STORAGE_TRIE_NODE ? Hash.wrap(in.readBytes32()) : null;
+    final HashSet<Bytes> inconsistentAccounts =
+        type == ACCOUNT_TRIE_NODE ? new HashSet<>(in.readList(RLPInput::readBytes)) : null;
+    final Hash nodeHash = Hash.wrap(in.readBytes32());
+    final Hash rootHash = Hash.wrap(in.readBytes32());
+    final Bytes location = in.readBytes();
+    final Bytes data = in.readBytes();
+    final boolean requiresPersisting = in.readByte() == 1;
+    final int depth = in.readIntScalar();
+    final long priority = in.readLongScalar();
+    final long parentId = in.readLongScalar();
+    in.leaveList();
+
+    final TrieNodeHealingRequest request =
+        type == STORAGE_TRIE_NODE
+            ? createStorageTrieNodeDataRequest(nodeHash, accountHash, rootHash, location)
+            : createAccountTrieNodeDataRequest(nodeHash, rootHash, location, inconsistentAccounts);
+    request.setData(data);
+    request.setRequiresPersisting(requiresPersisting);
+    request.restorePosition(releaseParent(parentId), depth, priority);
+    return request;
+  }
+
+  @Override
+  public void clear() {
+    parentIds.clear();
+    spilledParents.clear();
+  }
+
+  private long retainParent(final TrieNodeHealingRequest parent) {
+    final long parentId = parentIds.computeIfAbsent(parent, __ -> nextParentId++);
+    spilledParents.computeIfAbsent(parentId, __ -> new SpilledParent(parent)).spilledChildren++;
+    return parentId;
+  }
+
+  private Optional<TrieNodeHealingRequest> releaseParent(final long parentId) {
+    if (parentId == NO_PARENT) {
+      return Optional.empty();
+    }
+    final SpilledParent spilledParent = spilledParents.get(parentId);
+    if (spilledParent == null) {
+      throw new IllegalStateException("Unknown parent of spilled trie node request " + parentId);
+    }
+    if (--spilledParent.spilledChildren == 0) {
+      spilledParents.remove(parentId);
+      parentIds.remove(spilledParent.request);
+    }
+    return Optional.of(spilledParent.request);
+  }
+
+  private static class SpilledParent {
+    private final TrieNodeHealingRequest request;
+    private int spilledChildren;
+
+    private SpilledParent(final TrieNodeHealingRequest request) {
+      this.request = request;
+    }
+  }
+}
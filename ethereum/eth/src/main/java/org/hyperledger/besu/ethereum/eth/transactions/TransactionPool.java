@@ -29,6 +29,7 @@ import org.hyperledger.besu.ethereum.chain.BlockAddedObserver;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.TransactionSenderCache;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
@@ -234,6 +235,8 @@ public class TransactionPool implements BlockAddedObserver {
               PendingTransaction.newPendingTransaction(transaction, isLocal, hasPriority),
               validationResult.maybeAccount);
       if (status.isSuccess()) {
+        // keep the sender cached until the transaction is included and its block imported
+        TransactionSenderCache.getInstance().seed(transaction);
         LOG.atTrace()
             .setMessage("Added {} transaction {}")
             .addArgument(() -> isLocal ? "local" : "remote")
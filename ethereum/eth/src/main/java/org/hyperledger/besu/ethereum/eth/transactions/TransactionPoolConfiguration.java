@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.eth.transactions;
 
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.ethereum.core.TransactionSenderCache;
 import org.hyperledger.besu.plugin.services.TransactionPoolValidatorService;
 import org.hyperledger.besu.plugin.services.txvalidator.PluginTransactionPoolValidator;
 import org.hyperledger.besu.plugin.services.txvalidator.PluginTransactionPoolValidatorFactory;
@@ -37,6 +38,7 @@ public interface TransactionPoolConfiguration {
   interface Unstable {
     Duration ETH65_TRX_ANNOUNCED_BUFFERING_PERIOD = Duration.ofMillis(500);
     int DEFAULT_TX_MSG_KEEP_ALIVE = 60;
+    long DEFAULT_SENDER_CACHE_SIZE = TransactionSenderCache.DEFAULT_CAPACITY;
 
     TransactionPoolConfiguration.Unstable DEFAULT =
         ImmutableTransactionPoolConfiguration.Unstable.builder().build();
@@ -50,6 +52,17 @@ public interface TransactionPoolConfiguration {
     default int getTxMessageKeepAliveSeconds() {
       return DEFAULT_TX_MSG_KEEP_ALIVE;
     }
+
+    /**
+     * The minimum number of transaction senders to cache, the cache is grown further if needed to
+     * hold the senders of all the pooled transactions.
+     *
+     * @return the minimum capacity of the sender cache
+     */
+    @Value.Default
+    default long getSenderCacheSize() {
+      return DEFAULT_SENDER_CACHE_SIZE;
+    }
   }
 
   enum Implementation {
@@ -18,6 +18,7 @@ import static org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolConf
 
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.core.MiningParameters;
+import org.hyperledger.besu.ethereum.core.TransactionSenderCache;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.messages.EthPV62;
 import org.hyperledger.besu.ethereum.eth.messages.EthPV65;
@@ -40,6 +41,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import java.time.Clock;
 import java.util.function.BiFunction;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,6 +60,7 @@ public class TransactionPoolFactory {
       final MiningParameters miningParameters) {
 
     final TransactionPoolMetrics metrics = new TransactionPoolMetrics(metricsSystem);
+    TransactionSenderCache.registerMetrics(metricsSystem);
 
     final PeerTransactionTracker transactionTracker = new PeerTransactionTracker();
     final TransactionsMessageSender transactionsMessageSender =
@@ -95,6 +98,8 @@ public class TransactionPoolFactory {
       final BlobCache blobCache,
       final MiningParameters miningParameters) {
 
+    TransactionSenderCache.ensureCapacity(senderCacheCapacity(transactionPoolConfiguration));
+
     final TransactionPool transactionPool =
         new TransactionPool(
             () ->
@@ -214,6 +219,28 @@ public class TransactionPoolFactory {
     pooledTransactionsMessageHandler.setDisabled();
   }
 
+  /**
+   * The sender cache must hold the senders of all the pooled transactions, so they are still
+   * cached when the block including them is imported, with the same room again for the
+   * transactions gossiped but not pooled and for the ones included in recent blocks.
+   */
+  @VisibleForTesting
+  static long senderCacheCapacity(final TransactionPoolConfiguration poolConfig) {
+    final long maxPooledTransactions;
+    if (poolConfig.getTxPoolImplementation().equals(LAYERED)) {
+      // ready and sparse layers, filled with the smallest possible transactions
+      final long minTransactionSize =
+          PendingTransaction.FRONTIER_AND_ACCESS_LIST_SHALLOW_MEMORY_SIZE
+              + PendingTransaction.PENDING_TRANSACTION_MEMORY_SIZE;
+      maxPooledTransactions =
+          poolConfig.getMaxPrioritizedTransactions()
+              + 2 * poolConfig.getPendingTransactionsLayerMaxCapacityBytes() / minTransactionSize;
+    } else {
+      maxPooledTransactions = poolConfig.getTxPoolMaxSize();
+    }
+    return Math.max(poolConfig.getUnstable().getSenderCacheSize(), 2 * maxPooledTransactions);
+  }
+
   private static void subscribeTransactionHandlers(
       final ProtocolContext protocolContext,
       final EthContext ethContext,
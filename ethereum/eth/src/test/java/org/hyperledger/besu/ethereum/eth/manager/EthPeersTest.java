@@ -27,8 +27,10 @@ import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.eth.EthProtocol;
 import org.hyperledger.besu.ethereum.eth.manager.exceptions.NoAvailablePeersException;
 import org.hyperledger.besu.ethereum.eth.manager.exceptions.PeerDisconnectedException;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV63;
 import org.hyperledger.besu.ethereum.eth.messages.NodeDataMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.DisconnectReason;
@@ -154,6 +156,74 @@ public class EthPeersTest {
     assertRequestSuccessful(pendingRequest);
   }
 
+  @Test
+  public void shouldUsePeerWithHighestMeasuredThroughputForRequest() throws Exception {
+    final EthPeer slowPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000).getEthPeer();
+    final EthPeer fastPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000).getEthPeer();
+    recordResponse(slowPeer, 1_000);
+    recordResponse(fastPeer, 100_000);
+
+    final PendingPeerRequest pendingRequest =
+        ethPeers.executePeerRequest(
+            peerRequest, 10, Optional.empty(), Optional.empty(), EthPV63.GET_NODE_DATA);
+
+    verify(peerRequest).sendRequest(fastPeer);
+    assertRequestSuccessful(pendingRequest);
+  }
+
+  @Test
+  public void shouldUseUnmeasuredPeerBeforeMeasuredOnes() throws Exception {
+    final EthPeer measuredPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000).getEthPeer();
+    final EthPeer unmeasuredPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000).getEthPeer();
+    recordResponse(measuredPeer, 100_000);
+
+    final PendingPeerRequest pendingRequest =
+        ethPeers.executePeerRequest(
+            peerRequest, 10, Optional.empty(), Optional.empty(), EthPV63.GET_NODE_DATA);
+
+    verify(peerRequest).sendRequest(unmeasuredPeer);
+    assertRequestSuccessful(pendingRequest);
+  }
+
+  @Test
+  public void shouldUseSlowerPeerWhenFasterPeerHasNoCapacity() throws Exception {
+    final EthPeer slowPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000).getEthPeer();
+    final EthPeer busyFastPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000).getEthPeer();
+    recordResponse(slowPeer, 1_000);
+    recordResponse(busyFastPeer, 100_000);
+    useAllAvailableCapacity(busyFastPeer);
+
+    final PendingPeerRequest pendingRequest =
+        ethPeers.executePeerRequest(
+            peerRequest, 10, Optional.empty(), Optional.empty(), EthPV63.GET_NODE_DATA);
+
+    verify(peerRequest).sendRequest(slowPeer);
+    assertRequestSuccessful(pendingRequest);
+  }
+
+  @Test
+  public void shouldNotSendHedgedRequestToTheSlowPeer() throws Exception {
+    final EthPeer slowPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000).getEthPeer();
+    final EthPeer otherPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000).getEthPeer();
+    recordResponse(slowPeer, 100_000);
+    recordResponse(otherPeer, 1_000);
+
+    final PendingPeerRequest pendingRequest =
+        ethPeers.executeHedgedPeerRequest(
+            peerRequest, 10, Optional.empty(), EthPV63.GET_NODE_DATA, slowPeer);
+
+    verify(peerRequest).sendRequest(otherPeer);
+    assertRequestSuccessful(pendingRequest);
+  }
+
   @Test
   public void shouldFailWithNoAvailablePeersWhenNoPeersConnected() {
     final PendingPeerRequest pendingRequest =
@@ -349,6 +419,12 @@ public class EthPeersTest {
     assertThat(ethPeers.toString()).contains(peerA.getLoggableId());
   }
 
+  private void recordResponse(final EthPeer peer, final int responseBytes) {
+    peer.requestStatistics(EthProtocol.NAME, EthPV63.GET_NODE_DATA)
+        .orElseThrow()
+        .recordResponse(100, responseBytes);
+  }
+
   private void freeUpCapacity(final EthPeer ethPeer) {
     ethPeers.dispatchMessage(ethPeer, new EthMessage(ethPeer, NodeDataMessage.create(emptyList())));
   }
@@ -347,9 +347,15 @@ public class EthServerTest {
     final List<Block> blocks = dataGenerator.blockSequence(count);
     for (Block block : blocks) {
       when(blockchain.getBlockBody(block.getHash())).thenReturn(Optional.of(block.getBody()));
+      when(blockchain.getBlockBodyRlp(block.getHash()))
+          .thenReturn(Optional.of(RLP.encode(block.getBody()::writeWrappedBodyTo)));
       when(blockchain.getBlockHeader(block.getHash())).thenReturn(Optional.of(block.getHeader()));
       when(blockchain.getBlockHeader(block.getHeader().getNumber()))
           .thenReturn(Optional.of(block.getHeader()));
+      when(blockchain.getBlockHeaderRlp(block.getHash()))
+          .thenReturn(Optional.of(RLP.encode(block.getHeader()::writeTo)));
+      when(blockchain.getBlockHashByNumber(block.getHeader().getNumber()))
+          .thenReturn(Optional.of(block.getHash()));
     }
 
     return blocks;
@@ -361,6 +367,10 @@ public class EthServerTest {
     for (Block block : blocks) {
       final List<TransactionReceipt> receipts = dataGenerator.receipts(block);
       when(blockchain.getTxReceipts(block.getHash())).thenReturn(Optional.of(receipts));
+      when(blockchain.getTxReceiptsRlp(block.getHash()))
+          .thenReturn(
+              Optional.of(
+                  RLP.encode(out -> out.writeList(receipts, TransactionReceipt::writeTo))));
       txReceiptsByHash.put(block.getHash(), receipts);
     }
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.metrics.StubMetricsSystem;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class MonitoredExecutorsTest {
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private ExecutorService executor;
+
+  @AfterEach
+  public void tearDown() throws InterruptedException {
+    executor.shutdownNow();
+    executor.awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void shouldRunTasksWhenVirtualThreadsRequested() throws Exception {
+    executor = MonitoredExecutors.newFixedThreadPool("Test-Workers", 1, 2, true, metricsSystem);
+
+    final String threadName = executor.submit(() -> Thread.currentThread().getName()).get();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+    // Falls back to platform threads on JVMs without virtual thread support
+    assertThat(threadName).startsWith("Test-Workers-");
+    assertThat(metricsSystem.getGaugeValue("test_workers_completed_tasks_total")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldAccumulateTaskTime() throws Exception {
+    executor = MonitoredExecutors.newCachedThreadPool("Test-Services", true, metricsSystem);
+
+    executor
+        .submit(
+            () -> {
+              Thread.sleep(20);
+              return null;
+            })
+        .get();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(metricsSystem.getGaugeValue("test_services_task_time_seconds_total"))
+        .isGreaterThanOrEqualTo(0.02);
+  }
+}
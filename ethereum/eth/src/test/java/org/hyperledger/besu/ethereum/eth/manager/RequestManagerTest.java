@@ -275,6 +275,61 @@ public class RequestManagerTest {
     assertThat(receivedMessagesA.size() + receivedMessagesB.size()).isEqualTo(1);
   }
 
+  @Test
+  public void recordsLatencyAndThroughputOfResponses() throws Exception {
+    final TestClock clock = new TestClock();
+    final EthPeer peer = createPeer();
+    final RequestManager requestManager = new RequestManager(peer, true, EthProtocol.NAME, clock);
+
+    requestManager.dispatchRequest(__ -> {}, new RawMessage(0x01, Bytes.EMPTY));
+    clock.stepMillis(200);
+    final EthMessage response = mockMessage(peer, true);
+    requestManager.dispatchResponse(response);
+
+    final RequestStatistics statistics = requestManager.getStatistics();
+    assertThat(statistics.getSamples()).isEqualTo(1);
+    assertThat(statistics.getLatencyMillis()).isEqualTo(200);
+    assertThat(statistics.getBytesPerSecond())
+        .isEqualTo(response.getData().getSize() * 1000.0 / 200);
+  }
+
+  @Test
+  public void recordsTimeoutWithAgeOfOldestOutstandingRequest() throws Exception {
+    final TestClock clock = new TestClock();
+    final EthPeer peer = createPeer();
+    final RequestManager requestManager = new RequestManager(peer, true, EthProtocol.NAME, clock);
+
+    requestManager.dispatchRequest(__ -> {}, new RawMessage(0x01, Bytes.EMPTY));
+    clock.stepMillis(6_000);
+    requestManager.recordTimeout();
+
+    final RequestStatistics statistics = requestManager.getStatistics();
+    assertThat(statistics.getLatencyMillis()).isEqualTo(6_000);
+    assertThat(statistics.getBytesPerSecond()).isZero();
+    assertThat(statistics.getRequestSizeFactor()).isEqualTo(RequestStatistics.TIMEOUT_DECREASE);
+  }
+
+  @Test
+  public void timedOutLegacyRequestIsNotChargedToTheNextResponse() throws Exception {
+    final TestClock clock = new TestClock();
+    final EthPeer peer = createPeer();
+    final RequestManager requestManager = new RequestManager(peer, false, EthProtocol.NAME, clock);
+
+    requestManager.dispatchRequest(__ -> {}, new RawMessage(0x01, Bytes.EMPTY));
+    clock.stepMillis(5_000);
+    requestManager.dispatchRequest(__ -> {}, new RawMessage(0x01, Bytes.EMPTY));
+    clock.stepMillis(1_000);
+    requestManager.recordTimeout();
+    clock.stepMillis(500);
+    requestManager.dispatchResponse(mockMessage(peer, false));
+
+    // the response is matched with the second request, sent 1500 ms earlier
+    final RequestStatistics statistics = requestManager.getStatistics();
+    assertThat(statistics.getSamples()).isEqualTo(2);
+    assertThat(statistics.getLatencyMillis())
+        .isEqualTo(6_000 + RequestStatistics.SMOOTHING_FACTOR * (1_500 - 6_000));
+  }
+
   private EthMessage mockMessage(final EthPeer peer, final boolean supportsRequestId) {
     if (!supportsRequestId) {
       return new EthMessage(peer, new RawMessage(1, Bytes.EMPTY));
@@ -0,0 +1,87 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hyperledger.besu.ethereum.eth.manager.RequestStatistics.MIN_REQUEST_SIZE_FACTOR;
+import static org.hyperledger.besu.ethereum.eth.manager.RequestStatistics.SLOW_RESPONSE_MILLIS;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestStatisticsTest {
+
+  private final RequestStatistics statistics = new RequestStatistics();
+
+  @Test
+  public void shouldRequestFullSizeWithoutHistory() {
+    assertThat(statistics.hasSamples()).isFalse();
+    assertThat(statistics.requestSize(128)).isEqualTo(128);
+    assertThat(statistics.requestSize(0)).isZero();
+  }
+
+  @Test
+  public void shouldUseFirstResponseAsEstimate() {
+    statistics.recordResponse(500, 1000);
+
+    assertThat(statistics.getSamples()).isEqualTo(1);
+    assertThat(statistics.getLatencyMillis()).isEqualTo(500);
+    assertThat(statistics.getBytesPerSecond()).isEqualTo(2000);
+  }
+
+  @Test
+  public void shouldSmoothLaterResponses() {
+    statistics.recordResponse(100, 1000);
+    statistics.recordResponse(500, 1000);
+
+    assertThat(statistics.getLatencyMillis()).isEqualTo(200);
+    assertThat(statistics.getBytesPerSecond()).isEqualTo(8000);
+  }
+
+  @Test
+  public void shouldShrinkRequestsOnTimeoutsDownToMinimum() {
+    statistics.recordTimeout(5_000);
+    assertThat(statistics.requestSize(128)).isEqualTo(64);
+    assertThat(statistics.getBytesPerSecond()).isZero();
+
+    for (int i = 0; i < 10; i++) {
+      statistics.recordTimeout(5_000);
+    }
+    assertThat(statistics.getRequestSizeFactor()).isEqualTo(MIN_REQUEST_SIZE_FACTOR);
+    assertThat(statistics.requestSize(128)).isEqualTo(16);
+    assertThat(statistics.requestSize(2)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldShrinkRequestsOnSlowResponsesAndGrowBackOnFastOnes() {
+    statistics.recordResponse(SLOW_RESPONSE_MILLIS + 1, 1000);
+    assertThat(statistics.requestSize(128)).isEqualTo(96);
+
+    statistics.recordResponse(100, 1000);
+    assertThat(statistics.requestSize(128)).isEqualTo(112);
+
+    statistics.recordResponse(100, 1000);
+    statistics.recordResponse(100, 1000);
+    assertThat(statistics.requestSize(128)).isEqualTo(128);
+  }
+
+  @Test
+  public void shouldChargeTimeoutsAtLeastTheSlowResponseLatency() {
+    statistics.recordResponse(100, 1000);
+    statistics.recordTimeout(0);
+
+    assertThat(statistics.getLatencyMillis())
+        .isEqualTo(100 + RequestStatistics.SMOOTHING_FACTOR * (SLOW_RESPONSE_MILLIS - 100));
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.manager.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.eth.EthProtocol;
+import org.hyperledger.besu.ethereum.eth.manager.EthContext;
+import org.hyperledger.besu.ethereum.eth.manager.EthMessage;
+import org.hyperledger.besu.ethereum.eth.manager.EthMessages;
+import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
+import org.hyperledger.besu.ethereum.eth.manager.EthPeers;
+import org.hyperledger.besu.ethereum.eth.manager.PeerRequest;
+import org.hyperledger.besu.ethereum.eth.manager.PendingPeerRequest;
+import org.hyperledger.besu.ethereum.eth.manager.RequestManager;
+import org.hyperledger.besu.ethereum.eth.manager.RequestManager.ResponseStream;
+import org.hyperledger.besu.ethereum.eth.manager.task.AbstractPeerTask.PeerTaskResult;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.RawMessage;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.testutil.DeterministicEthScheduler;
+import org.hyperledger.besu.testutil.TestClock;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AbstractPeerRequestTaskTest {
+
+  private static final int REQUEST_CODE = 0x0d;
+  private static final Duration HEDGE_DELAY = Duration.ofSeconds(1);
+
+  private final TestClock clock = new TestClock();
+  private final EthPeers ethPeers = mock(EthPeers.class);
+  private final DeterministicEthScheduler scheduler = new DeterministicEthScheduler();
+  private final EthContext ethContext = new EthContext(ethPeers, new EthMessages(), scheduler);
+  private final PeerRequest peerRequest = mock(PeerRequest.class);
+
+  private final EthPeer slowPeer = mock(EthPeer.class);
+  private final EthPeer fastPeer = mock(EthPeer.class);
+  private final RequestManager slowRequestManager =
+      new RequestManager(slowPeer, false, EthProtocol.NAME);
+  private final RequestManager fastRequestManager =
+      new RequestManager(fastPeer, false, EthProtocol.NAME);
+  private PendingPeerRequest originalRequest;
+  private PendingPeerRequest hedgedRequest;
+
+  @BeforeEach
+  public void setup() throws Exception {
+    // scheduled hedges only run when the test asks for it
+    scheduler.disableAutoRun();
+    when(ethPeers.getClock()).thenReturn(clock);
+    when(ethPeers.hedgeDelay(slowPeer, Optional.empty(), REQUEST_CODE))
+        .thenReturn(Optional.of(HEDGE_DELAY));
+    originalRequest = sentTo(slowRequestManager);
+    hedgedRequest = sentTo(fastRequestManager);
+    when(ethPeers.executePeerRequest(
+            eq(peerRequest), anyLong(), any(), eq(Optional.empty()), eq(REQUEST_CODE)))
+        .thenReturn(originalRequest);
+    when(ethPeers.executeHedgedPeerRequest(
+            peerRequest, 0, Optional.empty(), REQUEST_CODE, slowPeer))
+        .thenReturn(hedgedRequest);
+  }
+
+  @Test
+  public void hedgesRequestToAnotherPeerAfterTheDelay() {
+    final CompletableFuture<PeerTaskResult<MessageData>> result = new TestTask().run();
+    verify(ethPeers, never()).executeHedgedPeerRequest(any(), anyLong(), any(), anyInt(), any());
+
+    clock.stepMillis(HEDGE_DELAY.toMillis());
+    scheduler.runPendingFutures();
+
+    verify(ethPeers)
+        .executeHedgedPeerRequest(peerRequest, 0, Optional.empty(), REQUEST_CODE, slowPeer);
+    verify(hedgedRequest).then(any(), any());
+    assertThat(result).isNotDone();
+  }
+
+  @Test
+  public void firstResponseWinsAndTheOtherRequestIsAborted() {
+    final CompletableFuture<PeerTaskResult<MessageData>> result = new TestTask().run();
+    clock.stepMillis(HEDGE_DELAY.toMillis());
+    scheduler.runPendingFutures();
+
+    final MessageData fastResponse = new RawMessage(REQUEST_CODE + 1, Bytes.of(1));
+    fastRequestManager.dispatchResponse(new EthMessage(fastPeer, fastResponse));
+    slowRequestManager.dispatchResponse(
+        new EthMessage(slowPeer, new RawMessage(REQUEST_CODE + 1, Bytes.of(2))));
+
+    assertThat(result).isCompleted();
+    assertThat(result.join().getPeer()).isEqualTo(fastPeer);
+    assertThat(result.join().getResult()).isEqualTo(fastResponse);
+    verify(originalRequest, atLeastOnce()).abort();
+    verify(hedgedRequest, atLeastOnce()).abort();
+  }
+
+  @Test
+  public void responseBeforeTheDelayPreventsTheHedge() {
+    final CompletableFuture<PeerTaskResult<MessageData>> result = new TestTask().run();
+
+    final MessageData slowResponse = new RawMessage(REQUEST_CODE + 1, Bytes.of(2));
+    slowRequestManager.dispatchResponse(new EthMessage(slowPeer, slowResponse));
+    clock.stepMillis(HEDGE_DELAY.toMillis());
+    scheduler.runPendingFutures();
+
+    assertThat(result.join().getPeer()).isEqualTo(slowPeer);
+    verify(ethPeers, never()).executeHedgedPeerRequest(any(), anyLong(), any(), anyInt(), any());
+  }
+
+  @Test
+  public void requestsAssignedToAPeerAreNeverHedged() {
+    final TestTask task = new TestTask();
+    task.assignPeer(slowPeer);
+    final CompletableFuture<PeerTaskResult<MessageData>> result = task.run();
+
+    clock.stepMillis(HEDGE_DELAY.toMillis());
+    scheduler.runPendingFutures();
+
+    assertThat(result).isNotDone();
+    verify(ethPeers, never()).hedgeDelay(any(), any(), anyInt());
+    verify(ethPeers, never()).executeHedgedPeerRequest(any(), anyLong(), any(), anyInt(), any());
+  }
+
+  @SuppressWarnings("unchecked")
+  private PendingPeerRequest sentTo(final RequestManager requestManager) throws Exception {
+    final ResponseStream stream =
+        requestManager.dispatchRequest(__ -> {}, new RawMessage(REQUEST_CODE, Bytes.EMPTY));
+    final PendingPeerRequest pendingRequest = mock(PendingPeerRequest.class);
+    doAnswer(
+            invocation -> {
+              ((Consumer<ResponseStream>) invocation.getArgument(0)).accept(stream);
+              return null;
+            })
+        .when(pendingRequest)
+        .then(any(), any());
+    when(pendingRequest.abort()).thenReturn(Optional.of(stream));
+    return pendingRequest;
+  }
+
+  private class TestTask extends AbstractPeerRequestTask<MessageData> {
+
+    TestTask() {
+      super(ethContext, REQUEST_CODE, new NoOpMetricsSystem());
+    }
+
+    @Override
+    protected PendingPeerRequest sendRequest() {
+      return sendRequestToPeer(peerRequest, 0);
+    }
+
+    @Override
+    protected Optional<MessageData> processResponse(
+        final boolean streamClosed, final MessageData message, final EthPeer peer) {
+      return streamClosed ? Optional.empty() : Optional.of(message);
+    }
+  }
+}
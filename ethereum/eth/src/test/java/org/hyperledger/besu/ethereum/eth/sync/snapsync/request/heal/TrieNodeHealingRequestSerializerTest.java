@@ -0,0 +1,105 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.sync.snapsync.request.heal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.eth.sync.snapsync.request.SnapDataRequest;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+
+public class TrieNodeHealingRequestSerializerTest {
+
+  private static final Hash ROOT_HASH = Hash.hash(Bytes.of(1));
+
+  private final TrieNodeHealingRequestSerializer serializer =
+      new TrieNodeHealingRequestSerializer();
+
+  @Test
+  public void shouldRoundTripAccountTrieNodeRequestWithItsParent() {
+    final AccountTrieNodeHealingRequest parent =
+        SnapDataRequest.createAccountTrieNodeDataRequest(ROOT_HASH, Bytes.EMPTY, new HashSet<>());
+    final AccountTrieNodeHealingRequest child =
+        SnapDataRequest.createAccountTrieNodeDataRequest(
+            Hash.hash(Bytes.of(2)),
+            ROOT_HASH,
+            Bytes.of(3),
+            new HashSet<>(Set.of(Bytes.of(3, 4), Bytes.of(3, 5))));
+    child.registerParent(parent);
+
+    final TrieNodeHealingRequest restored =
+        (TrieNodeHealingRequest) serializer.deserialize(serializer.serialize(child));
+
+    assertThat(restored).isInstanceOf(AccountTrieNodeHealingRequest.class);
+    assertThat(restored.getNodeHash()).isEqualTo(child.getNodeHash());
+    assertThat(restored.getRootHash()).isEqualTo(ROOT_HASH);
+    assertThat(restored.getLocation()).isEqualTo(Bytes.of(3));
+    assertThat(((AccountTrieNodeHealingRequest) restored).getInconsistentAccounts())
+        .containsExactlyInAnyOrder(Bytes.of(3, 4), Bytes.of(3, 5));
+    assertThat(restored.getDepth()).isEqualTo(child.getDepth());
+    assertThat(restored.getPriority()).isEqualTo(child.getPriority());
+    assertThat(restored.getParent()).containsSame(parent);
+    assertThat(restored.isRequiresPersisting()).isTrue();
+  }
+
+  @Test
+  public void shouldRoundTripStorageTrieNodeRequestWithoutParent() {
+    final Hash accountHash = Hash.hash(Bytes.of(7));
+    final StorageTrieNodeHealingRequest request =
+        SnapDataRequest.createStorageTrieNodeDataRequest(
+            Hash.hash(Bytes.of(8)), accountHash, ROOT_HASH, Bytes.of(9));
+    request.setRequiresPersisting(false);
+
+    final TrieNodeHealingRequest restored =
+        (TrieNodeHealingRequest) serializer.deserialize(serializer.serialize(request));
+
+    assertThat(restored).isInstanceOf(StorageTrieNodeHealingRequest.class);
+    assertThat(((StorageTrieNodeHealingRequest) restored).getAccountHash()).isEqualTo(accountHash);
+    assertThat(restored.getNodeHash()).isEqualTo(request.getNodeHash());
+    assertThat(restored.getLocation()).isEqualTo(Bytes.of(9));
+    assertThat(restored.isRoot()).isTrue();
+    assertThat(restored.isRequiresPersisting()).isFalse();
+  }
+
+  @Test
+  public void shouldReleaseParentOnceAllChildrenAreRead() {
+    final AccountTrieNodeHealingRequest parent =
+        SnapDataRequest.createAccountTrieNodeDataRequest(ROOT_HASH, Bytes.EMPTY, new HashSet<>());
+    final byte[] first = serializer.serialize(childOf(parent, 1));
+    final byte[] second = serializer.serialize(childOf(parent, 2));
+
+    assertThat(((TrieNodeHealingRequest) serializer.deserialize(first)).getParent())
+        .containsSame(parent);
+    assertThat(((TrieNodeHealingRequest) serializer.deserialize(second)).getParent())
+        .containsSame(parent);
+    assertThatThrownBy(() -> serializer.deserialize(second))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static AccountTrieNodeHealingRequest childOf(
+      final AccountTrieNodeHealingRequest parent, final int index) {
+    final AccountTrieNodeHealingRequest child =
+        SnapDataRequest.createAccountTrieNodeDataRequest(
+            Hash.hash(Bytes.of(index)), ROOT_HASH, Bytes.of(index), new HashSet<>());
+    child.registerParent(parent);
+    return child;
+  }
+}
@@ -377,6 +377,24 @@ public class TransactionPoolFactoryTest {
     syncState = new SyncState(blockchain, ethPeers, true, Optional.empty());
   }
 
+  @Test
+  public void senderCacheHoldsSendersOfAllPooledTransactions() {
+    final TransactionPoolConfiguration legacyConfig =
+        ImmutableTransactionPoolConfiguration.builder()
+            .txPoolImplementation(TransactionPoolConfiguration.Implementation.LEGACY)
+            .txPoolMaxSize(200_000)
+            .build();
+    assertThat(TransactionPoolFactory.senderCacheCapacity(legacyConfig)).isEqualTo(400_000L);
+
+    final TransactionPoolConfiguration smallLayeredConfig =
+        ImmutableTransactionPoolConfiguration.builder()
+            .txPoolImplementation(LAYERED)
+            .pendingTransactionsLayerMaxCapacityBytes(1_000_000L)
+            .build();
+    assertThat(TransactionPoolFactory.senderCacheCapacity(smallLayeredConfig))
+        .isEqualTo(TransactionPoolConfiguration.Unstable.DEFAULT_SENDER_CACHE_SIZE);
+  }
+
   private TransactionPool createTransactionPool(
       final TransactionPoolConfiguration.Implementation implementation) {
     final TransactionPool txPool =
@@ -0,0 +1,94 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.discovery.internal;
+
+import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeer;
+import org.hyperledger.besu.ethereum.p2p.discovery.Endpoint;
+import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryStatus;
+import org.hyperledger.besu.ethereum.p2p.peers.Peer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Simulates a discovery flood: every discovered node is offered to the peer table, then the table
+ * answers FIND_NEIGHBORS requests and peer lookups, concurrently as under load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PeerTableBenchmark {
+  private static final int TARGETS = 1024;
+
+  @Param({"100000"})
+  public int discoveredNodes;
+
+  private PeerTable peerTable;
+  private List<DiscoveryPeer> discoveredPeers;
+  private Bytes[] targets;
+
+  @Setup
+  public void setUp() {
+    final Endpoint endpoint = new Endpoint("127.0.0.1", 30303, Optional.empty());
+    peerTable = new PeerTable(Peer.randomId());
+    discoveredPeers =
+        IntStream.range(0, discoveredNodes)
+            .mapToObj(i -> DiscoveryPeer.fromIdAndEndpoint(Peer.randomId(), endpoint))
+            .toList();
+    for (final DiscoveryPeer peer : discoveredPeers) {
+      peer.setStatus(PeerDiscoveryStatus.BONDED);
+      peerTable.tryAdd(peer);
+    }
+    targets = IntStream.range(0, TARGETS).mapToObj(i -> Peer.randomId()).toArray(Bytes[]::new);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public List<DiscoveryPeer> nearestBondedPeers() {
+    final Bytes target = targets[ThreadLocalRandom.current().nextInt(TARGETS)];
+    return peerTable.nearestBondedPeers(target, 16);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Optional<DiscoveryPeer> getDiscoveredPeer() {
+    final int index = ThreadLocalRandom.current().nextInt(discoveredPeers.size());
+    return peerTable.get(discoveredPeers.get(index));
+  }
+
+  @Benchmark
+  public Optional<DiscoveryPeer> addAndEvictPeer() {
+    final DiscoveryPeer peer =
+        discoveredPeers.get(ThreadLocalRandom.current().nextInt(discoveredPeers.size()));
+    if (peerTable.tryEvict(peer).getOutcome() == PeerTable.EvictResult.EvictOutcome.EVICTED) {
+      peerTable.tryAdd(peer);
+    }
+    return peerTable.get(peer);
+  }
+}
@@ -35,11 +35,15 @@ import org.apache.tuweni.bytes.Bytes;
  * recently accessed peer</i> and the tail is the <i>least recently accessed peer</i>. If the bucket
  * is full, the <i>least recently accessed peer</i> is proposed for eviction, thus aiming to keep
  * the bucket filled with alive, responsive peers.
+ *
+ * <p>The array is copied on write: modifications are serialized and publish a new array, which is
+ * never modified afterwards, so readers get a consistent snapshot of the bucket without locking.
  */
 public class Bucket {
-  private final DiscoveryPeer[] kBucket;
+  private static final DiscoveryPeer[] EMPTY = new DiscoveryPeer[0];
+
   private final int bucketSize;
-  private int tailIndex = -1;
+  private volatile DiscoveryPeer[] kBucket = EMPTY;
 
   /**
    * Creates a new bucket with the provided maximum size.
@@ -49,7 +53,6 @@ public class Bucket {
    */
   Bucket(final int bucketSize) {
     this.bucketSize = bucketSize;
-    this.kBucket = new DiscoveryPeer[bucketSize];
   }
 
   /**
@@ -62,23 +65,35 @@ public class Bucket {
    * @return An empty optional if the peer was not a member of this bucket, or a filled optional if
    *     it was.
    */
-  synchronized Optional<DiscoveryPeer> getAndTouch(final Bytes id) {
-    for (int i = 0; i <= tailIndex; i++) {
-      final DiscoveryPeer p = kBucket[i];
-      if (id.equals(p.getId())) {
-        arraycopy(kBucket, 0, kBucket, 1, i);
-        kBucket[0] = p;
-        return Optional.of(p);
-      }
+  Optional<DiscoveryPeer> getAndTouch(final Bytes id) {
+    final DiscoveryPeer[] snapshot = kBucket;
+    final int index = indexOf(snapshot, id);
+    if (index < 0) {
+      return Optional.empty();
+    }
+    final DiscoveryPeer peer = snapshot[index];
+    if (index > 0) {
+      touch(id);
+    }
+    return Optional.of(peer);
+  }
+
+  private synchronized void touch(final Bytes id) {
+    final DiscoveryPeer[] current = kBucket;
+    // the peer may have been touched or evicted since the lock-free lookup
+    final int index = indexOf(current, id);
+    if (index > 0) {
+      final DiscoveryPeer[] updated = current.clone();
+      arraycopy(current, 0, updated, 1, index);
+      updated[0] = current[index];
+      kBucket = updated;
     }
-    return Optional.empty();
   }
 
   /**
-   * Appends the specified element to the head of the bucket array if capacity hasn't yet been
-   * reached. Shifts the element currently at that position (if any) and any subsequent elements to
-   * the right (adds one to their indices). If the bucket is empty, the last argument (length to
-   * copy) will be 0. This method will not "touch" the peer, i.e. relocate it to the head.
+   * Prepends the specified element to the bucket if capacity hasn't yet been reached, shifting the
+   * existing elements to the right. This method will not "touch" the peer, i.e. relocate it to the
+   * head.
    *
    * <p>In the case that the bucket is at maximum capacity the peer at the tail of the list,
    * necessarily the peer that has been incomunicative for the longest time is returned as a
@@ -90,55 +105,61 @@ public class Bucket {
    */
   synchronized Optional<DiscoveryPeer> add(final DiscoveryPeer peer)
       throws IllegalArgumentException {
-    assert tailIndex >= -1 && tailIndex < bucketSize;
+    final DiscoveryPeer[] current = kBucket;
+    assert current.length <= bucketSize;
 
     // Avoid duplicating the peer if it already exists in the bucket.
-    for (int i = 0; i <= tailIndex; i++) {
-      if (peer.getId().equals(kBucket[i].getId())) {
-        throw new IllegalArgumentException(
-            String.format("Tried to add duplicate peer to k-bucket: %s", peer.getId()));
-      }
+    if (indexOf(current, peer.getId()) >= 0) {
+      throw new IllegalArgumentException(
+          String.format("Tried to add duplicate peer to k-bucket: %s", peer.getId()));
     }
-    if (tailIndex == bucketSize - 1) {
-      return Optional.of(kBucket[tailIndex]);
+    if (current.length == bucketSize) {
+      return Optional.of(current[current.length - 1]);
     }
-    arraycopy(kBucket, 0, kBucket, 1, ++tailIndex);
-    kBucket[0] = peer;
+    final DiscoveryPeer[] updated = new DiscoveryPeer[current.length + 1];
+    arraycopy(current, 0, updated, 1, current.length);
+    updated[0] = peer;
+    kBucket = updated;
     return Optional.empty();
   }
 
   /**
-   * Removes the element at the specified position in this list. Shifts any subsequent elements to
-   * the left (subtracts one from their indices).
+   * Removes the provided peer from the bucket, shifting any subsequent elements to the left.
    *
    * @param peer the element to be removed
-   * @return <code>true</code>
+   * @return whether the peer was in the bucket
    */
   synchronized boolean evict(final PeerId peer) {
-    // If the bucket is empty, there's nothing to evict.
-    if (tailIndex < 0) {
+    final DiscoveryPeer[] current = kBucket;
+    // Peer comparison here must be done by peer id
+    final int index = indexOf(current, peer.getId());
+    if (index < 0) {
       return false;
     }
-    // If found, shift all subsequent elements to the left, and decrement tailIndex.
-    for (int i = 0; i <= tailIndex; i++) {
-      // Peer comparison here must be done by peer id
-      if (peer.getId().equals(kBucket[i].getId())) {
-        arraycopy(kBucket, i + 1, kBucket, i, tailIndex - i);
-        kBucket[tailIndex--] = null;
-        return true;
-      }
-    }
-    return false;
+    final DiscoveryPeer[] updated = new DiscoveryPeer[current.length - 1];
+    arraycopy(current, 0, updated, 0, index);
+    arraycopy(current, index + 1, updated, index, updated.length - index);
+    kBucket = updated;
+    return true;
   }
 
   /**
-   * Returns an immutable list backed by the k-bucket array. This method provides a convenient way
-   * to access all peers maintained by the instance of Bucket under consideration.
+   * Returns an immutable snapshot of the peers of the bucket, from the most to the least recently
+   * accessed. The snapshot is not affected by later modifications of the bucket.
    *
    * @return immutable view of the peer array
    */
-  synchronized List<DiscoveryPeer> getPeers() {
-    return unmodifiableList(asList(Arrays.copyOf(kBucket, tailIndex + 1)));
+  List<DiscoveryPeer> getPeers() {
+    return unmodifiableList(asList(kBucket));
+  }
+
+  private static int indexOf(final DiscoveryPeer[] peers, final Bytes id) {
+    for (int i = 0; i < peers.length; i++) {
+      if (id.equals(peers[i].getId())) {
+        return i;
+      }
+    }
+    return -1;
   }
 
   @Override
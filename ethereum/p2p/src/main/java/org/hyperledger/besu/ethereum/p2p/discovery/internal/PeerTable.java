@@ -15,7 +15,6 @@
 package org.hyperledger.besu.ethereum.p2p.discovery.internal;
 
 import static java.util.Comparator.comparingInt;
-import static java.util.stream.Collectors.toList;
 
 import org.hyperledger.besu.crypto.Hash;
 import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeer;
@@ -24,6 +23,7 @@ import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerTable.AddResult.
 import org.hyperledger.besu.ethereum.p2p.peers.Peer;
 import org.hyperledger.besu.ethereum.p2p.peers.PeerId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -34,10 +34,14 @@ import java.util.stream.Stream;
 
 import com.google.common.hash.BloomFilter;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 
 /**
  * Implements a Kademlia routing table based on k-buckets with a keccak-256 XOR-based distance
  * metric.
+ *
+ * <p>Bucket {@code i} holds the peers at distance {@code i} from this node. Reads of the table do
+ * not lock, as the buckets publish copy-on-write snapshots of their peers.
  */
 public class PeerTable {
   private static final int N_BUCKETS = 256;
@@ -49,7 +53,7 @@ public class PeerTable {
   private final int maxEntriesCnt;
 
   private final Map<Bytes, Integer> distanceCache;
-  private BloomFilter<Bytes> idBloom;
+  private volatile BloomFilter<Bytes> idBloom;
   private int evictionCnt = 0;
 
   /**
@@ -182,18 +186,51 @@ public class PeerTable {
    * Returns the <code>limit</code> peers (at most) bonded closest to the provided target, based on
    * the XOR distance between the keccak-256 hash of the ID and the keccak-256 hash of the target.
    *
+   * <p>The distance of a peer to the target follows from the bucket it is in: with {@code t} the
+   * distance of the target to this node, the peers of a bucket {@code i > t} are at distance {@code
+   * i} of the target, the peers of a bucket {@code i < t} at distance {@code t}, and only the peers
+   * of bucket {@code t} are closer. So the buckets are walked outward from the target, and only
+   * bucket {@code t} is sorted.
+   *
    * @param target The target node ID.
    * @param limit The amount of results to return.
    * @return The <code>limit</code> closest peers, at most.
    */
   public List<DiscoveryPeer> nearestBondedPeers(final Bytes target, final int limit) {
-    final Bytes keccak256 = Hash.keccak256(target);
-    return streamAllPeers()
-        .filter(p -> p.getStatus() == PeerDiscoveryStatus.BONDED)
+    final Bytes32 targetKeccak256 = Hash.keccak256(target);
+    final int targetBucket = PeerDistanceCalculator.distance(keccak256, targetKeccak256);
+    final List<DiscoveryPeer> nearest = new ArrayList<>(limit);
+
+    table[targetBucket].getPeers().stream()
+        .filter(PeerTable::isBonded)
         .sorted(
-            comparingInt((peer) -> PeerDistanceCalculator.distance(peer.keccak256(), keccak256)))
+            comparingInt(
+                peer -> PeerDistanceCalculator.distance(peer.keccak256(), targetKeccak256)))
         .limit(limit)
-        .collect(toList());
+        .forEach(nearest::add);
+    for (int i = 0; i < targetBucket && nearest.size() < limit; i++) {
+      addBondedPeers(table[i], nearest, limit);
+    }
+    for (int i = targetBucket + 1; i <= N_BUCKETS && nearest.size() < limit; i++) {
+      addBondedPeers(table[i], nearest, limit);
+    }
+    return nearest;
+  }
+
+  private static void addBondedPeers(
+      final Bucket bucket, final List<DiscoveryPeer> peers, final int limit) {
+    for (final DiscoveryPeer peer : bucket.getPeers()) {
+      if (peers.size() >= limit) {
+        return;
+      }
+      if (isBonded(peer)) {
+        peers.add(peer);
+      }
+    }
+  }
+
+  private static boolean isBonded(final DiscoveryPeer peer) {
+    return peer.getStatus() == PeerDiscoveryStatus.BONDED;
   }
 
   public Stream<DiscoveryPeer> streamAllPeers() {
@@ -14,12 +14,15 @@
  */
 package org.hyperledger.besu.ethereum.p2p.discovery.internal;
 
+import static java.util.Comparator.comparingInt;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.hyperledger.besu.crypto.Hash;
 import org.hyperledger.besu.crypto.SignatureAlgorithm;
 import org.hyperledger.besu.crypto.SignatureAlgorithmFactory;
 import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeer;
 import org.hyperledger.besu.ethereum.p2p.discovery.Endpoint;
+import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryStatus;
 import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryTestHelper;
 import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerTable.AddResult.AddOutcome;
 import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerTable.EvictResult;
@@ -184,4 +187,35 @@ public class PeerTableTest {
     final EvictResult evictResult = table.tryEvict(peer);
     assertThat(evictResult.getOutcome()).isEqualTo(EvictOutcome.SELF);
   }
+
+  @Test
+  public void nearestBondedPeersShouldMatchSortingAllPeers() {
+    final Bytes localId = Peer.randomId();
+    final PeerTable table = new PeerTable(localId);
+    for (int i = 0; i < 2_000; i++) {
+      final DiscoveryPeer peer =
+          DiscoveryPeer.fromIdAndEndpoint(
+              Peer.randomId(), new Endpoint("1.1.1.1", 30303, Optional.empty()));
+      if (i % 3 != 0) {
+        peer.setStatus(PeerDiscoveryStatus.BONDED);
+      }
+      table.tryAdd(peer);
+    }
+
+    final List<Bytes> targets = List.of(Peer.randomId(), Peer.randomId(), localId);
+    for (final Bytes target : targets) {
+      final Bytes targetKeccak256 = Hash.keccak256(target);
+      final List<DiscoveryPeer> expected =
+          table
+              .streamAllPeers()
+              .filter(peer -> peer.getStatus() == PeerDiscoveryStatus.BONDED)
+              .sorted(
+                  comparingInt(
+                      peer -> PeerDistanceCalculator.distance(peer.keccak256(), targetKeccak256)))
+              .limit(16)
+              .toList();
+
+      assertThat(table.nearestBondedPeers(target, 16)).containsExactlyElementsOf(expected);
+    }
+  }
 }
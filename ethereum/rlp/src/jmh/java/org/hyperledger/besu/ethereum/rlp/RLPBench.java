@@ -77,4 +77,23 @@ public class RLPBench {
   public Object getBenchmarkDecoding() {
     return RLPTestUtil.decode(toDecode);
   }
+
+  @Benchmark
+  public Object getBenchmarkLazyDecoding() {
+    return decodeLazily(RLPListView.wrap(toDecode));
+  }
+
+  @Benchmark
+  public Bytes getBenchmarkLazyDecodingLastItem() {
+    final RLPListView view = RLPListView.wrap(toDecode);
+    return view.raw(view.size() - 1);
+  }
+
+  private static Object decodeLazily(final RLPListView view) {
+    final List<Object> items = new ArrayList<>(view.size());
+    for (int i = 0; i < view.size(); i++) {
+      items.add(view.isList(i) ? decodeLazily(view.list(i)) : view.readBytes(i));
+    }
+    return items;
+  }
 }
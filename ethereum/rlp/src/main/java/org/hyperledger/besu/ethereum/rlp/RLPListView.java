@@ -0,0 +1,208 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.rlp;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static java.lang.String.format;
+
+import java.util.Arrays;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+
+/**
+ * A lazily decoded view of an RLP encoded list.
+ *
+ * <p>The view keeps the encoded bytes and, on first access to an item, walks the item prefixes of
+ * the list once to build a table of item offsets. Items are returned as slices of the encoded bytes
+ * and only decoded when read, so a caller which needs a hash, a few fields or the encoding itself
+ * does not pay for decoding the rest of the list.
+ */
+public final class RLPListView {
+
+  private final Bytes encoded;
+  private final int payloadStart;
+  private final int payloadEnd;
+  // the offset of every item followed by the end of the payload, built on first access
+  private volatile int[] offsets;
+
+  private RLPListView(final Bytes encoded, final int payloadStart, final int payloadEnd) {
+    this.encoded = encoded;
+    this.payloadStart = payloadStart;
+    this.payloadEnd = payloadEnd;
+  }
+
+  /**
+   * Creates a view of an RLP encoded list. Only the prefix of the list is read.
+   *
+   * @param encoded the encoded list, which must not be followed by any other data
+   * @return a view of the list
+   * @throws RLPException if {@code encoded} is not a single RLP list
+   */
+  public static RLPListView wrap(final Bytes encoded) {
+    if (encoded.isEmpty()) {
+      throw new RLPException("Invalid empty input for RLP decoding");
+    }
+    final RLPDecodingHelpers.RLPElementMetadata metadata =
+        RLPDecodingHelpers.rlpElementMetadata(index -> encoded.get((int) index), encoded.size(), 0);
+    if (!metadata.kind.isList()) {
+      throw new RLPException(format("Invalid input: value %s is not an RLP list", encoded));
+    }
+    if (metadata.getEncodedSize() != encoded.size()) {
+      throw new CorruptedRLPInputException(
+          format(
+              "Malformed RLP list: should be of size %d according to prefix but of size %d",
+              metadata.getEncodedSize(), encoded.size()));
+    }
+    final int payloadStart = Math.toIntExact(metadata.payloadStart);
+    return new RLPListView(encoded, payloadStart, payloadStart + metadata.payloadSize);
+  }
+
+  /**
+   * Returns the encoded list this view was created from.
+   *
+   * @return the encoded list, without any copy
+   */
+  public Bytes encoded() {
+    return encoded;
+  }
+
+  /**
+   * Returns the size of the payload of the list, that is its encoded size without its prefix.
+   *
+   * @return the size of the payload of the list
+   */
+  public int payloadSize() {
+    return payloadEnd - payloadStart;
+  }
+
+  /**
+   * Returns the number of items of the list.
+   *
+   * @return the number of items of the list
+   */
+  public int size() {
+    return offsets().length - 1;
+  }
+
+  /**
+   * Returns the encoding of an item of the list.
+   *
+   * @param index the index of the item
+   * @return the encoded item, as a slice of the encoded list
+   */
+  public Bytes raw(final int index) {
+    final int[] offsets = offsets();
+    checkElementIndex(index, offsets.length - 1);
+    return encoded.slice(offsets[index], offsets[index + 1] - offsets[index]);
+  }
+
+  /**
+   * Whether an item of the list is itself a list.
+   *
+   * @param index the index of the item
+   * @return true if the item is a list
+   */
+  public boolean isList(final int index) {
+    final int[] offsets = offsets();
+    checkElementIndex(index, offsets.length - 1);
+    return RLPDecodingHelpers.Kind.of(encoded.get(offsets[index]) & 0xFF).isList();
+  }
+
+  /**
+   * Returns a view of an item of the list which is itself a list.
+   *
+   * @param index the index of the item
+   * @return a view of the item
+   */
+  public RLPListView list(final int index) {
+    return wrap(raw(index));
+  }
+
+  /**
+   * Returns an input positioned on an item of the list, to decode it eagerly.
+   *
+   * @param index the index of the item
+   * @return an input reading the item
+   */
+  public RLPInput input(final int index) {
+    return RLP.input(raw(index));
+  }
+
+  /**
+   * Reads an item of the list which is a byte string.
+   *
+   * @param index the index of the item
+   * @return the value of the item, as a slice of the encoded list
+   */
+  public Bytes readBytes(final int index) {
+    return RLP.decodeOne(raw(index));
+  }
+
+  /**
+   * Reads an item of the list which is a scalar fitting a long.
+   *
+   * @param index the index of the item
+   * @return the value of the item
+   */
+  public long readLongScalar(final int index) {
+    return input(index).readLongScalar();
+  }
+
+  /**
+   * Reads an item of the list which is a scalar fitting 256 bits.
+   *
+   * @param index the index of the item
+   * @return the value of the item
+   */
+  public UInt256 readUInt256Scalar(final int index) {
+    return input(index).readUInt256Scalar();
+  }
+
+  private int[] offsets() {
+    int[] result = offsets;
+    if (result == null) {
+      // computing the table twice on a race is harmless, it is always the same
+      result = computeOffsets();
+      offsets = result;
+    }
+    return result;
+  }
+
+  private int[] computeOffsets() {
+    int[] result = new int[8];
+    int count = 0;
+    int position = payloadStart;
+    while (position < payloadEnd) {
+      final RLPDecodingHelpers.RLPElementMetadata item =
+          RLPDecodingHelpers.rlpElementMetadata(
+              index -> encoded.get((int) index), payloadEnd, position);
+      final long next = item.elementEnd() + 1;
+      if (next > payloadEnd) {
+        throw new CorruptedRLPInputException(
+            format(
+                "Invalid RLP item: item at offset %d of size %d exceeds its enclosing list",
+                position, item.getEncodedSize()));
+      }
+      if (count + 1 >= result.length) {
+        result = Arrays.copyOf(result, result.length * 2);
+      }
+      result[count++] = position;
+      position = (int) next;
+    }
+    result[count] = payloadEnd;
+    return Arrays.copyOf(result, count + 1);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.rlp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.Test;
+
+public class RLPListViewTest {
+
+  private static final Bytes LONG_VALUE = Bytes.wrap(new byte[100]);
+
+  private static Bytes encoded() {
+    final BytesValueRLPOutput out = new BytesValueRLPOutput();
+    out.startList();
+    out.writeLongScalar(42);
+    out.writeBytes(LONG_VALUE);
+    out.startList();
+    out.writeUInt256Scalar(UInt256.valueOf(7));
+    out.writeNull();
+    out.endList();
+    out.writeByte((byte) 1);
+    out.endList();
+    return out.encoded();
+  }
+
+  @Test
+  public void readsItemsWithoutDecodingTheOthers() {
+    final Bytes encoded = encoded();
+    final RLPListView view = RLPListView.wrap(encoded);
+
+    assertThat(view.size()).isEqualTo(4);
+    assertThat(view.readLongScalar(0)).isEqualTo(42);
+    assertThat(view.readBytes(1)).isEqualTo(LONG_VALUE);
+    assertThat(view.isList(1)).isFalse();
+    assertThat(view.isList(2)).isTrue();
+    assertThat(view.list(2).readUInt256Scalar(0)).isEqualTo(UInt256.valueOf(7));
+    assertThat(view.list(2).readBytes(1)).isEqualTo(Bytes.EMPTY);
+    assertThat(view.readBytes(3)).isEqualTo(Bytes.of(1));
+  }
+
+  @Test
+  public void itemsAreSlicesOfTheEncodedList() {
+    final Bytes encoded = encoded();
+    final RLPListView view = RLPListView.wrap(encoded);
+
+    assertThat(view.encoded()).isSameAs(encoded);
+    final BytesValueRLPInput input = new BytesValueRLPInput(encoded, false);
+    input.enterList();
+    for (int i = 0; i < view.size(); i++) {
+      assertThat(view.raw(i)).isEqualTo(input.readAsRlp().raw());
+    }
+    assertThat(input.isEndOfCurrentList()).isTrue();
+  }
+
+  @Test
+  public void emptyList() {
+    final RLPListView view = RLPListView.wrap(RLP.EMPTY_LIST);
+
+    assertThat(view.size()).isZero();
+    assertThatThrownBy(() -> view.raw(0)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  public void rejectsValuesWhichAreNotLists() {
+    assertThatThrownBy(() -> RLPListView.wrap(RLP.encodeOne(LONG_VALUE)))
+        .isInstanceOf(RLPException.class);
+  }
+
+  @Test
+  public void rejectsTruncatedLists() {
+    final Bytes encoded = encoded();
+    assertThatThrownBy(() -> RLPListView.wrap(encoded.slice(0, encoded.size() - 1)))
+        .isInstanceOf(RLPException.class);
+  }
+
+  @Test
+  public void rejectsItemsOverflowingTheList() {
+    // a list of 2 bytes holding a string announcing 3 bytes
+    final RLPListView view = RLPListView.wrap(Bytes.fromHexString("0xc2830102"));
+    assertThatThrownBy(view::size).isInstanceOf(CorruptedRLPInputException.class);
+  }
+}
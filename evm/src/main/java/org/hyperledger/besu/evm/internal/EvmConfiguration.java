@@ -15,8 +15,32 @@
 
 package org.hyperledger.besu.evm.internal;
 
-/** The Evm configuration. */
-public record EvmConfiguration(long jumpDestCacheWeightKB, WorldUpdaterMode worldUpdaterMode) {
+import org.hyperledger.besu.evm.precompile.PrecompileResultCache;
+
+import java.util.Optional;
+
+/**
+ * The Evm configuration.
+ *
+ * @param jumpDestCacheWeightKB the jump dest cache weight in kilobytes
+ * @param worldUpdaterMode the world updater mode
+ * @param precompileResultCache the cache for the results of the precompile registries, if enabled
+ */
+public record EvmConfiguration(
+    long jumpDestCacheWeightKB,
+    WorldUpdaterMode worldUpdaterMode,
+    Optional<PrecompileResultCache> precompileResultCache) {
+
+  /**
+   * Instantiates a new Evm configuration without a precompile result cache.
+   *
+   * @param jumpDestCacheWeightKB the jump dest cache weight in kilobytes
+   * @param worldUpdaterMode the world updater mode
+   */
+  public EvmConfiguration(
+      final long jumpDestCacheWeightKB, final WorldUpdaterMode worldUpdaterMode) {
+    this(jumpDestCacheWeightKB, worldUpdaterMode, Optional.empty());
+  }
 
   /** How should the world state update be handled within transactions? */
   public enum WorldUpdaterMode {
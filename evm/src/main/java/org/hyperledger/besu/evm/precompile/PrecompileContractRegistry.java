@@ -48,4 +48,14 @@ public class PrecompileContractRegistry {
   public void put(final Address address, final PrecompiledContract precompile) {
     precompiles.put(address, precompile);
   }
+
+  /**
+   * Cache the results of the registered precompiles, for the addresses the cache is configured
+   * with.
+   *
+   * @param cache the result cache, which may be shared with other registries
+   */
+  public void cacheResults(final PrecompileResultCache cache) {
+    precompiles.replaceAll(cache::wrap);
+  }
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.evm.precompile;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A weight bounded cache of precompile results shared by every {@link PrecompileContractRegistry}.
+ *
+ * <p>The same ECRECOVER or pairing input is typically computed when a transaction is validated by
+ * the transaction pool, again when a block is built and once more when it is imported. Results
+ * only depend on the input, so they are cached by precompile address and input hash. Only
+ * precompiles whose cost dwarfs hashing their input are worth caching, SHA256 for instance costs
+ * about as much as computing the key.
+ */
+public class PrecompileResultCache {
+
+  /** The precompiles cached unless configured otherwise. */
+  public static final Set<Address> DEFAULT_CACHED_PRECOMPILES =
+      Set.of(Address.ECREC, Address.ALTBN128_PAIRING);
+
+  // key address and hash, result object and cache node
+  private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+  private final Cache<CacheKey, PrecompileContractResult> cache;
+  private final long weightLimit;
+  private final Map<Address, CacheStats> stats;
+
+  /**
+   * Instantiates a new precompile result cache.
+   *
+   * @param maxWeightBytes the maximum weight in bytes of the cached keys and outputs
+   * @param cachedPrecompiles the addresses of the precompiles whose results are cached
+   */
+  public PrecompileResultCache(final long maxWeightBytes, final Set<Address> cachedPrecompiles) {
+    this.weightLimit = maxWeightBytes;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .weigher(
+                (final CacheKey key, final PrecompileContractResult result) ->
+                    ENTRY_OVERHEAD_BYTES
+                        + (result.getOutput() == null ? 0 : result.getOutput().size()))
+            .build();
+    this.stats =
+        cachedPrecompiles.stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), __ -> new CacheStats()));
+  }
+
+  /**
+   * Wrap a precompile so its results are served from this cache, if its address is cached.
+   *
+   * @param address the address the precompile is registered at
+   * @param precompile the precompile
+   * @return a caching precompile, or the precompile itself when its address is not cached
+   */
+  public PrecompiledContract wrap(final Address address, final PrecompiledContract precompile) {
+    final CacheStats precompileStats = stats.get(address);
+    if (precompileStats == null || precompile instanceof CachingPrecompiledContract) {
+      return precompile;
+    }
+    return new CachingPrecompiledContract(address, precompile, precompileStats);
+  }
+
+  /**
+   * Gets the addresses of the cached precompiles.
+   *
+   * @return the cached precompile addresses
+   */
+  public Set<Address> getCachedPrecompiles() {
+    return stats.keySet();
+  }
+
+  /**
+   * Gets the number of cache hits for a precompile.
+   *
+   * @param address the precompile address
+   * @return the hit count, zero for precompiles that are not cached
+   */
+  public long getHitCount(final Address address) {
+    final CacheStats precompileStats = stats.get(address);
+    return precompileStats == null ? 0 : precompileStats.hits.sum();
+  }
+
+  /**
+   * Gets the number of cache misses for a precompile.
+   *
+   * @param address the precompile address
+   * @return the miss count, zero for precompiles that are not cached
+   */
+  public long getMissCount(final Address address) {
+    final CacheStats precompileStats = stats.get(address);
+    return precompileStats == null ? 0 : precompileStats.misses.sum();
+  }
+
+  /**
+   * Gets the fraction of lookups served from the cache for a precompile.
+   *
+   * @param address the precompile address
+   * @return the hit rate between 0 and 1, 0 when there were no lookups yet
+   */
+  public double getHitRate(final Address address) {
+    final long hits = getHitCount(address);
+    final long lookups = hits + getMissCount(address);
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+
+  /**
+   * Size of cache.
+   *
+   * @return the long
+   */
+  public long size() {
+    cache.cleanUp();
+    return cache.estimatedSize();
+  }
+
+  /**
+   * Gets weight limit.
+   *
+   * @return the weight limit
+   */
+  public long getWeightLimit() {
+    return weightLimit;
+  }
+
+  private record CacheKey(Address address, Hash inputHash) {}
+
+  private static class CacheStats {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+  }
+
+  private class CachingPrecompiledContract implements PrecompiledContract {
+    private final Address address;
+    private final PrecompiledContract delegate;
+    private final CacheStats precompileStats;
+
+    private CachingPrecompiledContract(
+        final Address address,
+        final PrecompiledContract delegate,
+        final CacheStats precompileStats) {
+      this.address = address;
+      this.delegate = delegate;
+      this.precompileStats = precompileStats;
+    }
+
+    @Override
+    public String getName() {
+      return delegate.getName();
+    }
+
+    @Override
+    public long gasRequirement(final Bytes input) {
+      return delegate.gasRequirement(input);
+    }
+
+    @Nonnull
+    @Override
+    public PrecompileContractResult computePrecompile(
+        final Bytes input, @Nonnull final MessageFrame messageFrame) {
+      final CacheKey key = new CacheKey(address, Hash.hash(input));
+      final PrecompileContractResult cached = cache.getIfPresent(key);
+      if (cached != null) {
+        precompileStats.hits.increment();
+        return cached;
+      }
+      precompileStats.misses.increment();
+      final PrecompileContractResult result = delegate.computePrecompile(input, messageFrame);
+      cache.put(key, detached(result));
+      return result;
+    }
+
+    /** Copies the output so a caller mutating its result cannot alter the cached one. */
+    private PrecompileContractResult detached(final PrecompileContractResult result) {
+      final Bytes output = result.getOutput();
+      if (output == null) {
+        return result;
+      }
+      return new PrecompileContractResult(
+          Bytes.wrap(output.toArray()),
+          result.isRefundGas(),
+          result.getState(),
+          result.getHaltReason());
+    }
+  }
+}
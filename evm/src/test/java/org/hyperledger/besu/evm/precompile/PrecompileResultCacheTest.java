@@ -0,0 +1,133 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.evm.precompile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.precompile.PrecompiledContract.PrecompileContractResult;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.junit.jupiter.api.Test;
+
+class PrecompileResultCacheTest {
+
+  private final MessageFrame messageFrame = mock(MessageFrame.class);
+  private final CountingPrecompile precompile = new CountingPrecompile();
+
+  @Test
+  void repeatedInputIsServedFromCache() {
+    final PrecompileResultCache cache =
+        new PrecompileResultCache(1024 * 1024, Set.of(Address.ECREC));
+    final PrecompiledContract cached = cache.wrap(Address.ECREC, precompile);
+
+    final Bytes first = cached.computePrecompile(Bytes.of(1, 2, 3), messageFrame).getOutput();
+    final Bytes second = cached.computePrecompile(Bytes.of(1, 2, 3), messageFrame).getOutput();
+    cached.computePrecompile(Bytes.of(4, 5, 6), messageFrame);
+
+    assertThat(second).isEqualTo(first);
+    assertThat(precompile.invocations.get()).isEqualTo(2);
+    assertThat(cache.getHitCount(Address.ECREC)).isEqualTo(1);
+    assertThat(cache.getMissCount(Address.ECREC)).isEqualTo(2);
+    assertThat(cache.getHitRate(Address.ECREC)).isEqualTo(1.0 / 3);
+    assertThat(cached.getName()).isEqualTo(precompile.getName());
+    assertThat(cached.gasRequirement(Bytes.of(1, 2, 3))).isEqualTo(3);
+  }
+
+  @Test
+  void cachedResultIsNotAffectedByMutatingTheReturnedOutput() {
+    final PrecompileResultCache cache =
+        new PrecompileResultCache(1024 * 1024, Set.of(Address.ECREC));
+    final PrecompiledContract cached = cache.wrap(Address.ECREC, precompile);
+
+    final Bytes output = cached.computePrecompile(Bytes.of(1), messageFrame).getOutput();
+    ((MutableBytes) output).set(0, (byte) 0xff);
+
+    assertThat(cached.computePrecompile(Bytes.of(1), messageFrame).getOutput())
+        .isEqualTo(Bytes.of(1));
+  }
+
+  @Test
+  void precompilesAtOtherAddressesAreNotWrapped() {
+    final PrecompileResultCache cache =
+        new PrecompileResultCache(1024 * 1024, Set.of(Address.ECREC));
+
+    assertThat(cache.wrap(Address.SHA256, precompile)).isSameAs(precompile);
+    assertThat(cache.getHitRate(Address.SHA256)).isZero();
+  }
+
+  @Test
+  void cacheIsBoundedByWeight() {
+    final PrecompileResultCache cache = new PrecompileResultCache(1024, Set.of(Address.ECREC));
+    final PrecompiledContract cached = cache.wrap(Address.ECREC, precompile);
+
+    for (int i = 0; i < 100; i++) {
+      cached.computePrecompile(Bytes.ofUnsignedInt(i), messageFrame);
+    }
+
+    assertThat(cache.size()).isLessThan(100);
+    assertThat(cache.getWeightLimit()).isEqualTo(1024);
+  }
+
+  @Test
+  void registryWrapsOnlyCachedPrecompiles() {
+    final PrecompileResultCache cache =
+        new PrecompileResultCache(1024 * 1024, PrecompileResultCache.DEFAULT_CACHED_PRECOMPILES);
+    final PrecompileContractRegistry registry = new PrecompileContractRegistry();
+    registry.put(Address.ECREC, precompile);
+    registry.put(Address.SHA256, precompile);
+    registry.cacheResults(cache);
+
+    registry.get(Address.ECREC).computePrecompile(Bytes.of(7), messageFrame);
+    registry.get(Address.ECREC).computePrecompile(Bytes.of(7), messageFrame);
+
+    assertThat(registry.get(Address.ECREC)).isNotSameAs(precompile);
+    assertThat(registry.get(Address.SHA256)).isSameAs(precompile);
+    assertThat(cache.getHitCount(Address.ECREC)).isEqualTo(1);
+
+    final PrecompileContractRegistry uncachedRegistry = new PrecompileContractRegistry();
+    uncachedRegistry.put(Address.ECREC, precompile);
+    assertThat(uncachedRegistry.get(Address.ECREC)).isSameAs(precompile);
+  }
+
+  private static class CountingPrecompile implements PrecompiledContract {
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @Override
+    public String getName() {
+      return "Counting";
+    }
+
+    @Override
+    public long gasRequirement(final Bytes input) {
+      return input.size();
+    }
+
+    @Nonnull
+    @Override
+    public PrecompileContractResult computePrecompile(
+        final Bytes input, @Nonnull final MessageFrame messageFrame) {
+      invocations.incrementAndGet();
+      return PrecompileContractResult.success(MutableBytes.wrap(input.toArray()));
+    }
+  }
+}
@@ -71,6 +71,21 @@ public interface SegmentedKeyValueStorage extends Closeable {
    */
   SegmentedKeyValueStorageTransaction startTransaction() throws StorageException;
 
+  /**
+   * Begins a bulk load. Returns a transaction suited to writing large batches of entries that are
+   * not read before the commit, such as ranges downloaded during a sync. Storages which can import
+   * sorted files directly, instead of going through their write path, write the entries this way on
+   * commit. The commit of a bulk load is not guaranteed to be atomic across segments.
+   *
+   * <p>The default implementation returns a regular transaction.
+   *
+   * @return An object representing the bulk load.
+   * @throws StorageException the storage exception
+   */
+  default SegmentedKeyValueStorageTransaction startBulkLoad() throws StorageException {
+    return startTransaction();
+  }
+
   /**
    * Returns a stream of all keys for the segment.
    *
@@ -21,12 +21,14 @@ import org.hyperledger.besu.plugin.services.exception.StorageException;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.plugin.services.storage.SegmentIdentifier;
 import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorageTransaction;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDBMetrics;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDBMetricsFactory;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDbIterator;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDbSegmentIdentifier;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDbUtil;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBConfiguration;
+import org.hyperledger.besu.services.kvstore.SegmentedKeyValueStorageTransactionValidatorDecorator;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -84,6 +86,8 @@ public abstract class RocksDBColumnarKeyValueStorage implements SegmentedKeyValu
   private static final long NUMBER_OF_LOG_FILES_TO_KEEP = 7;
   /** RocksDb Time to roll a log file (1 day = 3600 * 24 seconds) */
   private static final long TIME_TO_ROLL_LOG_FILE = 86_400L;
+  /** Directory, under the database directory, where bulk loads write their SST files */
+  private static final String BULK_LOAD_DIRECTORY = "bulk-load";
 
   static {
     RocksDbUtil.loadNativeLibrary();
@@ -331,6 +335,39 @@ public abstract class RocksDBColumnarKeyValueStorage implements SegmentedKeyValu
     return safeRef.get();
   }
 
+  /**
+   * Start a bulk load, which writes the large segments of its commit as SST files ingested into
+   * the database.
+   *
+   * @return the new bulk load transaction
+   * @throws StorageException the storage exception
+   */
+  @Override
+  public SegmentedKeyValueStorageTransaction startBulkLoad() throws StorageException {
+    throwIfClosed();
+    return new SegmentedKeyValueStorageTransactionValidatorDecorator(
+        new RocksDBSstBulkLoadTransaction(
+            getDB(),
+            options,
+            this::safeColumnHandle,
+            this::columnFamilyOptions,
+            this::startTransaction,
+            configuration.getDatabaseDir().resolve(BULK_LOAD_DIRECTORY),
+            metrics,
+            RocksDBSstBulkLoadTransaction.MIN_ENTRIES_FOR_INGESTION),
+        this.closed::get);
+  }
+
+  private ColumnFamilyOptions columnFamilyOptions(final SegmentIdentifier segment) {
+    return columnDescriptors.stream()
+        .filter(descriptor -> Arrays.equals(descriptor.getName(), segment.getId()))
+        .map(ColumnFamilyDescriptor::getOptions)
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new RuntimeException("Column options not found for segment " + segment.getName()));
+  }
+
   @Override
   public Optional<byte[]> get(final SegmentIdentifier segment, final byte[] key)
       throws StorageException {
@@ -0,0 +1,201 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.plugin.services.storage.rocksdb.segmented;
+
+import org.hyperledger.besu.plugin.services.exception.StorageException;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.storage.SegmentIdentifier;
+import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorageTransaction;
+import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDBMetrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.IngestExternalFileOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A transaction which buffers its writes and, on commit, writes the large segments to sorted SST
+ * files that are ingested into the database. This skips the WAL and the memtable, and the
+ * compactions of the level 0 files they would flush to.
+ *
+ * <p>Segments with fewer than {@link #MIN_ENTRIES_FOR_INGESTION} entries are written with a
+ * regular transaction, as ingesting many small files costs more than it saves. The segments are
+ * committed one after the other, so the commit is not atomic across segments.
+ */
+class RocksDBSstBulkLoadTransaction implements SegmentedKeyValueStorageTransaction {
+  private static final Logger LOG = LoggerFactory.getLogger(RocksDBSstBulkLoadTransaction.class);
+
+  /** The minimum number of entries of a segment to write it through an SST file */
+  static final int MIN_ENTRIES_FOR_INGESTION = 10_000;
+
+  private final RocksDB db;
+  private final DBOptions dbOptions;
+  private final Function<SegmentIdentifier, ColumnFamilyHandle> columnFamilyMapper;
+  private final Function<SegmentIdentifier, ColumnFamilyOptions> columnFamilyOptionsMapper;
+  private final Supplier<SegmentedKeyValueStorageTransaction> transactionFactory;
+  private final Path bulkLoadDirectory;
+  private final RocksDBMetrics metrics;
+  private final int minEntriesForIngestion;
+
+  // a null value marks a removed key
+  private final Map<SegmentIdentifier, NavigableMap<byte[], byte[]>> pendingWrites =
+      new LinkedHashMap<>();
+
+  /**
+   * Instantiates a new SST bulk load transaction.
+   *
+   * @param db the database
+   * @param dbOptions the options the database was opened with
+   * @param columnFamilyMapper mapper from segment identifier to column family handle
+   * @param columnFamilyOptionsMapper mapper from segment identifier to column family options
+   * @param transactionFactory creates the transaction used for the small segments
+   * @param bulkLoadDirectory the directory where the SST files are written before ingestion
+   * @param metrics the metrics
+   * @param minEntriesForIngestion the minimum number of entries to write a segment as an SST file
+   */
+  RocksDBSstBulkLoadTransaction(
+      final RocksDB db,
+      final DBOptions dbOptions,
+      final Function<SegmentIdentifier, ColumnFamilyHandle> columnFamilyMapper,
+      final Function<SegmentIdentifier, ColumnFamilyOptions> columnFamilyOptionsMapper,
+      final Supplier<SegmentedKeyValueStorageTransaction> transactionFactory,
+      final Path bulkLoadDirectory,
+      final RocksDBMetrics metrics,
+      final int minEntriesForIngestion) {
+    this.db = db;
+    this.dbOptions = dbOptions;
+    this.columnFamilyMapper = columnFamilyMapper;
+    this.columnFamilyOptionsMapper = columnFamilyOptionsMapper;
+    this.transactionFactory = transactionFactory;
+    this.bulkLoadDirectory = bulkLoadDirectory;
+    this.metrics = metrics;
+    this.minEntriesForIngestion = minEntriesForIngestion;
+  }
+
+  @Override
+  public void put(final SegmentIdentifier segmentId, final byte[] key, final byte[] value) {
+    pendingWrites(segmentId).put(key, value);
+  }
+
+  @Override
+  public void remove(final SegmentIdentifier segmentId, final byte[] key) {
+    pendingWrites(segmentId).put(key, null);
+  }
+
+  private NavigableMap<byte[], byte[]> pendingWrites(final SegmentIdentifier segmentId) {
+    return pendingWrites.computeIfAbsent(
+        segmentId, __ -> new TreeMap<>(Arrays::compareUnsigned));
+  }
+
+  @Override
+  public void commit() throws StorageException {
+    try (final OperationTimer.TimingContext ignored = metrics.getCommitLatency().startTimer()) {
+      SegmentedKeyValueStorageTransaction smallSegmentsTransaction = null;
+      for (final Map.Entry<SegmentIdentifier, NavigableMap<byte[], byte[]>> segmentWrites :
+          pendingWrites.entrySet()) {
+        final SegmentIdentifier segment = segmentWrites.getKey();
+        final NavigableMap<byte[], byte[]> writes = segmentWrites.getValue();
+        if (writes.size() >= minEntriesForIngestion) {
+          ingest(segment, writes);
+        } else {
+          if (smallSegmentsTransaction == null) {
+            smallSegmentsTransaction = transactionFactory.get();
+          }
+          for (final Map.Entry<byte[], byte[]> write : writes.entrySet()) {
+            if (write.getValue() == null) {
+              smallSegmentsTransaction.remove(segment, write.getKey());
+            } else {
+              smallSegmentsTransaction.put(segment, write.getKey(), write.getValue());
+            }
+          }
+        }
+      }
+      if (smallSegmentsTransaction != null) {
+        smallSegmentsTransaction.commit();
+      }
+    } finally {
+      pendingWrites.clear();
+    }
+  }
+
+  private void ingest(final SegmentIdentifier segment, final NavigableMap<byte[], byte[]> writes) {
+    Path sstFile = null;
+    try {
+      Files.createDirectories(bulkLoadDirectory);
+      sstFile = Files.createTempFile(bulkLoadDirectory, "ingest-", ".sst");
+      try (final EnvOptions envOptions = new EnvOptions();
+          final Options options = new Options(dbOptions, columnFamilyOptionsMapper.apply(segment));
+          final SstFileWriter writer = new SstFileWriter(envOptions, options)) {
+        writer.open(sstFile.toString());
+        for (final Map.Entry<byte[], byte[]> write : writes.entrySet()) {
+          if (write.getValue() == null) {
+            writer.delete(write.getKey());
+          } else {
+            writer.put(write.getKey(), write.getValue());
+          }
+        }
+        writer.finish();
+      }
+      try (final IngestExternalFileOptions ingestOptions =
+          new IngestExternalFileOptions()
+              .setMoveFiles(true)
+              .setAllowGlobalSeqNo(true)
+              .setAllowBlockingFlush(true)) {
+        db.ingestExternalFile(
+            columnFamilyMapper.apply(segment), List.of(sstFile.toString()), ingestOptions);
+      }
+      LOG.trace("Ingested {} entries into segment {}", writes.size(), segment.getName());
+    } catch (final RocksDBException | IOException e) {
+      throw new StorageException(e);
+    } finally {
+      if (sstFile != null) {
+        deleteQuietly(sstFile);
+      }
+    }
+  }
+
+  private static void deleteQuietly(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.warn("Unable to delete bulk load file {}", file, e);
+    }
+  }
+
+  @Override
+  public void rollback() {
+    pendingWrites.clear();
+    metrics.getRollbackCount().inc();
+  }
+}
@@ -38,6 +38,7 @@ import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorageTran
 import org.hyperledger.besu.services.kvstore.SegmentedKeyValueStorageAdapter;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
@@ -45,8 +46,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
@@ -156,6 +159,48 @@ public abstract class RocksDBColumnarKeyValueStorageTest extends AbstractKeyValu
     }
   }
 
+  @Test
+  public void bulkLoadIngestsLargeSegmentsAndWritesSmallSegments(@TempDir final Path tempDir)
+      throws Exception {
+    final SegmentedKeyValueStorage store =
+        createSegmentedStore(
+            tempDir,
+            Arrays.asList(TestSegment.DEFAULT, TestSegment.FOO, TestSegment.BAR),
+            List.of());
+
+    final SegmentedKeyValueStorageTransaction existing = store.startTransaction();
+    existing.put(TestSegment.FOO, intKey(0), bytesOf(0));
+    existing.put(TestSegment.BAR, bytesOf(1), bytesOf(1));
+    existing.commit();
+
+    final int entries = RocksDBSstBulkLoadTransaction.MIN_ENTRIES_FOR_INGESTION;
+    final SegmentedKeyValueStorageTransaction bulkLoad = store.startBulkLoad();
+    // written in reverse order, the bulk load sorts the keys
+    for (int i = entries; i > 0; i--) {
+      bulkLoad.put(TestSegment.FOO, intKey(i), intKey(i));
+    }
+    bulkLoad.remove(TestSegment.FOO, intKey(0));
+    bulkLoad.remove(TestSegment.BAR, bytesOf(1));
+    bulkLoad.put(TestSegment.BAR, bytesOf(2), bytesOf(2));
+    bulkLoad.commit();
+
+    assertThat(store.stream(TestSegment.FOO).count()).isEqualTo(entries);
+    assertThat(store.get(TestSegment.FOO, intKey(0))).isEmpty();
+    assertThat(store.get(TestSegment.FOO, intKey(1))).contains(intKey(1));
+    assertThat(store.get(TestSegment.FOO, intKey(entries))).contains(intKey(entries));
+    assertThat(store.get(TestSegment.BAR, bytesOf(1))).isEmpty();
+    assertThat(store.get(TestSegment.BAR, bytesOf(2))).contains(bytesOf(2));
+    try (final Stream<Path> bulkLoadFiles = Files.list(tempDir.resolve("bulk-load"))) {
+      assertThat(bulkLoadFiles).isEmpty();
+    }
+
+    store.close();
+  }
+
+  private static byte[] intKey(final int value) {
+    return Bytes.ofUnsignedInt(value).toArrayUnsafe();
+  }
+
   @Test
   public void canGetThroughSegmentIteration() throws Exception {
     final SegmentedKeyValueStorage store = createSegmentedStore();
@@ -0,0 +1,116 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.kvstore;
+
+import static org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage.SEGMENT_IDENTIFIER;
+
+import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorageTransaction;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Range scans over a stack of layered storages, as done for snap serving on top of bonsai layers. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LayeredKeyValueStorageBenchmark {
+
+  @Param({"1", "16", "64"})
+  public int depth;
+
+  @Param({"1000"})
+  public int entriesPerLayer;
+
+  @Param({"100000"})
+  public int baseEntries;
+
+  @Param({"128"})
+  public int rangeSize;
+
+  private LayeredKeyValueStorage top;
+  private byte[][] startKeys;
+  private byte[][] endKeys;
+  private int nextStartKey;
+
+  @Setup(Level.Trial)
+  public void prepare() {
+    final Random random = new Random(42);
+    final SegmentedInMemoryKeyValueStorage base = new SegmentedInMemoryKeyValueStorage();
+    fill(base, baseEntries, random);
+
+    SegmentedKeyValueStorage parent = base;
+    for (int i = 0; i < depth; i++) {
+      final LayeredKeyValueStorage layer = new LayeredKeyValueStorage(parent);
+      fill(layer, entriesPerLayer, random);
+      parent = layer;
+    }
+    top = (LayeredKeyValueStorage) parent;
+
+    startKeys = new byte[1024][];
+    endKeys = new byte[1024][];
+    for (int i = 0; i < startKeys.length; i++) {
+      startKeys[i] = Bytes32.random(random).toArrayUnsafe();
+      // end of the range shares the first byte, covering a few hundred base entries at most
+      endKeys[i] = startKeys[i].clone();
+      endKeys[i][1] = (byte) 0xff;
+    }
+  }
+
+  @Benchmark
+  public long streamFromKey() {
+    final byte[] startKey = startKeys[nextStartKey++ & (startKeys.length - 1)];
+    return top.streamFromKey(SEGMENT_IDENTIFIER, startKey).limit(rangeSize).count();
+  }
+
+  @Benchmark
+  public long streamFromKeyToKey() {
+    final int index = nextStartKey++ & (startKeys.length - 1);
+    final byte[] startKey = startKeys[index];
+    final byte[] endKey = endKeys[index];
+    return top.streamFromKey(SEGMENT_IDENTIFIER, startKey, endKey).limit(rangeSize).count();
+  }
+
+  @Benchmark
+  public byte[] getThroughLayers() {
+    final byte[] key = startKeys[nextStartKey++ & (startKeys.length - 1)];
+    return top.get(SEGMENT_IDENTIFIER, key).orElse(null);
+  }
+
+  private static void fill(
+      final SegmentedKeyValueStorage storage, final int count, final Random random) {
+    final SegmentedKeyValueStorageTransaction tx = storage.startTransaction();
+    for (int i = 0; i < count; i++) {
+      final byte[] key = Bytes32.random(random).toArrayUnsafe();
+      if (i % 10 == 0) {
+        tx.remove(SEGMENT_IDENTIFIER, key);
+      } else {
+        tx.put(SEGMENT_IDENTIFIER, key, key);
+      }
+    }
+    tx.commit();
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.services.kvstore;
+
+import static org.hyperledger.besu.services.kvstore.SegmentedInMemoryKeyValueStorage.KEY_COMPARATOR;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+import com.google.common.collect.Iterators;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Lazy k-way merge over the sorted overlays of a stack of {@link LayeredKeyValueStorage} and the
+ * sorted range stream of the storage at the bottom of the stack.
+ *
+ * <p>Sources are ordered from the newest layer down to the base storage. When several sources hold
+ * the same key the newest one wins, and an empty value (a deletion marker) hides the key entirely.
+ * Nothing is copied: each source is consumed one entry at a time.
+ */
+class LayeredKeyValueIterator implements Iterator<Pair<byte[], byte[]>> {
+
+  private final PriorityQueue<Cursor> heads;
+  private Pair<byte[], byte[]> next;
+
+  /**
+   * Instantiates a new layered key value iterator.
+   *
+   * @param layers the sorted overlay iterators, newest layer first
+   * @param base the sorted iterator of the storage at the bottom of the layer stack
+   */
+  LayeredKeyValueIterator(
+      final List<Iterator<Map.Entry<Bytes, Optional<byte[]>>>> layers,
+      final Iterator<Pair<byte[], byte[]>> base) {
+    this.heads =
+        new PriorityQueue<>(
+            layers.size() + 1,
+            Comparator.<Cursor, Bytes>comparing(cursor -> cursor.key, KEY_COMPARATOR)
+                .thenComparingInt(cursor -> cursor.priority));
+    for (int i = 0; i < layers.size(); i++) {
+      requeue(new Cursor(i, layers.get(i)));
+    }
+    requeue(
+        new Cursor(
+            layers.size(),
+            Iterators.transform(
+                base, pair -> Map.entry(Bytes.wrap(pair.getKey()), Optional.of(pair.getValue())))));
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (next == null && !heads.isEmpty()) {
+      final Cursor winner = heads.poll();
+      final Bytes key = winner.key;
+      final Optional<byte[]> value = winner.value;
+      requeue(winner);
+      // skip the entries shadowed by the winning layer
+      while (!heads.isEmpty() && heads.peek().key.equals(key)) {
+        requeue(heads.poll());
+      }
+      value.ifPresent(bytes -> next = Pair.of(key.toArrayUnsafe(), bytes));
+    }
+    return next != null;
+  }
+
+  @Override
+  public Pair<byte[], byte[]> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final Pair<byte[], byte[]> result = next;
+    next = null;
+    return result;
+  }
+
+  private void requeue(final Cursor cursor) {
+    if (cursor.advance()) {
+      heads.add(cursor);
+    }
+  }
+
+  private static final class Cursor {
+    private final int priority;
+    private final Iterator<Map.Entry<Bytes, Optional<byte[]>>> source;
+    private Bytes key;
+    private Optional<byte[]> value;
+
+    private Cursor(
+        final int priority, final Iterator<Map.Entry<Bytes, Optional<byte[]>>> source) {
+      this.priority = priority;
+      this.source = source;
+    }
+
+    private boolean advance() {
+      if (!source.hasNext()) {
+        return false;
+      }
+      final Map.Entry<Bytes, Optional<byte[]>> entry = source.next();
+      key = entry.getKey();
+      value = entry.getValue();
+      return true;
+    }
+  }
+}
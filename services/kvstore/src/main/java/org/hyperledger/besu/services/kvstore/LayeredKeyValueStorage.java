@@ -21,12 +21,19 @@ import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorageTransaction;
 import org.hyperledger.besu.plugin.services.storage.SnappedKeyValueStorage;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,11 +43,18 @@ import org.apache.tuweni.bytes.Bytes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Key value storage which stores in memory all updates to a parent worldstate storage. */
+/**
+ * Key value storage which stores in memory all updates to a parent worldstate storage.
+ *
+ * <p>Each segment overlay is a sorted concurrent map, so range scans merge the overlays of the
+ * whole layer stack lazily with the parent range instead of copying them.
+ */
 public class LayeredKeyValueStorage extends SegmentedInMemoryKeyValueStorage
     implements SnappedKeyValueStorage {
 
   private static final Logger LOG = LoggerFactory.getLogger(LayeredKeyValueStorage.class);
+  private static final Comparator<Pair<byte[], byte[]>> PAIR_KEY_COMPARATOR =
+      Comparator.comparing(Pair::getKey, Arrays::compareUnsigned);
 
   private final SegmentedKeyValueStorage parent;
 
@@ -54,7 +68,9 @@ public class LayeredKeyValueStorage extends SegmentedInMemoryKeyValueStorage
   }
 
   /**
-   * Constructor which takes an explicit backing map for the layered key value storage.
+   * Constructor which takes an explicit backing map for the layered key value storage. Segment maps
+   * which are not already sorted are replaced by sorted copies, as the overlay of each segment is
+   * kept in key order for range scans.
    *
    * @param map the backing map
    * @param parent the parent key value storage for this layered storage.
@@ -64,6 +80,16 @@ public class LayeredKeyValueStorage extends SegmentedInMemoryKeyValueStorage
       final SegmentedKeyValueStorage parent) {
     super(map);
     this.parent = parent;
+    map.replaceAll(
+        (segmentId, layer) -> {
+          if (layer instanceof ConcurrentSkipListMap) {
+            return layer;
+          }
+          final ConcurrentSkipListMap<Bytes, Optional<byte[]>> sortedLayer =
+              new ConcurrentSkipListMap<>(KEY_COMPARATOR);
+          sortedLayer.putAll(layer);
+          return sortedLayer;
+        });
   }
 
   @Override
@@ -81,8 +107,7 @@ public class LayeredKeyValueStorage extends SegmentedInMemoryKeyValueStorage
     lock.lock();
     try {
       Bytes wrapKey = Bytes.wrap(key);
-      final Optional<byte[]> foundKey =
-          hashValueStore.computeIfAbsent(segmentId, __ -> new HashMap<>()).get(wrapKey);
+      final Optional<byte[]> foundKey = getLayer(segmentId).get(wrapKey);
       if (foundKey == null) {
         return parent.get(segmentId, key);
       } else {
@@ -96,6 +121,8 @@ public class LayeredKeyValueStorage extends SegmentedInMemoryKeyValueStorage
   @Override
   public Optional<NearestKeyValue> getNearestTo(
       final SegmentIdentifier segmentIdentifier, final Bytes key) throws StorageException {
+    // make sure the segment overlay exists as a sorted map before the in memory lookup
+    getLayer(segmentIdentifier);
     Optional<NearestKeyValue> ourNearest = super.getNearestTo(segmentIdentifier, key);
     Optional<NearestKeyValue> parentNearest = parent.getNearestTo(segmentIdentifier, key);
 
@@ -115,79 +142,78 @@ public class LayeredKeyValueStorage extends SegmentedInMemoryKeyValueStorage
 
   @Override
   public Stream<Pair<byte[], byte[]>> stream(final SegmentIdentifier segmentId) {
-    throwIfClosed();
-
-    final Lock lock = rwLock.readLock();
-    lock.lock();
-    try {
-      // copy of our in memory store to use for streaming and filtering:
-      var ourLayerState =
-          Optional.ofNullable(hashValueStore.get(segmentId))
-              .map(HashMap::new)
-              .orElse(new HashMap<>());
-
-      return Streams.concat(
-          ourLayerState.entrySet().stream()
-              .filter(entry -> entry.getValue().isPresent())
-              .map(
-                  bytesEntry ->
-                      Pair.of(bytesEntry.getKey().toArrayUnsafe(), bytesEntry.getValue().get()))
-          // since we are layered, concat a parent stream filtered by our map entries:
-          ,
-          parent.stream(segmentId).filter(e -> !ourLayerState.containsKey(Bytes.of(e.getLeft()))));
-    } finally {
-      lock.unlock();
-    }
+    return streamFromKey(segmentId, new byte[0]);
   }
 
   @Override
   public Stream<Pair<byte[], byte[]>> streamFromKey(
       final SegmentIdentifier segmentId, final byte[] startKey) {
+    throwIfClosed();
     final Bytes startKeyBytes = Bytes.wrap(startKey);
-    return stream(segmentId).filter(e -> startKeyBytes.compareTo(Bytes.wrap(e.getKey())) <= 0);
+    return mergeLayers(
+        segmentId,
+        layer -> layer.tailMap(startKeyBytes, true),
+        base -> base.streamFromKey(segmentId, startKey));
   }
 
   @Override
   public Stream<Pair<byte[], byte[]>> streamFromKey(
       final SegmentIdentifier segmentId, final byte[] startKey, final byte[] endKey) {
+    throwIfClosed();
     final Bytes startKeyBytes = Bytes.wrap(startKey);
     final Bytes endKeyBytes = Bytes.wrap(endKey);
-    return stream(segmentId)
-        .filter(e -> startKeyBytes.compareTo(Bytes.wrap(e.getKey())) <= 0)
-        .filter(e -> endKeyBytes.compareTo(Bytes.wrap(e.getKey())) >= 0);
+    if (KEY_COMPARATOR.compare(startKeyBytes, endKeyBytes) > 0) {
+      return Stream.empty();
+    }
+    return mergeLayers(
+        segmentId,
+        layer -> layer.subMap(startKeyBytes, true, endKeyBytes, true),
+        base -> base.streamFromKey(segmentId, startKey, endKey));
   }
 
   @Override
   public Stream<byte[]> streamKeys(final SegmentIdentifier segmentId) {
-    throwIfClosed();
-
-    final Lock lock = rwLock.readLock();
-    lock.lock();
-    try {
-      // copy of our in memory store to use for streaming and filtering:
-      var ourLayerState =
-          Optional.ofNullable(hashValueStore.get(segmentId))
-              .map(HashMap::new)
-              .orElse(new HashMap<>());
-
-      return Streams.concat(
-          ourLayerState.entrySet().stream()
-              .filter(entry -> entry.getValue().isPresent())
-              .map(bytesEntry -> bytesEntry.getKey().toArrayUnsafe())
-          // since we are layered, concat a parent stream filtered by our map entries:
-          ,
-          parent.streamKeys(segmentId).filter(e -> !ourLayerState.containsKey(Bytes.of(e))));
+    return stream(segmentId).map(Pair::getKey);
+  }
 
-    } finally {
-      lock.unlock();
+  /**
+   * Lazily merges the requested range of every layer in the stack down to the first non layered
+   * storage. The overlays are read through their sorted views, so no layer is copied. A base in
+   * memory storage does not stream its range in key order, so only that range is sorted here.
+   *
+   * @param segmentId the segment to stream
+   * @param range the range view to read from each layer overlay
+   * @param baseRange the range stream to read from the base storage
+   * @return the merged stream, closing the base stream when closed
+   */
+  private Stream<Pair<byte[], byte[]>> mergeLayers(
+      final SegmentIdentifier segmentId,
+      final Function<NavigableMap<Bytes, Optional<byte[]>>, Map<Bytes, Optional<byte[]>>> range,
+      final Function<SegmentedKeyValueStorage, Stream<Pair<byte[], byte[]>>> baseRange) {
+    final List<Iterator<Map.Entry<Bytes, Optional<byte[]>>>> layers = new ArrayList<>();
+    SegmentedKeyValueStorage current = this;
+    while (current instanceof LayeredKeyValueStorage) {
+      final LayeredKeyValueStorage layer = (LayeredKeyValueStorage) current;
+      layers.add(range.apply(layer.getLayer(segmentId)).entrySet().iterator());
+      current = layer.parent;
     }
+    final Stream<Pair<byte[], byte[]>> baseStream =
+        current instanceof SegmentedInMemoryKeyValueStorage
+            ? baseRange.apply(current).sorted(PAIR_KEY_COMPARATOR)
+            : baseRange.apply(current);
+    return Streams.stream(new LayeredKeyValueIterator(layers, baseStream.iterator()))
+        .onClose(baseStream::close);
+  }
+
+  private NavigableMap<Bytes, Optional<byte[]>> getLayer(final SegmentIdentifier segmentId) {
+    return (NavigableMap<Bytes, Optional<byte[]>>)
+        hashValueStore.computeIfAbsent(
+            segmentId, __ -> new ConcurrentSkipListMap<>(KEY_COMPARATOR));
   }
 
   @Override
   public boolean tryDelete(final SegmentIdentifier segmentId, final byte[] key) {
-    hashValueStore
-        .computeIfAbsent(segmentId, __ -> new HashMap<>())
-        .put(Bytes.wrap(key), Optional.empty());
+    getLayer(segmentId).put(Bytes.wrap(key), Optional.empty());
     return true;
   }
 
@@ -203,18 +229,13 @@ public class LayeredKeyValueStorage extends SegmentedInMemoryKeyValueStorage
             lock.lock();
             try {
               updatedValues.entrySet().stream()
-                  .forEach(
-                      entry ->
-                          hashValueStore
-                              .computeIfAbsent(entry.getKey(), __ -> new HashMap<>())
-                              .putAll(entry.getValue()));
+                  .forEach(entry -> getLayer(entry.getKey()).putAll(entry.getValue()));
 
               // put empty rather than remove in order to not ask parent in case of deletion
               removedKeys.entrySet().stream()
                   .forEach(
                       segmentEntry ->
-                          hashValueStore
-                              .computeIfAbsent(segmentEntry.getKey(), __ -> new HashMap<>())
+                          getLayer(segmentEntry.getKey())
                               .putAll(
                                   segmentEntry.getValue().stream()
                                       .collect(
@@ -24,6 +24,7 @@ import org.hyperledger.besu.plugin.services.storage.SnappableKeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.SnappedKeyValueStorage;
 
 import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -48,6 +49,10 @@ import org.apache.tuweni.bytes.Bytes;
 /** Segmented in memory key value storage. */
 public class SegmentedInMemoryKeyValueStorage
     implements SnappedKeyValueStorage, SnappableKeyValueStorage, SegmentedKeyValueStorage {
+  /** Unsigned lexicographic key ordering, as used by RocksDB's default bytewise comparator. */
+  static final Comparator<Bytes> KEY_COMPARATOR =
+      Comparator.comparing(Bytes::toArrayUnsafe, Arrays::compareUnsigned);
+
   /** protected access for the backing hash map. */
   final ConcurrentMap<SegmentIdentifier, Map<Bytes, Optional<byte[]>>> hashValueStore;
 
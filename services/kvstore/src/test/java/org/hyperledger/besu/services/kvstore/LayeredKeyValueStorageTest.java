@@ -15,10 +15,20 @@
  */
 package org.hyperledger.besu.services.kvstore;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage.SEGMENT_IDENTIFIER;
 
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.SegmentedKeyValueStorageTransaction;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
 
 public class LayeredKeyValueStorageTest extends AbstractSegmentedKeyValueStorageTest {
   @Override
@@ -30,4 +40,72 @@ public class LayeredKeyValueStorageTest extends AbstractSegmentedKeyValueStorage
   public SegmentedKeyValueStorage createSegmentedStore() {
     return new LayeredKeyValueStorage(new SegmentedInMemoryKeyValueStorage());
   }
+
+  @Test
+  public void streamFromKeyMergesLayersInKeyOrder() {
+    final SegmentedInMemoryKeyValueStorage base = new SegmentedInMemoryKeyValueStorage();
+    put(base, "05", "b5");
+    put(base, "01", "b1");
+    put(base, "03", "b3");
+    put(base, "0101", "b101");
+
+    final LayeredKeyValueStorage middle = new LayeredKeyValueStorage(base);
+    put(middle, "02", "a2");
+    put(middle, "03", "a3");
+    remove(middle, "05");
+
+    final LayeredKeyValueStorage top = new LayeredKeyValueStorage(middle);
+    put(top, "04", "c4");
+    put(top, "05", "c5");
+    remove(top, "01");
+
+    assertThat(keyValues(top.streamFromKey(SEGMENT_IDENTIFIER, bytes("00"))))
+        .containsExactly("0101=b101", "02=a2", "03=a3", "04=c4", "05=c5");
+    assertThat(keyValues(top.streamFromKey(SEGMENT_IDENTIFIER, bytes("02"), bytes("04"))))
+        .containsExactly("02=a2", "03=a3", "04=c4");
+    assertThat(keyValues(middle.streamFromKey(SEGMENT_IDENTIFIER, bytes("01"))))
+        .containsExactly("01=b1", "0101=b101", "02=a2", "03=a3");
+    assertThat(keyValues(top.stream(SEGMENT_IDENTIFIER)))
+        .containsExactly("0101=b101", "02=a2", "03=a3", "04=c4", "05=c5");
+  }
+
+  @Test
+  public void streamFromKeySeesUpdatesOfClonedLayer() {
+    final SegmentedInMemoryKeyValueStorage base = new SegmentedInMemoryKeyValueStorage();
+    put(base, "01", "b1");
+    final LayeredKeyValueStorage layer = new LayeredKeyValueStorage(base);
+    final LayeredKeyValueStorage clone = (LayeredKeyValueStorage) layer.clone();
+    put(layer, "02", "d2");
+
+    assertThat(keyValues(clone.streamFromKey(SEGMENT_IDENTIFIER, bytes("00"))))
+        .containsExactly("01=b1", "02=d2");
+  }
+
+  private static void put(
+      final SegmentedKeyValueStorage storage, final String key, final String value) {
+    final SegmentedKeyValueStorageTransaction tx = storage.startTransaction();
+    tx.put(SEGMENT_IDENTIFIER, bytes(key), bytes(value));
+    tx.commit();
+  }
+
+  private static void remove(final SegmentedKeyValueStorage storage, final String key) {
+    final SegmentedKeyValueStorageTransaction tx = storage.startTransaction();
+    tx.remove(SEGMENT_IDENTIFIER, bytes(key));
+    tx.commit();
+  }
+
+  private static byte[] bytes(final String hex) {
+    return Bytes.fromHexString(hex).toArrayUnsafe();
+  }
+
+  private static List<String> keyValues(
+      final Stream<Pair<byte[], byte[]>> stream) {
+    return stream
+        .map(
+            pair ->
+                Bytes.wrap(pair.getKey()).toUnprefixedHexString()
+                    + "="
+                    + Bytes.wrap(pair.getValue()).toUnprefixedHexString())
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_LABELLED_2_COUNTER;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Moves small items through a pipeline shaped like the sync pipelines: a source, a parallel
+ * processing stage, batching, flattening and a completer. Compares the blocking queue pipes with
+ * ring buffer pipes using each wait strategy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PipelineThroughputBenchmark {
+
+  private static final int ITEMS = 1_000_000;
+
+  @Param({"blocking", "spin", "yield", "park"})
+  public String pipe;
+
+  @Param({"1", "4"})
+  public int parallelism;
+
+  @Param({"200"})
+  public int bufferSize;
+
+  private ExecutorService executorService;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    executorService = Executors.newCachedThreadPool();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ITEMS)
+  public long pipeline() throws Exception {
+    final LongAdder sum = new LongAdder();
+    createPipeline()
+        .thenProcessInParallel("increment", item -> item + 1, parallelism)
+        .inBatches(50)
+        .thenFlatMap("flatten", List::stream, bufferSize)
+        .andFinishWith("sum", sum::add)
+        .start(executorService)
+        .get(5, TimeUnit.MINUTES);
+    return sum.sum();
+  }
+
+  private PipelineBuilder<Integer, Integer> createPipeline() {
+    final Iterator<Integer> source = IntStream.range(0, ITEMS).boxed().iterator();
+    if ("blocking".equals(pipe)) {
+      return PipelineBuilder.createPipelineFrom(
+          "source", source, bufferSize, NO_OP_LABELLED_2_COUNTER, false, "bench");
+    }
+    return PipelineBuilder.createPipelineFrom(
+        "source", source, bufferSize, NO_OP_LABELLED_2_COUNTER, false, "bench", waitStrategy());
+  }
+
+  private WaitStrategy waitStrategy() {
+    switch (pipe) {
+      case "spin":
+        return WaitStrategy.SPIN;
+      case "yield":
+        return WaitStrategy.YIELD;
+      default:
+        return WaitStrategy.PARK;
+    }
+  }
+}
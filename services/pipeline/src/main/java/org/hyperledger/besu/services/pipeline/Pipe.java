@@ -46,7 +46,7 @@ public class Pipe<T> implements ReadPipe<T>, WritePipe<T> {
   private final AtomicBoolean aborted = new AtomicBoolean();
 
   /**
-   * Instantiates a new Pipe.
+   * Instantiates a new Pipe backed by an {@link ArrayBlockingQueue}.
    *
    * @param capacity the capacity
    * @param inputCounter the input counter
@@ -58,7 +58,23 @@ public class Pipe<T> implements ReadPipe<T>, WritePipe<T> {
       final Counter inputCounter,
       final Counter outputCounter,
       final Counter abortedItemCounter) {
-    queue = new ArrayBlockingQueue<>(capacity);
+    this(new ArrayBlockingQueue<>(capacity), inputCounter, outputCounter, abortedItemCounter);
+  }
+
+  /**
+   * Instantiates a new Pipe backed by the given bounded queue, such as a {@link RingBufferQueue}.
+   *
+   * @param queue the bounded queue holding the items in the pipe
+   * @param inputCounter the input counter
+   * @param outputCounter the output counter
+   * @param abortedItemCounter the aborted item counter
+   */
+  public Pipe(
+      final BlockingQueue<T> queue,
+      final Counter inputCounter,
+      final Counter outputCounter,
+      final Counter abortedItemCounter) {
+    this.queue = queue;
     this.inputCounter = inputCounter;
     this.outputCounter = outputCounter;
     this.abortedItemCounter = abortedItemCounter;
@@ -133,15 +149,35 @@ public class Pipe<T> implements ReadPipe<T>, WritePipe<T> {
 
   @Override
   public void put(final T value) {
+    if (offerWhileOpen(value)) {
+      inputCounter.inc();
+    }
+  }
+
+  @Override
+  public void putAll(final Collection<? extends T> values) {
+    int added = 0;
+    for (final T value : values) {
+      if (!offerWhileOpen(value)) {
+        break;
+      }
+      added++;
+    }
+    if (added > 0) {
+      inputCounter.inc(added);
+    }
+  }
+
+  private boolean offerWhileOpen(final T value) {
     while (isOpen()) {
       try {
         if (queue.offer(value, 1, TimeUnit.SECONDS)) {
-          inputCounter.inc();
-          return;
+          return true;
         }
       } catch (final InterruptedException e) {
         LOG.trace("Interrupted while waiting to add to output", e);
       }
     }
+    return false;
   }
 }
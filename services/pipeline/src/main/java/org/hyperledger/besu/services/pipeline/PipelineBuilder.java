@@ -25,6 +25,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -53,6 +56,7 @@ public class PipelineBuilder<I, T> {
   private final LabelledMetric<Counter> outputCounter;
   private final boolean tracingEnabled;
   private final String pipelineName;
+  private final Optional<WaitStrategy> ringBufferWaitStrategy;
 
   /**
    * Instantiates a new Pipeline builder.
@@ -66,6 +70,8 @@ public class PipelineBuilder<I, T> {
    * @param outputCounter the output counter
    * @param tracingEnabled the tracing enabled
    * @param pipelineName the pipeline name
+   * @param ringBufferWaitStrategy the wait strategy of lock-free ring buffer pipes, or empty to use
+   *     blocking queue pipes
    */
   public PipelineBuilder(
       final Pipe<I> inputPipe,
@@ -76,7 +82,8 @@ public class PipelineBuilder<I, T> {
       final int bufferSize,
       final LabelledMetric<Counter> outputCounter,
       final boolean tracingEnabled,
-      final String pipelineName) {
+      final String pipelineName,
+      final Optional<WaitStrategy> ringBufferWaitStrategy) {
     checkArgument(!pipes.isEmpty(), "Must have at least one pipe in a pipeline");
     this.lastStageName = lastStageName;
     this.outputCounter = outputCounter;
@@ -87,6 +94,7 @@ public class PipelineBuilder<I, T> {
     this.bufferSize = bufferSize;
     this.tracingEnabled = tracingEnabled;
     this.pipelineName = pipelineName;
+    this.ringBufferWaitStrategy = ringBufferWaitStrategy;
   }
 
   /**
@@ -111,7 +119,58 @@ public class PipelineBuilder<I, T> {
       final LabelledMetric<Counter> itemCounter,
       final boolean tracingEnabled,
       final String pipelineName) {
-    final Pipe<T> pipe = createPipe(bufferSize, sourceName, itemCounter);
+    return createPipelineFrom(
+        sourceName,
+        source,
+        bufferSize,
+        itemCounter,
+        tracingEnabled,
+        pipelineName,
+        Optional.empty());
+  }
+
+  /**
+   * Create a new pipeline that processes inputs from <i>source</i>, connecting every stage with
+   * lock-free ring buffer pipes which wait using <i>waitStrategy</i> while full or empty.
+   *
+   * @param <T> the type of items input into the pipeline.
+   * @param sourceName the name of this stage. Used as the label for the output count metric.
+   * @param source the source to pull items from for processing.
+   * @param bufferSize the number of items to be buffered between each stage in the pipeline.
+   * @param itemCounter the counter to increment for each output of a stage. Must accept two labels,
+   *     the stage name and action (output or drained).
+   * @param tracingEnabled whether this pipeline should be traced
+   * @param pipelineName the name of the pipeline for tracing purposes
+   * @param waitStrategy how stages wait on a full or empty pipe.
+   * @return a {@link PipelineBuilder} ready to extend the pipeline with additional stages.
+   */
+  public static <T> PipelineBuilder<T, T> createPipelineFrom(
+      final String sourceName,
+      final Iterator<T> source,
+      final int bufferSize,
+      final LabelledMetric<Counter> itemCounter,
+      final boolean tracingEnabled,
+      final String pipelineName,
+      final WaitStrategy waitStrategy) {
+    return createPipelineFrom(
+        sourceName,
+        source,
+        bufferSize,
+        itemCounter,
+        tracingEnabled,
+        pipelineName,
+        Optional.of(waitStrategy));
+  }
+
+  private static <T> PipelineBuilder<T, T> createPipelineFrom(
+      final String sourceName,
+      final Iterator<T> source,
+      final int bufferSize,
+      final LabelledMetric<Counter> itemCounter,
+      final boolean tracingEnabled,
+      final String pipelineName,
+      final Optional<WaitStrategy> ringBufferWaitStrategy) {
+    final Pipe<T> pipe = createPipe(bufferSize, sourceName, itemCounter, ringBufferWaitStrategy);
     final IteratorSourceStage<T> sourceStage = new IteratorSourceStage<>(sourceName, source, pipe);
     return new PipelineBuilder<>(
         pipe,
@@ -122,7 +181,8 @@ public class PipelineBuilder<I, T> {
         bufferSize,
         itemCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        ringBufferWaitStrategy);
   }
 
   /**
@@ -144,7 +204,48 @@ public class PipelineBuilder<I, T> {
       final LabelledMetric<Counter> outputCounter,
       final boolean tracingEnabled,
       final String pipelineName) {
-    final Pipe<T> pipe = createPipe(bufferSize, sourceName, outputCounter);
+    return createPipeline(
+        sourceName, bufferSize, outputCounter, tracingEnabled, pipelineName, Optional.empty());
+  }
+
+  /**
+   * Create a new pipeline that processes inputs added to <i>pipe</i>, connecting every stage with
+   * lock-free ring buffer pipes which wait using <i>waitStrategy</i> while full or empty.
+   *
+   * @param <T> the type of items input into the pipeline.
+   * @param sourceName the name of this stage. Used as the label for the output count metric.
+   * @param bufferSize the number of items to be buffered between each stage in the pipeline.
+   * @param outputCounter the counter to increment for each output of a stage. Must have a single
+   *     label which will be filled with the stage name.
+   * @param tracingEnabled whether this pipeline should be traced
+   * @param pipelineName the name of the pipeline for tracing purposes
+   * @param waitStrategy how stages wait on a full or empty pipe.
+   * @return a {@link PipelineBuilder} ready to extend the pipeline with additional stages.
+   */
+  public static <T> PipelineBuilder<T, T> createPipeline(
+      final String sourceName,
+      final int bufferSize,
+      final LabelledMetric<Counter> outputCounter,
+      final boolean tracingEnabled,
+      final String pipelineName,
+      final WaitStrategy waitStrategy) {
+    return createPipeline(
+        sourceName,
+        bufferSize,
+        outputCounter,
+        tracingEnabled,
+        pipelineName,
+        Optional.of(waitStrategy));
+  }
+
+  private static <T> PipelineBuilder<T, T> createPipeline(
+      final String sourceName,
+      final int bufferSize,
+      final LabelledMetric<Counter> outputCounter,
+      final boolean tracingEnabled,
+      final String pipelineName,
+      final Optional<WaitStrategy> ringBufferWaitStrategy) {
+    final Pipe<T> pipe = createPipe(bufferSize, sourceName, outputCounter, ringBufferWaitStrategy);
     return new PipelineBuilder<>(
         pipe,
         emptyList(),
@@ -154,7 +255,8 @@ public class PipelineBuilder<I, T> {
         bufferSize,
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        ringBufferWaitStrategy);
   }
 
   /**
@@ -263,7 +365,8 @@ public class PipelineBuilder<I, T> {
         (int) Math.ceil(((double) bufferSize) / maximumBatchSize),
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        ringBufferWaitStrategy);
   }
 
   /**
@@ -293,7 +396,8 @@ public class PipelineBuilder<I, T> {
         (int) Math.ceil(((double) bufferSize) / maximumBatchSize),
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        ringBufferWaitStrategy);
   }
 
   /**
@@ -364,7 +468,8 @@ public class PipelineBuilder<I, T> {
       final Supplier<Processor<T, O>> createProcessor,
       final int numberOfThreads,
       final int newBufferSize) {
-    final Pipe<O> newPipeEnd = createPipe(newBufferSize, stageName, outputCounter);
+    final Pipe<O> newPipeEnd =
+        createPipe(newBufferSize, stageName, outputCounter, ringBufferWaitStrategy);
     final WritePipe<O> outputPipe = new SharedWritePipe<>(newPipeEnd, numberOfThreads);
     final ArrayList<Stage> newStages = new ArrayList<>(stages);
     for (int i = 0; i < numberOfThreads; i++) {
@@ -381,7 +486,8 @@ public class PipelineBuilder<I, T> {
         newBufferSize,
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        ringBufferWaitStrategy);
   }
 
   private <O> PipelineBuilder<I, O> addStage(
@@ -391,7 +497,8 @@ public class PipelineBuilder<I, T> {
 
   private <O> PipelineBuilder<I, O> addStage(
       final Processor<T, O> processor, final int newBufferSize, final String stageName) {
-    final Pipe<O> outputPipe = createPipe(newBufferSize, stageName, outputCounter);
+    final Pipe<O> outputPipe =
+        createPipe(newBufferSize, stageName, outputCounter, ringBufferWaitStrategy);
     final Stage processStage = new ProcessingStage<>(stageName, pipeEnd, outputPipe, processor);
     final List<Stage> newStages = concat(stages, processStage);
     return new PipelineBuilder<>(
@@ -403,7 +510,8 @@ public class PipelineBuilder<I, T> {
         newBufferSize,
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        ringBufferWaitStrategy);
   }
 
   private <X> List<X> concat(final Collection<X> existing, final X newItem) {
@@ -415,10 +523,16 @@ public class PipelineBuilder<I, T> {
   private static <O> Pipe<O> createPipe(
       final int newBufferSize,
       final String stageName,
-      final LabelledMetric<Counter> outputCounter) {
+      final LabelledMetric<Counter> outputCounter,
+      final Optional<WaitStrategy> ringBufferWaitStrategy) {
     final String labelName = stageName + "_outputPipe";
+    final BlockingQueue<O> queue =
+        ringBufferWaitStrategy
+            .<BlockingQueue<O>>map(
+                waitStrategy -> new RingBufferQueue<>(newBufferSize, waitStrategy))
+            .orElseGet(() -> new ArrayBlockingQueue<>(newBufferSize));
     return new Pipe<>(
-        newBufferSize,
+        queue,
         outputCounter.labels(labelName, "added"),
         outputCounter.labels(labelName, "removed"),
         outputCounter.labels(labelName, "aborted"));
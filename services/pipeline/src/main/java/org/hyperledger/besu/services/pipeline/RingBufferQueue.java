@@ -0,0 +1,241 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free, multi-producer multi-consumer queue backed by a ring buffer.
+ *
+ * <p>Each slot carries a sequence number which tells producers and consumers whether the slot is
+ * free for the current lap or holds a published item, so claiming a slot is a single CAS on the
+ * head or tail position and no lock is ever taken. Blocking operations retry using the supplied
+ * {@link WaitStrategy} instead of waiting on a condition.
+ *
+ * <p>Iteration is weakly consistent and is only intended for diagnostics.
+ *
+ * @param <T> the type of item held in the queue.
+ */
+public class RingBufferQueue<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+  private final int capacity;
+  private final AtomicReferenceArray<T> buffer;
+  private final AtomicLongArray sequences;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+  private final WaitStrategy waitStrategy;
+
+  /**
+   * Instantiates a new ring buffer queue.
+   *
+   * @param capacity the maximum number of items the queue can hold.
+   * @param waitStrategy how threads wait while the queue is full or empty.
+   */
+  public RingBufferQueue(final int capacity, final WaitStrategy waitStrategy) {
+    checkArgument(capacity > 0, "Capacity must be greater than 0");
+    this.capacity = capacity;
+    this.buffer = new AtomicReferenceArray<>(capacity);
+    this.sequences = new AtomicLongArray(capacity);
+    this.waitStrategy = waitStrategy;
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  @Override
+  public boolean offer(final T item) {
+    checkNotNull(item);
+    long position = tail.get();
+    while (true) {
+      final int index = index(position);
+      final long available = sequences.get(index) - position;
+      if (available == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          buffer.lazySet(index, item);
+          // publishes the item to consumers
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (available < 0) {
+        // the slot still holds the item from the previous lap
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  @Override
+  public T poll() {
+    long position = head.get();
+    while (true) {
+      final int index = index(position);
+      final long available = sequences.get(index) - (position + 1);
+      if (available == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          final T item = buffer.get(index);
+          buffer.lazySet(index, null);
+          // frees the slot for the producer of the next lap
+          sequences.set(index, position + capacity);
+          return item;
+        }
+        position = head.get();
+      } else if (available < 0) {
+        // nothing has been published in this slot yet
+        return null;
+      } else {
+        position = head.get();
+      }
+    }
+  }
+
+  @Override
+  public T peek() {
+    final long position = head.get();
+    final int index = index(position);
+    return sequences.get(index) == position + 1 ? buffer.get(index) : null;
+  }
+
+  @Override
+  public boolean offer(final T item, final long timeout, final TimeUnit unit)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempt = 0;
+    while (!offer(item)) {
+      attempt = awaitNextAttempt(attempt, deadline);
+      if (attempt < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempt = 0;
+    T item;
+    while ((item = poll()) == null) {
+      attempt = awaitNextAttempt(attempt, deadline);
+      if (attempt < 0) {
+        return null;
+      }
+    }
+    return item;
+  }
+
+  @Override
+  public void put(final T item) throws InterruptedException {
+    int attempt = 0;
+    while (!offer(item)) {
+      attempt = awaitNextAttempt(attempt, Long.MAX_VALUE);
+    }
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    int attempt = 0;
+    T item;
+    while ((item = poll()) == null) {
+      attempt = awaitNextAttempt(attempt, Long.MAX_VALUE);
+    }
+    return item;
+  }
+
+  @Override
+  public int drainTo(final Collection<? super T> output) {
+    return drainTo(output, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(final Collection<? super T> output, final int maxElements) {
+    checkNotNull(output);
+    int count = 0;
+    T item;
+    while (count < maxElements && (item = poll()) != null) {
+      output.add(item);
+      count++;
+    }
+    return count;
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return capacity - size();
+  }
+
+  @Override
+  public int size() {
+    final long currentHead = head.get();
+    final long size = tail.get() - currentHead;
+    return (int) Math.max(0, Math.min(capacity, size));
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return tail.get() == head.get();
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    final List<T> snapshot = new ArrayList<>();
+    final long end = tail.get();
+    for (long position = head.get(); position < end; position++) {
+      final T item = buffer.get(index(position));
+      if (item != null) {
+        snapshot.add(item);
+      }
+    }
+    return Collections.unmodifiableList(snapshot).iterator();
+  }
+
+  private int index(final long position) {
+    return (int) (position % capacity);
+  }
+
+  /**
+   * Waits before the next attempt at claiming a slot.
+   *
+   * @param attempt the number of unsuccessful attempts so far
+   * @param deadline the {@link System#nanoTime()} after which to give up, or {@link
+   *     Long#MAX_VALUE} to never give up
+   * @return the next attempt number, or -1 if the deadline has passed
+   * @throws InterruptedException if the waiting thread is interrupted
+   */
+  private int awaitNextAttempt(final int attempt, final long deadline)
+      throws InterruptedException {
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+    if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0) {
+      return -1;
+    }
+    waitStrategy.idle(attempt);
+    return attempt < Integer.MAX_VALUE ? attempt + 1 : attempt;
+  }
+}
@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.services.pipeline;
 
+import java.util.Collection;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -49,6 +50,11 @@ class SharedWritePipe<T> implements WritePipe<T> {
     delegate.put(value);
   }
 
+  @Override
+  public void putAll(final Collection<? extends T> values) {
+    delegate.putAll(values);
+  }
+
   @Override
   public void close() {
     if (remainingClosesRequired.decrementAndGet() == 0) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Decides how a thread waits while a {@link RingBufferQueue} is full or empty. The waiting thread
+ * retries after each call, so a strategy only controls how long, and how politely, it backs off.
+ */
+@FunctionalInterface
+public interface WaitStrategy {
+
+  /** Number of attempts spent spinning before yielding or parking. */
+  int SPIN_ATTEMPTS = 100;
+
+  /** Number of attempts spent yielding before parking. */
+  int YIELD_ATTEMPTS = 200;
+
+  /** Upper bound on the time a single park lasts. */
+  long MAX_PARK_NANOS = 1_000_000L;
+
+  /** Busy spins. Lowest latency but keeps a core busy for as long as the thread waits. */
+  WaitStrategy SPIN = attempt -> Thread.onSpinWait();
+
+  /** Spins for a short while then yields the processor on each further attempt. */
+  WaitStrategy YIELD =
+      attempt -> {
+        if (attempt < SPIN_ATTEMPTS) {
+          Thread.onSpinWait();
+        } else {
+          Thread.yield();
+        }
+      };
+
+  /**
+   * Spins, then yields, then parks for exponentially longer periods capped at {@link
+   * #MAX_PARK_NANOS}. Suited to stages which may sit idle for long periods.
+   */
+  WaitStrategy PARK =
+      attempt -> {
+        if (attempt < SPIN_ATTEMPTS) {
+          Thread.onSpinWait();
+        } else if (attempt < YIELD_ATTEMPTS) {
+          Thread.yield();
+        } else {
+          final int backoff = Math.min(attempt - YIELD_ATTEMPTS, 10);
+          LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, 1_000L << backoff));
+        }
+      };
+
+  /**
+   * Wait before the next attempt.
+   *
+   * @param attempt the number of consecutive unsuccessful attempts made so far, starting at 0.
+   */
+  void idle(int attempt);
+}
@@ -14,6 +14,8 @@
  */
 package org.hyperledger.besu.services.pipeline;
 
+import java.util.Collection;
+
 /**
  * The interface used to add items to a pipe.
  *
@@ -36,6 +38,17 @@ public interface WritePipe<T> {
    */
   void put(T value);
 
+  /**
+   * Adds all the given items to the pipe, in order. This method will block until capacity is
+   * available for each item. The remaining items will be discarded if the pipe is closed before
+   * capacity becomes available.
+   *
+   * @param values the values to add to the pipe.
+   */
+  default void putAll(final Collection<? extends T> values) {
+    values.forEach(this::put);
+  }
+
   /**
    * Determine if this pipe has capacity to accept another item.
    *
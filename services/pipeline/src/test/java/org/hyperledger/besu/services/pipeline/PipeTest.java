@@ -137,4 +137,49 @@ public class PipeTest {
     Thread.currentThread().interrupt();
     assertThat(pipe.get()).isNull();
   }
+
+  @Test
+  public void shouldIncrementInputCounterOnceWhenItemsAddedInBatch() {
+    pipe.putAll(List.of("A", "B", "C"));
+
+    verify(inputCounter).inc(3);
+    final List<String> output = new ArrayList<>();
+    pipe.drainTo(output, 5);
+    assertThat(output).containsExactly("A", "B", "C");
+  }
+
+  @Test
+  public void shouldDiscardRemainingBatchItemsWhenAborted() {
+    final Pipe<String> ringPipe =
+        new Pipe<>(
+            new RingBufferQueue<>(2, WaitStrategy.PARK),
+            inputCounter,
+            outputCounter,
+            abortedItemCounter);
+    new Thread(
+            () -> {
+              while (ringPipe.hasRemainingCapacity()) {
+                Thread.onSpinWait();
+              }
+              ringPipe.abort();
+            })
+        .start();
+
+    ringPipe.putAll(List.of("A", "B", "C"));
+
+    verify(inputCounter).inc(2);
+    verify(abortedItemCounter).inc(2);
+  }
+
+  @Test
+  public void shouldReturnNullFromRingBufferGetImmediatelyIfThreadIsInterrupted() {
+    final Pipe<String> ringPipe =
+        new Pipe<>(
+            new RingBufferQueue<>(5, WaitStrategy.SPIN),
+            inputCounter,
+            outputCounter,
+            abortedItemCounter);
+    Thread.currentThread().interrupt();
+    assertThat(ringPipe.get()).isNull();
+  }
 }
@@ -86,6 +86,24 @@ public class PipelineBuilderTest {
     assertThat(output).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15);
   }
 
+  @Test
+  public void shouldPipeTasksThroughRingBufferPipes() throws Exception {
+    final List<String> output = new ArrayList<>();
+    final Pipeline<Integer> pipeline =
+        PipelineBuilder.createPipelineFrom(
+                "input", tasks, 4, NO_OP_LABELLED_2_COUNTER, false, "test", WaitStrategy.PARK)
+            .inBatches(3)
+            .thenFlatMap("flatten", List::stream, 2)
+            .thenProcess("toString", Object::toString)
+            .andFinishWith("end", output::add);
+
+    final CompletableFuture<?> result = pipeline.start(executorService);
+    result.get(10, SECONDS);
+    assertThat(output)
+        .containsExactly(
+            "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15");
+  }
+
   @Test
   public void shouldPassInputThroughIntermediateStage() throws Exception {
     final List<String> output = new ArrayList<>();
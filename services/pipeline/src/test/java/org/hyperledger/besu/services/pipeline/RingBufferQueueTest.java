@@ -0,0 +1,148 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class RingBufferQueueTest {
+
+  private final RingBufferQueue<String> queue = new RingBufferQueue<>(3, WaitStrategy.YIELD);
+
+  @Test
+  public void shouldReturnItemsInInsertionOrder() {
+    assertThat(queue.offer("a")).isTrue();
+    assertThat(queue.offer("b")).isTrue();
+    assertThat(queue.peek()).isEqualTo("a");
+    assertThat(queue.poll()).isEqualTo("a");
+    assertThat(queue.poll()).isEqualTo("b");
+    assertThat(queue.poll()).isNull();
+  }
+
+  @Test
+  public void shouldRejectItemsWhenFull() {
+    queue.offer("a");
+    queue.offer("b");
+    queue.offer("c");
+
+    assertThat(queue.offer("d")).isFalse();
+    assertThat(queue.size()).isEqualTo(3);
+    assertThat(queue.remainingCapacity()).isZero();
+
+    queue.poll();
+    assertThat(queue.offer("d")).isTrue();
+    assertThat(queue).containsExactly("b", "c", "d");
+  }
+
+  @Test
+  public void shouldWrapAroundTheBufferManyTimes() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(queue.offer("item" + i)).isTrue();
+      assertThat(queue.poll()).isEqualTo("item" + i);
+    }
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldTimeOutWaitingForCapacityOrItems() throws Exception {
+    assertThat(queue.poll(10, MILLISECONDS)).isNull();
+    queue.offer("a");
+    queue.offer("b");
+    queue.offer("c");
+    assertThat(queue.offer("d", 10, MILLISECONDS)).isFalse();
+  }
+
+  @Test
+  public void shouldLimitNumberOfItemsDrained() {
+    queue.offer("a");
+    queue.offer("b");
+    queue.offer("c");
+
+    final List<String> output = new ArrayList<>();
+    assertThat(queue.drainTo(output, 2)).isEqualTo(2);
+    assertThat(output).containsExactly("a", "b");
+  }
+
+  @Test
+  public void shouldThrowWhenInterruptedWhileWaiting() {
+    Thread.currentThread().interrupt();
+    assertThatThrownBy(queue::take).isInstanceOf(InterruptedException.class);
+  }
+
+  @Test
+  public void shouldDeliverEveryItemExactlyOnceWithConcurrentProducersAndConsumers()
+      throws Exception {
+    final RingBufferQueue<Integer> sharedQueue = new RingBufferQueue<>(16, WaitStrategy.PARK);
+    final int producers = 4;
+    final int consumers = 4;
+    final int itemsPerProducer = 10_000;
+    final ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+    try {
+      final CountDownLatch start = new CountDownLatch(1);
+      final AtomicInteger remaining = new AtomicInteger(producers * itemsPerProducer);
+      final Set<Integer> received = ConcurrentHashMap.newKeySet();
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int p = 0; p < producers; p++) {
+        final int offset = p * itemsPerProducer;
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int i = 0; i < itemsPerProducer; i++) {
+                    sharedQueue.put(offset + i);
+                  }
+                  return null;
+                }));
+      }
+      for (int c = 0; c < consumers; c++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  while (remaining.get() > 0) {
+                    final Integer item = sharedQueue.poll(10, MILLISECONDS);
+                    if (item != null) {
+                      assertThat(received.add(item)).isTrue();
+                      remaining.decrementAndGet();
+                    }
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (final Future<?> future : futures) {
+        future.get(30, SECONDS);
+      }
+      assertThat(received).hasSize(producers * itemsPerProducer);
+      assertThat(sharedQueue.isEmpty()).isTrue();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
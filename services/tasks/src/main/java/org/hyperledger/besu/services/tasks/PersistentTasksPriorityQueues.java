@@ -0,0 +1,284 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.tasks;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Tasks priority queues which keep a bounded window of the highest priority tasks in memory and
+ * move the remaining ones to a key value storage.
+ *
+ * <p>Tasks are returned in the same order as {@link InMemoryTasksPriorityQueues}: deepest tasks
+ * first, and for the same depth lowest priority value first. The storage keys encode that order, so
+ * the storage iterates tasks in the order they have to be processed. Every task on disk ranks after
+ * every task in memory, which means that tasks only need to be read back once the in-memory window
+ * is exhausted. Tasks are written and read back in batches.
+ *
+ * <p>Any content of the storage is discarded on creation, as tasks of a previous run may depend on
+ * state which is not persisted.
+ *
+ * @param <T> the type parameter
+ */
+public class PersistentTasksPriorityQueues<T extends TasksPriorityProvider>
+    implements TaskCollection<T> {
+
+  private static final int KEY_SIZE = Integer.BYTES + Long.BYTES + Long.BYTES;
+
+  private final KeyValueStorage storage;
+  private final TaskDataSerializer<T> serializer;
+  private final int hotWindowSize;
+  private final int batchSize;
+
+  private final NavigableMap<byte[], T> hotTasks = new TreeMap<>(Arrays::compareUnsigned);
+  private final NavigableMap<byte[], T> pendingWrites = new TreeMap<>(Arrays::compareUnsigned);
+  private final Set<PersistentTask<T>> unfinishedOutstandingTasks = new HashSet<>();
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+
+  private long persistedTaskCount = 0;
+  private long sequence = 0;
+  // all keys in the storage are greater than or equal to this key
+  private byte[] storageLowerBound = new byte[0];
+
+  /**
+   * Instantiates new persistent tasks priority queues.
+   *
+   * @param storage the storage to move tasks to once the in-memory window is full
+   * @param serializer the serializer of the task data
+   * @param hotWindowSize the maximum number of tasks to keep in memory
+   * @param batchSize the number of tasks written to or read from the storage at once
+   */
+  public PersistentTasksPriorityQueues(
+      final KeyValueStorage storage,
+      final TaskDataSerializer<T> serializer,
+      final int hotWindowSize,
+      final int batchSize) {
+    checkArgument(hotWindowSize > 0, "Hot window size must be positive");
+    checkArgument(batchSize > 0, "Batch size must be positive");
+    this.storage = storage;
+    this.serializer = serializer;
+    this.hotWindowSize = hotWindowSize;
+    this.batchSize = batchSize;
+    storage.clear();
+  }
+
+  @Override
+  public synchronized void add(final T taskData) {
+    assertNotClosed();
+    final byte[] key = createKey(taskData);
+    if (hasSpilledTasks()
+        && (hotTasks.isEmpty() || Arrays.compareUnsigned(key, hotTasks.lastKey()) > 0)) {
+      // tasks ranking after the in-memory window go straight to disk to keep the window ordered
+      spill(key, taskData);
+      return;
+    }
+    hotTasks.put(key, taskData);
+    if (hotTasks.size() > hotWindowSize) {
+      final Map.Entry<byte[], T> lowestPriorityTask = hotTasks.pollLastEntry();
+      spill(lowestPriorityTask.getKey(), lowestPriorityTask.getValue());
+    }
+  }
+
+  @Override
+  public synchronized Task<T> remove() {
+    assertNotClosed();
+    if (hotTasks.isEmpty() && hasSpilledTasks()) {
+      loadSpilledTasks();
+    }
+    final Map.Entry<byte[], T> next = hotTasks.pollFirstEntry();
+    if (next == null) {
+      return null;
+    }
+    final PersistentTask<T> task = new PersistentTask<>(this, next.getValue());
+    unfinishedOutstandingTasks.add(task);
+    return task;
+  }
+
+  @Override
+  public synchronized long size() {
+    return hotTasks.size() + pendingWrites.size() + persistedTaskCount;
+  }
+
+  /**
+   * Returns the number of tasks currently held on disk or waiting to be written to disk.
+   *
+   * @return the number of spilled tasks
+   */
+  public synchronized long spilledSize() {
+    return pendingWrites.size() + persistedTaskCount;
+  }
+
+  @Override
+  public synchronized boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public synchronized void clear() {
+    assertNotClosed();
+    clearTasks();
+  }
+
+  @Override
+  public synchronized boolean allTasksCompleted() {
+    return isEmpty() && unfinishedOutstandingTasks.isEmpty();
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed.compareAndSet(false, true)) {
+      clearTasks();
+    }
+  }
+
+  private void clearTasks() {
+    hotTasks.clear();
+    pendingWrites.clear();
+    unfinishedOutstandingTasks.clear();
+    if (persistedTaskCount > 0) {
+      storage.clear();
+    }
+    persistedTaskCount = 0;
+    storageLowerBound = new byte[0];
+    serializer.clear();
+  }
+
+  private boolean hasSpilledTasks() {
+    return persistedTaskCount > 0 || !pendingWrites.isEmpty();
+  }
+
+  private void spill(final byte[] key, final T taskData) {
+    pendingWrites.put(key, taskData);
+    if (pendingWrites.size() >= batchSize) {
+      flushPendingWrites();
+    }
+  }
+
+  private void flushPendingWrites() {
+    if (pendingWrites.isEmpty()) {
+      return;
+    }
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    pendingWrites.forEach((key, data) -> transaction.put(key, serializer.serialize(data)));
+    transaction.commit();
+    final byte[] lowestKey = pendingWrites.firstKey();
+    if (persistedTaskCount == 0 || Arrays.compareUnsigned(lowestKey, storageLowerBound) < 0) {
+      storageLowerBound = lowestKey;
+    }
+    persistedTaskCount += pendingWrites.size();
+    pendingWrites.clear();
+  }
+
+  private void loadSpilledTasks() {
+    if (persistedTaskCount == 0) {
+      // nothing reached the disk yet, so the pending writes are the next tasks to process
+      hotTasks.putAll(pendingWrites);
+      pendingWrites.clear();
+      return;
+    }
+    flushPendingWrites();
+    final int loadCount = Math.min(hotWindowSize, batchSize);
+    final List<Pair<byte[], byte[]>> loaded = new ArrayList<>(loadCount);
+    // starting from the lower bound skips the deletion markers of tasks loaded earlier
+    try (final Stream<Pair<byte[], byte[]>> spilledTasks =
+        storage.streamFromKey(storageLowerBound)) {
+      spilledTasks.limit(loadCount).forEach(loaded::add);
+    }
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    for (final Pair<byte[], byte[]> entry : loaded) {
+      hotTasks.put(entry.getKey(), serializer.deserialize(entry.getValue()));
+      transaction.remove(entry.getKey());
+    }
+    transaction.commit();
+    persistedTaskCount -= loaded.size();
+    if (!loaded.isEmpty()) {
+      storageLowerBound = loaded.get(loaded.size() - 1).getKey();
+    }
+  }
+
+  /**
+   * Creates a key whose unsigned lexicographic order is the processing order: depth descending,
+   * then priority ascending, then insertion order.
+   */
+  private byte[] createKey(final T taskData) {
+    return ByteBuffer.allocate(KEY_SIZE)
+        .putInt(~(taskData.getDepth() ^ Integer.MIN_VALUE))
+        .putLong(taskData.getPriority() ^ Long.MIN_VALUE)
+        .putLong(sequence++)
+        .array();
+  }
+
+  private void assertNotClosed() {
+    if (closed.get()) {
+      throw new IllegalStateException("Attempt to access closed " + getClass().getSimpleName());
+    }
+  }
+
+  private synchronized void handleFailedTask(final PersistentTask<T> task) {
+    if (markTaskCompleted(task)) {
+      add(task.getData());
+    }
+  }
+
+  private synchronized boolean markTaskCompleted(final PersistentTask<T> task) {
+    return unfinishedOutstandingTasks.remove(task);
+  }
+
+  private static class PersistentTask<T extends TasksPriorityProvider> implements Task<T> {
+    private final T data;
+    private final PersistentTasksPriorityQueues<T> queue;
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    private PersistentTask(final PersistentTasksPriorityQueues<T> queue, final T data) {
+      this.queue = queue;
+      this.data = data;
+    }
+
+    @Override
+    public T getData() {
+      return data;
+    }
+
+    @Override
+    public void markCompleted() {
+      if (completed.compareAndSet(false, true)) {
+        queue.markTaskCompleted(this);
+      }
+    }
+
+    @Override
+    public void markFailed() {
+      if (completed.compareAndSet(false, true)) {
+        queue.handleFailedTask(this);
+      }
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.tasks;
+
+/**
+ * Converts the data of tasks written to disk by {@link PersistentTasksPriorityQueues} to and from
+ * bytes.
+ *
+ * @param <T> the type of the task data
+ */
+public interface TaskDataSerializer<T> {
+
+  /**
+   * Serialize the data of a task which is moved to disk.
+   *
+   * @param data the task data
+   * @return the serialized data
+   */
+  byte[] serialize(T data);
+
+  /**
+   * Deserialize the data of a task which is loaded back from disk.
+   *
+   * @param bytes the serialized data
+   * @return the task data
+   */
+  T deserialize(byte[] bytes);
+
+  /**
+   * Called when all tasks on disk are discarded, so that any state kept in memory for them can be
+   * released.
+   */
+  default void clear() {}
+}
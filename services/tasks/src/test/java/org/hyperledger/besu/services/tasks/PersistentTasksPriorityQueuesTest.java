@@ -0,0 +1,173 @@
+/*
+ * Copyright contributors to Hyperledger Besu.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+import org.hyperledger.besu.services.tasks.InMemoryTasksPriorityQueuesTest.Item;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentTasksPriorityQueuesTest {
+
+  private final InMemoryKeyValueStorage storage = new InMemoryKeyValueStorage();
+
+  @Test
+  public void shouldRetrieveElementsInPriorityOrderAcrossMemoryAndDisk() {
+    final PersistentTasksPriorityQueues<Item> queue = createQueue(2, 2);
+
+    queue.add(item(1, 1));
+    queue.add(item(2, 30));
+    queue.add(item(2, 10));
+    queue.add(item(5, 1));
+    queue.add(item(99, Integer.MAX_VALUE));
+    queue.add(item(1, 20));
+    queue.add(item(0, -5));
+
+    assertThat(queue.size()).isEqualTo(7);
+    assertThat(queue.spilledSize()).isEqualTo(5);
+    assertThat(storage.stream()).isNotEmpty();
+
+    assertThat(drain(queue))
+        .containsExactly(
+            item(99, Integer.MAX_VALUE),
+            item(5, 1),
+            item(2, 10),
+            item(2, 30),
+            item(1, 1),
+            item(1, 20),
+            item(0, -5));
+    assertThat(queue.allTasksCompleted()).isTrue();
+  }
+
+  @Test
+  public void shouldMatchInMemoryOrderWhenAddingWhileRemoving() {
+    final PersistentTasksPriorityQueues<Item> queue = createQueue(8, 4);
+    final InMemoryTasksPriorityQueues<Item> expected = new InMemoryTasksPriorityQueues<>();
+    final Random random = new Random(42);
+
+    final List<Item> removed = new ArrayList<>();
+    final List<Item> expectedRemoved = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      if (random.nextInt(3) > 0) {
+        // distinct priorities so that the order is fully defined
+        final Item item = item(random.nextInt(16), i);
+        queue.add(item);
+        expected.add(item);
+      } else if (!expected.isEmpty()) {
+        removed.add(queue.remove().getData());
+        expectedRemoved.add(expected.remove().getData());
+      }
+    }
+    removed.addAll(drain(queue));
+    expectedRemoved.addAll(drain(expected));
+
+    assertThat(removed).isEqualTo(expectedRemoved);
+  }
+
+  @Test
+  public void shouldPutFailedItemBackIntoQueue() {
+    final PersistentTasksPriorityQueues<Item> queue = createQueue(1, 1);
+    queue.add(item(1, 1));
+    final Item item = item(2, 3);
+    queue.add(item);
+
+    final Task<Item> removed = queue.remove();
+    assertThat(removed.getData()).isEqualTo(item);
+    assertThat(queue.allTasksCompleted()).isFalse();
+
+    removed.markFailed();
+
+    assertThat(queue.remove().getData()).isEqualTo(item);
+    assertThat(queue.remove().getData()).isEqualTo(item(1, 1));
+    assertThat(queue.remove()).isNull();
+  }
+
+  @Test
+  public void shouldDiscardSpilledTasksOnClear() {
+    final PersistentTasksPriorityQueues<Item> queue = createQueue(1, 1);
+    queue.add(item(1, 1));
+    queue.add(item(1, 2));
+    queue.add(item(1, 3));
+
+    queue.clear();
+
+    assertThat(queue.isEmpty()).isTrue();
+    assertThat(queue.remove()).isNull();
+    assertThat(storage.stream()).isEmpty();
+  }
+
+  @Test
+  public void shouldDiscardTasksOfPreviousRun() {
+    createQueue(1, 1).add(item(1, 1));
+    createQueue(1, 1).add(item(1, 2));
+
+    assertThat(storage.stream()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotInsertItemsToClosedQueue() {
+    final PersistentTasksPriorityQueues<Item> queue = createQueue(1, 1);
+    queue.add(item(1, 1));
+
+    queue.close();
+
+    final Item item = item(2, 2);
+    assertThatThrownBy(() -> queue.add(item)).isInstanceOf(IllegalStateException.class);
+  }
+
+  private PersistentTasksPriorityQueues<Item> createQueue(
+      final int hotWindowSize, final int batchSize) {
+    return new PersistentTasksPriorityQueues<>(
+        storage, new ItemSerializer(), hotWindowSize, batchSize);
+  }
+
+  private static List<Item> drain(final TaskCollection<Item> queue) {
+    final List<Item> items = new ArrayList<>();
+    while (!queue.isEmpty()) {
+      final Task<Item> task = queue.remove();
+      items.add(task.getData());
+      task.markCompleted();
+    }
+    return items;
+  }
+
+  private static Item item(final int depth, final long priority) {
+    return new Item(depth, priority);
+  }
+
+  private static class ItemSerializer implements TaskDataSerializer<Item> {
+    @Override
+    public byte[] serialize(final Item data) {
+      return ByteBuffer.allocate(Integer.BYTES + Long.BYTES)
+          .putInt(data.getDepth())
+          .putLong(data.getPriority())
+          .array();
+    }
+
+    @Override
+    public Item deserialize(final byte[] bytes) {
+      final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      return new Item(buffer.getInt(), buffer.getLong());
+    }
+  }
+}